@@ -11,6 +11,7 @@
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.FlushSettings;
 import org.hibernate.service.ServiceRegistry;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
@@ -25,6 +26,11 @@
  * Measures operations per second (ops/s) to compare throughput between:
  * - Legacy ActionQueue (org.hibernate.action.queue.ActionQueueLegacy)
  * - Graph-based ActionQueue (org.hibernate.action.queue.GraphBasedActionQueue)
+ * - Graph-based ActionQueue pipelining the JDBC batches of independent plan steps
+ *   (FlushSettings#GRAPH_PIPELINED_EXECUTION)
+ *
+ * The insert-heavy benchmarks also run with batched inserts executed as
+ * multi-row inserts (BatchSettings#MULTI_ROW_INSERTS).
  *
  * Run with:
  * ./gradlew :hibernate-core:jmh -Pjmh.include=".*ActionQueueThroughputBenchmark.*"
@@ -427,6 +433,46 @@ public SearchIndexDocument(String documentType, String externalId, String title)
 		}
 	}
 
+	@Entity(name = "CatalogCategory")
+	@Table(name = "catalog_category")
+	public static class CatalogCategory {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_category_gen")
+		@SequenceGenerator(name = "catalog_category_gen", sequenceName = "catalog_category_seq", allocationSize = 50)
+		private Long id;
+		private String name;
+
+		@ManyToOne
+		@JoinColumn(name = "parent_id")
+		private CatalogCategory parent;
+
+		public CatalogCategory() {}
+		public CatalogCategory(String name, CatalogCategory parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "StaffMember")
+	@Table(name = "staff_member")
+	public static class StaffMember {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "staff_member_gen")
+		@SequenceGenerator(name = "staff_member_gen", sequenceName = "staff_member_seq", allocationSize = 50)
+		private Long id;
+		private String name;
+
+		@ManyToOne
+		@JoinColumn(name = "manager_id")
+		private StaffMember manager;
+
+		public StaffMember() {}
+		public StaffMember(String name, StaffMember manager) {
+			this.name = name;
+			this.manager = manager;
+		}
+	}
+
 	// ========== State Classes ==========
 
 	@State(Scope.Benchmark)
@@ -480,6 +526,57 @@ public void tearDown() {
 		}
 	}
 
+	@State(Scope.Benchmark)
+	public static class PipelinedGraphQueueState {
+		SessionFactory sessionFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			sessionFactory = createSessionFactory("graph", "graph_pipelined", true, true, true);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (sessionFactory != null) {
+				sessionFactory.close();
+			}
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class MultiRowInsertLegacyQueueState {
+		SessionFactory sessionFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			sessionFactory = createSessionFactory("legacy", "legacy_multi_row", true, true, false, true);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (sessionFactory != null) {
+				sessionFactory.close();
+			}
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class MultiRowInsertGraphQueueState {
+		SessionFactory sessionFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			sessionFactory = createSessionFactory("graph", "graph_multi_row", true, true, false, true);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (sessionFactory != null) {
+				sessionFactory.close();
+			}
+		}
+	}
+
 	// ========== Helper Methods ==========
 
 	private static SessionFactory createSessionFactory(String queueImpl) {
@@ -491,6 +588,25 @@ private static SessionFactory createSessionFactory(
 			String databaseName,
 			boolean orderInserts,
 			boolean orderUpdates) {
+		return createSessionFactory(queueImpl, databaseName, orderInserts, orderUpdates, false);
+	}
+
+	private static SessionFactory createSessionFactory(
+			String queueImpl,
+			String databaseName,
+			boolean orderInserts,
+			boolean orderUpdates,
+			boolean pipelined) {
+		return createSessionFactory(queueImpl, databaseName, orderInserts, orderUpdates, pipelined, false);
+	}
+
+	private static SessionFactory createSessionFactory(
+			String queueImpl,
+			String databaseName,
+			boolean orderInserts,
+			boolean orderUpdates,
+			boolean pipelined,
+			boolean multiRowInserts) {
 		ServiceRegistry registry = new StandardServiceRegistryBuilder()
 				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
 				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:throughput_" + databaseName + ";DB_CLOSE_DELAY=-1")
@@ -505,6 +621,8 @@ private static SessionFactory createSessionFactory(
 				// for apples/apples
 				.applySetting( BatchSettings.ORDER_INSERTS, Boolean.toString( orderInserts ) )
 				.applySetting( BatchSettings.ORDER_UPDATES, Boolean.toString( orderUpdates ) )
+				.applySetting( FlushSettings.GRAPH_PIPELINED_EXECUTION, Boolean.toString( pipelined ) )
+				.applySetting( BatchSettings.MULTI_ROW_INSERTS, Boolean.toString( multiRowInserts ) )
 				.build();
 
 		return new MetadataSources(registry)
@@ -527,6 +645,8 @@ private static SessionFactory createSessionFactory(
 				.addAnnotatedClass(InventoryReservation.class)
 				.addAnnotatedClass(SearchIndexDocument.class)
 				.addAnnotatedClass(SecondaryTableEntity.class)
+				.addAnnotatedClass(CatalogCategory.class)
+				.addAnnotatedClass(StaffMember.class)
 				.buildMetadata()
 				.buildSessionFactory();
 	}
@@ -1085,6 +1205,11 @@ public void seqCascadeExceedBatch_Graph(GraphQueueState state, Blackhole bh) {
 		seqCascadeExceedBatch(state.sessionFactory, bh);
 	}
 
+	@Benchmark
+	public void seqCascadeExceedBatch_PipelinedGraph(PipelinedGraphQueueState state, Blackhole bh) {
+		seqCascadeExceedBatch(state.sessionFactory, bh);
+	}
+
 	private void seqCascadeExceedBatch(SessionFactory sf, Blackhole bh) {
 		// Create 15 parents with 5 children each = 90 entities total (exceeds batch size)
 		try (Session session = sf.openSession()) {
@@ -1109,6 +1234,67 @@ private void seqCascadeExceedBatch(SessionFactory sf, Blackhole bh) {
 		}
 	}
 
+	// ========== Insert-Heavy Benchmarks ==========
+
+	@Benchmark
+	public void seqInsertHeavy_500_Legacy(LegacyQueueState state, Blackhole bh) {
+		seqInsertHeavy(state.sessionFactory, 500, bh);
+	}
+
+	@Benchmark
+	public void seqInsertHeavy_500_MultiRowLegacy(MultiRowInsertLegacyQueueState state, Blackhole bh) {
+		seqInsertHeavy(state.sessionFactory, 500, bh);
+	}
+
+	@Benchmark
+	public void seqInsertHeavy_500_Graph(GraphQueueState state, Blackhole bh) {
+		seqInsertHeavy(state.sessionFactory, 500, bh);
+	}
+
+	@Benchmark
+	public void seqInsertHeavy_500_MultiRowGraph(MultiRowInsertGraphQueueState state, Blackhole bh) {
+		seqInsertHeavy(state.sessionFactory, 500, bh);
+	}
+
+	@Benchmark
+	public void seqCascadeExceedBatch_MultiRowLegacy(MultiRowInsertLegacyQueueState state, Blackhole bh) {
+		seqCascadeExceedBatch(state.sessionFactory, bh);
+	}
+
+	@Benchmark
+	public void seqCascadeExceedBatch_MultiRowGraph(MultiRowInsertGraphQueueState state, Blackhole bh) {
+		seqCascadeExceedBatch(state.sessionFactory, bh);
+	}
+
+	@Benchmark
+	public void realisticInterleavedInsert_OrderInserts_MultiRowLegacy(MultiRowInsertLegacyQueueState state, Blackhole bh) {
+		realisticInterleavedInsert(state.sessionFactory, bh);
+	}
+
+	@Benchmark
+	public void realisticInterleavedInsert_OrderInserts_MultiRowGraph(MultiRowInsertGraphQueueState state, Blackhole bh) {
+		realisticInterleavedInsert(state.sessionFactory, bh);
+	}
+
+	private void seqInsertHeavy(SessionFactory sf, int count, Blackhole bh) {
+		// inserts of a single entity type, filling several batches
+		try (Session session = sf.openSession()) {
+			session.beginTransaction();
+			for (int i = 0; i < count; i++) {
+				session.persist(new InventoryReservation("SKU-" + i, "WH-" + (i % 7), i));
+			}
+			session.getTransaction().commit();
+			bh.consume(session);
+		}
+
+		// Cleanup
+		try (Session session = sf.openSession()) {
+			session.beginTransaction();
+			session.createMutationQuery("delete from InventoryReservation").executeUpdate();
+			session.getTransaction().commit();
+		}
+	}
+
 	// ========== Realistic Ordering Benchmarks ==========
 
 	@Benchmark
@@ -1126,6 +1312,11 @@ public void realisticInterleavedInsert_OrderInserts_Graph(GraphQueueState state,
 		realisticInterleavedInsert(state.sessionFactory, bh);
 	}
 
+	@Benchmark
+	public void realisticInterleavedInsert_OrderInserts_PipelinedGraph(PipelinedGraphQueueState state, Blackhole bh) {
+		realisticInterleavedInsert(state.sessionFactory, bh);
+	}
+
 	private void realisticInterleavedInsert(SessionFactory sf, Blackhole bh) {
 		try (Session session = sf.openSession()) {
 			session.beginTransaction();
@@ -1162,6 +1353,11 @@ public void realisticSideEffectInsert_OrderInserts_Graph(GraphQueueState state,
 		realisticSideEffectInsert(state.sessionFactory, bh);
 	}
 
+	@Benchmark
+	public void realisticSideEffectInsert_OrderInserts_PipelinedGraph(PipelinedGraphQueueState state, Blackhole bh) {
+		realisticSideEffectInsert(state.sessionFactory, bh);
+	}
+
 	private void realisticSideEffectInsert(SessionFactory sf, Blackhole bh) {
 		try (Session session = sf.openSession()) {
 			session.beginTransaction();
@@ -1243,6 +1439,56 @@ private void realisticInterleavedUpdate(SessionFactory sf, Blackhole bh) {
 		cleanupRetailTables(sf);
 	}
 
+	// Two self-referencing tables: the operations on each row are planned separately to
+	// avoid false cycles, so the inserts of the two tables alternate in the flush plan,
+	// although the rows of one hierarchy level do not depend on one another
+
+	@Benchmark
+	public void selfReferencingInterleavedInsert_Legacy(LegacyQueueState state, Blackhole bh) {
+		selfReferencingInterleavedInsert(state.sessionFactory, bh);
+	}
+
+	@Benchmark
+	public void selfReferencingInterleavedInsert_Graph(GraphQueueState state, Blackhole bh) {
+		selfReferencingInterleavedInsert(state.sessionFactory, bh);
+	}
+
+	@Benchmark
+	public void selfReferencingInterleavedInsert_PipelinedGraph(PipelinedGraphQueueState state, Blackhole bh) {
+		selfReferencingInterleavedInsert(state.sessionFactory, bh);
+	}
+
+	private void selfReferencingInterleavedInsert(SessionFactory sf, Blackhole bh) {
+		try (Session session = sf.openSession()) {
+			session.beginTransaction();
+			CatalogCategory rootCategory = new CatalogCategory("root", null);
+			StaffMember rootMember = new StaffMember("ceo", null);
+			session.persist(rootCategory);
+			session.persist(rootMember);
+			for (int i = 0; i < 5; i++) {
+				CatalogCategory category = new CatalogCategory("Category-" + i, rootCategory);
+				StaffMember member = new StaffMember("Manager-" + i, rootMember);
+				session.persist(category);
+				session.persist(member);
+				for (int j = 0; j < 5; j++) {
+					session.persist(new CatalogCategory("Category-" + i + "-" + j, category));
+					session.persist(new StaffMember("Member-" + i + "-" + j, member));
+				}
+			}
+			session.getTransaction().commit();
+			bh.consume(session);
+		}
+
+		try (Session session = sf.openSession()) {
+			session.beginTransaction();
+			session.createMutationQuery("update CatalogCategory set parent = null").executeUpdate();
+			session.createMutationQuery("update StaffMember set manager = null").executeUpdate();
+			session.createMutationQuery("delete from CatalogCategory").executeUpdate();
+			session.createMutationQuery("delete from StaffMember").executeUpdate();
+			session.getTransaction().commit();
+		}
+	}
+
 	private void cleanupRetailTables(SessionFactory sf) {
 		try (Session session = sf.openSession()) {
 			session.beginTransaction();
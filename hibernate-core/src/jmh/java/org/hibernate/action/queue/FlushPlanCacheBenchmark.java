@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.action.queue;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.FlushSettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for the cache of flush plan shapes of the graph-based ActionQueue.
+ *
+ * Measures:
+ * - Units of work made of many small flushes of the same shape, which can reuse the cached plan shape
+ * - The same units of work with the cache disabled, which build and sort the graph on every flush
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*FlushPlanCacheBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1)
+public class FlushPlanCacheBenchmark {
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "Customer")
+	@Table(name = "customer")
+	public static class Customer {
+		@Id
+		private Long id;
+		private String name;
+
+		public Customer() {}
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Table(name = "purchase_order")
+	public static class PurchaseOrder {
+		@Id
+		private Long id;
+		private String reference;
+
+		@ManyToOne
+		private Customer customer;
+
+		public PurchaseOrder() {}
+		public PurchaseOrder(Long id, String reference, Customer customer) {
+			this.id = id;
+			this.reference = reference;
+			this.customer = customer;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	@Table(name = "order_line")
+	public static class OrderLine {
+		@Id
+		private Long id;
+		private String product;
+		private int quantity;
+
+		@ManyToOne
+		private PurchaseOrder purchaseOrder;
+
+		public OrderLine() {}
+		public OrderLine(Long id, String product, int quantity, PurchaseOrder purchaseOrder) {
+			this.id = id;
+			this.product = product;
+			this.quantity = quantity;
+			this.purchaseOrder = purchaseOrder;
+		}
+	}
+
+	// ========== State ==========
+
+	@Param({"0", "256"})
+	public int flushPlanCacheSize;
+
+	private SessionFactory sessionFactory;
+	private long nextId;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:flush_plan_cache_" + flushPlanCacheSize + ";DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+				.applySetting(FlushSettings.FLUSH_QUEUE_TYPE, "graph")
+				.applySetting(FlushSettings.FLUSH_PLAN_CACHE_MAX_SIZE, String.valueOf(flushPlanCacheSize))
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(Customer.class)
+				.addAnnotatedClass(PurchaseOrder.class)
+				.addAnnotatedClass(OrderLine.class)
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	public void repeatedFlushes_10() {
+		repeatedFlushes(10);
+	}
+
+	@Benchmark
+	public void repeatedFlushes_100() {
+		repeatedFlushes(100);
+	}
+
+	private void repeatedFlushes(int flushCount) {
+		try (Session session = sessionFactory.openSession()) {
+			session.beginTransaction();
+			for (int i = 0; i < flushCount; i++) {
+				Customer customer = new Customer(nextId++, "Customer-" + i);
+				session.persist(customer);
+				PurchaseOrder order = new PurchaseOrder(nextId++, "Order-" + i, customer);
+				session.persist(order);
+				for (int j = 0; j < 3; j++) {
+					session.persist(new OrderLine(nextId++, "Product-" + j, j + 1, order));
+				}
+				session.flush();
+				session.clear();
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks comparing the BinaryCacheEntrySerializer with Java serialization
+ * of an entity cache entry, see CacheSettings#CACHE_ENTRY_SERIALIZER.
+ *
+ * Measures:
+ * - serialize / roundTrip: the time to serialize, and to serialize then deserialize
+ *   an entry
+ * - size: the number of bytes of a serialized entry, reported as the "serializedBytes"
+ *   secondary result
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*CacheEntrySerializerBenchmark.*"
+ *
+ * Use -prof gc to compare the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class CacheEntrySerializerBenchmark {
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "Customer")
+	@Table(name = "customer")
+	public static class Customer {
+		@Id
+		private long id;
+		@Version
+		private int version;
+		private String name;
+		private String email;
+		private String country;
+		private BigDecimal balance;
+		private LocalDate registered;
+		private boolean active;
+		@Embedded
+		private Address address;
+		@ManyToOne
+		private Customer referrer;
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private String city;
+		private String zipCode;
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Size {
+		public long serializedBytes;
+	}
+
+	// ========== State ==========
+
+	@Param({"binary", "java"})
+	String serializer;
+
+	SessionFactory sessionFactory;
+	SessionFactoryImplementor factory;
+	CacheEntrySerializer cacheEntrySerializer;
+	StandardCacheEntryImpl entry;
+	byte[] serialized;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:ces_" + serializer + ";DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(Customer.class)
+				.buildMetadata()
+				.buildSessionFactory();
+		factory = sessionFactory.unwrap(SessionFactoryImplementor.class);
+		cacheEntrySerializer = factory.getSessionFactoryOptions().getCacheEntrySerializer();
+
+		EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(Customer.class);
+		Serializable[] state = new Serializable[persister.getPropertyNames().length];
+		state[position(persister, "version")] = 12;
+		state[position(persister, "name")] = "Gavin King";
+		state[position(persister, "email")] = "gavin@hibernate.org";
+		state[position(persister, "country")] = "AU";
+		state[position(persister, "balance")] = new BigDecimal("1024.50");
+		state[position(persister, "registered")] = LocalDate.of(2001, 11, 23);
+		state[position(persister, "active")] = true;
+		state[position(persister, "address")] = new Object[] {"Sydney", "Main Street 1", "2000"};
+		state[position(persister, "referrer")] = 42L;
+		entry = new StandardCacheEntryImpl(state, Customer.class.getName(), 12);
+		serialized = serialize();
+	}
+
+	private static int position(EntityPersister persister, String attributeName) {
+		return persister.findAttributeMapping(attributeName).getStateArrayPosition();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	public byte[] serialize() {
+		return "java".equals(serializer)
+				? SerializationHelper.serialize(entry)
+				: cacheEntrySerializer.serialize(entry, factory);
+	}
+
+	@Benchmark
+	public Object deserialize() {
+		return "java".equals(serializer)
+				? SerializationHelper.deserialize(serialized)
+				: cacheEntrySerializer.deserialize(serialized, factory);
+	}
+
+	@Benchmark
+	public Object roundTrip() {
+		final byte[] bytes = serialize();
+		return "java".equals(serializer)
+				? SerializationHelper.deserialize(bytes)
+				: cacheEntrySerializer.deserialize(bytes, factory);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	public void size(Size size) {
+		size.serializedBytes += serialize().length;
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for hits of the query result cache holding a large result of
+ * scalar rows, with and without columnar storage, see CacheSettings#QUERY_CACHE_COLUMNAR.
+ *
+ * Measures:
+ * - hit: listing the cached result
+ * - footprint: the heap retained by the cached result, reported as the
+ *   "retainedBytes" secondary result
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*QueryResultsCacheBenchmark.*"
+ *
+ * Use -prof gc to compare the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class QueryResultsCacheBenchmark {
+
+	private static final int ROW_COUNT = 10_000;
+	private static final String QUERY =
+			"select c.id, c.code, c.country, c.rate, c.digits from CurrencyRate c order by c.id";
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "CurrencyRate")
+	@Table(name = "currency_rate")
+	public static class CurrencyRate {
+		@Id
+		private long id;
+		private String code;
+		private String country;
+		private double rate;
+		private int digits;
+
+		public CurrencyRate() {}
+		public CurrencyRate(long id, String code, String country, double rate, int digits) {
+			this.id = id;
+			this.code = code;
+			this.country = country;
+			this.rate = rate;
+			this.digits = digits;
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long retainedBytes;
+	}
+
+	// ========== State ==========
+
+	@Param({"false", "true"})
+	boolean columnar;
+
+	SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:qrc_" + columnar + ";DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+				.applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true")
+				.applySetting(AvailableSettings.USE_QUERY_CACHE, "true")
+				.applySetting(AvailableSettings.QUERY_CACHE_COLUMNAR, Boolean.toString(columnar))
+				.applySetting(AvailableSettings.CACHE_REGION_FACTORY, new TimestampsCacheBenchmark.SynchronizedRegionFactory())
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(CurrencyRate.class)
+				.buildMetadata()
+				.buildSessionFactory();
+
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			session.beginTransaction();
+			for (int i = 0; i < ROW_COUNT; i++) {
+				session.insert(new CurrencyRate(i, "C" + (i % 150), "country-" + (i % 40), 1 + i / 1000d, i % 4));
+			}
+			session.getTransaction().commit();
+		}
+		// populate the cache
+		query();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	private List<Object[]> query() {
+		try (var session = sessionFactory.openSession()) {
+			return session.createSelectionQuery(QUERY, Object[].class)
+					.setCacheable(true)
+					.getResultList();
+		}
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	public List<Object[]> hit() {
+		return query();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void footprint(Footprint footprint) {
+		sessionFactory.getCache().evictQueryRegions();
+		long before = usedHeap();
+		// the result list itself is garbage once the query returns
+		query();
+		footprint.retainedBytes = usedHeap() - before;
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for the TimestampsCache under concurrent query cache hits and
+ * invalidations, comparing the StandardTimestampsCacheFactory with the
+ * StripedTimestampsCacheFactory, see CacheSettings#QUERY_CACHE_FACTORY.
+ *
+ * The timestamps region synchronizes every access, like the segments of many
+ * caching providers, so that reads and writes of the region contend.
+ *
+ * Measures:
+ * - isUpToDate: the up-to-date check of a cached query result over 3 query spaces
+ * - transaction: the pre-invalidation of 2 flushes and the invalidation at
+ *   completion of a transaction writing to 2 of the query spaces
+ * - mixed: 6 threads checking cached query results while 2 threads write
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*TimestampsCacheBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class TimestampsCacheBenchmark {
+
+	private static final String[] SPACES = {"orders", "order_lines", "customers", "products", "stock"};
+	private static final String[] QUERY_SPACES = {"orders", "order_lines", "customers"};
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "Product")
+	@Table(name = "products")
+	public static class Product {
+		@Id
+		private long id;
+		private String name;
+	}
+
+	/**
+	 * A region factory storing the timestamps in a map which synchronizes every access.
+	 */
+	public static class SynchronizedRegionFactory extends RegionFactoryTemplate {
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new SynchronizedStorageAccess();
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new SynchronizedStorageAccess();
+		}
+
+		@Override
+		protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		}
+
+		@Override
+		protected void releaseFromUse() {
+		}
+	}
+
+	static class SynchronizedStorageAccess implements StorageAccess {
+		private final Map<Object, Object> map = new HashMap<>();
+
+		@Override
+		public synchronized Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return map.get(key);
+		}
+
+		@Override
+		public synchronized void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			map.put(key, value);
+		}
+
+		@Override
+		public synchronized boolean contains(Object key) {
+			return map.containsKey(key);
+		}
+
+		@Override
+		public synchronized void evictData() {
+			map.clear();
+		}
+
+		@Override
+		public synchronized void evictData(Object key) {
+			map.remove(key);
+		}
+
+		@Override
+		public void release() {
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class SessionState {
+		SessionImplementor session;
+
+		@Setup(Level.Trial)
+		public void setup(TimestampsCacheBenchmark benchmark) {
+			session = (SessionImplementor) benchmark.sessionFactory.openSession();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			session.close();
+		}
+	}
+
+	// ========== State ==========
+
+	@Param({"standard", "striped"})
+	String factory;
+
+	SessionFactory sessionFactory;
+	TimestampsCache timestampsCache;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final TimestampsCacheFactory timestampsCacheFactory = "striped".equals(factory)
+				? StripedTimestampsCacheFactory.INSTANCE
+				: StandardTimestampsCacheFactory.INSTANCE;
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:tsc_" + factory + ";DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true")
+				.applySetting(AvailableSettings.USE_QUERY_CACHE, "true")
+				.applySetting(AvailableSettings.CACHE_REGION_FACTORY, new SynchronizedRegionFactory())
+				.applySetting(AvailableSettings.QUERY_CACHE_FACTORY, timestampsCacheFactory)
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(Product.class)
+				.buildMetadata()
+				.buildSessionFactory();
+		timestampsCache = sessionFactory.unwrap(SessionFactoryImplementor.class)
+				.getCache()
+				.getTimestampsCache();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	@Threads(8)
+	public boolean isUpToDate(SessionState state) {
+		final long timestamp = state.session.getCacheTransactionSynchronization().getCachingTimestamp();
+		return timestampsCache.isUpToDate(QUERY_SPACES, timestamp, state.session);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void transaction(SessionState state) {
+		write(state);
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(6)
+	public boolean mixedRead(SessionState state) {
+		return isUpToDate(state);
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(2)
+	public void mixedWrite(SessionState state) {
+		write(state);
+	}
+
+	private void write(SessionState state) {
+		final int first = ThreadLocalRandom.current().nextInt(SPACES.length);
+		final String[] spaces = {SPACES[first], SPACES[(first + 1) % SPACES.length]};
+		timestampsCache.preInvalidate(spaces, state.session);
+		timestampsCache.preInvalidate(spaces, state.session);
+		timestampsCache.invalidate(spaces, state.session);
+	}
+}
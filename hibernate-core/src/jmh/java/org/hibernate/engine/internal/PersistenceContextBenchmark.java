@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for a persistence context holding a large number of entities,
+ * with and without primitive id storage, see PersistenceSettings#PRIMITIVE_ID_PERSISTENCE_CONTEXT.
+ *
+ * Measures:
+ * - loadAll: loading all entities into a new session
+ * - find / getEntity: lookups in a session already holding all entities
+ * - footprint: the heap retained by a session holding all entities, reported as
+ *   the "retainedBytes" secondary result
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*PersistenceContextBenchmark.*"
+ *
+ * Use -prof gc to compare the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class PersistenceContextBenchmark {
+
+	private static final int ENTITY_COUNT = 200_000;
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "LedgerEntry")
+	@Table(name = "ledger_entry")
+	public static class LedgerEntry {
+		@Id
+		private long id;
+		private long accountId;
+		private String memo;
+
+		public LedgerEntry() {}
+		public LedgerEntry(long id, long accountId, String memo) {
+			this.id = id;
+			this.accountId = accountId;
+			this.memo = memo;
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long retainedBytes;
+	}
+
+	// ========== State ==========
+
+	@Param({"false", "true"})
+	boolean primitiveIdStorage;
+
+	SessionFactory sessionFactory;
+	SessionImplementor loadedSession;
+	EntityKey[] keys;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:pc_" + primitiveIdStorage + ";DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+				.applySetting(AvailableSettings.STATEMENT_FETCH_SIZE, "1024")
+				.applySetting(PersistenceSettings.PRIMITIVE_ID_PERSISTENCE_CONTEXT, Boolean.toString(primitiveIdStorage))
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(LedgerEntry.class)
+				.buildMetadata()
+				.buildSessionFactory();
+
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			session.beginTransaction();
+			for (int i = 0; i < ENTITY_COUNT; i++) {
+				session.insert(new LedgerEntry(i, i % 1_000, "entry-" + (i % 100)));
+			}
+			session.getTransaction().commit();
+		}
+
+		loadedSession = (SessionImplementor) sessionFactory.openSession();
+		loadAll(loadedSession);
+		EntityPersister persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+				.getMappingMetamodel()
+				.getEntityDescriptor(LedgerEntry.class);
+		keys = new EntityKey[ENTITY_COUNT];
+		for (int i = 0; i < ENTITY_COUNT; i++) {
+			keys[i] = new EntityKey((long) i, persister);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (loadedSession != null) {
+			loadedSession.close();
+		}
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	private static List<LedgerEntry> loadAll(SessionImplementor session) {
+		return session.createSelectionQuery("from LedgerEntry", LedgerEntry.class).getResultList();
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void loadAll(Blackhole blackhole) {
+		try (SessionImplementor session = (SessionImplementor) sessionFactory.openSession()) {
+			blackhole.consume(loadAll(session));
+		}
+	}
+
+	@Benchmark
+	public LedgerEntry find() {
+		return loadedSession.find(LedgerEntry.class, (long) ThreadLocalRandom.current().nextInt(ENTITY_COUNT));
+	}
+
+	@Benchmark
+	public Object getEntity() {
+		return loadedSession.getPersistenceContextInternal()
+				.getEntity(keys[ThreadLocalRandom.current().nextInt(ENTITY_COUNT)]);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void footprint(Footprint footprint, Blackhole blackhole) {
+		long before = usedHeap();
+		try (SessionImplementor session = (SessionImplementor) sessionFactory.openSession()) {
+			List<LedgerEntry> entries = loadAll(session);
+			footprint.retainedBytes = usedHeap() - before;
+			blackhole.consume(entries);
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.FlushSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for flushing a session holding a large number of entities,
+ * only a few of which were changed, with and without incremental flushing,
+ * see FlushSettings#INCREMENTAL_FLUSH.
+ *
+ * The entity class is enhanced with inline dirty tracking when the benchmark
+ * is set up, since incremental flushing relies on the enhanced change tracking.
+ *
+ * Measures:
+ * - flushFewChanges: changing 3 entities and flushing
+ * - flushNoChanges: flushing a session without any change
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*IncrementalFlushBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class IncrementalFlushBenchmark {
+
+	private static final int ENTITY_COUNT = 200_000;
+	private static final int CHANGE_COUNT = 3;
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "LedgerEntry")
+	@Table(name = "ledger_entry")
+	public static class LedgerEntry {
+		@Id
+		private long id;
+		private long accountId;
+		private String memo;
+
+		public LedgerEntry() {}
+		public LedgerEntry(long id, long accountId, String memo) {
+			this.id = id;
+			this.accountId = accountId;
+			this.memo = memo;
+		}
+
+		public void setMemo(String memo) {
+			this.memo = memo;
+		}
+	}
+
+	/**
+	 * Loads an enhanced copy of the entity class, and delegates everything else.
+	 */
+	private static class EnhancingClassLoader extends ClassLoader {
+		private final Enhancer enhancer;
+		private final String enhancedClassName;
+
+		private EnhancingClassLoader(ClassLoader parent, Class<?> enhancedClass) {
+			super(parent);
+			this.enhancedClassName = enhancedClass.getName();
+			this.enhancer = new BytecodeProviderImpl().getEnhancer(new DefaultEnhancementContext() {
+				@Override
+				public ClassLoader getLoadingClassLoader() {
+					return parent;
+				}
+			});
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.equals(enhancedClassName)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loaded = findLoadedClass(name);
+				if (loaded == null) {
+					String resource = name.replace('.', '/') + ".class";
+					try (InputStream stream = getParent().getResourceAsStream(resource)) {
+						byte[] original = stream.readAllBytes();
+						byte[] enhanced = enhancer.enhance(name, original);
+						byte[] bytes = enhanced == null ? original : enhanced;
+						loaded = defineClass(name, bytes, 0, bytes.length);
+					}
+					catch (IOException e) {
+						throw new ClassNotFoundException(name, e);
+					}
+				}
+				if (resolve) {
+					resolveClass(loaded);
+				}
+				return loaded;
+			}
+		}
+	}
+
+	// ========== State ==========
+
+	@Param({"false", "true"})
+	boolean incremental;
+
+	SessionFactory sessionFactory;
+	SessionImplementor session;
+	List<Object> entries;
+	MethodHandle setMemo;
+	long changeCount;
+
+	@Setup(Level.Trial)
+	public void setup() throws Throwable {
+		ClassLoader classLoader = new EnhancingClassLoader(getClass().getClassLoader(), LedgerEntry.class);
+		Class<?> entityClass = classLoader.loadClass(LedgerEntry.class.getName());
+		MethodHandle constructor = MethodHandles.publicLookup()
+				.findConstructor(entityClass, MethodType.methodType(void.class, long.class, long.class, String.class));
+		setMemo = MethodHandles.publicLookup()
+				.findVirtual(entityClass, "setMemo", MethodType.methodType(void.class, String.class));
+
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:flush_" + incremental + ";DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+				.applySetting(AvailableSettings.STATEMENT_FETCH_SIZE, "1024")
+				.applySetting(AvailableSettings.CLASSLOADERS, List.of(classLoader))
+				.applySetting(FlushSettings.INCREMENTAL_FLUSH, Boolean.toString(incremental))
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(entityClass)
+				.buildMetadata()
+				.buildSessionFactory();
+
+		try (StatelessSession statelessSession = sessionFactory.openStatelessSession()) {
+			statelessSession.beginTransaction();
+			for (int i = 0; i < ENTITY_COUNT; i++) {
+				statelessSession.insert(constructor.invoke((long) i, (long) (i % 1_000), "entry-" + (i % 100)));
+			}
+			statelessSession.getTransaction().commit();
+		}
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.beginTransaction();
+		entries = session.createSelectionQuery("from LedgerEntry", Object.class).getResultList();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (session != null) {
+			session.getTransaction().rollback();
+			session.close();
+		}
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	public void flushFewChanges() throws Throwable {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < CHANGE_COUNT; i++) {
+			setMemo.invoke(entries.get(random.nextInt(ENTITY_COUNT)), "changed-" + changeCount++);
+		}
+		session.flush();
+	}
+
+	@Benchmark
+	public void flushNoChanges() {
+		session.flush();
+	}
+}
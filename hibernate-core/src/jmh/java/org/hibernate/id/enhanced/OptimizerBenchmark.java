@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmarks for the pooled identifier generator optimizers used by many
+ * threads at once, comparing the PooledOptimizer, PooledLoOptimizer and
+ * PooledLoThreadLocalOptimizer with the StripedPooledLoOptimizer.
+ *
+ * The logical sequence is simulated in memory, and each call to it burns a
+ * fixed amount of CPU, standing in for the round trip to the database.
+ *
+ * Measures:
+ * - generate: 64 threads generating ids from one optimizer, with an
+ *   allocationSize of 50
+ * - generateFewThreads: the same with 4 threads
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*OptimizerBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class OptimizerBenchmark {
+
+	private static final int INCREMENT_SIZE = 50;
+	private static final long SOURCE_COST_TOKENS = 2_000;
+
+	@Param({"pooled", "pooled-lo", "pooled-lotl", "pooled-striped"})
+	private String optimizerName;
+
+	private Optimizer optimizer;
+	private AccessCallback sequence;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		optimizer = OptimizerFactory.buildOptimizer(
+				StandardOptimizerDescriptor.fromExternalName( optimizerName ),
+				Long.class,
+				INCREMENT_SIZE,
+				1
+		);
+		final AtomicLong value = new AtomicLong( 1 );
+		sequence = new AccessCallback() {
+			@Override
+			public long getNextValue() {
+				Blackhole.consumeCPU( SOURCE_COST_TOKENS );
+				return value.getAndAdd( INCREMENT_SIZE );
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Object generate() {
+		return optimizer.generate( sequence );
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object generateFewThreads() {
+		return optimizer.generate( sequence );
+	}
+}
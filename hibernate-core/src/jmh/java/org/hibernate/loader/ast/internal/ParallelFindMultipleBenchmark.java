@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import jakarta.persistence.*;
+import org.hibernate.FindMultipleOption;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for Session#findMultiple() with a very long list of ids,
+ * fetching the batches sequentially over the connection of the session, or
+ * concurrently over additional connections, see FindMultipleOption.ParallelFetch.
+ *
+ * Measures:
+ * - findMultiple: loading 100k entities in a new session, in batches of 1000
+ *
+ * Since the database is in-memory, the benefit is limited to the extraction of
+ * the rows, which is spread over the worker threads. With a remote database the
+ * network round trips are overlapped too.
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*ParallelFindMultipleBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1)
+public class ParallelFindMultipleBenchmark {
+
+	private static final int ENTITY_COUNT = 100_000;
+	private static final int BATCH_SIZE = 1_000;
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "Reading")
+	@Table(name = "reading")
+	public static class Reading {
+		@Id
+		private long id;
+		private long sensorId;
+		private double value;
+		private String unit;
+		private String note;
+
+		public Reading() {}
+		public Reading(long id, long sensorId, double value, String unit, String note) {
+			this.id = id;
+			this.sensorId = sensorId;
+			this.value = value;
+			this.unit = unit;
+			this.note = note;
+		}
+	}
+
+	// ========== State ==========
+
+	/**
+	 * The number of additional connections, zero meaning a sequential fetch.
+	 */
+	@Param({"0", "2", "4", "8"})
+	int connections;
+
+	SessionFactory sessionFactory;
+	List<Long> ids;
+	FindMultipleOption[] options;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:parallel_find_" + connections + ";DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+				.applySetting(AvailableSettings.POOL_SIZE, "16")
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(Reading.class)
+				.buildMetadata()
+				.buildSessionFactory();
+
+		try (StatelessSession statelessSession = sessionFactory.openStatelessSession()) {
+			statelessSession.beginTransaction();
+			for (int i = 0; i < ENTITY_COUNT; i++) {
+				statelessSession.insert(new Reading(i, i % 500, i * 0.5, "kPa", "reading number " + i));
+			}
+			statelessSession.getTransaction().commit();
+		}
+
+		ids = new ArrayList<>(ENTITY_COUNT);
+		for (long i = 0; i < ENTITY_COUNT; i++) {
+			ids.add(i);
+		}
+		Collections.shuffle(ids, new Random(7));
+
+		options = connections == 0
+				? new FindMultipleOption[] {new FindMultipleOption.BatchSize(BATCH_SIZE)}
+				: new FindMultipleOption[] {new FindMultipleOption.BatchSize(BATCH_SIZE),
+						new FindMultipleOption.ParallelFetch(connections)};
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	public int findMultiple() {
+		try (var session = sessionFactory.openSession()) {
+			return session.findMultiple(Reading.class, ids, options).size();
+		}
+	}
+}
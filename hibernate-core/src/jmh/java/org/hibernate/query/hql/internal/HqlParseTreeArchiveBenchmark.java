@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.hql.internal;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks comparing the parsing of the named queries of an application
+ * while it starts up with rebuilding their parse trees from an HqlParseTreeArchive,
+ * see QuerySettings#HQL_PARSE_TREE_ARCHIVE.
+ *
+ * Measures:
+ * - parse: parsing every query once with a cold parser, that is, after the DFA
+ *   caches shared by all instances of the lexer and parser have been cleared
+ * - rebuild: reading the archive, then rebuilding the parse tree of every query
+ *
+ * Each invocation is timed separately, since the cost of parsing lies in
+ * warming up the DFA caches, which are shared by all the queries. Once these
+ * caches are warm, parsing a query is no slower than rebuilding its parse
+ * tree, and so an archived tree is only used once.
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*HqlParseTreeArchiveBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+@Fork(value = 3)
+public class HqlParseTreeArchiveBenchmark {
+
+	private static final List<String> QUERIES = List.of(
+			"select b from Book b where b.title = :title",
+			"select b from Book b where b.isbn = ?1",
+			"select b.isbn, b.title, a.name from Book b join b.authors a where a.name like :name and b.published > :date order by b.title",
+			"select b from Book b left join fetch b.publisher p where p.name = :publisher and b.price between :min and :max",
+			"select new org.example.Summary(p.name, count(o), sum(o.total)) from Person p left join p.orders o where o.status in (:statuses) group by p.name having sum(o.total) > 100 order by 3 desc",
+			"select e from Employee e where e.salary > (select avg(e2.salary) from Employee e2 where e2.department = e.department) and e.name is not null",
+			"select distinct a from Author a join a.books b where exists (select 1 from Review r where r.book = b and r.rating >= 4)",
+			"select o.id, case when o.total > 1000 then 'large' when o.total > 100 then 'medium' else 'small' end from Order o",
+			"select year(o.placed), month(o.placed), count(*) from Order o where o.placed >= local date - 1 year group by 1, 2 order by 1, 2",
+			"select p from Person p where lower(p.email) = lower(:email) and p.address.city in ('Paris', 'Rome', 'Berlin')",
+			"select c.name, coalesce(max(o.total), 0) from Customer c left join c.orders o on o.status = 'SHIPPED' group by c.name",
+			"select b.title from Book b where b.title like 'H%' union select m.title from Magazine m where m.title like 'H%'",
+			"with recent as (select b.id as id from Book b where b.published > {d '2020-01-01'}) select count(*) from recent",
+			"select i from Invoice i join i.lines l where l.product.sku = :sku order by i.issued desc limit 10",
+			"select treat(v as Car).seats from Vehicle v where type(v) = Car",
+			"select cast(b.id as String), upper(b.title), length(b.title) from Book b where b.id in (?1, ?2, ?3)",
+			"update Book b set b.price = b.price * 1.1 where b.publisher.name = :publisher",
+			"update Person p set p.active = false where p.lastLogin < :cutoff",
+			"delete from Review r where r.rating is null",
+			"insert into Archive (id, title) select b.id, b.title from Book b where b.published < :date"
+	);
+
+	private byte[] archiveBytes;
+
+	@Setup(Level.Trial)
+	public void buildArchive() throws IOException {
+		final var writer = new HqlParseTreeArchive.Writer();
+		for ( String hql : QUERIES ) {
+			if ( !writer.add( hql ) ) {
+				throw new IllegalStateException( "Unable to archive: " + hql );
+			}
+		}
+		final var bytes = new ByteArrayOutputStream();
+		writer.write( bytes );
+		archiveBytes = bytes.toByteArray();
+	}
+
+	@Setup(Level.Invocation)
+	public void clearDfaCaches() {
+		final String hql = QUERIES.get( 0 );
+		final var hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		final var hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
+		hqlLexer.getInterpreter().clearDFA();
+		hqlParser.getInterpreter().clearDFA();
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) {
+		for ( String hql : QUERIES ) {
+			final var hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+			final var hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
+			blackhole.consume( StandardHqlTranslator.parseHql( hql, hqlParser ) );
+		}
+	}
+
+	@Benchmark
+	public void rebuild(Blackhole blackhole) throws IOException {
+		final var archive = HqlParseTreeArchive.read( new ByteArrayInputStream( archiveBytes ) );
+		for ( String hql : QUERIES ) {
+			blackhole.consume( archive.getParseTree( hql ) );
+		}
+	}
+}
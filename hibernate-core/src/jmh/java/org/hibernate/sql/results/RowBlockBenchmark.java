@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results;
+
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for reading large scalar query results row by row vs. in columnar row blocks.
+ *
+ * Compares:
+ * - rowBlockSize = 0: the standard path, one ResultSet row at a time through the RowReader
+ * - rowBlockSize > 0: rows read ahead into primitive column vectors, see QuerySettings#QUERY_ROW_BLOCK_SIZE
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*RowBlockBenchmark.*"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class RowBlockBenchmark {
+
+	private static final int ROW_COUNT = 100_000;
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "ReportLine")
+	@Table(name = "report_line")
+	public static class ReportLine {
+		@Id
+		private Long id;
+		private long accountId;
+		private int quantity;
+		private double amount;
+		private String label;
+
+		public ReportLine() {}
+		public ReportLine(Long id, long accountId, int quantity, double amount, String label) {
+			this.id = id;
+			this.accountId = accountId;
+			this.quantity = quantity;
+			this.amount = amount;
+			this.label = label;
+		}
+	}
+
+	// ========== State ==========
+
+	@Param({"0", "256", "1024"})
+	int rowBlockSize;
+
+	SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:rowblock_" + rowBlockSize + ";DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+				.applySetting(AvailableSettings.STATEMENT_FETCH_SIZE, "1024")
+				.applySetting(QuerySettings.QUERY_ROW_BLOCK_SIZE, Integer.toString(rowBlockSize))
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(ReportLine.class)
+				.buildMetadata()
+				.buildSessionFactory();
+
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			session.beginTransaction();
+			for (int i = 0; i < ROW_COUNT; i++) {
+				session.insert(new ReportLine((long) i, i % 1_000, i % 50, i * 0.25d, "line-" + (i % 100)));
+			}
+			session.getTransaction().commit();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	public void numericTuples(Blackhole blackhole) {
+		try (Session session = sessionFactory.openSession()) {
+			List<Object[]> rows = session.createSelectionQuery(
+					"select r.id, r.accountId, r.quantity, r.amount from ReportLine r",
+					Object[].class
+			).getResultList();
+			blackhole.consume(rows);
+		}
+	}
+
+	@Benchmark
+	public void mixedTuples(Blackhole blackhole) {
+		try (Session session = sessionFactory.openSession()) {
+			List<Object[]> rows = session.createSelectionQuery(
+					"select r.id, r.quantity, r.amount, r.label from ReportLine r",
+					Object[].class
+			).getResultList();
+			blackhole.consume(rows);
+		}
+	}
+
+	@Benchmark
+	public void longArrays(Blackhole blackhole) {
+		try (Session session = sessionFactory.openSession()) {
+			List<long[]> rows = session.createSelectionQuery(
+					"select r.id, r.accountId from ReportLine r",
+					long[].class
+			).getResultList();
+			blackhole.consume(rows);
+		}
+	}
+
+	@Benchmark
+	public void singleColumn(Blackhole blackhole) {
+		try (Session session = sessionFactory.openSession()) {
+			List<Double> rows = session.createSelectionQuery(
+					"select r.amount from ReportLine r",
+					Double.class
+			).getResultList();
+			blackhole.consume(rows);
+		}
+	}
+}
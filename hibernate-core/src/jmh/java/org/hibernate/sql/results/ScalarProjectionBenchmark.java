@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results;
+
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.ServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmarks for reading scalar-only projections, see ScalarRowReader.
+ *
+ * Compares:
+ * - Object[] tuples, one array per row
+ * - record and List projections, where the row array is reused for every row
+ * - single column projections, where no row array is needed at all
+ *
+ * Run with:
+ * ./gradlew :hibernate-core:jmh -Pjmh.include=".*ScalarProjectionBenchmark.*"
+ *
+ * Use -prof gc to compare the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1)
+public class ScalarProjectionBenchmark {
+
+	private static final int ROW_COUNT = 100_000;
+
+	// ========== Entity Model ==========
+
+	@Entity(name = "Trade")
+	@Table(name = "trade")
+	public static class Trade {
+		@Id
+		private Long id;
+		private String symbol;
+		private int quantity;
+		private double price;
+
+		public Trade() {}
+		public Trade(Long id, String symbol, int quantity, double price) {
+			this.id = id;
+			this.symbol = symbol;
+			this.quantity = quantity;
+			this.price = price;
+		}
+	}
+
+	public record TradeSummary(Long id, String symbol, int quantity, double price) {}
+
+	// ========== State ==========
+
+	SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+				.applySetting(AvailableSettings.URL, "jdbc:h2:mem:scalar_projection;DB_CLOSE_DELAY=-1")
+				.applySetting(AvailableSettings.USER, "sa")
+				.applySetting(AvailableSettings.PASS, "")
+				.applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.applySetting(AvailableSettings.SHOW_SQL, "false")
+				.applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "500")
+				.applySetting(AvailableSettings.STATEMENT_FETCH_SIZE, "1024")
+				.build();
+
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClass(Trade.class)
+				.buildMetadata()
+				.buildSessionFactory();
+
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			session.beginTransaction();
+			for (int i = 0; i < ROW_COUNT; i++) {
+				session.insert(new Trade((long) i, "SYM" + (i % 100), i % 500, i * 0.01d));
+			}
+			session.getTransaction().commit();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+	}
+
+	// ========== Benchmarks ==========
+
+	@Benchmark
+	public void tuples(Blackhole blackhole) {
+		try (Session session = sessionFactory.openSession()) {
+			List<Object[]> rows = session.createSelectionQuery(
+					"select t.id, t.symbol, t.quantity, t.price from Trade t",
+					Object[].class
+			).getResultList();
+			blackhole.consume(rows);
+		}
+	}
+
+	@Benchmark
+	public void records(Blackhole blackhole) {
+		try (Session session = sessionFactory.openSession()) {
+			List<TradeSummary> rows = session.createSelectionQuery(
+					"select t.id, t.symbol, t.quantity, t.price from Trade t",
+					TradeSummary.class
+			).getResultList();
+			blackhole.consume(rows);
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings("rawtypes")
+	public void lists(Blackhole blackhole) {
+		try (Session session = sessionFactory.openSession()) {
+			List<List> rows = session.createSelectionQuery(
+					"select t.id, t.symbol, t.quantity, t.price from Trade t",
+					List.class
+			).getResultList();
+			blackhole.consume(rows);
+		}
+	}
+
+	@Benchmark
+	public void singleColumn(Blackhole blackhole) {
+		try (Session session = sessionFactory.openSession()) {
+			List<Double> rows = session.createSelectionQuery(
+					"select t.price from Trade t",
+					Double.class
+			).getResultList();
+			blackhole.consume(rows);
+		}
+	}
+}
@@ -42,6 +42,36 @@ public interface FindMultipleOption extends FindOption {
 	record BatchSize(int batchSize) implements FindMultipleOption {
 	}
 
+	/// Specifies that the batches of identifiers which must be fetched from the
+	/// database should be fetched concurrently, over the given number of JDBC
+	/// connections, in addition to the connection of the session. The entities
+	/// are still assembled, and added to the persistence context, by the calling
+	/// thread, so that the result list is identical to the result of a sequential
+	/// fetch. The session itself is only ever used by the calling thread.
+	///
+	/// The additional connections are obtained from the
+	/// [ConnectionProvider][org.hibernate.engine.jdbc.connections.spi.ConnectionProvider],
+	/// and do not take part in the current transaction. They should therefore
+	/// only be used to read data which is not being modified by the current
+	/// transaction. Each connection is obtained just before the queries it
+	/// executes are started, and when no further connection is available, the
+	/// remaining batches are fetched over the connection of the session.
+	///
+	/// The option is ignored when the entities are loaded with a pessimistic or
+	/// optimistic lock, when transactions are managed by JTA, or when there is
+	/// only one batch to fetch. The queries are executed by threads shared by
+	/// every session of the session factory, one thread per connection in use,
+	/// and are subject to the query timeout, or else the lock timeout. It is of
+	/// most benefit when very many identifiers are fetched, along with an
+	/// explicit [BatchSize].
+	///
+	/// @param connections The number of additional connections
+	///
+	/// @since 8.1
+	@Incubating
+	record ParallelFetch(int connections) implements FindMultipleOption {
+	}
+
 	/// Indicates whether the result list should be ordered relative to the
 	/// position of the identifier list.  E.g.
 	/// ```java
@@ -340,6 +340,32 @@ public interface Session extends SharedSessionContract, EntityManager {
 	/// @see org.hibernate.cfg.AvailableSettings#USE_SUBSELECT_FETCH
 	void setSubselectFetchingEnabled(boolean enabled);
 
+	/// The graph of lazy associations prefetched by this session, if any.
+	///
+	/// @since 8.1
+	///
+	/// @see #setPrefetchGraph(EntityGraph)
+	@Incubating
+	@Nullable
+	EntityGraph<?> getPrefetchGraph();
+
+	/// Specify a graph of lazy associations to prefetch whenever entities
+	/// of the root type of the graph, or of any of its subgraphs, are batch
+	/// fetched, or collections of one of its attributes are batch fetched.
+	/// The associations of the fetched entities named by the graph are then
+	/// fetched immediately, with one query for each association target, and
+	/// then the associations of the entities fetched, and so on. Navigating
+	/// the graph then takes one round trip per level, instead of at least one
+	/// per association of each entity.
+	///
+	/// @param graph the graph, or `null` to stop prefetching by graph
+	///
+	/// @since 8.1
+	///
+	/// @see org.hibernate.cfg.AvailableSettings#PREFETCH_PLANNING
+	@Incubating
+	void setPrefetchGraph(@Nullable EntityGraph<?> graph);
+
 	/// Get the session factory which created this session.
 	///
 	/// @return the session factory
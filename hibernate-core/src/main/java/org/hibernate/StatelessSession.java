@@ -109,6 +109,37 @@ public interface StatelessSession extends SharedSessionContract, EntityAgent {
 	 */
 	void insertMultiple(@Nonnull List<?> entities);
 
+	/**
+	 * Insert multiple records in the same order as the entity
+	 * instances representing the new records occur in the given
+	 * list, using the native bulk loading mechanism of the database,
+	 * for example, {@code COPY} on PostgreSQL, where possible.
+	 * <p>
+	 * Identifiers are generated, and the {@link jakarta.persistence.PrePersist}
+	 * and {@link jakarta.persistence.PostPersist} callbacks are triggered,
+	 * just as they are by {@link #insertMultiple(List)}.
+	 * <p>
+	 * An entity is inserted using a regular {@code insert} statement,
+	 * as if by {@link #insertMultiple(List)}, if:
+	 * <ul>
+	 * <li>the {@linkplain org.hibernate.dialect.Dialect#getBulkInsertSupport
+	 *     dialect} or JDBC driver offers no native bulk loading mechanism,
+	 * <li>its identifier is generated by the database when the row is
+	 *     inserted, for example, by an identity column,
+	 * <li>it is mapped to multiple tables, or has other values generated
+	 *     by the database, or
+	 * <li>it has an attribute of a type which cannot be bulk loaded.
+	 * </ul>
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @see org.hibernate.dialect.bulk.BulkInsertSupport
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	void bulkInsert(@Nonnull List<?> entities);
+
 	/**
 	 * Insert a record.
 	 * <p>
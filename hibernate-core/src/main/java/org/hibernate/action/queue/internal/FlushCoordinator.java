@@ -26,6 +26,7 @@
 import org.hibernate.action.queue.internal.graph.StandardGraphBuilder;
 import org.hibernate.action.queue.spi.plan.FlushOperation;
 import org.hibernate.action.queue.internal.plan.FlushPlan;
+import org.hibernate.action.queue.internal.plan.FlushPlanCache;
 import org.hibernate.action.queue.internal.plan.FlushPlanner;
 import org.hibernate.action.queue.internal.plan.PlanStep;
 import org.hibernate.action.queue.internal.plan.FlushOperationGroup;
@@ -93,6 +94,7 @@ public class FlushCoordinator {
 
 	private final transient Decomposer decomposer;
 	private final transient FlushPlanner flushPlanner;
+	private final transient FlushPlanCache flushPlanCache;
 	private transient DeferrableConstraintMode deferrableConstraintMode = DeferrableConstraintMode.DEFAULT;
 
 	// Track entities that became managed during the current flush
@@ -110,6 +112,15 @@ public FlushCoordinator(
 			PlanningOptions planningOptions,
 			Map<String, EntityPersister> entityPersistersByTable,
 			SessionImplementor session) {
+		this( constraintModel, planningOptions, entityPersistersByTable, null, session );
+	}
+
+	public FlushCoordinator(
+			ConstraintModel constraintModel,
+			PlanningOptions planningOptions,
+			Map<String, EntityPersister> entityPersistersByTable,
+			FlushPlanCache flushPlanCache,
+			SessionImplementor session) {
 		this.constraintModel = constraintModel;
 		this.planningOptions = planningOptions;
 		this.session = session;
@@ -117,6 +128,7 @@ public FlushCoordinator(
 		decomposer = new Decomposer( session );
 		graphBuilder = new StandardGraphBuilder( constraintModel, planningOptions, session, entityPersistersByTable );
 		flushPlanner = new StandardFlushPlanner( planningOptions );
+		this.flushPlanCache = flushPlanCache;
 	}
 
 	/// Get the Decomposer (for accessing unresolved insert tracking).
@@ -235,8 +247,7 @@ private void executeFlushInternal(
 		else {
 			// Complex scenario - use full graph-based planning
 			ActionLogging.ACTION_LOGGER.trace( "Building graph - statement dependencies found" );
-			var graph = graphBuilder.build( operationGroups, deferrableConstraintMode );
-			plan = flushPlanner.plan( graph, deferrableConstraintMode );
+			plan = planGraph( operationGroups );
 		}
 
 		// Execute the plan - post-execution callbacks will run inline as operations complete
@@ -249,6 +260,16 @@ private void executeFlushInternal(
 		decomposer.validateNoUnresolvedInserts();
 	}
 
+	/// Build the dependency graph of the given groups and plan it, or reuse the
+	/// shape of the plan of a previous flush when the [FlushPlanCache] is enabled.
+	private FlushPlan planGraph(List<FlushOperationGroup> groups) {
+		if ( flushPlanCache != null ) {
+			return flushPlanCache.plan( groups, deferrableConstraintMode, graphBuilder, flushPlanner );
+		}
+		var graph = graphBuilder.build( groups, deferrableConstraintMode );
+		return flushPlanner.plan( graph, deferrableConstraintMode );
+	}
+
 	/// Check if we can skip graph building and use a simple direct execution plan.
 	///
 	/// Graph building has overhead - we can skip it when there are no dependencies:
@@ -600,7 +621,7 @@ FlushOperationGroup build() {
 
 	/// Executes planned operations in order. Handles fixups emitted from cycle breaks.
 	private void executePlan(FlushPlan plan) {
-		final PlanStepExecutor executor = PlanStepExecutorFactory.create( session );
+		final PlanStepExecutor executor = PlanStepExecutorFactory.create( session, planningOptions );
 		final Consumer<Object> newlyManagedEntityConsumer = decomposer.hasUnresolvedInserts()
 				? newlyManagedEntities::add
 				: null;
@@ -617,6 +638,7 @@ private void executePlan(FlushPlan plan) {
 		final List<FlushOperation> fixups = plan.drainFixupsInOrder();
 		if (!fixups.isEmpty()) {
 			executor.execute( fixups, null, null );
+			executor.finishUp();
 		}
 	}
 
@@ -625,6 +647,9 @@ private void executeStep(
 			PlanStepExecutor executor,
 			Consumer<Object> newlyManagedEntityConsumer,
 			Consumer<FlushOperation> fixupOperationConsumer) {
+		if ( step.dependsOnPreviousSteps() ) {
+			executor.completePreviousSteps();
+		}
 		executor.execute(
 				step.operations(),
 				newlyManagedEntityConsumer,
@@ -705,5 +730,6 @@ public FlushCoordinator(
 				actionQueueFactory.getEntityPersistersByTable()
 		);
 		flushPlanner = new StandardFlushPlanner( actionQueueFactory.getPlanningOptions() );
+		flushPlanCache = actionQueueFactory.getFlushPlanCache();
 	}
 }
@@ -25,6 +25,7 @@
 import org.hibernate.action.queue.internal.audit.GraphAuditMutationCollector;
 import org.hibernate.action.queue.internal.constraint.ConstraintModel;
 import org.hibernate.action.queue.internal.constraint.DeferrableConstraintMode;
+import org.hibernate.action.queue.internal.plan.FlushPlanCache;
 import org.hibernate.action.queue.internal.support.GraphBasedActionQueueFactory;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.engine.internal.TransactionCompletionCallbacksImpl;
@@ -88,11 +89,29 @@ public GraphBasedActionQueue(
 			Map<String, EntityPersister> entityPersistersByTable,
 			boolean deferIdentityInserts,
 			SessionImplementor session) {
+		this( constraintModel, planningOptions, entityPersistersByTable, deferIdentityInserts, null, session );
+	}
+
+	/// Construct a GraphBasedActionQueue for the given session.
+	///
+	/// @param constraintModel Details about foreign-key and unique constraints defined in the model.
+	/// @param planningOptions Options for graph building and planning.
+	/// @param deferIdentityInserts Whether non-delayed IDENTITY inserts should be planned instead of executed immediately.
+	/// @param flushPlanCache The cache of flush plan shapes, or `null` if disabled.
+	/// @param session The session
+	public GraphBasedActionQueue(
+			ConstraintModel constraintModel,
+			PlanningOptions planningOptions,
+			Map<String, EntityPersister> entityPersistersByTable,
+			boolean deferIdentityInserts,
+			FlushPlanCache flushPlanCache,
+			SessionImplementor session) {
 		this.session = session;
 		this.flushCoordinator = new FlushCoordinator(
 				constraintModel,
 				planningOptions,
 				entityPersistersByTable,
+				flushPlanCache,
 				session
 		);
 		this.auditMutationCollector = new GraphAuditMutationCollector();
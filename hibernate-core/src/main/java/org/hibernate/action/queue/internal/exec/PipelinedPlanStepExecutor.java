@@ -0,0 +1,259 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.action.queue.internal.exec;
+
+import jakarta.persistence.EntityExistsException;
+
+import org.hibernate.action.queue.spi.plan.FlushOperation;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.action.queue.spi.MutationKind;
+import org.hibernate.action.queue.spi.StatementShapeKey;
+import org.hibernate.action.queue.spi.bind.JdbcValueBindings;
+import org.hibernate.engine.jdbc.batch.spi.SingleStatementBatch;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.SelfExecutingUpdateOperation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/// PlanStepExecutor with support for JDBC batching which keeps one batch per
+/// statement shape open across the plan steps which do not depend on one another.
+///
+/// JDBC does not allow executing several statements concurrently over the same
+/// connection, so rather than dispatching independent steps concurrently, their
+/// operations are pipelined into the open batches, and every batch is executed
+/// once it is full, or when a [dependent][PlanStepExecutor#completePreviousSteps()]
+/// step is reached.  The open batches are then executed in the order in which
+/// they were opened.
+///
+/// @see org.hibernate.cfg.FlushSettings#GRAPH_PIPELINED_EXECUTION
+///
+/// @since 8.1
+public class PipelinedPlanStepExecutor extends AbstractStepExecutor {
+	private final int batchSize;
+
+	private final Map<StatementShapeKey, OpenBatch> openBatches = new LinkedHashMap<>();
+
+	private Consumer<Object> newlyManagedEntityConsumer;
+	private Consumer<FlushOperation> fixupOperationConsumer;
+
+	public PipelinedPlanStepExecutor(int batchSize, SharedSessionContractImplementor session) {
+		super( session );
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public void execute(
+			List<FlushOperation> flushOperations,
+			Consumer<Object> newlyManagedEntityConsumer,
+			Consumer<FlushOperation> fixupOperationConsumer) {
+		// the consumers are the same for all steps of a plan, and
+		// are needed by the post-batch callbacks of later steps
+		this.newlyManagedEntityConsumer = newlyManagedEntityConsumer;
+		this.fixupOperationConsumer = fixupOperationConsumer;
+		try {
+			super.execute( flushOperations, newlyManagedEntityConsumer, fixupOperationConsumer );
+		}
+		catch (RuntimeException e) {
+			releaseBatches();
+			throw e;
+		}
+	}
+
+	@Override
+	public void completePreviousSteps() {
+		executeBatches();
+	}
+
+	@Override
+	protected void executePreparable(PreparableMutationOperation preparable, FlushOperation flushOperation) {
+		final StatementShapeKey operationShapeKey = flushOperation.getShapeKey();
+		var batch = openBatches.get( operationShapeKey );
+		if ( batch == null ) {
+			batch = new OpenBatch( operationShapeKey, preparable );
+			openBatches.put( operationShapeKey, batch );
+		}
+		batch.add( preparable, flushOperation );
+	}
+
+	@Override
+	protected boolean beforeOperationExecution(FlushOperation flushOperation) {
+		if ( flushOperation.getPreExecutionCallback() != null ) {
+			executeBatches();
+		}
+		return super.beforeOperationExecution( flushOperation );
+	}
+
+	@Override
+	protected void afterOperationExecution(
+			FlushOperation flushOperation,
+			Consumer<Object> newlyManagedEntityConsumer,
+			Consumer<FlushOperation> fixupOperationConsumer) {
+		final boolean operationIsNoop = flushOperation.getKind() == MutationKind.NO_OP;
+		if ( operationIsNoop ) {
+			executeBatches();
+		}
+		if ( operationIsNoop
+				|| flushOperation.isExecutionSkipped()
+				|| flushOperation.getBindPlan().getGeneratedValuesCollector() != null
+				|| !(flushOperation.getJdbcOperation() instanceof PreparableMutationOperation) ) {
+			super.afterOperationExecution( flushOperation, newlyManagedEntityConsumer, fixupOperationConsumer );
+		}
+	}
+
+	@Override
+	protected void executeWithGeneratedValues(FlushOperation flushOperation) {
+		executeBatches();
+		super.executeWithGeneratedValues( flushOperation );
+	}
+
+	@Override
+	protected void executeSelfExecuting(SelfExecutingUpdateOperation selfExecuting, FlushOperation flushOperation) {
+		executeBatches();
+		super.executeSelfExecuting( selfExecuting, flushOperation );
+	}
+
+	@Override
+	public void finishUp() {
+		super.finishUp();
+		try {
+			executeBatches();
+		}
+		finally {
+			newlyManagedEntityConsumer = null;
+			fixupOperationConsumer = null;
+		}
+	}
+
+	private void executeBatches() {
+		if ( openBatches.isEmpty() ) {
+			return;
+		}
+		try {
+			for ( OpenBatch batch : openBatches.values() ) {
+				batch.execute();
+			}
+		}
+		finally {
+			releaseBatches();
+		}
+	}
+
+	private void releaseBatches() {
+		for ( OpenBatch batch : openBatches.values() ) {
+			batch.batch.release();
+		}
+		openBatches.clear();
+	}
+
+	private void runPostBatchCallbacks(FlushOperation[] operations, int batchCount) {
+		if ( batchCount > operations.length ) {
+			throw new AssertionFailure( "Expecting at most " + operations.length + " batched operations; but got " + batchCount );
+		}
+		for ( int i = 0; i < batchCount; i++ ) {
+			final FlushOperation operation = operations[i];
+			operations[i] = null;
+			super.afterOperationExecution( operation, newlyManagedEntityConsumer, fixupOperationConsumer );
+		}
+	}
+
+	/// The batch of a statement shape, which is not registered as the current
+	/// batch of the JDBC coordinator, since several of them might be open.
+	private class OpenBatch {
+		private final SingleStatementBatch batch;
+		private final FlushOperation[] batchOperations = new FlushOperation[batchSize];
+		private int currentBatchIndex;
+
+		private PreparableMutationOperation reusableValueBindingsOperation;
+		private JdbcValueBindings reusableValueBindings;
+
+		private OpenBatch(StatementShapeKey shapeKey, PreparableMutationOperation preparable) {
+			final var jdbcCoordinator = session.getJdbcCoordinator();
+			batch = session.getJdbcSessionContext().getBatchBuilder()
+					.buildSingleStatementBatch( shapeKey, batchSize, preparable, jdbcCoordinator );
+		}
+
+		private void add(PreparableMutationOperation preparable, FlushOperation flushOperation) {
+			final var valueBindings = getReusableValueBindings( preparable, flushOperation );
+			flushOperation.getBindPlan().bindValues( valueBindings, flushOperation, session );
+
+			batchOperations[currentBatchIndex] = flushOperation;
+
+			final var resultChecker = flushOperation.getOperationResultChecker();
+			try {
+				batch.addToBatch(
+						valueBindings::beforeStatement,
+						resultChecker == null ? null : resultChecker::checkResult
+				);
+			}
+			catch (ConstraintViolationException cve) {
+				throw convertBatchException( cve, currentBatchIndex + 1 );
+			}
+			currentBatchIndex++;
+
+			if ( currentBatchIndex == batchSize ) {
+				// the batch was implicitly executed
+				try {
+					runPostBatchCallbacks( batchOperations, currentBatchIndex );
+				}
+				finally {
+					currentBatchIndex = 0;
+				}
+			}
+		}
+
+		private JdbcValueBindings getReusableValueBindings(
+				PreparableMutationOperation preparable,
+				FlushOperation flushOperation) {
+			if ( reusableValueBindingsOperation != preparable ) {
+				reusableValueBindingsOperation = preparable;
+				reusableValueBindings = new JdbcValueBindings( flushOperation.getMutatingTableDescriptor(), preparable );
+			}
+			else {
+				reusableValueBindings.clear();
+			}
+			return reusableValueBindings;
+		}
+
+		private void execute() {
+			final int batchCount = currentBatchIndex;
+			try {
+				batch.execute();
+			}
+			catch (ConstraintViolationException cve) {
+				throw convertBatchException( cve, batchCount );
+			}
+			finally {
+				currentBatchIndex = 0;
+			}
+			runPostBatchCallbacks( batchOperations, batchCount );
+		}
+
+		private RuntimeException convertBatchException(ConstraintViolationException cve, int batchCount) {
+			return session.getFactory().getSessionFactoryOptions().isJpaBootstrap()
+				&& cve.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+				&& hasEntityInsert( batchCount )
+					? new EntityExistsException( cve )
+					: cve;
+		}
+
+		private boolean hasEntityInsert(int batchCount) {
+			for ( int i = 0; i < batchCount; i++ ) {
+				final var operation = batchOperations[i];
+				if ( operation != null
+						&& operation.getKind() == MutationKind.INSERT
+						&& operation.getBindPlan().getEntityInstance() != null ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
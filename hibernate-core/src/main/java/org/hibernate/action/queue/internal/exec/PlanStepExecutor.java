@@ -18,5 +18,14 @@ void execute(
 			Consumer<Object> newlyManagedEntityConsumer,
 			Consumer<FlushOperation> fixupOperationConsumer);
 
+	/// Called before executing a [step][org.hibernate.action.queue.internal.plan.PlanStep]
+	/// which [depends][org.hibernate.action.queue.internal.plan.PlanStep#dependsOnPreviousSteps()]
+	/// on the previous steps, to complete the execution of their operations.
+	///
+	/// Executors which complete the execution of each step as part of [#execute] have
+	/// nothing to do.
+	default void completePreviousSteps() {
+	}
+
 	void finishUp();
 }
@@ -5,14 +5,21 @@
 package org.hibernate.action.queue.internal.exec;
 
 
+import org.hibernate.action.queue.spi.PlanningOptions;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /// @author Steve Ebersole
 public class PlanStepExecutorFactory {
 	public static PlanStepExecutor create(SharedSessionContractImplementor session) {
+		return create( session, null );
+	}
+
+	public static PlanStepExecutor create(SharedSessionContractImplementor session, PlanningOptions planningOptions) {
 		final Integer configuredJdbcBatchSize = session.getConfiguredJdbcBatchSize();
 		if ( configuredJdbcBatchSize != null && configuredJdbcBatchSize > 1 ) {
-			return new BatchingPlanStepExecutor( configuredJdbcBatchSize, session );
+			return planningOptions != null && planningOptions.pipelineIndependentSteps()
+					? new PipelinedPlanStepExecutor( configuredJdbcBatchSize, session )
+					: new BatchingPlanStepExecutor( configuredJdbcBatchSize, session );
 		}
 		else {
 			return new StandardPlanStepExecutor( session );
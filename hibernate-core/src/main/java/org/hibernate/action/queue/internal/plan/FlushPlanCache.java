@@ -0,0 +1,269 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.action.queue.internal.plan;
+
+import org.hibernate.action.queue.internal.constraint.ConstraintModel;
+import org.hibernate.action.queue.internal.constraint.DeferrableConstraintMode;
+import org.hibernate.action.queue.internal.graph.Graph;
+import org.hibernate.action.queue.internal.graph.GraphBuilder;
+import org.hibernate.action.queue.internal.graph.GraphEdge;
+import org.hibernate.action.queue.spi.MutationKind;
+import org.hibernate.action.queue.spi.PlanningOptions;
+import org.hibernate.action.queue.spi.StatementShapeKey;
+import org.hibernate.action.queue.spi.plan.FlushOperation;
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Comparator.comparingInt;
+
+/// SessionFactory-level cache of the shape of the [plans][FlushPlan] produced for
+/// flushes which decompose into the same [groups][FlushOperationGroup] of operations,
+/// allowing repeated flushes (typically, the same unit of work executed over and over
+/// again) to skip building the [Graph], breaking its cycles and sorting it.
+///
+/// A [FlushPlan] references the operations of one specific flush, so what is cached
+/// is only its shape - the order of the groups and how they are split into steps -
+/// keyed by the [StatementShapeKey] of each group, in ordinal order.
+///
+/// Only flushes whose planning depends on nothing but those shapes are cached, so
+/// the cache is bypassed when -
+///
+/// - the plan depends on the values being written, i.e. when ordering by unique-key
+/// 	slots for any table with unique constraints on which rows are deleted or updated.
+/// - cycles had to be broken, which requires patching the operations.
+///
+/// @see org.hibernate.cfg.FlushSettings#FLUSH_PLAN_CACHE_MAX_SIZE
+///
+/// @since 8.1
+public class FlushPlanCache {
+	private final PlanningOptions planningOptions;
+	private final ConstraintModel constraintModel;
+	private final ServiceRegistry serviceRegistry;
+	private final InternalCache<PlanShapeKey, PlanShape> planShapes;
+
+	private StatisticsImplementor statistics;
+
+	public FlushPlanCache(
+			int maxSize,
+			PlanningOptions planningOptions,
+			ConstraintModel constraintModel,
+			ServiceRegistry serviceRegistry) {
+		this.planningOptions = planningOptions;
+		this.constraintModel = constraintModel;
+		this.serviceRegistry = serviceRegistry;
+		this.planShapes = serviceRegistry.requireService( InternalCacheFactory.class )
+				.createInternalCache( maxSize );
+	}
+
+	private StatisticsImplementor getStatistics() {
+		if ( statistics == null ) {
+			statistics = serviceRegistry.requireService( StatisticsImplementor.class );
+		}
+		return statistics;
+	}
+
+	/// Plan the given groups, reusing the shape of a previously built plan if possible.
+	public FlushPlan plan(
+			List<FlushOperationGroup> groups,
+			DeferrableConstraintMode deferrableConstraintMode,
+			GraphBuilder graphBuilder,
+			FlushPlanner flushPlanner) {
+		if ( !isCacheable( groups ) ) {
+			return flushPlanner.plan( graphBuilder.build( groups, deferrableConstraintMode ), deferrableConstraintMode );
+		}
+
+		// the order in which the graph builder assigns the stable ids of the nodes
+		final ArrayList<FlushOperationGroup> sortedGroups = new ArrayList<>( groups );
+		sortedGroups.sort( comparingInt( FlushOperationGroup::ordinal ) );
+		final PlanShapeKey key = PlanShapeKey.from( sortedGroups, deferrableConstraintMode );
+
+		final var statistics = getStatistics();
+		final PlanShape cached = planShapes.get( key );
+		if ( cached != null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.flushPlanCacheHit();
+			}
+			return cached.instantiate( sortedGroups );
+		}
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.flushPlanCacheMiss();
+		}
+
+		final Graph graph = graphBuilder.build( groups, deferrableConstraintMode );
+		final FlushPlan plan = flushPlanner.plan( graph, deferrableConstraintMode );
+		if ( !hasBrokenEdges( graph ) ) {
+			final PlanShape shape = PlanShape.from( sortedGroups, plan );
+			if ( shape != null ) {
+				planShapes.put( key, shape );
+			}
+		}
+		return plan;
+	}
+
+	/// Whether building the graph for these groups depends on their shapes only.
+	private boolean isCacheable(List<FlushOperationGroup> groups) {
+		if ( !planningOptions.orderByUniqueKeySlots() ) {
+			return true;
+		}
+		// unique-slot edges (and the splitting of UPDATE groups) are only
+		// considered when rows of some table are deleted or updated, and
+		// then depend on the values of the unique keys of these tables
+		boolean hasReleases = false;
+		for ( FlushOperationGroup group : groups ) {
+			if ( group.kind() == MutationKind.DELETE
+					|| group.kind() == MutationKind.UPDATE
+					|| group.kind() == MutationKind.UPDATE_ORDER ) {
+				hasReleases = true;
+				break;
+			}
+		}
+		if ( hasReleases ) {
+			for ( FlushOperationGroup group : groups ) {
+				if ( !constraintModel.getUniqueConstraintsForTable( group.tableExpression() ).isEmpty() ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasBrokenEdges(Graph graph) {
+		for ( List<GraphEdge> edges : graph.outgoing().values() ) {
+			for ( GraphEdge edge : edges ) {
+				if ( edge.isBroken() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public void clear() {
+		planShapes.clear();
+	}
+
+	public int size() {
+		return planShapes.heldElementsEstimate();
+	}
+
+	/// Canonical signature of the groups of a flush.  Besides the shape of each
+	/// group, in ordinal order, the graph builder relies on whether groups have
+	/// the same ordinal to order the groups of self-referencing tables.
+	private static final class PlanShapeKey {
+		private final StatementShapeKey[] shapeKeys;
+		private final boolean[] sameOrdinalAsPrevious;
+		private final DeferrableConstraintMode deferrableConstraintMode;
+		private final int hashCode;
+
+		private PlanShapeKey(
+				StatementShapeKey[] shapeKeys,
+				boolean[] sameOrdinalAsPrevious,
+				DeferrableConstraintMode deferrableConstraintMode) {
+			this.shapeKeys = shapeKeys;
+			this.sameOrdinalAsPrevious = sameOrdinalAsPrevious;
+			this.deferrableConstraintMode = deferrableConstraintMode;
+			int result = Arrays.hashCode( shapeKeys );
+			result = 31 * result + Arrays.hashCode( sameOrdinalAsPrevious );
+			result = 31 * result + deferrableConstraintMode.hashCode();
+			this.hashCode = result;
+		}
+
+		private static PlanShapeKey from(
+				List<FlushOperationGroup> sortedGroups,
+				DeferrableConstraintMode deferrableConstraintMode) {
+			final int size = sortedGroups.size();
+			final StatementShapeKey[] shapeKeys = new StatementShapeKey[size];
+			final boolean[] sameOrdinalAsPrevious = new boolean[size];
+			for ( int i = 0; i < size; i++ ) {
+				final FlushOperationGroup group = sortedGroups.get( i );
+				shapeKeys[i] = group.shapeKey();
+				sameOrdinalAsPrevious[i] = i > 0 && sortedGroups.get( i - 1 ).ordinal() == group.ordinal();
+			}
+			return new PlanShapeKey( shapeKeys, sameOrdinalAsPrevious, deferrableConstraintMode );
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( this == object ) {
+				return true;
+			}
+			return object instanceof PlanShapeKey that
+				&& hashCode == that.hashCode
+				&& deferrableConstraintMode == that.deferrableConstraintMode
+				&& Arrays.equals( sameOrdinalAsPrevious, that.sameOrdinalAsPrevious )
+				&& Arrays.equals( shapeKeys, that.shapeKeys );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/// The order in which the groups are executed, as indexes into the groups
+	/// sorted by ordinal, along with the number of groups of each step.
+	private record PlanShape(int[] groupOrder, int[] stepSizes, boolean[] stepDependencies) {
+
+		/// @return The shape of the plan, or `null` if the plan is not made of whole groups.
+		private static PlanShape from(List<FlushOperationGroup> sortedGroups, FlushPlan plan) {
+			final Map<FlushOperation, Integer> groupIndexes = new IdentityHashMap<>();
+			for ( int i = 0; i < sortedGroups.size(); i++ ) {
+				for ( FlushOperation operation : sortedGroups.get( i ).operations() ) {
+					groupIndexes.put( operation, i );
+				}
+			}
+
+			final List<PlanStep> steps = plan.steps();
+			final int[] groupOrder = new int[sortedGroups.size()];
+			final int[] stepSizes = new int[steps.size()];
+			final boolean[] stepDependencies = new boolean[steps.size()];
+			int position = 0;
+			for ( int s = 0; s < steps.size(); s++ ) {
+				final PlanStep step = steps.get( s );
+				stepDependencies[s] = step.dependsOnPreviousSteps();
+				final List<FlushOperation> operations = step.operations();
+				int i = 0;
+				while ( i < operations.size() ) {
+					final Integer groupIndex = groupIndexes.get( operations.get( i ) );
+					if ( groupIndex == null || position == groupOrder.length ) {
+						return null;
+					}
+					final List<FlushOperation> groupOperations = sortedGroups.get( groupIndex ).operations();
+					for ( FlushOperation operation : groupOperations ) {
+						if ( i == operations.size() || operations.get( i++ ) != operation ) {
+							return null;
+						}
+					}
+					groupOrder[position++] = groupIndex;
+					stepSizes[s]++;
+				}
+			}
+			return position == groupOrder.length
+					? new PlanShape( groupOrder, stepSizes, stepDependencies )
+					: null;
+		}
+
+		private FlushPlan instantiate(List<FlushOperationGroup> sortedGroups) {
+			final List<PlanStep> steps = new ArrayList<>( stepSizes.length );
+			int position = 0;
+			for ( int s = 0; s < stepSizes.length; s++ ) {
+				final ArrayList<FlushOperation> operations = new ArrayList<>();
+				for ( int i = 0; i < stepSizes[s]; i++ ) {
+					operations.addAll( sortedGroups.get( groupOrder[position++] ).operations() );
+				}
+				steps.add( new SimplePlanStep( operations, stepDependencies[s] ) );
+			}
+			return new FlushPlan( steps );
+		}
+	}
+}
@@ -16,4 +16,12 @@
 public interface PlanStep {
 	/// The operations for this step.
 	List<FlushOperation> operations();
+
+	/// Whether operations of this step depend on operations of the previous steps,
+	/// so that those must be completely executed before this step starts.
+	///
+	/// @see org.hibernate.action.queue.spi.PlanningOptions#pipelineIndependentSteps()
+	default boolean dependsOnPreviousSteps() {
+		return true;
+	}
 }
@@ -11,5 +11,8 @@
 /// Simple implementation of PlanStep
 ///
 /// @author Steve Ebersole
-public record SimplePlanStep(List<FlushOperation> operations) implements PlanStep {
+public record SimplePlanStep(List<FlushOperation> operations, boolean dependsOnPreviousSteps) implements PlanStep {
+	public SimplePlanStep(List<FlushOperation> operations) {
+		this( operations, true );
+	}
 }
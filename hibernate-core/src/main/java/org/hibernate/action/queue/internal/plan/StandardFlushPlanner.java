@@ -10,10 +10,14 @@
 import org.hibernate.action.queue.spi.StatementShapeKey;
 import org.hibernate.action.queue.internal.constraint.DeferrableConstraintMode;
 import org.hibernate.action.queue.internal.graph.Graph;
+import org.hibernate.action.queue.internal.graph.GraphEdge;
 import org.hibernate.action.queue.internal.graph.GroupNode;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /// Standard FlushPlanner
 /// @author Steve Ebersole
@@ -29,7 +33,7 @@ public FlushPlan plan(Graph graph, DeferrableConstraintMode deferrableConstraint
 		// Fast path: if graph has no edges, operations are independent
 		// Skip cycle detection and topological sort - just use natural order
 		if (graph.isEmpty()) {
-			return new FlushPlan(buildSteps(graph.nodes()));
+			return new FlushPlan(buildSteps(graph.nodes(), pipelining() ? Map.of() : null));
 		}
 
 		// detect cycles and choose edges to break.
@@ -48,41 +52,111 @@ public FlushPlan plan(Graph graph, DeferrableConstraintMode deferrableConstraint
 		// The fixup synthesis happens in AbstractStepExecutor when intendedFkValues is populated
 		// The fixups are queued in FlushPlan and executed after their dependencies
 		// No need to synthesize here - just build steps from sorted nodes
-		return new FlushPlan(buildSteps(topoOrder));
+		if ( pipelining() ) {
+			final Map<GroupNode, List<GroupNode>> predecessors = predecessors( graph );
+			return new FlushPlan(buildSteps(orderByDepth(topoOrder, predecessors), predecessors));
+		}
+		return new FlushPlan(buildSteps(topoOrder, null));
+	}
+
+	/// Without foreign-key ordering, the natural order of the operations is all we know
+	/// about their dependencies, so only pipeline when the graph models them.
+	private boolean pipelining() {
+		return planningOptions.pipelineIndependentSteps() && planningOptions.orderByForeignKeys();
 	}
 
-	private List<PlanStep> buildSteps(List<GroupNode> topoOrder) {
+	/// @param predecessors The nodes each node depends on, or `null` if every step
+	/// should be considered as depending on the previous steps.
+	private List<PlanStep> buildSteps(List<GroupNode> topoOrder, Map<GroupNode, List<GroupNode>> predecessors) {
 		final ArrayList<PlanStep> steps = new ArrayList<>();
 
 		StatementShapeKey curKey = null;
+		boolean curDependent = true;
 		final ArrayList<FlushOperation> bucket = new ArrayList<>();
 
+		// when pipelining, the nodes added since the last dependent step, whose
+		// operations might still be waiting in an open batch
+		final ArrayList<GroupNode> window = new ArrayList<>();
+
 		for (GroupNode n : topoOrder) {
 			final StatementShapeKey key = n.group().shapeKey();
-
-			for (FlushOperation op : n.group().operations()) {
-				if (curKey == null) {
-					curKey = key;
-					bucket.add(op);
-				}
-				else if (sameShape(curKey, key)) {
-					bucket.add(op);
-				}
-				else {
-					steps.add(new SimplePlanStep(new ArrayList<>(bucket)));
-					bucket.clear();
-					curKey = key;
-					bucket.add(op);
+			final boolean dependent = predecessors == null || dependsOnWindow( n, predecessors, window );
+			if ( predecessors != null ) {
+				if ( dependent ) {
+					window.clear();
 				}
+				window.add( n );
+			}
+
+			if ( curKey != null && ( !sameShape( curKey, key ) || predecessors != null && dependent ) ) {
+				steps.add(new SimplePlanStep(new ArrayList<>(bucket), curDependent));
+				bucket.clear();
+				curKey = null;
 			}
+			if ( curKey == null ) {
+				curKey = key;
+				curDependent = dependent;
+			}
+			bucket.addAll( n.group().operations() );
 		}
 
 		if (!bucket.isEmpty()) {
-			steps.add(new SimplePlanStep(new ArrayList<>(bucket)));
+			steps.add(new SimplePlanStep(new ArrayList<>(bucket), curDependent));
 		}
 		return steps;
 	}
 
+	/// Whether the operations of the given node must wait for the execution of the
+	/// batches holding the operations of the window.  Operations added to the same
+	/// batch are executed in order, so a dependency on a node of the same shape does
+	/// not count, but operations of different shapes against the same table are never
+	/// reordered, even without any dependency in the graph.
+	private static boolean dependsOnWindow(
+			GroupNode node,
+			Map<GroupNode, List<GroupNode>> predecessors,
+			List<GroupNode> window) {
+		final StatementShapeKey key = node.group().shapeKey();
+		final List<GroupNode> nodePredecessors = predecessors.getOrDefault( node, List.of() );
+		for ( GroupNode other : window ) {
+			final StatementShapeKey otherKey = other.group().shapeKey();
+			if ( !key.equals( otherKey )
+					&& ( nodePredecessors.contains( other )
+						|| key.tableExpression().equalsIgnoreCase( otherKey.tableExpression() ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Map<GroupNode, List<GroupNode>> predecessors(Graph graph) {
+		final Map<GroupNode, List<GroupNode>> predecessors = new HashMap<>();
+		for ( List<GraphEdge> edges : graph.outgoing().values() ) {
+			for ( GraphEdge edge : edges ) {
+				if ( !edge.isBroken() ) {
+					predecessors.computeIfAbsent( edge.getTo(), node -> new ArrayList<>() ).add( edge.getFrom() );
+				}
+			}
+		}
+		return predecessors;
+	}
+
+	/// Stable sort of the topological order by the length of the longest path leading
+	/// to each node, which is still a topological order, but one in which the nodes
+	/// not depending on one another are adjacent.
+	private static List<GroupNode> orderByDepth(List<GroupNode> topoOrder, Map<GroupNode, List<GroupNode>> predecessors) {
+		final Map<GroupNode, Integer> depths = new HashMap<>();
+		for ( GroupNode node : topoOrder ) {
+			int depth = 0;
+			for ( GroupNode predecessor : predecessors.getOrDefault( node, List.of() ) ) {
+				depth = Math.max( depth, depths.get( predecessor ) + 1 );
+			}
+			depths.put( node, depth );
+		}
+		final ArrayList<GroupNode> order = new ArrayList<>( topoOrder );
+		order.sort( Comparator.comparingInt( depths::get ) );
+		return order;
+	}
+
 	private boolean sameShape(StatementShapeKey a, StatementShapeKey b) {
 		return a != null && b != null
 			&& a.tableExpression().equalsIgnoreCase(b.tableExpression())
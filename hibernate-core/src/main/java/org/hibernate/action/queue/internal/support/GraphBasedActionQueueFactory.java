@@ -11,6 +11,7 @@
 import org.hibernate.action.queue.spi.QueueType;
 import org.hibernate.action.queue.internal.constraint.ConstraintModel;
 import org.hibernate.action.queue.internal.constraint.UniqueSlotExtractor;
+import org.hibernate.action.queue.internal.plan.FlushPlanCache;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -23,10 +24,13 @@
 
 import static org.hibernate.cfg.FlushSettings.DEFERRABLE_AVOID_BREAK;
 import static org.hibernate.cfg.FlushSettings.DEFERRABLE_EDGES_IGNORE;
+import static org.hibernate.cfg.FlushSettings.FLUSH_PLAN_CACHE_MAX_SIZE;
 import static org.hibernate.cfg.FlushSettings.GRAPH_DEFER_IDENTITY_INSERTS;
+import static org.hibernate.cfg.FlushSettings.GRAPH_PIPELINED_EXECUTION;
 import static org.hibernate.cfg.FlushSettings.ORDER_BY_FOREIGN_KEY;
 import static org.hibernate.cfg.FlushSettings.ORDER_BY_UNIQUE_KEY;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
+import static org.hibernate.engine.config.spi.StandardConverters.INTEGER;
 
 /// ActionQueueFactory for building GraphBasedActionQueue instances.
 ///
@@ -36,6 +40,7 @@ public class GraphBasedActionQueueFactory implements ActionQueueFactory, Seriali
 	private final ConstraintModel constraintModel;
 	private final Map<String, EntityPersister> entityPersistersByTable;
 	private final boolean deferIdentityInserts;
+	private final transient FlushPlanCache flushPlanCache;
 
 	public GraphBasedActionQueueFactory(SessionFactoryImplementor factory) {
 		planningOptions = factory.getGraphPlanningOptions();
@@ -43,9 +48,12 @@ public GraphBasedActionQueueFactory(SessionFactoryImplementor factory) {
 		entityPersistersByTable = planningOptions.orderByUniqueKeySlots()
 				? UniqueSlotExtractor.buildPersisterMap( factory )
 				: Map.of();
-		deferIdentityInserts = factory.getServiceRegistry()
-				.requireService( ConfigurationService.class )
-				.getSetting( GRAPH_DEFER_IDENTITY_INSERTS, BOOLEAN, false );
+		final var configurationService = factory.getServiceRegistry().requireService( ConfigurationService.class );
+		deferIdentityInserts = configurationService.getSetting( GRAPH_DEFER_IDENTITY_INSERTS, BOOLEAN, false );
+		final int flushPlanCacheMaxSize = configurationService.getSetting( FLUSH_PLAN_CACHE_MAX_SIZE, INTEGER, 0 );
+		flushPlanCache = flushPlanCacheMaxSize > 0
+				? new FlushPlanCache( flushPlanCacheMaxSize, planningOptions, constraintModel, factory.getServiceRegistry() )
+				: null;
 	}
 
 	public PlanningOptions getPlanningOptions() {
@@ -64,6 +72,12 @@ public boolean deferIdentityInserts() {
 		return deferIdentityInserts;
 	}
 
+	/// The cache of flush plan shapes shared by the action queues of all sessions,
+	/// or `null` if [disabled][org.hibernate.cfg.FlushSettings#FLUSH_PLAN_CACHE_MAX_SIZE].
+	public FlushPlanCache getFlushPlanCache() {
+		return flushPlanCache;
+	}
+
 	@Override
 	public QueueType getConfiguredQueueType() {
 		return QueueType.GRAPH;
@@ -76,6 +90,7 @@ public ActionQueue buildActionQueue(SessionImplementor session) {
 				planningOptions,
 				entityPersistersByTable,
 				deferIdentityInserts,
+				flushPlanCache,
 				session
 		);
 	}
@@ -94,12 +109,15 @@ public static PlanningOptions buildPlanningOptions(ConfigurationService configur
 		var avoidBreakingDeferrable = configurationService.getSetting( DEFERRABLE_AVOID_BREAK, BOOLEAN, true );
 		var ignoreDeferrableEdges = configurationService.getSetting( DEFERRABLE_EDGES_IGNORE, BOOLEAN, true );
 
+		var pipelineIndependentSteps = configurationService.getSetting( GRAPH_PIPELINED_EXECUTION, BOOLEAN, false );
+
 		return new PlanningOptions(
 				orderByFk,
 				orderByUnique,
 				avoidBreakingDeferrable,
 				ignoreDeferrableEdges,
-				PlanningOptions.UniqueCycleStrategy.IGNORE_UNIQUE_EDGES_IN_CYCLES
+				PlanningOptions.UniqueCycleStrategy.IGNORE_UNIQUE_EDGES_IN_CYCLES,
+				pipelineIndependentSteps
 		);
 	}
 }
@@ -10,6 +10,10 @@
 
 /// Options for controlling operation planning and scheduling.
 ///
+/// @param pipelineIndependentSteps Whether the JDBC batches of plan steps which do not
+/// depend on one another may be kept open across those steps.  See
+/// [org.hibernate.cfg.FlushSettings#GRAPH_PIPELINED_EXECUTION].
+///
 /// @author Steve Ebersole
 /// @since 8.0
 @Incubating
@@ -18,7 +22,24 @@ public record PlanningOptions(
 	boolean orderByUniqueKeySlots,
 	boolean avoidBreakingDeferrable,
 	boolean ignoreDeferrableForOrdering,
-	UniqueCycleStrategy uniqueCycleStrategy) implements Serializable {
+	UniqueCycleStrategy uniqueCycleStrategy,
+	boolean pipelineIndependentSteps) implements Serializable {
+
+	public PlanningOptions(
+			boolean orderByForeignKeys,
+			boolean orderByUniqueKeySlots,
+			boolean avoidBreakingDeferrable,
+			boolean ignoreDeferrableForOrdering,
+			UniqueCycleStrategy uniqueCycleStrategy) {
+		this(
+				orderByForeignKeys,
+				orderByUniqueKeySlots,
+				avoidBreakingDeferrable,
+				ignoreDeferrableForOrdering,
+				uniqueCycleStrategy,
+				false
+		);
+	}
 
 	public enum UniqueCycleStrategy {
 		FAIL,
@@ -26,6 +26,7 @@
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.context.spi.TenantCredentialsMapper;
 import org.hibernate.context.spi.TenantSchemaMapper;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
@@ -34,7 +35,9 @@
 
 import jakarta.persistence.criteria.Nulls;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_WARMUP_ENABLED;
 import static org.hibernate.internal.SessionFactoryRegistry.instantiateSessionFactory;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 
 /**
  * @author Gail Badner
@@ -67,13 +70,16 @@ public SessionFactoryBuilderImpl(MetadataImplementor metadata, SessionFactoryOpt
 			}
 		}
 
-		final var bytecodeProvider =
-				metadata.getMetadataBuildingOptions().getServiceRegistry()
-						.getService( BytecodeProvider.class );
+		final var serviceRegistry = metadata.getMetadataBuildingOptions().getServiceRegistry();
+		final var bytecodeProvider = serviceRegistry.getService( BytecodeProvider.class );
 		addSessionFactoryObservers( new SessionFactoryObserverForBytecodeEnhancer( bytecodeProvider ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForRegistration() );
+		final var settings = serviceRegistry.requireService( ConfigurationService.class ).getSettings();
+		if ( getBoolean( QUERY_PLAN_WARMUP_ENABLED, settings ) ) {
+			addSessionFactoryObservers( new SessionFactoryObserverForQueryPlanWarmup() );
+		}
 	}
 
 	@Override
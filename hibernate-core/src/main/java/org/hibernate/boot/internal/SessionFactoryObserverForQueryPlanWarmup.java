@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.QueryPlanWarmer;
+import org.hibernate.query.QueryPlanWarmer.HotQuery;
+import org.hibernate.query.internal.SelectionQueryImpl;
+import org.hibernate.query.named.spi.NamedSqmQueryMemento;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_WARMUP_QUERIES;
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_WARMUP_THREADS;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+import static org.hibernate.query.internal.QueryLogging.QUERY_MESSAGE_LOGGER;
+
+/**
+ * Builds the {@linkplain org.hibernate.query.spi.SelectQueryPlan query plans} of the
+ * named HQL queries, and of a {@linkplain QueryPlanWarmer list of hot queries}, in the
+ * background once the {@link SessionFactory} is created, using a bounded number of
+ * threads.  The plans are translated to SQL and
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache cached}, so that the
+ * first executions of these queries, typically the first requests served after a
+ * deployment, neither interpret the HQL nor translate it to SQL.
+ * <p>
+ * The progress of the warm-up is reported by
+ * {@link org.hibernate.stat.Statistics#getQueryPlanWarmupCount()} and
+ * {@link org.hibernate.stat.Statistics#getQueryPlanWarmupFailureCount()}, when
+ * statistics are enabled.  Only the plans of selection queries are built, other
+ * queries are ignored.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_WARMUP_ENABLED
+ */
+class SessionFactoryObserverForQueryPlanWarmup implements SessionFactoryObserver {
+
+	private volatile ExecutorService executor;
+	private volatile boolean closing;
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final var sessionFactory = (SessionFactoryImplementor) factory;
+		final var properties = sessionFactory.getProperties();
+		final List<WarmupTask> tasks = new ArrayList<>();
+		sessionFactory.getQueryEngine().getNamedObjectRepository().forEachNamedQuery( (name, reference) -> {
+			if ( reference instanceof NamedSqmQueryMemento<?> memento ) {
+				tasks.add( new WarmupTask( memento.getHqlString(),
+						session -> prepare( session.createQuery( reference ) ) ) );
+			}
+		} );
+		final String resourceName = getString( QUERY_PLAN_WARMUP_QUERIES, properties );
+		if ( resourceName != null && !resourceName.isBlank() ) {
+			final var classLoaderService =
+					sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+			for ( var hotQuery : loadQueries( resourceName.trim(), sessionFactory ) ) {
+				final String hql = hotQuery.queryString();
+				final String resultTypeName = hotQuery.resultType();
+				tasks.add( new WarmupTask( hql, resultTypeName == null
+						? session -> {
+							final var query = session.createQuery( hql );
+							return query.isSelectionQuery() && prepare( query.asSelectionQuery() );
+						}
+						: session -> prepare( session.createQuery( hql,
+								resultType( resultTypeName, classLoaderService ) ) ) ) );
+			}
+		}
+		if ( tasks.isEmpty() ) {
+			return;
+		}
+
+		QUERY_MESSAGE_LOGGER.warmingUpQueryPlans( tasks.size() );
+		final int threads = Math.max( 1, getInt( QUERY_PLAN_WARMUP_THREADS, properties, 1 ) );
+		final var executor = Executors.newFixedThreadPool( Math.min( threads, tasks.size() ), runnable -> {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Query Plan Warmer" );
+			return thread;
+		} );
+		this.executor = executor;
+		final var progress = new Progress( tasks.size() );
+		for ( WarmupTask task : tasks ) {
+			executor.execute( () -> warmUp( task, sessionFactory, progress ) );
+		}
+		// the threads terminate once every task has run
+		executor.shutdown();
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		closing = true;
+		final var executor = this.executor;
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+	}
+
+	private void warmUp(WarmupTask task, SessionFactoryImplementor sessionFactory, Progress progress) {
+		if ( closing ) {
+			return;
+		}
+		final var statistics = sessionFactory.getStatistics();
+		boolean prepared;
+		boolean success;
+		try ( var session = sessionFactory.openSession() ) {
+			prepared = task.action().warmUp( session );
+			success = true;
+		}
+		catch (RuntimeException e) {
+			// the error, if any, will be reported when the query is used
+			QUERY_MESSAGE_LOGGER.unableToWarmUpQueryPlan( task.queryString(), e );
+			prepared = false;
+			success = false;
+		}
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( prepared ) {
+				statistics.queryPlanWarmedUp( task.queryString() );
+			}
+			else if ( !success ) {
+				statistics.queryPlanWarmupFailed( task.queryString() );
+			}
+		}
+		progress.completed( prepared, success );
+	}
+
+	/**
+	 * Build and cache the plan of the given query, if it is a selection query.
+	 *
+	 * @return {@code true} if a plan was built and cached
+	 */
+	private static boolean prepare(Object query) {
+		return query instanceof SelectionQueryImpl<?> selectionQuery
+			&& selectionQuery.prepareQueryPlan();
+	}
+
+	private static Class<?> resultType(String resultTypeName, ClassLoaderService classLoaderService) {
+		return switch ( resultTypeName ) {
+			case "boolean" -> boolean.class;
+			case "byte" -> byte.class;
+			case "char" -> char.class;
+			case "short" -> short.class;
+			case "int" -> int.class;
+			case "long" -> long.class;
+			case "float" -> float.class;
+			case "double" -> double.class;
+			default -> {
+				try {
+					yield classLoaderService.classForName( resultTypeName );
+				}
+				catch (ClassLoadingException e) {
+					throw new IllegalArgumentException( "Unknown result type: " + resultTypeName, e );
+				}
+			}
+		};
+	}
+
+	private static List<HotQuery> loadQueries(String resourceName, SessionFactoryImplementor sessionFactory) {
+		try ( var inputStream = openQueries( resourceName, sessionFactory ) ) {
+			if ( inputStream == null ) {
+				QUERY_MESSAGE_LOGGER.warmupQueriesNotFound( resourceName );
+				return List.of();
+			}
+			return QueryPlanWarmer.readQueries( new InputStreamReader( inputStream, UTF_8 ) );
+		}
+		catch (IOException | RuntimeException e) {
+			QUERY_MESSAGE_LOGGER.unableToReadWarmupQueries( resourceName, e );
+			return List.of();
+		}
+	}
+
+	private static InputStream openQueries(String resourceName, SessionFactoryImplementor sessionFactory)
+			throws IOException {
+		final var inputStream =
+				sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class )
+						.locateResourceStream( resourceName );
+		if ( inputStream != null ) {
+			return inputStream;
+		}
+		try {
+			final Path path = Path.of( resourceName );
+			return Files.isRegularFile( path ) ? Files.newInputStream( path ) : null;
+		}
+		catch (InvalidPathException e) {
+			return null;
+		}
+	}
+
+	@FunctionalInterface
+	private interface WarmupAction {
+		/**
+		 * @return {@code true} if the plan of a selection query was built and cached
+		 */
+		boolean warmUp(Session session);
+	}
+
+	private record WarmupTask(String queryString, WarmupAction action) {
+	}
+
+	private static final class Progress {
+		private final int total;
+		private final long startTime = System.nanoTime();
+		private final AtomicInteger completed = new AtomicInteger();
+		private final AtomicInteger prepared = new AtomicInteger();
+		private final AtomicInteger failures = new AtomicInteger();
+
+		private Progress(int total) {
+			this.total = total;
+		}
+
+		private void completed(boolean planPrepared, boolean success) {
+			if ( planPrepared ) {
+				prepared.incrementAndGet();
+			}
+			if ( !success ) {
+				failures.incrementAndGet();
+			}
+			if ( completed.incrementAndGet() == total ) {
+				QUERY_MESSAGE_LOGGER.warmedUpQueryPlans(
+						prepared.get(),
+						( System.nanoTime() - startTime ) / 1_000_000,
+						failures.get()
+				);
+			}
+		}
+	}
+}
@@ -52,10 +52,12 @@
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MetadataBuildingContext;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.internal.BinaryCacheEntrySerializer;
 import org.hibernate.cache.internal.NoCachingRegionFactory;
 import org.hibernate.cache.internal.StandardTimestampsCacheFactory;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
@@ -180,10 +182,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private final boolean prefetchPlanningEnabled;
+	private final boolean separateCollectionFetchesEnabled;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
+	private final boolean primitiveIdPersistenceContextEnabled;
+	private final boolean incrementalFlushEnabled;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
 
@@ -229,12 +235,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheColumnarEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private CacheEntrySerializer cacheEntrySerializer;
 
 	// JDBC Handling
 	private boolean getGeneratedKeysEnabled;
@@ -267,6 +275,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final int inClauseArrayParameterThreshold;
+	private final int queryRowBlockSize;
+	private final int queryPlanSqlCacheMaxSize;
 
 	private final boolean portableIntegerDivisionEnabled;
 	private final boolean jsonFunctionsEnabled;
@@ -419,6 +430,8 @@ public BootstrapContext getBootstrapContext() {
 
 		defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, settings, -1 );
 		subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, settings );
+		prefetchPlanningEnabled = getBoolean( PREFETCH_PLANNING, settings );
+		separateCollectionFetchesEnabled = getBoolean( SEPARATE_COLLECTION_FETCHES, settings );
 		maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, settings );
 
 		defaultNullPrecedence = getDefaultNullPrecedence( settings.get( DEFAULT_NULL_ORDERING ) );
@@ -480,6 +493,8 @@ public BootstrapContext getBootstrapContext() {
 							value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 							CacheLayout.FULL
 					);
+			queryCacheColumnarEnabled =
+					configurationService.getSetting( QUERY_CACHE_COLUMNAR, BOOLEAN, false );
 			timestampsCacheFactory =
 					strategySelector.resolveDefaultableStrategy(
 							TimestampsCacheFactory.class,
@@ -502,6 +517,7 @@ public BootstrapContext getBootstrapContext() {
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
+			queryCacheColumnarEnabled = false;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
@@ -509,6 +525,12 @@ public BootstrapContext getBootstrapContext() {
 			directReferenceCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
 		}
+		cacheEntrySerializer =
+				strategySelector.<CacheEntrySerializer>resolveDefaultableStrategy(
+						CacheEntrySerializer.class,
+						settings.get( CACHE_ENTRY_SERIALIZER ),
+						BinaryCacheEntrySerializer::new
+				);
 
 		final var meta = jdbcServices.getExtractedMetaDataSupport();
 
@@ -554,6 +576,9 @@ public BootstrapContext getBootstrapContext() {
 		defaultSchema = getString( DEFAULT_SCHEMA, settings );
 
 		inClauseParameterPaddingEnabled = getBoolean( IN_CLAUSE_PARAMETER_PADDING, settings );
+		inClauseArrayParameterThreshold = getInt( IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD, settings, 0 );
+		queryRowBlockSize = getInt( QUERY_ROW_BLOCK_SIZE, settings, 0 );
+		queryPlanSqlCacheMaxSize = getInt( QUERY_PLAN_SQL_CACHE_MAX_SIZE, settings, 0 );
 
 		portableIntegerDivisionEnabled = getBoolean( PORTABLE_INTEGER_DIVISION, settings );
 
@@ -566,6 +591,8 @@ public BootstrapContext getBootstrapContext() {
 
 		unownedAssociationTransientCheck =
 				getBoolean( UNOWNED_ASSOCIATION_TRANSIENT_CHECK, settings, isJpaBootstrap() );
+		primitiveIdPersistenceContextEnabled = getBoolean( PRIMITIVE_ID_PERSISTENCE_CONTEXT, settings );
+		incrementalFlushEnabled = getBoolean( INCREMENTAL_FLUSH, settings );
 
 		passProcedureParameterNames = getBoolean( QUERY_PASS_PROCEDURE_PARAMETER_NAMES, settings );
 
@@ -1268,6 +1295,16 @@ public boolean isSubselectFetchEnabled() {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public boolean isPrefetchPlanningEnabled() {
+		return prefetchPlanningEnabled;
+	}
+
+	@Override
+	public boolean isSeparateCollectionFetchesEnabled() {
+		return separateCollectionFetchesEnabled;
+	}
+
 	@Override
 	@Nonnull
 	public Nulls getDefaultNullPrecedence() {
@@ -1332,6 +1369,11 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheColumnarEnabled() {
+		return queryCacheColumnarEnabled;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1362,6 +1404,11 @@ public boolean isAutoEvictCollectionCache() {
 		return autoEvictCollectionCache;
 	}
 
+	@Override
+	public CacheEntrySerializer getCacheEntrySerializer() {
+		return cacheEntrySerializer;
+	}
+
 	@Override
 	public int getJdbcBatchSize() {
 		return jdbcBatchSize;
@@ -1488,6 +1535,21 @@ public boolean inClauseParameterPaddingEnabled() {
 		return inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public int getInClauseArrayParameterThreshold() {
+		return inClauseArrayParameterThreshold;
+	}
+
+	@Override
+	public int getQueryRowBlockSize() {
+		return queryRowBlockSize;
+	}
+
+	@Override
+	public int getQueryPlanSqlCacheMaxSize() {
+		return queryPlanSqlCacheMaxSize;
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return jsonFunctionsEnabled;
@@ -1528,6 +1590,16 @@ public boolean isUnownedAssociationTransientCheck() {
 		return unownedAssociationTransientCheck;
 	}
 
+	@Override
+	public boolean isPrimitiveIdPersistenceContextEnabled() {
+		return primitiveIdPersistenceContextEnabled;
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
 	@Override
 	public int getPreferredSqlTypeCodeForBoolean() {
 		return preferredSqlTypeCodeForBoolean;
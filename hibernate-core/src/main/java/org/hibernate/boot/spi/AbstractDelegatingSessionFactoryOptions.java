@@ -32,6 +32,7 @@
 import org.hibernate.annotations.CacheLayout;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -284,6 +285,11 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheColumnarEnabled() {
+		return delegate.isQueryCacheColumnarEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -314,6 +320,11 @@ public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
 	}
 
+	@Override
+	public CacheEntrySerializer getCacheEntrySerializer() {
+		return delegate.getCacheEntrySerializer();
+	}
+
 	@Override
 	public int getJdbcBatchSize() {
 		return delegate.getJdbcBatchSize();
@@ -470,6 +481,31 @@ public boolean inClauseParameterPaddingEnabled() {
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean isPrefetchPlanningEnabled() {
+		return delegate.isPrefetchPlanningEnabled();
+	}
+
+	@Override
+	public boolean isSeparateCollectionFetchesEnabled() {
+		return delegate.isSeparateCollectionFetchesEnabled();
+	}
+
+	@Override
+	public int getInClauseArrayParameterThreshold() {
+		return delegate.getInClauseArrayParameterThreshold();
+	}
+
+	@Override
+	public int getQueryRowBlockSize() {
+		return delegate.getQueryRowBlockSize();
+	}
+
+	@Override
+	public int getQueryPlanSqlCacheMaxSize() {
+		return delegate.getQueryPlanSqlCacheMaxSize();
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return delegate.isJsonFunctionsEnabled();
@@ -505,6 +541,16 @@ public boolean isUnownedAssociationTransientCheck() {
 		return delegate.isUnownedAssociationTransientCheck();
 	}
 
+	@Override
+	public boolean isPrimitiveIdPersistenceContextEnabled() {
+		return delegate.isPrimitiveIdPersistenceContextEnabled();
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return delegate.isIncrementalFlushEnabled();
+	}
+
 	@Override
 	public boolean isUseOfJdbcNamedParametersEnabled() {
 		return delegate().isUseOfJdbcNamedParametersEnabled();
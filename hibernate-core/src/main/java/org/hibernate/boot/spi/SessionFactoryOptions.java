@@ -32,8 +32,10 @@
 import org.hibernate.type.TimeZoneStorageStrategy;
 import org.hibernate.annotations.CacheLayout;
 import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cache.internal.BinaryCacheEntrySerializer;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -371,6 +373,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * Are the rows of cached query results stored column by column?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isQueryCacheColumnarEnabled() {
+		return false;
+	}
+
 	/**
 	 * A factory for the {@link TimestampsCache} used to track invalidation
 	 * of cached query result sets.
@@ -415,6 +429,19 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	 */
 	boolean isAutoEvictCollectionCache();
 
+	/**
+	 * The serializer for second-level cache entries, for use by caching
+	 * providers storing entries outside the Java heap.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_ENTRY_SERIALIZER
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default CacheEntrySerializer getCacheEntrySerializer() {
+		return BinaryCacheEntrySerializer.INSTANCE;
+	}
+
 	/**
 	 * The default JDBC statement batch size for new sessions.
 	 *
@@ -595,6 +622,73 @@ default boolean inClauseParameterPaddingEnabled() {
 		return false;
 	}
 
+	/**
+	 * Whether the lazy associations usually navigated after a batch fetch
+	 * are learned and prefetched.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#PREFETCH_PLANNING
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isPrefetchPlanningEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether a query joins only the first of the collections it join fetches,
+	 * and fetches the others by subselect.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#SEPARATE_COLLECTION_FETCHES
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isSeparateCollectionFetchesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The minimum number of values of a multivalued parameter of an {@code IN}
+	 * predicate for which it is bound as a single array, or {@code 0} if such
+	 * parameters are always expanded to one parameter per value.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getInClauseArrayParameterThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The number of rows read from a JDBC {@link java.sql.ResultSet} into a
+	 * single columnar row block, or {@code 0} if rows are read one at a time.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_ROW_BLOCK_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getQueryRowBlockSize() {
+		return 0;
+	}
+
+	/**
+	 * The maximum number of SQL translations kept by a cached query plan
+	 * for different shapes of its parameter bindings, or {@code 0} if a
+	 * plan keeps its most recent translation only.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_SQL_CACHE_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getQueryPlanSqlCacheMaxSize() {
+		return 0;
+	}
+
 	/**
 	 * The number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that should be stored by {@link org.hibernate.stat.Statistics}.
@@ -647,6 +741,32 @@ default boolean isCollectionsInDefaultFetchGroupEnabled() {
 	 */
 	boolean isUnownedAssociationTransientCheck();
 
+	/**
+	 * Whether the persistence context stores entries with {@code long} and
+	 * {@code int} identifiers in tables keyed by the primitive identifier value.
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PRIMITIVE_ID_PERSISTENCE_CONTEXT
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isPrimitiveIdPersistenceContextEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether a flush only visits the entities which might have changed since
+	 * the previous flush.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#INCREMENTAL_FLUSH
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.MappingSettings#PREFERRED_BOOLEAN_JDBC_TYPE
 	 */
@@ -86,11 +86,19 @@ static class ClearOwner {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This Object self,
 				@Advice.Argument(0) String name,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
+			if ( $$_hibernate_tracker.isEmpty() && self instanceof ManagedEntity ) {
+				// the first change since the tracker was cleared
+				final EntityEntry entityEntry = ( (ManagedEntity) self ).$$_hibernate_getEntityEntry();
+				if ( entityEntry != null ) {
+					entityEntry.afterTrackedChange();
+				}
+			}
 			$$_hibernate_tracker.add( name );
 		}
 	}
@@ -1032,6 +1032,12 @@ public boolean includesAssociationManagement() {
 			return includesAssociationManagement;
 		}
 
+		@Override
+		public boolean includesChangeNotification() {
+			// see CodeTemplates.TrackChange
+			return includesDirtyChecking;
+		}
+
 		@Override
 		public Class<? extends Annotation> annotationType() {
 			return EnhancementInfo.class;
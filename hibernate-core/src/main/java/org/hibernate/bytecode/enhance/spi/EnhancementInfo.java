@@ -30,4 +30,14 @@
 	 * Whether bidirectional association management was enabled when the targeted class was enhanced.
 	 */
 	boolean includesAssociationManagement();
+
+	/**
+	 * Whether the dirty tracking of the targeted class reports the first change
+	 * to a clean instance to its persistence context, for incremental flushing.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#INCREMENTAL_FLUSH
+	 *
+	 * @since 8.1
+	 */
+	boolean includesChangeNotification() default false;
 }
@@ -0,0 +1,789 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The default {@link CacheEntrySerializer}, producing a compact binary encoding.
+ * <p>
+ * The disassembled state of a {@link StandardCacheEntryImpl} is written
+ * following the schema of its entity: a two bit marker per attribute tells
+ * whether the value is null, lazy, or written according to the attribute type,
+ * without any type information. Basic values use fixed-width encodings for
+ * floating point numbers and UUIDs, and zigzag variable length integers for
+ * integral numbers, temporal values and lengths. The state of an embeddable is
+ * written as a nested schema, and an association by the schema of the identifier
+ * of the associated entity. The entity name is encoded as its index among the
+ * entity names of the metamodel.
+ * <p>
+ * Other values, including the state of a {@link CollectionCacheEntry} and the
+ * values which do not match the schema, are written with a one byte tag giving
+ * their type. An array whose elements are all of the same basic type is written
+ * with a single tag. Strings are dictionary-encoded: a string repeated within a
+ * value is written once, and then referenced by its index. Values of any other
+ * type fall back to Java serialization.
+ * <p>
+ * Since the schema and the entity names come from the metamodel, a value must
+ * be deserialized by a session factory with the same mappings.
+ *
+ * @since 8.1
+ */
+public class BinaryCacheEntrySerializer implements CacheEntrySerializer {
+
+	/**
+	 * A shared instance, for use when the serializer is not configured.
+	 */
+	public static final BinaryCacheEntrySerializer INSTANCE = new BinaryCacheEntrySerializer();
+
+	private static final byte FORMAT_VERSION = 1;
+	private static final int MAX_SCHEMA_DEPTH = 8;
+
+	// basic values
+	private static final byte NULL = 0;
+	private static final byte BOOLEAN = 1;
+	private static final byte BYTE = 2;
+	private static final byte SHORT = 3;
+	private static final byte INTEGER = 4;
+	private static final byte LONG = 5;
+	private static final byte FLOAT = 6;
+	private static final byte DOUBLE = 7;
+	private static final byte CHARACTER = 8;
+	private static final byte STRING = 9;
+	private static final byte BIG_DECIMAL = 10;
+	private static final byte BIG_INTEGER = 11;
+	private static final byte BYTES = 12;
+	private static final byte UUID_VALUE = 13;
+	private static final byte DATE = 14;
+	private static final byte SQL_DATE = 15;
+	private static final byte SQL_TIME = 16;
+	private static final byte SQL_TIMESTAMP = 17;
+	private static final byte INSTANT = 18;
+	private static final byte LOCAL_DATE = 19;
+	private static final byte LOCAL_TIME = 20;
+	private static final byte LOCAL_DATE_TIME = 21;
+	private static final byte OFFSET_DATE_TIME = 22;
+	private static final byte DURATION = 23;
+	private static final byte ENUM = 24;
+
+	// structures
+	private static final byte OBJECT_ARRAY = 32;
+	private static final byte SERIALIZABLE_ARRAY = 33;
+	private static final byte UNIFORM_OBJECT_ARRAY = 34;
+	private static final byte UNIFORM_SERIALIZABLE_ARRAY = 35;
+	private static final byte ENTITY_ENTRY = 36;
+	private static final byte COLLECTION_ENTRY = 37;
+	private static final byte ITEM = 38;
+	private static final byte UNFETCHED_PROPERTY = 39;
+	private static final byte SERIALIZED = 40;
+
+	// schema markers, two bits per value
+	private static final int MARKER_NULL = 0;
+	private static final int MARKER_SCHEMA = 1;
+	private static final int MARKER_TAGGED = 2;
+	private static final int MARKER_UNFETCHED = 3;
+
+	private static final Map<Class<?>, Byte> TAGS = Map.ofEntries(
+			Map.entry( Boolean.class, BOOLEAN ),
+			Map.entry( Byte.class, BYTE ),
+			Map.entry( Short.class, SHORT ),
+			Map.entry( Integer.class, INTEGER ),
+			Map.entry( Long.class, LONG ),
+			Map.entry( Float.class, FLOAT ),
+			Map.entry( Double.class, DOUBLE ),
+			Map.entry( Character.class, CHARACTER ),
+			Map.entry( String.class, STRING ),
+			Map.entry( BigDecimal.class, BIG_DECIMAL ),
+			Map.entry( BigInteger.class, BIG_INTEGER ),
+			Map.entry( byte[].class, BYTES ),
+			Map.entry( UUID.class, UUID_VALUE ),
+			Map.entry( Date.class, DATE ),
+			Map.entry( java.sql.Date.class, SQL_DATE ),
+			Map.entry( java.sql.Time.class, SQL_TIME ),
+			Map.entry( java.sql.Timestamp.class, SQL_TIMESTAMP ),
+			Map.entry( Instant.class, INSTANT ),
+			Map.entry( LocalDate.class, LOCAL_DATE ),
+			Map.entry( LocalTime.class, LOCAL_TIME ),
+			Map.entry( LocalDateTime.class, LOCAL_DATE_TIME ),
+			Map.entry( OffsetDateTime.class, OFFSET_DATE_TIME ),
+			Map.entry( Duration.class, DURATION )
+	);
+
+	private volatile @Nullable Dictionary dictionary;
+
+	@Override
+	@Nonnull
+	public byte[] serialize(@Nonnull Object value, @Nonnull SessionFactoryImplementor factory) {
+		final var output = new Output();
+		output.writeByte( FORMAT_VERSION );
+		new Writer( output, dictionary( factory ) ).write( value );
+		return output.toByteArray();
+	}
+
+	@Override
+	@Nonnull
+	public Object deserialize(@Nonnull byte[] bytes, @Nonnull SessionFactoryImplementor factory) {
+		final var input = new Input( bytes );
+		final byte version = input.readByte();
+		if ( version != FORMAT_VERSION ) {
+			throw new CacheException( "Unsupported cache entry format version " + version );
+		}
+		final Object value = new Reader( input, dictionary( factory ) ).read();
+		if ( value == null ) {
+			throw new CacheException( "Serialized cache entry holds no value" );
+		}
+		return value;
+	}
+
+	/**
+	 * The dictionary of the given session factory, which is usually the
+	 * only one this serializer is used with.
+	 */
+	private Dictionary dictionary(SessionFactoryImplementor factory) {
+		final var current = dictionary;
+		if ( current != null && current.metamodel == factory.getMappingMetamodel() ) {
+			return current;
+		}
+		else {
+			final var created = new Dictionary( factory );
+			dictionary = created;
+			return created;
+		}
+	}
+
+	/**
+	 * The entity names and the schemas of the entities of a metamodel.
+	 */
+	private static final class Dictionary {
+		private final SessionFactoryImplementor factory;
+		private final MappingMetamodel metamodel;
+		private final ClassLoader classLoader;
+		private final String[] entityNames;
+		private final Map<String, Integer> entityNameIndexes = new HashMap<>();
+		private final Map<String, Slot[]> schemas = new ConcurrentHashMap<>();
+
+		private Dictionary(SessionFactoryImplementor factory) {
+			this.factory = factory;
+			this.metamodel = factory.getMappingMetamodel();
+			this.classLoader = factory.getServiceRegistry()
+					.requireService( ClassLoaderService.class )
+					.workWithClassLoader( loader -> loader );
+			final List<String> names = new ArrayList<>();
+			metamodel.forEachEntityDescriptor( persister -> names.add( persister.getEntityName() ) );
+			entityNames = names.toArray( new String[0] );
+			Arrays.sort( entityNames );
+			for ( int i = 0; i < entityNames.length; i++ ) {
+				entityNameIndexes.put( entityNames[i], i );
+			}
+		}
+
+		private Slot[] schema(String entityName) {
+			return schemas.computeIfAbsent( entityName,
+					name -> slots( metamodel.getEntityDescriptor( name ).getPropertyTypes(), 0 ) );
+		}
+
+		private Slot[] slots(Type[] types, int depth) {
+			final var slots = new Slot[types.length];
+			for ( int i = 0; i < types.length; i++ ) {
+				slots[i] = slot( types[i], depth );
+			}
+			return slots;
+		}
+
+		private Slot slot(Type type, int depth) {
+			if ( depth > MAX_SCHEMA_DEPTH ) {
+				return Slot.TAGGED;
+			}
+			else if ( type instanceof BasicType<?> basicType ) {
+				return Slot.basic( basicType.getJavaTypeDescriptor().getJavaTypeClass() );
+			}
+			else if ( type instanceof ComponentType componentType ) {
+				return new Slot( OBJECT_ARRAY, Object[].class, slots( componentType.getSubtypes(), depth + 1 ) );
+			}
+			else if ( type instanceof EntityType entityType ) {
+				// an association is disassembled to the identifier of the associated entity
+				try {
+					return slot( entityType.getIdentifierOrUniqueKeyType( factory.getRuntimeMetamodels() ), depth + 1 );
+				}
+				catch (MappingException e) {
+					return Slot.TAGGED;
+				}
+			}
+			else {
+				return Slot.TAGGED;
+			}
+		}
+	}
+
+	/**
+	 * How a value of the schema of an entity is written: as the payload
+	 * of the given tag when it is of the given type, or else tagged.
+	 *
+	 * @param components the schema of the elements, for an embeddable
+	 */
+	private record Slot(byte tag, @Nullable Class<?> type, @Nullable Slot[] components) {
+		private static final Slot TAGGED = new Slot( NULL, null, null );
+
+		private static Slot basic(Class<?> javaType) {
+			final Class<?> type = MethodType.methodType( javaType ).wrap().returnType();
+			final Byte tag = TAGS.get( type );
+			if ( tag != null ) {
+				return new Slot( tag, type, null );
+			}
+			else if ( type.isEnum() ) {
+				return new Slot( ENUM, type, null );
+			}
+			else {
+				return TAGGED;
+			}
+		}
+
+		private boolean matches(Object value) {
+			return value.getClass() == type
+				&& ( components == null || ( (Object[]) value ).length == components.length );
+		}
+	}
+
+	private static final class Writer {
+		private final Output output;
+		private final Dictionary dictionary;
+		private final Map<String, Integer> strings = new HashMap<>();
+
+		private Writer(Output output, Dictionary dictionary) {
+			this.output = output;
+			this.dictionary = dictionary;
+		}
+
+		private void write(@Nullable Object value) {
+			if ( value == null ) {
+				output.writeByte( NULL );
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				output.writeByte( UNFETCHED_PROPERTY );
+			}
+			else {
+				final Class<?> type = value.getClass();
+				final Byte tag = TAGS.get( type );
+				if ( tag != null ) {
+					output.writeByte( tag );
+					writePayload( tag, value );
+				}
+				else if ( type == Object[].class || type == Serializable[].class ) {
+					writeArray( (Object[]) value );
+				}
+				else if ( type == StandardCacheEntryImpl.class ) {
+					writeEntityEntry( (StandardCacheEntryImpl) value );
+				}
+				else if ( type == CollectionCacheEntry.class ) {
+					output.writeByte( COLLECTION_ENTRY );
+					write( ( (CollectionCacheEntry) value ).getState() );
+				}
+				else if ( type == AbstractReadWriteAccess.Item.class ) {
+					final var item = (AbstractReadWriteAccess.Item) value;
+					output.writeByte( ITEM );
+					output.writeVarLong( item.getTimestamp() );
+					write( item.getVersion() );
+					write( item.getValue() );
+				}
+				else if ( type.isEnum() ) {
+					output.writeByte( ENUM );
+					writeString( type.getName() );
+					output.writeVarLong( ( (Enum<?>) value ).ordinal() );
+				}
+				else {
+					output.writeByte( SERIALIZED );
+					output.writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+				}
+			}
+		}
+
+		private void writePayload(byte tag, Object value) {
+			switch ( tag ) {
+				case BOOLEAN -> output.writeByte( (Boolean) value ? 1 : 0 );
+				case BYTE -> output.writeByte( (Byte) value );
+				case SHORT -> output.writeVarLong( (Short) value );
+				case INTEGER -> output.writeVarLong( (Integer) value );
+				case LONG -> output.writeVarLong( (Long) value );
+				case FLOAT -> output.writeInt( Float.floatToRawIntBits( (Float) value ) );
+				case DOUBLE -> output.writeLong( Double.doubleToRawLongBits( (Double) value ) );
+				case CHARACTER -> output.writeVarLong( (Character) value );
+				case STRING -> writeString( (String) value );
+				case BIG_DECIMAL -> {
+					final var decimal = (BigDecimal) value;
+					output.writeVarLong( decimal.scale() );
+					output.writeBytes( decimal.unscaledValue().toByteArray() );
+				}
+				case BIG_INTEGER -> output.writeBytes( ( (BigInteger) value ).toByteArray() );
+				case BYTES -> output.writeBytes( (byte[]) value );
+				case UUID_VALUE -> {
+					final var uuid = (UUID) value;
+					output.writeLong( uuid.getMostSignificantBits() );
+					output.writeLong( uuid.getLeastSignificantBits() );
+				}
+				case DATE, SQL_DATE, SQL_TIME -> output.writeVarLong( ( (Date) value ).getTime() );
+				case SQL_TIMESTAMP -> {
+					final var timestamp = (java.sql.Timestamp) value;
+					output.writeVarLong( timestamp.getTime() );
+					output.writeVarLong( timestamp.getNanos() );
+				}
+				case INSTANT -> {
+					final var instant = (Instant) value;
+					output.writeVarLong( instant.getEpochSecond() );
+					output.writeVarLong( instant.getNano() );
+				}
+				case LOCAL_DATE -> output.writeVarLong( ( (LocalDate) value ).toEpochDay() );
+				case LOCAL_TIME -> output.writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+				case LOCAL_DATE_TIME -> {
+					final var dateTime = (LocalDateTime) value;
+					output.writeVarLong( dateTime.toLocalDate().toEpochDay() );
+					output.writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+				}
+				case OFFSET_DATE_TIME -> {
+					final var dateTime = (OffsetDateTime) value;
+					output.writeVarLong( dateTime.toLocalDate().toEpochDay() );
+					output.writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+					output.writeVarLong( dateTime.getOffset().getTotalSeconds() );
+				}
+				case DURATION -> {
+					final var duration = (Duration) value;
+					output.writeVarLong( duration.getSeconds() );
+					output.writeVarLong( duration.getNano() );
+				}
+				case ENUM -> output.writeVarLong( ( (Enum<?>) value ).ordinal() );
+				default -> throw new AssertionError( "Unexpected tag " + tag );
+			}
+		}
+
+		private void writeArray(Object[] array) {
+			final boolean serializable = array.getClass() == Serializable[].class;
+			final Byte elementTag = uniformTag( array );
+			if ( elementTag == null ) {
+				output.writeByte( serializable ? SERIALIZABLE_ARRAY : OBJECT_ARRAY );
+				output.writeVarLong( array.length );
+				for ( Object element : array ) {
+					write( element );
+				}
+			}
+			else {
+				output.writeByte( serializable ? UNIFORM_SERIALIZABLE_ARRAY : UNIFORM_OBJECT_ARRAY );
+				output.writeVarLong( array.length );
+				output.writeByte( elementTag );
+				final var nulls = new byte[( array.length + 7 ) >> 3];
+				for ( int i = 0; i < array.length; i++ ) {
+					if ( array[i] == null ) {
+						nulls[i >> 3] |= (byte) ( 1 << ( i & 7 ) );
+					}
+				}
+				output.writeRaw( nulls );
+				for ( Object element : array ) {
+					if ( element != null ) {
+						writePayload( elementTag, element );
+					}
+				}
+			}
+		}
+
+		/**
+		 * The tag of the basic type of all the non-null elements of the given
+		 * array, or {@code null} if they are not of the same basic type.
+		 */
+		private static @Nullable Byte uniformTag(Object[] array) {
+			Class<?> type = null;
+			for ( Object element : array ) {
+				if ( element != null ) {
+					if ( type == null ) {
+						type = element.getClass();
+					}
+					else if ( element.getClass() != type ) {
+						return null;
+					}
+				}
+			}
+			return array.length < 2 || type == null ? null : TAGS.get( type );
+		}
+
+		private void writeEntityEntry(StandardCacheEntryImpl entry) {
+			output.writeByte( ENTITY_ENTRY );
+			final String entityName = entry.getSubclass();
+			final Integer index = dictionary.entityNameIndexes.get( entityName );
+			if ( index == null ) {
+				output.writeVarLong( -1 );
+				writeString( entityName );
+				write( entry.getVersion() );
+				write( entry.getDisassembledState() );
+			}
+			else {
+				output.writeVarLong( index );
+				write( entry.getVersion() );
+				writeSchema( dictionary.schema( entityName ), entry.getDisassembledState() );
+			}
+		}
+
+		private void writeSchema(Slot[] slots, Object[] values) {
+			output.writeVarLong( values.length );
+			final var markers = new byte[( values.length + 3 ) >> 2];
+			for ( int i = 0; i < values.length; i++ ) {
+				markers[i >> 2] |= (byte) ( marker( slots, i, values[i] ) << ( ( i & 3 ) << 1 ) );
+			}
+			output.writeRaw( markers );
+			for ( int i = 0; i < values.length; i++ ) {
+				final Object value = values[i];
+				switch ( marker( slots, i, value ) ) {
+					case MARKER_SCHEMA -> {
+						final var slot = slots[i];
+						if ( slot.components != null ) {
+							writeSchema( slot.components, (Object[]) value );
+						}
+						else {
+							writePayload( slot.tag, value );
+						}
+					}
+					case MARKER_TAGGED -> write( value );
+					default -> {
+					}
+				}
+			}
+		}
+
+		private static int marker(Slot[] slots, int i, @Nullable Object value) {
+			if ( value == null ) {
+				return MARKER_NULL;
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				return MARKER_UNFETCHED;
+			}
+			else {
+				return i < slots.length && slots[i].matches( value ) ? MARKER_SCHEMA : MARKER_TAGGED;
+			}
+		}
+
+		private void writeString(String value) {
+			final Integer index = strings.get( value );
+			if ( index == null ) {
+				strings.put( value, strings.size() );
+				final byte[] bytes = value.getBytes( UTF_8 );
+				output.writeVarLong( (long) bytes.length << 1 );
+				output.writeRaw( bytes );
+			}
+			else {
+				output.writeVarLong( ( (long) index << 1 ) | 1 );
+			}
+		}
+	}
+
+	private static final class Reader {
+		private final Input input;
+		private final Dictionary dictionary;
+		private final List<String> strings = new ArrayList<>();
+
+		private Reader(Input input, Dictionary dictionary) {
+			this.input = input;
+			this.dictionary = dictionary;
+		}
+
+		private @Nullable Object read() {
+			final byte tag = input.readByte();
+			return switch ( tag ) {
+				case NULL -> null;
+				case UNFETCHED_PROPERTY -> LazyPropertyInitializer.UNFETCHED_PROPERTY;
+				case OBJECT_ARRAY -> readElements( new Object[input.readLength()] );
+				case SERIALIZABLE_ARRAY -> readElements( new Serializable[input.readLength()] );
+				case UNIFORM_OBJECT_ARRAY -> readUniformElements( new Object[input.readLength()] );
+				case UNIFORM_SERIALIZABLE_ARRAY -> readUniformElements( new Serializable[input.readLength()] );
+				case ENTITY_ENTRY -> readEntityEntry();
+				case COLLECTION_ENTRY -> new CollectionCacheEntry( (Serializable) read() );
+				case ITEM -> {
+					final long timestamp = input.readVarLong();
+					final Object version = read();
+					yield new AbstractReadWriteAccess.Item( read(), version, timestamp );
+				}
+				case ENUM -> enumConstant( enumClass( readString() ), input.readLength() );
+				case SERIALIZED -> SerializationHelper.deserialize( input.readBytes(), dictionary.classLoader );
+				default -> readPayload( tag, null );
+			};
+		}
+
+		private Object readPayload(byte tag, @Nullable Class<?> enumClass) {
+			return switch ( tag ) {
+				case BOOLEAN -> input.readByte() != 0;
+				case BYTE -> input.readByte();
+				case SHORT -> (short) input.readVarLong();
+				case INTEGER -> (int) input.readVarLong();
+				case LONG -> input.readVarLong();
+				case FLOAT -> Float.intBitsToFloat( input.readInt() );
+				case DOUBLE -> Double.longBitsToDouble( input.readLong() );
+				case CHARACTER -> (char) input.readVarLong();
+				case STRING -> readString();
+				case BIG_DECIMAL -> {
+					final int scale = input.readLength();
+					yield new BigDecimal( new BigInteger( input.readBytes() ), scale );
+				}
+				case BIG_INTEGER -> new BigInteger( input.readBytes() );
+				case BYTES -> input.readBytes();
+				case UUID_VALUE -> new UUID( input.readLong(), input.readLong() );
+				case DATE -> new Date( input.readVarLong() );
+				case SQL_DATE -> new java.sql.Date( input.readVarLong() );
+				case SQL_TIME -> new java.sql.Time( input.readVarLong() );
+				case SQL_TIMESTAMP -> {
+					final var timestamp = new java.sql.Timestamp( input.readVarLong() );
+					timestamp.setNanos( input.readLength() );
+					yield timestamp;
+				}
+				case INSTANT -> Instant.ofEpochSecond( input.readVarLong(), input.readVarLong() );
+				case LOCAL_DATE -> LocalDate.ofEpochDay( input.readVarLong() );
+				case LOCAL_TIME -> LocalTime.ofNanoOfDay( input.readVarLong() );
+				case LOCAL_DATE_TIME -> LocalDateTime.of(
+						LocalDate.ofEpochDay( input.readVarLong() ),
+						LocalTime.ofNanoOfDay( input.readVarLong() )
+				);
+				case OFFSET_DATE_TIME -> OffsetDateTime.of(
+						LocalDate.ofEpochDay( input.readVarLong() ),
+						LocalTime.ofNanoOfDay( input.readVarLong() ),
+						ZoneOffset.ofTotalSeconds( input.readLength() )
+				);
+				case DURATION -> Duration.ofSeconds( input.readVarLong(), input.readVarLong() );
+				case ENUM -> enumConstant( enumClass, input.readLength() );
+				default -> throw new CacheException( "Unknown tag " + tag + " in serialized cache entry" );
+			};
+		}
+
+		private Object[] readElements(Object[] array) {
+			for ( int i = 0; i < array.length; i++ ) {
+				array[i] = read();
+			}
+			return array;
+		}
+
+		private Object[] readUniformElements(Object[] array) {
+			final byte elementTag = input.readByte();
+			final byte[] nulls = input.readRaw( ( array.length + 7 ) >> 3 );
+			for ( int i = 0; i < array.length; i++ ) {
+				if ( ( nulls[i >> 3] & ( 1 << ( i & 7 ) ) ) == 0 ) {
+					array[i] = readPayload( elementTag, null );
+				}
+			}
+			return array;
+		}
+
+		private StandardCacheEntryImpl readEntityEntry() {
+			final int index = (int) input.readVarLong();
+			if ( index < 0 ) {
+				final String entityName = readString();
+				final Object version = read();
+				return new StandardCacheEntryImpl( (Serializable[]) read(), entityName, version );
+			}
+			else {
+				final String entityName = dictionary.entityNames[index];
+				final Object version = read();
+				final var state = new Serializable[input.readLength()];
+				readSchema( dictionary.schema( entityName ), state );
+				return new StandardCacheEntryImpl( state, entityName, version );
+			}
+		}
+
+		private void readSchema(Slot[] slots, Object[] values) {
+			final byte[] markers = input.readRaw( ( values.length + 3 ) >> 2 );
+			for ( int i = 0; i < values.length; i++ ) {
+				final int marker = ( markers[i >> 2] >> ( ( i & 3 ) << 1 ) ) & 3;
+				values[i] = switch ( marker ) {
+					case MARKER_SCHEMA -> {
+						final var slot = slots[i];
+						if ( slot.components != null ) {
+							final var components = new Object[input.readLength()];
+							readSchema( slot.components, components );
+							yield components;
+						}
+						else {
+							yield readPayload( slot.tag, slot.type );
+						}
+					}
+					case MARKER_TAGGED -> read();
+					case MARKER_UNFETCHED -> LazyPropertyInitializer.UNFETCHED_PROPERTY;
+					default -> null;
+				};
+			}
+		}
+
+		private String readString() {
+			final long header = input.readVarLong();
+			if ( ( header & 1 ) == 0 ) {
+				final String value = new String( input.readRaw( (int) ( header >>> 1 ) ), UTF_8 );
+				strings.add( value );
+				return value;
+			}
+			else {
+				return strings.get( (int) ( header >>> 1 ) );
+			}
+		}
+
+		private Class<?> enumClass(String className) {
+			try {
+				return Class.forName( className, false, dictionary.classLoader );
+			}
+			catch (ClassNotFoundException e) {
+				throw new CacheException( "Could not load enum class " + className, e );
+			}
+		}
+
+		private static Object enumConstant(@Nullable Class<?> enumClass, int ordinal) {
+			if ( enumClass == null || !enumClass.isEnum() ) {
+				throw new CacheException( "Serialized cache entry holds an enum of unknown type" );
+			}
+			return enumClass.getEnumConstants()[ordinal];
+		}
+	}
+
+	private static final class Output {
+		private byte[] bytes = new byte[128];
+		private int length;
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( bytes, length );
+		}
+
+		private void ensureCapacity(int extra) {
+			if ( length + extra > bytes.length ) {
+				bytes = Arrays.copyOf( bytes, Math.max( bytes.length * 2, length + extra ) );
+			}
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity( 1 );
+			bytes[length++] = (byte) value;
+		}
+
+		private void writeInt(int value) {
+			ensureCapacity( 4 );
+			for ( int shift = 24; shift >= 0; shift -= 8 ) {
+				bytes[length++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				bytes[length++] = (byte) ( value >>> shift );
+			}
+		}
+
+		/**
+		 * Write a zigzag encoded variable length integer, using a single
+		 * byte for small positive or negative values.
+		 */
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			long zigzag = ( value << 1 ) ^ ( value >> 63 );
+			while ( ( zigzag & ~0x7FL ) != 0 ) {
+				bytes[length++] = (byte) ( ( zigzag & 0x7F ) | 0x80 );
+				zigzag >>>= 7;
+			}
+			bytes[length++] = (byte) zigzag;
+		}
+
+		private void writeRaw(byte[] value) {
+			ensureCapacity( value.length );
+			System.arraycopy( value, 0, bytes, length, value.length );
+			length += value.length;
+		}
+
+		private void writeBytes(byte[] value) {
+			writeVarLong( value.length );
+			writeRaw( value );
+		}
+	}
+
+	private static final class Input {
+		private final byte[] bytes;
+		private int position;
+
+		private Input(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		private byte readByte() {
+			return bytes[position++];
+		}
+
+		private int readInt() {
+			int value = 0;
+			for ( int i = 0; i < 4; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private long readLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private long readVarLong() {
+			long zigzag = 0;
+			for ( int shift = 0; ; shift += 7 ) {
+				final byte next = bytes[position++];
+				zigzag |= (long) ( next & 0x7F ) << shift;
+				if ( next >= 0 ) {
+					return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+				}
+			}
+		}
+
+		private int readLength() {
+			return (int) readVarLong();
+		}
+
+		private byte[] readRaw(int length) {
+			final byte[] value = Arrays.copyOfRange( bytes, position, position + length );
+			position += length;
+			return value;
+		}
+
+		private byte[] readBytes() {
+			return readRaw( readLength() );
+		}
+	}
+}
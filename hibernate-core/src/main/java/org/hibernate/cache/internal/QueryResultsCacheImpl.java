@@ -19,6 +19,7 @@
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -95,7 +96,8 @@ public boolean put(
 	}
 
 	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
+		// columnar results are immutable, and copying them would decode every row
+		return results instanceof ColumnarQueryResults ? results : new ArrayList<>( results );
 	}
 
 	@Override
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_INVALIDATE;
+import static org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE;
+
+/**
+ * A {@link org.hibernate.cache.spi.TimestampsCache} keeping the last invalidation
+ * timestamp of every query space in memory, in front of the
+ * {@linkplain TimestampsRegion timestamps region}.
+ * <p>
+ * Each query space is assigned a slot in a striped array of timestamps, where
+ * every slot occupies its own cache line, so that threads invalidating distinct
+ * spaces do not contend. Slots are read and updated without locking.
+ * <ul>
+ * <li>{@link #isUpToDate isUpToDate()} is answered from memory, reading the
+ *     region only the first time a space is checked.
+ * <li>A {@linkplain #preInvalidate pre-invalidation} is not written to the
+ *     region while a previous pre-invalidation of the space is pending for
+ *     more than half of the {@linkplain org.hibernate.cache.spi.RegionFactory#getTimeout
+ *     timeout}, so that the transactions writing to a table do not each
+ *     write to the region once per flush.
+ * <li>An {@linkplain #invalidate invalidation} is not written to the region
+ *     when the space already holds the same timestamp.
+ * </ul>
+ * <p>
+ * Since the invalidations are only observed when they are performed through this
+ * cache, this implementation is only appropriate when a single session factory
+ * writes to the timestamps region, and not when the region is shared by several
+ * nodes of a cluster.
+ *
+ * @see StripedTimestampsCacheFactory
+ *
+ * @since 8.1
+ */
+@Incubating
+public class StripedTimestampsCache extends TimestampsCacheEnabledImpl {
+	private static final int CHUNK_SHIFT = 6;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	private static final int MAX_CHUNKS = 1024;
+	// one slot per cache line of 64 bytes
+	private static final int PADDING = 8;
+
+	// the space was not read from the region yet
+	private static final long UNKNOWN = Long.MIN_VALUE;
+	// the space was never invalidated
+	private static final long NONE = Long.MIN_VALUE + 1;
+
+	private final ConcurrentHashMap<String, Integer> slots = new ConcurrentHashMap<>();
+	private final AtomicReferenceArray<AtomicLongArray> chunks = new AtomicReferenceArray<>( MAX_CHUNKS );
+	private final AtomicInteger slotCount = new AtomicInteger();
+
+	public StripedTimestampsCache(TimestampsRegion timestampsRegion) {
+		super( timestampsRegion );
+	}
+
+	@Override
+	public void preInvalidate(
+			@Nonnull String[] spaces,
+			@Nonnull SharedSessionContractImplementor session) {
+		final var regionFactory = session.getFactory().getCache().getRegionFactory();
+		final long timeout = regionFactory.getTimeout();
+		final long timestamp = regionFactory.nextTimestamp() + timeout;
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		for ( String space : spaces ) {
+			final int slot = slot( space );
+			if ( slot < 0 || updateSlot( slot, timestamp, timestamp - timeout / 2 ) ) {
+				if ( traceEnabled ) {
+					L2CACHE_LOGGER.preInvalidatingSpace( space, timestamp );
+				}
+				putTimestamp( space, timestamp, TIMESTAMP_PRE_INVALIDATE, session );
+			}
+		}
+	}
+
+	@Override
+	public void invalidate(
+			@Nonnull String[] spaces,
+			@Nonnull SharedSessionContractImplementor session) {
+		final long timestamp = session.getFactory().getCache().getRegionFactory().nextTimestamp();
+		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
+		for ( String space : spaces ) {
+			final int slot = slot( space );
+			if ( slot < 0 || updateSlot( slot, timestamp, timestamp ) ) {
+				if ( traceEnabled ) {
+					L2CACHE_LOGGER.invalidatingSpace( space, timestamp );
+				}
+				putTimestamp( space, timestamp, TIMESTAMP_INVALIDATE, session );
+			}
+		}
+	}
+
+	@Override
+	@Nullable
+	protected Long getLastUpdateTimestampForSpace(
+			@Nonnull String space,
+			@Nonnull SharedSessionContractImplementor session) {
+		final int slot = slot( space );
+		if ( slot < 0 ) {
+			return super.getLastUpdateTimestampForSpace( space, session );
+		}
+		else {
+			long timestamp = get( slot );
+			if ( timestamp == UNKNOWN ) {
+				final Long lastUpdate = super.getLastUpdateTimestampForSpace( space, session );
+				// unless the space was invalidated in the meantime
+				compareAndSet( slot, UNKNOWN, lastUpdate == null ? NONE : lastUpdate );
+				timestamp = get( slot );
+			}
+			return timestamp == NONE ? null : timestamp;
+		}
+	}
+
+	/**
+	 * Set the given slot to the given timestamp, unless it already holds
+	 * a timestamp between the given threshold and the given timestamp.
+	 *
+	 * @return {@code true} if the slot was updated, and the timestamp must
+	 *         be written to the region
+	 */
+	private boolean updateSlot(int slot, long timestamp, long threshold) {
+		while ( true ) {
+			final long current = get( slot );
+			if ( current != UNKNOWN && current != NONE && current >= threshold && current <= timestamp ) {
+				return false;
+			}
+			else if ( compareAndSet( slot, current, timestamp ) ) {
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		super.clear();
+		final int count = Math.min( slotCount.get(), MAX_CHUNKS * CHUNK_SIZE );
+		for ( int slot = 0; slot < count; slot++ ) {
+			if ( chunks.get( slot >>> CHUNK_SHIFT ) != null ) {
+				chunk( slot ).set( offset( slot ), UNKNOWN );
+			}
+		}
+	}
+
+	/**
+	 * The slot assigned to the given space, or {@code -1} if every slot
+	 * is already assigned.
+	 */
+	private int slot(String space) {
+		final Integer slot = slots.get( space );
+		return slot == null ? slots.computeIfAbsent( space, s -> newSlot() ) : slot;
+	}
+
+	private int newSlot() {
+		final int slot = slotCount.getAndIncrement();
+		if ( slot >= MAX_CHUNKS * CHUNK_SIZE ) {
+			return -1;
+		}
+		final int chunkIndex = slot >>> CHUNK_SHIFT;
+		if ( chunks.get( chunkIndex ) == null ) {
+			final var chunk = new AtomicLongArray( CHUNK_SIZE * PADDING );
+			for ( int i = 0; i < CHUNK_SIZE; i++ ) {
+				chunk.set( i * PADDING, UNKNOWN );
+			}
+			chunks.compareAndSet( chunkIndex, null, chunk );
+		}
+		return slot;
+	}
+
+	private long get(int slot) {
+		return chunk( slot ).get( offset( slot ) );
+	}
+
+	private boolean compareAndSet(int slot, long expected, long timestamp) {
+		return chunk( slot ).compareAndSet( offset( slot ), expected, timestamp );
+	}
+
+	private AtomicLongArray chunk(int slot) {
+		return chunks.get( slot >>> CHUNK_SHIFT );
+	}
+
+	private static int offset(int slot) {
+		return ( slot & CHUNK_MASK ) * PADDING;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import jakarta.annotation.Nonnull;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+
+/**
+ * A {@link TimestampsCacheFactory} returning instances of {@link StripedTimestampsCache},
+ * for applications where a single session factory writes to the timestamps region.
+ * <p>
+ * May be selected by setting {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY}
+ * to the name of this class.
+ *
+ * @since 8.1
+ */
+@Incubating
+public class StripedTimestampsCacheFactory implements TimestampsCacheFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final StripedTimestampsCacheFactory INSTANCE = new StripedTimestampsCacheFactory();
+
+	@Override
+	@Nonnull
+	public TimestampsCache buildTimestampsCache(
+			@Nonnull CacheImplementor cacheManager,
+			@Nonnull TimestampsRegion timestampsRegion) {
+		return new StripedTimestampsCache( timestampsRegion );
+	}
+}
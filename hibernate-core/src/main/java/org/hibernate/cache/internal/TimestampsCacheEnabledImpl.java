@@ -13,6 +13,7 @@
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.EventMonitor.CacheActionDescription;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
@@ -42,42 +43,16 @@ public TimestampsRegion getRegion() {
 	public void preInvalidate(
 			@Nonnull String[] spaces,
 			@Nonnull SharedSessionContractImplementor session) {
-		final var factory = session.getFactory();
-		final var regionFactory = factory.getCache().getRegionFactory();
-		final var statistics = factory.getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
+		final var regionFactory = session.getFactory().getCache().getRegionFactory();
 		final Long timestamp = regionFactory.nextTimestamp() + regionFactory.getTimeout();
-
-		final var eventListenerManager = session.getEventListenerManager();
-		final var eventMonitor = session.getEventMonitor();
 		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
 		for ( String space : spaces ) {
 			if ( traceEnabled ) {
 				L2CACHE_LOGGER.preInvalidatingSpace( space, timestamp );
 			}
-			final var cachePutEvent = eventMonitor.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, timestamp, session );
-			}
-			finally {
-				eventMonitor.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						timestampsRegion,
-						true,
-						TIMESTAMP_PRE_INVALIDATE
-				);
-				eventListenerManager.cachePutEnd();
-			}
-
-			if ( stats ) {
-				statistics.updateTimestampsCachePut();
-			}
+			//put() has nowait semantics, is this really appropriate?
+			//note that it needs to be async replication, never local or sync
+			putTimestamp( space, timestamp, TIMESTAMP_PRE_INVALIDATE, session );
 		}
 	}
 
@@ -85,39 +60,45 @@ public void preInvalidate(
 	public void invalidate(
 			@Nonnull String[] spaces,
 			@Nonnull SharedSessionContractImplementor session) {
-		final var factory = session.getFactory();
-		final var statistics = factory.getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
-		final Long timestamp = factory.getCache().getRegionFactory().nextTimestamp();
-
-		final var eventListenerManager = session.getEventListenerManager();
-		final var eventMonitor = session.getEventMonitor();
+		final Long timestamp = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean traceEnabled = L2CACHE_LOGGER.isTraceEnabled();
 		for ( String space : spaces ) {
 			if ( traceEnabled ) {
 				L2CACHE_LOGGER.invalidatingSpace( space, timestamp );
 			}
+			putTimestamp( space, timestamp, TIMESTAMP_INVALIDATE, session );
+		}
+	}
 
-			final var cachePutEvent = eventMonitor.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, timestamp, session );
-			}
-			finally {
-				eventMonitor.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						timestampsRegion,
-						true,
-						TIMESTAMP_INVALIDATE
-				);
-				eventListenerManager.cachePutEnd();
-
-				if ( stats ) {
-					statistics.updateTimestampsCachePut();
-				}
-			}
+	/**
+	 * Write the given invalidation timestamp of the given space to the region.
+	 */
+	protected void putTimestamp(
+			@Nonnull String space,
+			@Nonnull Long timestamp,
+			@Nonnull CacheActionDescription description,
+			@Nonnull SharedSessionContractImplementor session) {
+		final var eventListenerManager = session.getEventListenerManager();
+		final var eventMonitor = session.getEventMonitor();
+		final var cachePutEvent = eventMonitor.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
+			timestampsRegion.putIntoCache( space, timestamp, session );
+		}
+		finally {
+			eventMonitor.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					timestampsRegion,
+					true,
+					description
+			);
+			eventListenerManager.cachePutEnd();
+		}
+
+		final var statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.updateTimestampsCachePut();
 		}
 	}
 
@@ -172,8 +153,11 @@ public boolean isUpToDate(
 		return true;
 	}
 
+	/**
+	 * Read the last invalidation timestamp of the given space from the region.
+	 */
 	@Nullable
-	private Long getLastUpdateTimestampForSpace(
+	protected Long getLastUpdateTimestampForSpace(
 			@Nonnull String space,
 			@Nonnull SharedSessionContractImplementor session) {
 		boolean found = false;
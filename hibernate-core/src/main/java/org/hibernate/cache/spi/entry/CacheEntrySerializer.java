@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Converts the values stored in second-level cache regions to and from bytes,
+ * for use by caching providers which store entries outside the Java heap or
+ * send them over the network, instead of relying on Java serialization.
+ * <p>
+ * The values are typically {@linkplain CacheEntry entity cache entries},
+ * {@linkplain CollectionCacheEntry collection cache entries}, or the items
+ * wrapping them, but any {@link java.io.Serializable} value stored in a region
+ * must be accepted.
+ * <p>
+ * A caching provider obtains the serializer configured for a session factory
+ * from {@link org.hibernate.boot.spi.SessionFactoryOptions#getCacheEntrySerializer()}.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_ENTRY_SERIALIZER
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface CacheEntrySerializer {
+	/**
+	 * Convert the given value to bytes.
+	 *
+	 * @param value The value stored in a region
+	 * @param factory The session factory the region belongs to
+	 */
+	@Nonnull
+	byte[] serialize(@Nonnull Object value, @Nonnull SessionFactoryImplementor factory);
+
+	/**
+	 * Rebuild a value from the bytes produced by {@link #serialize}.
+	 *
+	 * @param bytes The serialized value
+	 * @param factory The session factory the region belongs to
+	 */
+	@Nonnull
+	Object deserialize(@Nonnull byte[] bytes, @Nonnull SessionFactoryImplementor factory);
+}
@@ -28,7 +28,13 @@ public CollectionCacheEntry(PersistentCollection<?> collection, CollectionPersis
 		this.state = collection.disassemble( persister );
 	}
 
-	CollectionCacheEntry(Serializable state) {
+	/**
+	 * Constructs a CollectionCacheEntry from already disassembled state,
+	 * for example when reading it back from an external cache representation.
+	 *
+	 * @param state The disassembled collection state
+	 */
+	public CollectionCacheEntry(Serializable state) {
 		this.state = state;
 	}
 
@@ -58,7 +58,15 @@ public StandardCacheEntryImpl(
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(
+	/**
+	 * Constructs a StandardCacheEntryImpl from already disassembled state,
+	 * for example when reading it back from an external cache representation.
+	 *
+	 * @param disassembledState The disassembled state
+	 * @param subclass The entity name
+	 * @param version The current version (if versioned)
+	 */
+	public StandardCacheEntryImpl(
 			@Nonnull Serializable[] disassembledState,
 			@Nonnull String subclass,
 			@Nullable Object version) {
@@ -343,7 +343,7 @@ public final static class Item implements Serializable, Lockable {
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
 		 */
-		Item(@Nonnull Object value, @Nullable Object version, long timestamp) {
+		public Item(@Nonnull Object value, @Nullable Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
@@ -376,6 +376,21 @@ public Object getValue() {
 			return value;
 		}
 
+		/**
+		 * The version of the wrapped value, if versioned.
+		 */
+		@Nullable
+		public Object getVersion() {
+			return version;
+		}
+
+		/**
+		 * The creation timestamp of this item.
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(@Nullable SoftLock lock) {
 			return false;
@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -65,6 +66,28 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * When enabled, each batch of inserts into a table is executed as a single
+	 * {@code insert into ... values (...), (...), ...} statement with a tuple of
+	 * values per row, instead of via {@link PreparedStatement#executeBatch}. This
+	 * helps with JDBC drivers which send the statements of a batch to the database
+	 * one by one, unless they are configured to rewrite them.
+	 * <p>
+	 * This has no effect unless JDBC batching is enabled, and the database supports
+	 * multi-row inserts. Each statement contains at most as many rows as the batch
+	 * size, and the rows are split across several statements when the number of JDBC
+	 * parameters would exceed the limit of the database.
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsMultiRowInsert()
+	 * @see org.hibernate.dialect.Dialect#getMultiRowInsertRowLimit(int)
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch.multi_row_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -107,6 +107,19 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, the rows of a cached query result are stored column by
+	 * column, with primitive arrays for numeric columns and dictionary-encoded
+	 * strings, instead of one array per row. This reduces the heap footprint
+	 * of large cached results, which are decoded lazily as they are read.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String QUERY_CACHE_COLUMNAR = "hibernate.cache.query_cache_columnar";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -130,11 +143,34 @@ public interface CacheSettings {
 
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.TimestampsCacheFactory} to use.
+	 * <p>
+	 * When a single session factory writes to the timestamps region,
+	 * {@link org.hibernate.cache.internal.StripedTimestampsCacheFactory} avoids
+	 * reading the region for every cached query result.
+	 *
+	 * @settingDefault {@link org.hibernate.cache.internal.StandardTimestampsCacheFactory}
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyTimestampsCacheFactory(TimestampsCacheFactory)
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * Specifies the {@link org.hibernate.cache.spi.entry.CacheEntrySerializer} made
+	 * available to caching providers storing entries outside the Java heap, either:
+	 * <ul>
+	 *     <li>an instance of {@code CacheEntrySerializer},
+	 *     <li>a {@link Class} object representing a class that implements
+	 *         {@code CacheEntrySerializer}, or
+	 *     <li>the name of a class implementing {@code CacheEntrySerializer}.
+	 * </ul>
+	 *
+	 * @settingDefault {@link org.hibernate.cache.internal.BinaryCacheEntrySerializer}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String CACHE_ENTRY_SERIALIZER = "hibernate.cache.entry_serializer";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 *
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -46,4 +47,81 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * When set to a positive value, enables adaptive batch fetching, and specifies the
+	 * largest batch size it may choose.
+	 * <p>
+	 * For each entity and collection role which is {@linkplain #DEFAULT_BATCH_FETCH_SIZE
+	 * batch fetched}, Hibernate keeps a moving average of the number of keys waiting in the
+	 * {@link org.hibernate.engine.spi.BatchFetchQueue} whenever a batch fetch is triggered,
+	 * and sizes the next batch from it. The configured batch size is only the initial size.
+	 * Batch sizes are rounded up to a power of two, and bounded by this setting and by
+	 * {@value #ADAPTIVE_BATCH_FETCH_MIN_SIZE}, so that only a handful of distinct SQL
+	 * statements are ever executed.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @see org.hibernate.stat.EntityStatistics#getBatchFetchSize()
+	 * @see org.hibernate.stat.CollectionStatistics#getBatchFetchSize()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.adaptive_batch_fetch.max_size";
+
+	/**
+	 * The smallest batch size adaptive batch fetching may choose.
+	 *
+	 * @settingDefault 2
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_MIN_SIZE = "hibernate.adaptive_batch_fetch.min_size";
+
+	/**
+	 * When enabled, Hibernate learns which lazy associations are navigated after
+	 * a batch of entities or collections is fetched, and prefetches them in the
+	 * future. As soon as a batch is fetched, the associations of the fetched
+	 * entities which are usually navigated are fetched too, using one query
+	 * per association target, and then the associations of those entities, and
+	 * so on, so that navigating a deep graph takes one round trip per level.
+	 * <p>
+	 * Associations listed by a {@linkplain org.hibernate.Session#setPrefetchGraph
+	 * prefetch graph} are prefetched even when this setting is disabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String PREFETCH_PLANNING = "hibernate.prefetch_planning";
+
+	/**
+	 * When enabled, a query which join fetches more than one collection joins only
+	 * the first of them. Every further collection is instead fetched right after the
+	 * query is executed, using one {@linkplain org.hibernate.annotations.FetchMode#SUBSELECT
+	 * subselect} per collection role, avoiding both the Cartesian product of the
+	 * joined collections and the {@link org.hibernate.loader.MultipleBagFetchException}.
+	 * <p>
+	 * Only a fetch join with no alias and no nested joins is fetched separately.
+	 * <p>
+	 * The subselects are executed one after the other, over the JDBC connection of
+	 * the session, so that they read the collections within the current transaction,
+	 * along with any changes already flushed by the session. This is also the case
+	 * for a {@linkplain org.hibernate.Session#setDefaultReadOnly read-only} session,
+	 * since the subselects must still see the same snapshot of the database as the
+	 * query which fetched the owners of the collections. To fetch entities over
+	 * several connections concurrently, use
+	 * {@link org.hibernate.FindMultipleOption.ParallelFetch} explicitly.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String SEPARATE_COLLECTION_FETCHES = "hibernate.separate_collection_fetches";
 }
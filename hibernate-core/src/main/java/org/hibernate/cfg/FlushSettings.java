@@ -4,6 +4,8 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
+
 /// Settings related to flush behavior.
 ///
 /// @see BatchSettings#STATEMENT_BATCH_SIZE
@@ -112,4 +114,69 @@ public interface FlushSettings {
 	///
 	/// @since 8.0
 	String GRAPH_DEFER_IDENTITY_INSERTS = "hibernate.flush.queue.graph.defer_identity_inserts";
+
+	/// Whether the graph-based action queue should pipeline the JDBC batches of
+	/// independent plan steps.
+	///
+	/// When {@code false} (default), the JDBC batch of each plan step is executed
+	/// before the next step starts.
+	///
+	/// When {@code true}, and JDBC batching is enabled, one batch per statement shape
+	/// is kept open for as long as the following plan steps do not depend on the
+	/// operations already added to a batch, so that independent operations of the
+	/// same shape share a round trip to the database even when operations of other
+	/// shapes are planned in between, for example the inserts into a self-referencing
+	/// table. The open batches are executed, in the order they were opened, as soon as
+	/// a dependent plan step is reached.
+	///
+	/// @see org.hibernate.action.queue.spi.PlanningOptions#pipelineIndependentSteps()
+	///
+	/// @settingDefault false
+	///
+	/// @since 8.1
+	@Incubating
+	String GRAPH_PIPELINED_EXECUTION = "hibernate.flush.queue.graph.pipelined_execution";
+
+	/// The maximum number of flush plan shapes cached by the graph-based action queue,
+	/// allowing flushes which decompose into the same groups of operations as a previous
+	/// flush to reuse the order in which these groups were planned, rather than building,
+	/// and sorting, the dependency graph again.
+	///
+	/// Only flushes whose plan does not depend on the values being written are cached,
+	/// that is flushes which do not need to break any cycle, and do not order deletes or
+	/// updates by unique key (see [#ORDER_BY_UNIQUE_KEY]) on tables with unique constraints.
+	///
+	/// The default value `0` disables the cache.
+	///
+	/// @see org.hibernate.stat.Statistics#getFlushPlanCacheHitCount()
+	/// @see org.hibernate.stat.Statistics#getFlushPlanCacheMissCount()
+	///
+	/// @settingDefault `0`
+	///
+	/// @since 8.1
+	@Incubating
+	String FLUSH_PLAN_CACHE_MAX_SIZE = "hibernate.flush.plan.cache_max_size";
+
+	/// Whether a flush should only visit the entities which might have changed since
+	/// the previous flush, instead of every entity in the persistence context.
+	///
+	/// A clean entity is skipped when its class was enhanced with
+	/// [inline dirty tracking][org.hibernate.bytecode.enhance.spi.EnhancementOptions#doDirtyCheckingInline()]
+	/// by this version of Hibernate, and it has no collections and no mutable
+	/// properties. Such an entity becomes a candidate for the next flush as soon as
+	/// one of its attributes is changed. Any other entity is visited by every flush.
+	///
+	/// Since a clean entity is not visited, references from it are not cascaded or
+	/// checked for transient instances. The setting has no effect when a custom
+	/// [org.hibernate.event.spi.FlushEntityEventListener] or a
+	/// [custom dirtiness strategy][org.hibernate.cfg.AvailableSettings#CUSTOM_ENTITY_DIRTINESS_STRATEGY]
+	/// is registered, since either might find a clean entity dirty. For the same reason,
+	/// it has no effect when an [org.hibernate.Interceptor] is configured, either for
+	/// the session factory, or for a session when it is opened.
+	///
+	/// @settingDefault false
+	///
+	/// @since 8.1
+	@Incubating
+	String INCREMENTAL_FLUSH = "hibernate.flush.incremental";
 }
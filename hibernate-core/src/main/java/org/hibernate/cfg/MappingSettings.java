@@ -133,6 +133,7 @@ public interface MappingSettings {
 	 *
 	 * @see org.hibernate.id.enhanced.PooledOptimizer
 	 * @see org.hibernate.id.enhanced.PooledLoOptimizer
+	 * @see org.hibernate.id.enhanced.StripedPooledLoOptimizer
 	 * @see org.hibernate.id.enhanced.HiLoOptimizer
 	 */
 	String PREFERRED_POOLED_OPTIMIZER = "hibernate.id.optimizer.pooled.preferred";
@@ -224,4 +224,24 @@ public interface PersistenceSettings {
 	 * @settingDefault {@code false}
 	 */
 	String UNOWNED_ASSOCIATION_TRANSIENT_CHECK = "hibernate.unowned_association_transient_check";
+
+	/**
+	 * When enabled, the persistence context stores managed entities, entity
+	 * snapshots, and collections with a {@code long} or {@code int} identifier
+	 * in open-addressing tables keyed by the primitive identifier value, with
+	 * one table per entity hierarchy or collection role. This avoids a hash
+	 * map node per entry and the identifier type's {@code equals()} and
+	 * {@code hashCode()}, reducing the footprint of sessions holding a very
+	 * large number of entities, for example, in batch jobs.
+	 * <p>
+	 * Entries with any other kind of identifier are stored as usual.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isPrimitiveIdPersistenceContextEnabled
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String PRIMITIVE_ID_PERSISTENCE_CONTEXT = "hibernate.persistence_context.primitive_id_storage";
 }
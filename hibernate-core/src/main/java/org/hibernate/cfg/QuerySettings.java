@@ -66,6 +66,25 @@ public interface QuerySettings {
 	 */
 	String SEMANTIC_QUERY_PRODUCER = "hibernate.query.hql.translator";
 
+	/**
+	 * The name of a classpath resource holding the precompiled parse trees of HQL queries,
+	 * typically the named queries of the application, as written at build time by the
+	 * Hibernate Gradle and Maven plugins. Queries found in the archive are not parsed again
+	 * when they are first interpreted. The archive is ignored when it was built by a
+	 * different version of Hibernate, or when a custom {@link HqlTranslator} is used.
+	 * Every resource with this name is loaded, since the plugins write an archive for
+	 * each compiled source set, or module, of the application.
+	 * <p>
+	 * Set to an empty value to disable loading the archive.
+	 *
+	 * @settingDefault {@value org.hibernate.query.hql.internal.HqlParseTreeArchive#DEFAULT_RESOURCE_NAME},
+	 * if present
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String HQL_PARSE_TREE_ARCHIVE = "hibernate.query.hql.parse_tree_archive";
+
 	/**
 	 * Specifies a {@link SqmTranslatorFactory} to use for
 	 * HQL query translation.
@@ -271,6 +290,28 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * The minimum number of values bound to a multivalued parameter of an
+	 * {@code IN} predicate, such as {@code e.id in :ids}, for which the predicate
+	 * is rendered with a single parameter of SQL {@code ARRAY} type, for example,
+	 * {@code e.id = any(?)}, instead of one parameter per value. The text of the SQL
+	 * statement is then independent of the number of values, and the database does
+	 * not have to parse and bind a very long list of parameters.
+	 * <p>
+	 * Only applies to {@code IN} predicates on a single column when the dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters
+	 * binds multivalued parameters as arrays}, and never to {@code NOT IN}, whose
+	 * semantics differ when the list contains {@code null}.
+	 *
+	 * @settingDefault {@code 0} (disabled) - every value is bound to its own parameter.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getInClauseArrayParameterThreshold
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD = "hibernate.query.in_clause_array_parameter_threshold";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -306,6 +347,49 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * When enabled, the {@linkplain QueryPlan query plans} of the named HQL queries,
+	 * and of the queries listed by {@value #QUERY_PLAN_WARMUP_QUERIES}, are built in
+	 * the background once the {@code SessionFactory} is created, including their
+	 * translation to SQL, and {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * cached}, so that the first executions of these queries find them ready.
+	 *
+	 * @settingDefault {@code false} (disabled)
+	 *
+	 * @see org.hibernate.query.QueryPlanWarmer
+	 * @see org.hibernate.stat.Statistics#getQueryPlanWarmupCount
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String QUERY_PLAN_WARMUP_ENABLED = "hibernate.query.plan_warmup.enabled";
+
+	/**
+	 * The name of a classpath resource, or the path of a file, listing hot HQL queries
+	 * whose plans are built in the background when {@value #QUERY_PLAN_WARMUP_ENABLED}
+	 * is enabled, in addition to those of the named queries.  Such a list is usually
+	 * recorded from the {@linkplain org.hibernate.stat.Statistics statistics} of a
+	 * production system, using
+	 * {@link org.hibernate.query.QueryPlanWarmer#writeQueries}.
+	 *
+	 * @see org.hibernate.query.QueryPlanWarmer
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String QUERY_PLAN_WARMUP_QUERIES = "hibernate.query.plan_warmup.queries";
+
+	/**
+	 * The maximum number of threads building query plans in the background when
+	 * {@value #QUERY_PLAN_WARMUP_ENABLED} is enabled.
+	 *
+	 * @settingDefault {@code 1}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String QUERY_PLAN_WARMUP_THREADS = "hibernate.query.plan_warmup.threads";
+
 	/**
 	 * For databases supporting name parameters this setting allows the use of named parameters in the procedure call.
 	 * <p>
@@ -326,4 +410,51 @@ public interface QuerySettings {
 	 */
 	@Incubating
 	String SAFE_MODE_ENABLED = "hibernate.query.safe_mode_enabled";
+
+	/**
+	 * Specifies the number of rows which should be read from the JDBC
+	 * {@link java.sql.ResultSet} at once into a columnar block, with
+	 * {@code long}, {@code int} and {@code double} columns held in
+	 * primitive vectors. Queries returning only basic values may then be
+	 * read a whole block at a time, bypassing the per-row initializer
+	 * machinery.
+	 * <p>
+	 * Row blocks are never used for scrollable results, when results are
+	 * put into the query cache, or when a selected column is a LOB.
+	 *
+	 * @settingDefault {@code 0} (disabled) - rows are read one at a time.
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getQueryRowBlockSize
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String QUERY_ROW_BLOCK_SIZE = "hibernate.query.row_block_size";
+
+	/**
+	 * The maximum number of SQL translations of a single cached {@linkplain QueryPlan
+	 * query plan} which are kept for different shapes of its parameter bindings: the
+	 * number of values bound to each multivalued parameter, the presence of a limit or
+	 * offset, and the names of the enabled {@linkplain org.hibernate.Filter filters}.
+	 * A query whose {@code IN} list, page or filters vary from one execution to the
+	 * next is then translated to SQL once per shape instead of once per change.
+	 * <p>
+	 * When enabled, the values of a parameter occurring in an {@code IN} list are
+	 * expanded to the next power of two, as with {@value #IN_CLAUSE_PARAMETER_PADDING},
+	 * so that lists of similar lengths share a translation. Lists long enough to be
+	 * {@linkplain #IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD bound as an array} share a
+	 * single translation. The arguments of enabled filters are bound each time the
+	 * query is executed, so changing them does not require a new translation.
+	 * <p>
+	 * When set to {@code 0}, a plan keeps its most recent translation only, and queries
+	 * with multivalued parameter bindings or enabled filters are not cached at all.
+	 *
+	 * @settingDefault {@code 0} (disabled)
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getQueryPlanSqlCacheMaxSize
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	String QUERY_PLAN_SQL_CACHE_MAX_SIZE = "hibernate.query.plan_sql_cache_max_size";
 }
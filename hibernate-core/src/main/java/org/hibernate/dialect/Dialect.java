@@ -55,6 +55,7 @@
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.rowsecurity.NoRowLevelSecurity;
 import org.hibernate.dialect.rowsecurity.RowLevelSecurity;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.dialect.sequence.NoSequenceSupport;
 import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.dialect.temporal.DefaultTemporalTableSupport;
@@ -2200,6 +2201,25 @@ public SequenceSupport getSequenceSupport() {
 		return NoSequenceSupport.INSTANCE;
 	}
 
+	// BULK INSERT support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Get the {@link BulkInsertSupport} for this dialect, if the database
+	 * has a native mechanism for loading many rows at once, for example,
+	 * {@code COPY} on PostgreSQL.
+	 *
+	 * @return the {@code BulkInsertSupport}, or {@code null} if there is
+	 *         no such mechanism
+	 *
+	 * @see org.hibernate.StatelessSession#bulkInsert(List)
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public @Nullable BulkInsertSupport getBulkInsertSupport() {
+		return null;
+	}
+
 	/**
 	 * Get the row-level security support for this dialect.
 	 */
@@ -5242,6 +5262,48 @@ public boolean supportsValuesListForInsert() {
 		return true;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows with a single
+	 * {@code insert into ... values (...), (...)} statement, where the
+	 * values of each row are passed as JDBC parameters? If so, batched
+	 * inserts may be executed as multi-row inserts.
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of rows which may be inserted by a single
+	 * {@code insert into ... values (...), (...)} statement when each
+	 * row has the given number of JDBC parameters.
+	 *
+	 * @implNote By default, this is determined by the
+	 *           {@linkplain #getParameterCountLimit() limit on the
+	 *           number of parameters}.
+	 *
+	 * @param parametersPerRow The number of JDBC parameters of each row
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @see #supportsMultiRowInsert()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		final int parameterCountLimit = getParameterCountLimit();
+		return parameterCountLimit > 0
+				? Math.max( 1, parameterCountLimit / parametersPerRow )
+				: 0;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
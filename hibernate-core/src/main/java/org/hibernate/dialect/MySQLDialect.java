@@ -1612,6 +1612,17 @@ public boolean supportsFromClauseInUpdate() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		// the maximum number of placeholders in a prepared statement
+		return Math.max( 1, 65_535 / parametersPerRow );
+	}
+
 	@Override
 	public String appendCheckConstraintOptions(CheckConstraint checkConstraint, String sqlCheckConstraint) {
 		return isNotEmpty( checkConstraint.getOptions() )
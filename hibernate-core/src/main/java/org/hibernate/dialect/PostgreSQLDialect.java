@@ -17,6 +17,8 @@
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.dialect.aggregate.PostgreSQLAggregateSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.PostgreSQLCopyBulkInsertSupport;
 import org.hibernate.dialect.function.CommonFunctionFactory;
 import org.hibernate.dialect.function.PostgreSQLMinMaxFunction;
 import org.hibernate.dialect.function.PostgreSQLTruncFunction;
@@ -865,6 +867,17 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		// the limit enforced by the JDBC driver
+		return Math.max( 1, 32_767 / parametersPerRow );
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -889,6 +902,13 @@ public SequenceSupport getSequenceSupport() {
 		return PostgreSQLSequenceSupport.INSTANCE;
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return driverKind == PostgreSQLDriverKind.PG_JDBC
+				? PostgreSQLCopyBulkInsertSupport.INSTANCE
+				: null;
+	}
+
 	@Override
 	public RowLevelSecurity getRowLevelSecurity() {
 		return PostgreSQLRowLevelSecurity.INSTANCE;
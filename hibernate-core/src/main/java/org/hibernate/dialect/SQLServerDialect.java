@@ -625,6 +625,17 @@ public boolean supportsValuesList() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		// a table value constructor is limited to 1000 rows
+		return Math.min( 1000, super.getMultiRowInsertRowLimit( parametersPerRow ) );
+	}
+
 	@Override
 	public boolean supportsDistinctFromPredicate() {
 		return getVersion().isSameOrAfter( 16 );
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import org.hibernate.Incubating;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+
+/**
+ * A native mechanism for loading many rows into a table at once, bypassing
+ * the usual {@code insert} statements, for example, {@code COPY} on PostgreSQL,
+ * in a certain {@link Dialect SQL dialect}.
+ *
+ * @see Dialect#getBulkInsertSupport()
+ * @see org.hibernate.StatelessSession#bulkInsert(java.util.List)
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface BulkInsertSupport {
+	/**
+	 * Is the mechanism usable with the JDBC connection of the given session?
+	 * This depends on the JDBC driver in use.
+	 */
+	boolean isAvailable(SharedSessionContractImplementor session);
+
+	/**
+	 * Can values of the given type be written by this mechanism?
+	 */
+	boolean supportsJdbcMapping(JdbcMapping jdbcMapping);
+
+	/**
+	 * Start loading rows into the given columns of the given table.
+	 *
+	 * @param tableName The name of the table
+	 * @param columnNames The names of the columns, in the order of the row values
+	 * @param jdbcMappings The types of the columns, in the order of the row values
+	 * @param session The session whose connection is used
+	 */
+	BulkInsert beginBulkInsert(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] jdbcMappings,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * An ongoing load of rows into a table.  Rows may be streamed to the
+	 * database as they are added, but are only guaranteed to have been
+	 * written once {@link #complete()} returns.
+	 */
+	interface BulkInsert {
+		/**
+		 * Add a row, given the JDBC values of its columns.
+		 */
+		void addRow(Object[] jdbcValues);
+
+		/**
+		 * Finish loading the rows.
+		 *
+		 * @return the number of rows written
+		 */
+		long complete();
+
+		/**
+		 * Abandon the load, if it did not complete.
+		 */
+		void cancel();
+	}
+}
@@ -0,0 +1,392 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.dialect.bulk;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * {@link BulkInsertSupport} for PostgreSQL, using {@code COPY ... FROM STDIN}
+ * in text format, via the {@code CopyManager} of the PostgreSQL JDBC driver.
+ * It is not available with other drivers.
+ * <p>
+ * Dates and timestamps are written in ISO format, with years before 1 AD
+ * written as {@code BC} years, as PostgreSQL expects.
+ *
+ * @since 8.1
+ */
+public class PostgreSQLCopyBulkInsertSupport implements BulkInsertSupport {
+
+	public static final PostgreSQLCopyBulkInsertSupport INSTANCE = new PostgreSQLCopyBulkInsertSupport();
+
+	// the number of characters buffered before they are written to the connection
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final boolean DRIVER_VISIBLE = isDriverVisible();
+
+	private static boolean isDriverVisible() {
+		try {
+			Class.forName( "org.postgresql.copy.CopyIn", false,
+					PostgreSQLCopyBulkInsertSupport.class.getClassLoader() );
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	@Override
+	public boolean isAvailable(SharedSessionContractImplementor session) {
+		if ( DRIVER_VISIBLE ) {
+			try {
+				return Driver.isPgConnection( connection( session ) );
+			}
+			catch (SQLException e) {
+				return false;
+			}
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public boolean supportsJdbcMapping(JdbcMapping jdbcMapping) {
+		return switch ( jdbcMapping.getJdbcType().getDefaultSqlTypeCode() ) {
+			case SqlTypes.BOOLEAN,
+					SqlTypes.TINYINT, SqlTypes.SMALLINT, SqlTypes.INTEGER, SqlTypes.BIGINT,
+					SqlTypes.REAL, SqlTypes.FLOAT, SqlTypes.DOUBLE, SqlTypes.NUMERIC, SqlTypes.DECIMAL,
+					SqlTypes.CHAR, SqlTypes.VARCHAR, SqlTypes.LONGVARCHAR, SqlTypes.LONG32VARCHAR,
+					SqlTypes.NCHAR, SqlTypes.NVARCHAR, SqlTypes.LONGNVARCHAR, SqlTypes.LONG32NVARCHAR,
+					SqlTypes.BINARY, SqlTypes.VARBINARY, SqlTypes.LONGVARBINARY, SqlTypes.LONG32VARBINARY,
+					SqlTypes.DATE, SqlTypes.TIMESTAMP,
+					SqlTypes.TIMESTAMP_WITH_TIMEZONE, SqlTypes.TIMESTAMP_UTC,
+					SqlTypes.UUID -> true;
+			// only for types which can be unwrapped as a LocalTime, without losing the fractional seconds
+			case SqlTypes.TIME -> {
+				final var javaTypeClass = jdbcMapping.getJdbcJavaType().getJavaTypeClass();
+				yield javaTypeClass == LocalTime.class
+					|| javaTypeClass == OffsetTime.class
+					|| javaTypeClass == Time.class;
+			}
+			default -> false;
+		};
+	}
+
+	@Override
+	public BulkInsert beginBulkInsert(
+			String tableName,
+			String[] columnNames,
+			JdbcMapping[] jdbcMappings,
+			SharedSessionContractImplementor session) {
+		final String incomingSql = "copy " + tableName + " (" + String.join( ",", columnNames ) + ") from stdin";
+		final String inspectedSql =
+				session.getJdbcSessionContext().getStatementInspector().inspect( incomingSql );
+		final String sql = inspectedSql == null ? incomingSql : inspectedSql;
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+		session.getEventListenerManager().jdbcExecuteStatementStart();
+		final var eventMonitor = session.getEventMonitor();
+		final var executionEvent = eventMonitor.beginJdbcPreparedStatementExecutionEvent();
+		try {
+			return new CopyBulkInsert( sql, jdbcMappings, Driver.copyIn( connection( session ), sql ),
+					executionEvent, session );
+		}
+		catch (SQLException e) {
+			eventMonitor.completeJdbcPreparedStatementExecutionEvent( executionEvent, sql );
+			session.getEventListenerManager().jdbcExecuteStatementEnd();
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "Could not start bulk insert", sql );
+		}
+	}
+
+	private static Connection connection(SharedSessionContractImplementor session) {
+		return session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+	}
+
+	/**
+	 * Isolates the references to the classes of the JDBC driver.
+	 */
+	private static final class Driver {
+		private static boolean isPgConnection(Connection connection) throws SQLException {
+			return connection.isWrapperFor( PGConnection.class );
+		}
+
+		private static Object copyIn(Connection connection, String sql) throws SQLException {
+			return connection.unwrap( PGConnection.class ).getCopyAPI().copyIn( sql );
+		}
+
+		private static void write(Object copyIn, byte[] bytes) throws SQLException {
+			( (CopyIn) copyIn ).writeToCopy( bytes, 0, bytes.length );
+		}
+
+		private static long end(Object copyIn) throws SQLException {
+			return ( (CopyIn) copyIn ).endCopy();
+		}
+
+		private static void cancel(Object copyIn) throws SQLException {
+			final var operation = (CopyIn) copyIn;
+			if ( operation.isActive() ) {
+				operation.cancelCopy();
+			}
+		}
+	}
+
+	private static final class CopyBulkInsert implements BulkInsert {
+		private final String sql;
+		private final JdbcMapping[] jdbcMappings;
+		// typed Object, so that this class does not depend on the driver
+		private final Object copyIn;
+		private final DiagnosticEvent executionEvent;
+		private final SharedSessionContractImplementor session;
+		private final StringBuilder buffer = new StringBuilder( BUFFER_SIZE + 1024 );
+		private boolean finished;
+
+		private CopyBulkInsert(
+				String sql,
+				JdbcMapping[] jdbcMappings,
+				Object copyIn,
+				DiagnosticEvent executionEvent,
+				SharedSessionContractImplementor session) {
+			this.sql = sql;
+			this.jdbcMappings = jdbcMappings;
+			this.copyIn = copyIn;
+			this.executionEvent = executionEvent;
+			this.session = session;
+		}
+
+		@Override
+		public void addRow(Object[] jdbcValues) {
+			for ( int i = 0; i < jdbcValues.length; i++ ) {
+				if ( i > 0 ) {
+					buffer.append( '\t' );
+				}
+				appendValue( jdbcValues[i], jdbcMappings[i] );
+			}
+			buffer.append( '\n' );
+			if ( buffer.length() >= BUFFER_SIZE ) {
+				flush();
+			}
+		}
+
+		@Override
+		public long complete() {
+			flush();
+			try {
+				return Driver.end( copyIn );
+			}
+			catch (SQLException e) {
+				throw convert( e );
+			}
+			finally {
+				finish();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			try {
+				Driver.cancel( copyIn );
+			}
+			catch (SQLException e) {
+				throw convert( e );
+			}
+			finally {
+				finish();
+			}
+		}
+
+		// complete the execution event started along with the COPY, like the execution of an insert
+		private void finish() {
+			if ( !finished ) {
+				finished = true;
+				session.getEventMonitor().completeJdbcPreparedStatementExecutionEvent( executionEvent, sql );
+				session.getEventListenerManager().jdbcExecuteStatementEnd();
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+
+		private void flush() {
+			if ( !buffer.isEmpty() ) {
+				try {
+					Driver.write( copyIn, buffer.toString().getBytes( StandardCharsets.UTF_8 ) );
+				}
+				catch (SQLException e) {
+					throw convert( e );
+				}
+				buffer.setLength( 0 );
+			}
+		}
+
+		private RuntimeException convert(SQLException e) {
+			return session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "Could not execute bulk insert", sql );
+		}
+
+		@SuppressWarnings("unchecked")
+		private void appendValue(Object value, JdbcMapping jdbcMapping) {
+			if ( value == null ) {
+				buffer.append( "\\N" );
+			}
+			else {
+				final var javaType = (JavaType<Object>) jdbcMapping.getJdbcJavaType();
+				switch ( jdbcMapping.getJdbcType().getDefaultSqlTypeCode() ) {
+					case SqlTypes.BOOLEAN ->
+							buffer.append( javaType.unwrap( value, Boolean.class, session ) ? 't' : 'f' );
+					case SqlTypes.TINYINT, SqlTypes.SMALLINT, SqlTypes.INTEGER, SqlTypes.BIGINT ->
+							buffer.append( javaType.unwrap( value, Long.class, session ).longValue() );
+					case SqlTypes.REAL, SqlTypes.FLOAT, SqlTypes.DOUBLE ->
+							buffer.append( javaType.unwrap( value, Double.class, session ).doubleValue() );
+					case SqlTypes.NUMERIC, SqlTypes.DECIMAL ->
+							buffer.append( javaType.unwrap( value, BigDecimal.class, session ).toPlainString() );
+					case SqlTypes.BINARY, SqlTypes.VARBINARY, SqlTypes.LONGVARBINARY, SqlTypes.LONG32VARBINARY ->
+							// an escaped bytea literal in hex format
+							buffer.append( "\\\\x" )
+									.append( HexFormat.of().formatHex( javaType.unwrap( value, byte[].class, session ) ) );
+					case SqlTypes.DATE ->
+							appendDate( value instanceof LocalDate localDate
+									? localDate
+									: javaType.unwrap( value, Date.class, session ).toLocalDate() );
+					case SqlTypes.TIME ->
+							appendLocalTime( javaType.unwrap( value, LocalTime.class, session ) );
+					case SqlTypes.TIMESTAMP -> {
+						final var jdbcTimeZone = session.getJdbcTimeZone();
+						if ( value instanceof LocalDateTime localDateTime && jdbcTimeZone == null ) {
+							appendTimestamp( localDateTime, null );
+						}
+						else {
+							final var timestamp = javaType.unwrap( value, Timestamp.class, session );
+							appendTimestamp( jdbcTimeZone == null
+									? timestamp.toLocalDateTime()
+									: timestamp.toInstant().atZone( jdbcTimeZone.toZoneId() ).toLocalDateTime(),
+									null );
+						}
+					}
+					case SqlTypes.TIMESTAMP_WITH_TIMEZONE -> {
+						final var offsetDateTime = javaType.unwrap( value, OffsetDateTime.class, session );
+						appendTimestamp( offsetDateTime.toLocalDateTime(), offsetDateTime.getOffset() );
+					}
+					case SqlTypes.TIMESTAMP_UTC ->
+							appendTimestamp( LocalDateTime.ofInstant( javaType.unwrap( value, Instant.class, session ),
+									ZoneOffset.UTC ), ZoneOffset.UTC );
+					case SqlTypes.UUID ->
+							buffer.append( javaType.unwrap( value, UUID.class, session ) );
+					default ->
+							appendEscaped( javaType.unwrap( value, String.class, session ) );
+				}
+			}
+		}
+
+		/**
+		 * Append a timestamp in ISO format, but with a space between the date and
+		 * the time, and years before 1 AD written as {@code BC} years.
+		 */
+		private void appendTimestamp(LocalDateTime dateTime, ZoneOffset offset) {
+			final var date = dateTime.toLocalDate();
+			appendYearMonthDay( date );
+			buffer.append( ' ' );
+			appendLocalTime( dateTime.toLocalTime() );
+			if ( offset != null ) {
+				appendOffset( offset );
+			}
+			appendEra( date );
+		}
+
+		private void appendDate(LocalDate date) {
+			appendYearMonthDay( date );
+			appendEra( date );
+		}
+
+		private void appendYearMonthDay(LocalDate date) {
+			// the ISO year 0 is 1 BC, and PostgreSQL accepts years with more than four digits
+			final int year = date.getYear();
+			appendPadded( year > 0 ? year : 1 - year, 4 );
+			buffer.append( '-' );
+			appendPadded( date.getMonthValue(), 2 );
+			buffer.append( '-' );
+			appendPadded( date.getDayOfMonth(), 2 );
+		}
+
+		private void appendEra(LocalDate date) {
+			if ( date.getYear() <= 0 ) {
+				buffer.append( " BC" );
+			}
+		}
+
+		private void appendLocalTime(LocalTime time) {
+			appendPadded( time.getHour(), 2 );
+			buffer.append( ':' );
+			appendPadded( time.getMinute(), 2 );
+			buffer.append( ':' );
+			appendPadded( time.getSecond(), 2 );
+			final int nanos = time.getNano();
+			if ( nanos > 0 ) {
+				// PostgreSQL rounds the fraction to microseconds
+				final String fraction = Integer.toString( 1_000_000_000 + nanos ).substring( 1 );
+				int length = fraction.length();
+				while ( fraction.charAt( length - 1 ) == '0' ) {
+					length--;
+				}
+				buffer.append( '.' ).append( fraction, 0, length );
+			}
+		}
+
+		private void appendOffset(ZoneOffset offset) {
+			final int totalSeconds = offset.getTotalSeconds();
+			final int absoluteSeconds = Math.abs( totalSeconds );
+			buffer.append( totalSeconds < 0 ? '-' : '+' );
+			appendPadded( absoluteSeconds / 3600, 2 );
+			buffer.append( ':' );
+			appendPadded( absoluteSeconds / 60 % 60, 2 );
+			if ( absoluteSeconds % 60 != 0 ) {
+				buffer.append( ':' );
+				appendPadded( absoluteSeconds % 60, 2 );
+			}
+		}
+
+		private void appendPadded(int value, int width) {
+			final String digits = Integer.toString( value );
+			for ( int i = digits.length(); i < width; i++ ) {
+				buffer.append( '0' );
+			}
+			buffer.append( digits );
+		}
+
+		private void appendEscaped(String string) {
+			for ( int i = 0; i < string.length(); i++ ) {
+				final char c = string.charAt( i );
+				switch ( c ) {
+					case '\\' -> buffer.append( "\\\\" );
+					case '\t' -> buffer.append( "\\t" );
+					case '\n' -> buffer.append( "\\n" );
+					case '\r' -> buffer.append( "\\r" );
+					default -> buffer.append( c );
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,11 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Support for {@link org.hibernate.dialect.Dialect}-specific native bulk loading of rows.
+ *
+ * @see org.hibernate.dialect.bulk.BulkInsertSupport
+ */
+package org.hibernate.dialect.bulk;
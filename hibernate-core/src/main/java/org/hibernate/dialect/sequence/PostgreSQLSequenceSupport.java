@@ -20,6 +20,11 @@ public String getSelectSequenceNextValString(String sequenceName) {
 		return "nextval('" + sequenceName + "')";
 	}
 
+	@Override
+	public String getSequenceNextValuesString(String sequenceName) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from generate_series(1,?)";
+	}
+
 	@Override
 	public String getSelectSequencePreviousValString(String sequenceName) throws MappingException {
 		return "currval('" + sequenceName + "')";
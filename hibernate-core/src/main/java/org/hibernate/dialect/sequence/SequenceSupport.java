@@ -4,6 +4,7 @@
  */
 package org.hibernate.dialect.sequence;
 
+import org.hibernate.Incubating;
 import org.hibernate.MappingException;
 import org.hibernate.internal.util.StringHelper;
 
@@ -111,6 +112,22 @@ default String getSequenceNextValString(String sequenceName, int increment) thro
 		return getSequenceNextValString( sequenceName );
 	}
 
+	/**
+	 * Generate a select statement which retrieves several successive values
+	 * of a sequence in one round trip, one value per row, where the number of
+	 * values is given by the only JDBC parameter of the statement.
+	 *
+	 * @param sequenceName the name of the sequence
+	 * @return The select statement, or {@code null} if the values must be
+	 *         retrieved one at a time
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default String getSequenceNextValuesString(String sequenceName) {
+		return null;
+	}
+
 	/**
 	 * An optional multi-line form for databases which {@link #supportsPooledSequences()}.
 	 *
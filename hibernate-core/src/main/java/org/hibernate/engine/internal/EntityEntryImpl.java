@@ -194,6 +194,26 @@ public void setStatus(Status status) {
 		if ( currentStatus != status ) {
 			setCompressedValue( PREVIOUS_STATUS, currentStatus );
 			setCompressedValue( STATUS, status );
+			if ( persistenceContext instanceof StatefulPersistenceContext statefulPersistenceContext ) {
+				final var flushCandidates = statefulPersistenceContext.getFlushCandidates();
+				if ( flushCandidates != null ) {
+					flushCandidates.statusChanged( this, currentStatus, status );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Make this entry a candidate for the next flush, if incremental flushing is enabled.
+	 */
+	@Override
+	public void afterTrackedChange() {
+		if ( getStatus() != Status.LOADING
+				&& persistenceContext instanceof StatefulPersistenceContext statefulPersistenceContext ) {
+			final var flushCandidates = statefulPersistenceContext.getFlushCandidates();
+			if ( flushCandidates != null ) {
+				flushCandidates.add( this );
+			}
 		}
 	}
 
@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Internal;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.bytecode.enhance.spi.EnhancementInfo;
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.DefaultFlushEntityEventListener;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import jakarta.annotation.Nullable;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptableOrNull;
+import static org.hibernate.engine.internal.ManagedTypeHelper.asSelfDirtinessTracker;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * The entities of a persistence context which must be visited by the next flush,
+ * when {@linkplain org.hibernate.cfg.FlushSettings#INCREMENTAL_FLUSH incremental
+ * flushing} is enabled.
+ * <p>
+ * An entity is <em>watched</em> when its class was enhanced with inline dirty
+ * tracking reporting {@linkplain EnhancementInfo#includesChangeNotification()
+ * change notifications}, and its persister has no collections and no mutable
+ * properties. A clean watched entity is not a candidate: it is only added once
+ * its enhanced {@code $$_hibernate_trackChange()} method reports the first change
+ * via {@link EntityEntry#afterTrackedChange()}. Every other entity, and every entity
+ * which was newly added to the persistence context or whose status changed, is a
+ * candidate. After a flush, a candidate is {@linkplain #retain retained} as long
+ * as it might still be dirty or is not watched, so that the cost of a flush is
+ * proportional to the number of changed or unwatched entities, and not to the
+ * size of the persistence context.
+ *
+ * @since 8.1
+ */
+@Internal
+public final class FlushCandidates {
+
+	private static final ClassValue<Boolean> NOTIFIES_CHANGES = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for ( Class<?> current = type; current != null; current = current.getSuperclass() ) {
+				final var info = current.getAnnotation( EnhancementInfo.class );
+				if ( info != null ) {
+					return info.includesDirtyChecking() && info.includesChangeNotification();
+				}
+			}
+			return false;
+		}
+	};
+
+	private final StatefulPersistenceContext persistenceContext;
+	private LinkedHashSet<EntityEntry> entries = new LinkedHashSet<>();
+
+	FlushCandidates(StatefulPersistenceContext persistenceContext) {
+		this.persistenceContext = persistenceContext;
+	}
+
+	/**
+	 * Whether the incremental flush may be used with the given session, that is,
+	 * whether every {@code FlushEntityEventListener} is the default one, which does
+	 * nothing for a clean watched entity, and neither a custom dirtiness strategy
+	 * nor an {@link org.hibernate.Interceptor} is configured for the session or its
+	 * factory, since either might report an entity as dirty without any change
+	 * being tracked.
+	 */
+	static boolean isSupported(SharedSessionContractImplementor session) {
+		if ( !( session.getInterceptor() instanceof EmptyInterceptor ) ) {
+			return false;
+		}
+		final var factory = session.getFactory();
+		if ( !( factory.getCustomEntityDirtinessStrategy() instanceof DefaultCustomEntityDirtinessStrategy ) ) {
+			return false;
+		}
+		for ( Object listener : factory.getEventListenerGroups().eventListenerGroup_FLUSH_ENTITY.listeners() ) {
+			if ( !(listener instanceof DefaultFlushEntityEventListener) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether clean entities of the given persister need not be visited by a flush,
+	 * since any change to them is reported by {@link EntityEntry#afterTrackedChange()}.
+	 */
+	static boolean isWatched(EntityPersister persister) {
+		return !persister.hasCollections()
+			&& ( !persister.isMutable()
+				|| !persister.hasMutableProperties() && NOTIFIES_CHANGES.get( persister.getMappedClass() ) );
+	}
+
+	void entryAdded(EntityEntry entry, Status status) {
+		if ( status != Status.LOADING || !isWatched( entry.getPersister() ) ) {
+			entries.add( entry );
+		}
+	}
+
+	void statusChanged(EntityEntry entry, Status previousStatus, Status status) {
+		// a loaded entity is clean, and an unwatched one was already added
+		if ( previousStatus != Status.LOADING || status != Status.MANAGED && status != Status.READ_ONLY ) {
+			entries.add( entry );
+		}
+	}
+
+	void add(EntityEntry entry) {
+		entries.add( entry );
+	}
+
+	/**
+	 * The current candidates which are still associated with the persistence context,
+	 * along with their entity instances.
+	 */
+	public Map.Entry<Object, EntityEntry>[] entityEntries() {
+		return resolve( entries );
+	}
+
+	/**
+	 * The current candidates, as in {@link #entityEntries()}, which are removed from
+	 * this set. Any entity changed from now on will be a candidate for the next flush.
+	 *
+	 * @see #retain(Object, EntityEntry)
+	 */
+	public Map.Entry<Object, EntityEntry>[] drain() {
+		final var drained = entries;
+		entries = new LinkedHashSet<>();
+		return resolve( drained );
+	}
+
+	/**
+	 * Called once the given drained candidate was flushed, to keep it a candidate
+	 * for the next flush unless it is now a clean watched entity.
+	 */
+	public void retain(Object entity, EntityEntry entry) {
+		if ( mustRevisit( entity, entry ) ) {
+			entries.add( entry );
+		}
+	}
+
+	private static boolean mustRevisit(Object entity, EntityEntry entry) {
+		final var persister = entry.getPersister();
+		if ( !isWatched( persister ) ) {
+			return true;
+		}
+		else if ( !persister.isMutable() ) {
+			return false;
+		}
+		else {
+			return switch ( entry.getStatus() ) {
+				case MANAGED, READ_ONLY -> mightBeDirty( entity );
+				case GONE -> false;
+				default -> true;
+			};
+		}
+	}
+
+	private static boolean mightBeDirty(Object entity) {
+		if ( !isSelfDirtinessTracker( entity ) || !isManagedEntity( entity ) ) {
+			return true;
+		}
+		else {
+			final var interceptable = asPersistentAttributeInterceptableOrNull( entity );
+			// an uninitialized enhanced proxy records its own writes
+			return interceptable != null
+					&& interceptable.$$_hibernate_getInterceptor() instanceof EnhancementAsProxyLazinessInterceptor
+				|| !asManagedEntity( entity ).$$_hibernate_useTracker()
+				|| asSelfDirtinessTracker( entity ).$$_hibernate_hasDirtyAttributes();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map.Entry<Object, EntityEntry>[] resolve(LinkedHashSet<EntityEntry> candidates) {
+		final List<Map.Entry<Object, EntityEntry>> resolved = new ArrayList<>( candidates.size() );
+		for ( var entry : candidates ) {
+			final Object entity = entityOf( entry );
+			if ( entity != null ) {
+				resolved.add( Map.entry( entity, entry ) );
+			}
+		}
+		return resolved.toArray( new Map.Entry[0] );
+	}
+
+	/**
+	 * The entity instance of the given entry, or {@code null} if the entry
+	 * is no longer associated with the persistence context.
+	 */
+	private @Nullable Object entityOf(EntityEntry entry) {
+		if ( entry.getId() == null ) {
+			return null;
+		}
+		else {
+			final Object entity = persistenceContext.getEntity( entry.getEntityKey() );
+			return entity != null && persistenceContext.getEntry( entity ) == entry ? entity : null;
+		}
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	void clear() {
+		entries.clear();
+	}
+}
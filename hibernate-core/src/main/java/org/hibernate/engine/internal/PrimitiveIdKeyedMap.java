@@ -0,0 +1,677 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * {@link Map} implementation used by the {@link StatefulPersistenceContext} for entries
+ * keyed by {@link EntityKey} or {@link CollectionKey}, when
+ * {@value org.hibernate.cfg.PersistenceSettings#PRIMITIVE_ID_PERSISTENCE_CONTEXT} is enabled.
+ * <p>
+ * Keys whose identifier is a plain {@code long} or {@code int} are stored in one
+ * open-addressing table per entity hierarchy, or per collection role, where the slot
+ * is determined by the primitive identifier value alone. Lookups therefore never call
+ * {@link Type#isEqual} and insertions don't allocate a hash map node.
+ * Any other key, for example a composite identifier or a temporal key, is stored in
+ * a regular {@link HashMap}.
+ * <p>
+ * Removed slots are marked with a tombstone rather than shifting the following
+ * entries, so that removing through an iterator doesn't disturb the iteration.
+ * Tombstones are purged whenever a table is rehashed.
+ *
+ * @see org.hibernate.boot.spi.SessionFactoryOptions#isPrimitiveIdPersistenceContextEnabled
+ *
+ * @since 8.1
+ */
+public abstract class PrimitiveIdKeyedMap<K, V> extends AbstractMap<K, V> {
+	private static final Object TOMBSTONE = new Object();
+	private static final int MIN_CAPACITY = 16;
+
+	// tables by partition source (persister or role), for the common case of identical instances
+	private final IdentityHashMap<Object, Table> tablesBySource = new IdentityHashMap<>();
+	// tables by partition name (root entity name or role)
+	private final HashMap<String, Table> tablesByName = new HashMap<>();
+	// the number of entries the map was created for, spread over its tables
+	private final int expectedSize;
+	private @Nullable Object lastSource;
+	private @Nullable Table lastTable;
+
+	private @Nullable HashMap<K, V> others;
+	private int size;
+	private int modCount;
+
+	private @Nullable Set<Entry<K, V>> entrySet;
+
+	PrimitiveIdKeyedMap(int expectedSize) {
+		this.expectedSize = expectedSize;
+	}
+
+	/**
+	 * Create a map for {@link EntityKey}s, partitioned by entity hierarchy.
+	 *
+	 * @param expectedSize The number of entries the map is expected to hold
+	 */
+	public static <V> PrimitiveIdKeyedMap<EntityKey, V> forEntityKeys(int expectedSize) {
+		return new EntityKeyMap<>( expectedSize );
+	}
+
+	/**
+	 * Create a map for {@link CollectionKey}s, partitioned by collection role.
+	 *
+	 * @param expectedSize The number of entries the map is expected to hold
+	 */
+	public static <V> PrimitiveIdKeyedMap<CollectionKey, V> forCollectionKeys(
+			SessionFactoryImplementor factory,
+			int expectedSize) {
+		return new CollectionKeyMap<>( factory, expectedSize );
+	}
+
+	/**
+	 * The given object as a key of this map, or {@code null} if it is of the wrong type.
+	 */
+	abstract @Nullable K asKey(Object object);
+
+	/**
+	 * The identifier held by the given key, or {@code null} if the key
+	 * can never be stored in a table, for example a temporal key.
+	 */
+	abstract @Nullable Object primitiveIdCandidate(K key);
+
+	/**
+	 * The object that determines the table of the given key, compared by identity.
+	 */
+	abstract Object source(K key);
+
+	/**
+	 * The name of the table for the given source, compared by equality.
+	 */
+	abstract String partitionName(Object source);
+
+	/**
+	 * The class of the identifiers stored in the table for the given source,
+	 * or {@code null} if the keys of this source can't be stored in a table.
+	 */
+	abstract @Nullable Class<?> primitiveIdClass(Object source);
+
+	/**
+	 * Determine the class of the identifiers compared using the given type,
+	 * if they are plain {@link Long} or {@link Integer} values compared by
+	 * {@link Object#equals}.
+	 */
+	static @Nullable Class<?> primitiveIdClass(@Nullable Type type) {
+		if ( type instanceof BasicType<?> basicType && basicType.getValueConverter() == null ) {
+			final var javaTypeClass = basicType.getJavaTypeDescriptor().getClass();
+			if ( javaTypeClass == LongJavaType.class ) {
+				return Long.class;
+			}
+			else if ( javaTypeClass == IntegerJavaType.class ) {
+				return Integer.class;
+			}
+		}
+		return null;
+	}
+
+	private @Nullable Table table(K key, @Nullable Object id, boolean create) {
+		if ( id == null ) {
+			return null;
+		}
+		final Object source = source( key );
+		final Table table;
+		if ( source == lastSource ) {
+			table = lastTable;
+		}
+		else {
+			table = tableForSource( source, create );
+			if ( table == null ) {
+				return null;
+			}
+			lastSource = source;
+			lastTable = table;
+		}
+		// an identifier of the wrong class is never equal to the ones in the table
+		return table.idClass == id.getClass() ? table : null;
+	}
+
+	private @Nullable Table tableForSource(Object source, boolean create) {
+		final var table = tablesBySource.get( source );
+		if ( table != null ) {
+			return table;
+		}
+		final String name = partitionName( source );
+		final var namedTable = tablesByName.get( name );
+		if ( namedTable != null ) {
+			tablesBySource.put( source, namedTable );
+			return namedTable;
+		}
+		else if ( create ) {
+			// the entries not yet added might all belong to the new table,
+			// for example when a persistence context is deserialized
+			final var newTable = new Table( primitiveIdClass( source ), expectedSize - size );
+			tablesByName.put( name, newTable );
+			tablesBySource.put( source, newTable );
+			return newTable;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static long primitiveId(Object id) {
+		return id instanceof Integer integer ? integer : (Long) id;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object object) {
+		final K key = asKey( object );
+		if ( key == null ) {
+			return false;
+		}
+		final Object id = primitiveIdCandidate( key );
+		final var table = table( key, id, false );
+		if ( table != null ) {
+			return table.find( primitiveId( id ) ) >= 0;
+		}
+		else {
+			return others != null && others.containsKey( key );
+		}
+	}
+
+	@Override
+	public @Nullable V get(Object object) {
+		final K key = asKey( object );
+		if ( key == null ) {
+			return null;
+		}
+		final Object id = primitiveIdCandidate( key );
+		final var table = table( key, id, false );
+		if ( table != null ) {
+			final int slot = table.find( primitiveId( id ) );
+			return slot < 0 ? null : table.value( slot );
+		}
+		else {
+			return others == null ? null : others.get( key );
+		}
+	}
+
+	@Override
+	public @Nullable V put(K key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(K key, V value) {
+		return put( key, value, true );
+	}
+
+	private @Nullable V put(K key, V value, boolean onlyIfAbsent) {
+		final Object id = primitiveIdCandidate( key );
+		final var table = table( key, id, true );
+		if ( table != null ) {
+			final int sizeBefore = table.size;
+			final V previous = table.put( primitiveId( id ), key, value, onlyIfAbsent );
+			if ( table.size != sizeBefore ) {
+				size++;
+				modCount++;
+			}
+			return previous;
+		}
+		else {
+			if ( others == null ) {
+				others = new HashMap<>();
+			}
+			final int sizeBefore = others.size();
+			final V previous = onlyIfAbsent ? others.putIfAbsent( key, value ) : others.put( key, value );
+			if ( others.size() != sizeBefore ) {
+				size++;
+				modCount++;
+			}
+			return previous;
+		}
+	}
+
+	@Override
+	public @Nullable V remove(Object object) {
+		final K key = asKey( object );
+		if ( key == null ) {
+			return null;
+		}
+		final Object id = primitiveIdCandidate( key );
+		final var table = table( key, id, false );
+		if ( table != null ) {
+			final int slot = table.find( primitiveId( id ) );
+			if ( slot < 0 ) {
+				return null;
+			}
+			final V previous = table.value( slot );
+			table.removeSlot( slot );
+			size--;
+			modCount++;
+			return previous;
+		}
+		else if ( others != null && others.containsKey( key ) ) {
+			size--;
+			modCount++;
+			return others.remove( key );
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void clear() {
+		tablesBySource.clear();
+		tablesByName.clear();
+		lastSource = null;
+		lastTable = null;
+		others = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Open-addressing table with linear probing, keyed by the primitive identifier value.
+	 * The original key is kept alongside the value, and a {@code null} key marks a free slot.
+	 */
+	private static final class Table {
+		private final @Nullable Class<?> idClass;
+		private long[] ids;
+		private Object[] keys;
+		private Object[] values;
+		private int shift;
+		private int size;
+		private int tombstones;
+
+		private Table(@Nullable Class<?> idClass, int expectedSize) {
+			this.idClass = idClass;
+			allocate( capacity( expectedSize ) );
+		}
+
+		/**
+		 * The smallest capacity holding the given number of entries without a rehash.
+		 */
+		private static int capacity(int expectedSize) {
+			if ( expectedSize * 4L <= MIN_CAPACITY * 3L ) {
+				return MIN_CAPACITY;
+			}
+			final long minCapacity = ( expectedSize * 4L + 2 ) / 3;
+			return (int) Math.min( Long.highestOneBit( minCapacity - 1 ) << 1, 1 << 30 );
+		}
+
+		private void allocate(int capacity) {
+			ids = new long[capacity];
+			keys = new Object[capacity];
+			values = new Object[capacity];
+			shift = Long.numberOfLeadingZeros( capacity - 1 );
+		}
+
+		private int slot(long id) {
+			// Fibonacci hashing spreads sequential identifiers across the table
+			return (int) ( ( id * 0x9E3779B97F4A7C15L ) >>> shift );
+		}
+
+		private int find(long id) {
+			final int mask = keys.length - 1;
+			int slot = slot( id );
+			while ( true ) {
+				final Object key = keys[slot];
+				if ( key == null ) {
+					return -1;
+				}
+				else if ( key != TOMBSTONE && ids[slot] == id ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private <V> V value(int slot) {
+			return (V) values[slot];
+		}
+
+		private <V> @Nullable V put(long id, Object key, V value, boolean onlyIfAbsent) {
+			final int mask = keys.length - 1;
+			int slot = slot( id );
+			int free = -1;
+			while ( true ) {
+				final Object existing = keys[slot];
+				if ( existing == null ) {
+					break;
+				}
+				else if ( existing == TOMBSTONE ) {
+					if ( free < 0 ) {
+						free = slot;
+					}
+				}
+				else if ( ids[slot] == id ) {
+					final V previous = value( slot );
+					if ( !onlyIfAbsent || previous == null ) {
+						values[slot] = value;
+					}
+					return previous;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			if ( free >= 0 ) {
+				slot = free;
+				tombstones--;
+			}
+			ids[slot] = id;
+			keys[slot] = key;
+			values[slot] = value;
+			size++;
+			if ( ( size + tombstones ) * 4 > keys.length * 3 ) {
+				rehash();
+			}
+			return null;
+		}
+
+		private void removeSlot(int slot) {
+			keys[slot] = TOMBSTONE;
+			values[slot] = null;
+			size--;
+			tombstones++;
+		}
+
+		private void rehash() {
+			final long[] oldIds = ids;
+			final Object[] oldKeys = keys;
+			final Object[] oldValues = values;
+			// only grow if the table is really filling up, not just full of tombstones
+			allocate( size * 2 > oldKeys.length ? oldKeys.length * 2 : oldKeys.length );
+			tombstones = 0;
+			final int mask = keys.length - 1;
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				final Object key = oldKeys[i];
+				if ( key != null && key != TOMBSTONE ) {
+					int slot = slot( oldIds[i] );
+					while ( keys[slot] != null ) {
+						slot = ( slot + 1 ) & mask;
+					}
+					ids[slot] = oldIds[i];
+					keys[slot] = key;
+					values[slot] = oldValues[i];
+				}
+			}
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			PrimitiveIdKeyedMap.this.clear();
+		}
+	}
+
+	private final class TableEntry implements Entry<K, V> {
+		private final Table table;
+		private final K key;
+		private final long id;
+		private int slot;
+
+		private TableEntry(Table table, int slot, K key) {
+			this.table = table;
+			this.slot = slot;
+			this.key = key;
+			this.id = table.ids[slot];
+		}
+
+		private int slot() {
+			// the table might have been rehashed since the entry was returned
+			if ( table.keys[slot] != key ) {
+				slot = table.find( id );
+			}
+			return slot;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public @Nullable V getValue() {
+			final int slot = slot();
+			return slot < 0 ? null : table.value( slot );
+		}
+
+		@Override
+		public V setValue(V value) {
+			final int slot = slot();
+			if ( slot < 0 ) {
+				throw new IllegalStateException( "Entry was removed from the map" );
+			}
+			final V previous = table.value( slot );
+			table.values[slot] = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Entry<?, ?> entry
+				&& key.equals( entry.getKey() )
+				&& Objects.equals( getValue(), entry.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<K, V>> {
+		private final Iterator<Table> tables = new ArrayList<>( tablesByName.values() ).iterator();
+		private @Nullable Table table;
+		private int slot = -1;
+		// the next entry from a table, the entries of the other keys come straight from their iterator
+		private @Nullable TableEntry next;
+		private @Nullable Iterator<Entry<K, V>> othersIterator;
+		private @Nullable Entry<K, V> current;
+		private boolean currentFromTable;
+		private int expectedModCount = modCount;
+
+		private EntryIterator() {
+			advanceInTables();
+		}
+
+		@SuppressWarnings("unchecked")
+		private void advanceInTables() {
+			next = null;
+			while ( true ) {
+				if ( table != null ) {
+					final Object[] keys = table.keys;
+					while ( ++slot < keys.length ) {
+						final Object key = keys[slot];
+						if ( key != null && key != TOMBSTONE ) {
+							next = new TableEntry( table, slot, (K) key );
+							return;
+						}
+					}
+				}
+				if ( tables.hasNext() ) {
+					table = tables.next();
+					slot = -1;
+				}
+				else {
+					table = null;
+					othersIterator = others == null ? null : others.entrySet().iterator();
+					return;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null || othersIterator != null && othersIterator.hasNext();
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next != null ) {
+				current = next;
+				currentFromTable = true;
+				advanceInTables();
+			}
+			else if ( othersIterator != null ) {
+				current = othersIterator.next();
+				currentFromTable = false;
+			}
+			else {
+				throw new NoSuchElementException();
+			}
+			return current;
+		}
+
+		@Override
+		public void remove() {
+			if ( current == null ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( currentFromTable ) {
+				// tombstones leave the remaining slots in place
+				final var tableEntry = (TableEntry) current;
+				tableEntry.table.removeSlot( tableEntry.slot() );
+			}
+			else {
+				othersIterator.remove();
+			}
+			current = null;
+			size--;
+			expectedModCount = ++modCount;
+		}
+	}
+
+	private static final class EntityKeyMap<V> extends PrimitiveIdKeyedMap<EntityKey, V> {
+		private EntityKeyMap(int expectedSize) {
+			super( expectedSize );
+		}
+
+		@Override
+		@Nullable EntityKey asKey(Object object) {
+			return object instanceof EntityKey entityKey ? entityKey : null;
+		}
+
+		@Override
+		@Nullable Object primitiveIdCandidate(EntityKey key) {
+			// temporal keys are also distinguished by their changeset id
+			return key.getClass() == EntityKey.class ? key.getIdentifier() : null;
+		}
+
+		@Override
+		Object source(EntityKey key) {
+			return key.getPersister();
+		}
+
+		@Override
+		String partitionName(Object source) {
+			return ( (EntityPersister) source ).getRootEntityName();
+		}
+
+		@Override
+		@Nullable Class<?> primitiveIdClass(Object source) {
+			final var persister = (EntityPersister) source;
+			return primitiveIdClass( persister.getIdentifierType().getTypeForEqualsHashCode() );
+		}
+	}
+
+	private static final class CollectionKeyMap<V> extends PrimitiveIdKeyedMap<CollectionKey, V> {
+		private final SessionFactoryImplementor factory;
+
+		private CollectionKeyMap(SessionFactoryImplementor factory, int expectedSize) {
+			super( expectedSize );
+			this.factory = factory;
+		}
+
+		@Override
+		@Nullable CollectionKey asKey(Object object) {
+			return object instanceof CollectionKey collectionKey ? collectionKey : null;
+		}
+
+		@Override
+		@Nullable Object primitiveIdCandidate(CollectionKey key) {
+			// temporal keys are also distinguished by their changeset id
+			return key.getClass() == CollectionKey.class ? key.getKey() : null;
+		}
+
+		@Override
+		Object source(CollectionKey key) {
+			return key.getRole();
+		}
+
+		@Override
+		String partitionName(Object source) {
+			return (String) source;
+		}
+
+		@Override
+		@SuppressWarnings("removal") // same type as used by CollectionKey for equality
+		@Nullable Class<?> primitiveIdClass(Object source) {
+			final var persister = factory.getMappingMetamodel().findCollectionDescriptor( (String) source );
+			return persister == null ? null : primitiveIdClass( persister.getKeyType().getTypeForEqualsHashCode() );
+		}
+	}
+}
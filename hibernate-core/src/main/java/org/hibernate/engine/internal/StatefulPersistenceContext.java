@@ -117,7 +117,7 @@ public Object readResolve() {
 	// costs are very often the dominating cost of an application using ORM.
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -127,7 +127,7 @@ public Object readResolve() {
 
 	// Snapshots of the current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -139,7 +139,7 @@ public Object readResolve() {
 	private transient int currentCollectionInstanceId = 1;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private Map<CollectionKey, PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -168,6 +168,9 @@ public Object readResolve() {
 	private boolean flushing;
 	private @Nullable CollectionFlushActionTracker collectionFlushActionTracker;
 
+	// Entities to visit during the next flush, when flushing incrementally
+	private final @Nullable FlushCandidates flushCandidates;
+
 	private boolean defaultReadOnly;
 	private boolean hasNonReadOnlyEntities;
 
@@ -182,15 +185,37 @@ public Object readResolve() {
 	StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.flushCandidates = isIncrementalFlushEnabled() ? new FlushCandidates( this ) : null;
 	}
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = entityKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	private <V> Map<EntityKey, V> entityKeyMapOfSize(int size) {
+		return isPrimitiveIdStorageEnabled()
+				? PrimitiveIdKeyedMap.forEntityKeys( size )
+				: mapOfSize( size );
+	}
+
+	private <V> Map<CollectionKey, V> collectionKeyMapOfSize(int size) {
+		return isPrimitiveIdStorageEnabled()
+				? PrimitiveIdKeyedMap.forCollectionKeys( session.getFactory(), size )
+				: mapOfSize( size );
+	}
+
+	private boolean isPrimitiveIdStorageEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isPrimitiveIdPersistenceContextEnabled();
+	}
+
+	private boolean isIncrementalFlushEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled()
+			&& FlushCandidates.isSupported( session );
+	}
+
 	private EntityHolderImpl getOrInitializeNewHolder() {
 		if ( newEntityHolder == null ) {
 			return newEntityHolder = new EntityHolderImpl();
@@ -263,6 +288,9 @@ public void clear() {
 		entitiesByKey = null;
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
+		if ( flushCandidates != null ) {
+			flushCandidates.clear();
+		}
 		parentsByChild = null;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
@@ -670,6 +698,9 @@ public EntityEntry addEntry(
 				);
 		entityEntryContext.addEntityEntry( entity, entityEntry );
 		setHasNonReadOnlyEntities( status );
+		if ( flushCandidates != null ) {
+			flushCandidates.entryAdded( entityEntry, status );
+		}
 		return entityEntry;
 	}
 
@@ -681,6 +712,9 @@ public EntityEntry addReferenceEntry(
 		entityEntry.setStatus( status );
 		entityEntryContext.addEntityEntry( entity, entityEntry );
 		setHasNonReadOnlyEntities( status );
+		if ( flushCandidates != null ) {
+			flushCandidates.entryAdded( entityEntry, status );
+		}
 		return entityEntry;
 	}
 
@@ -1274,7 +1308,7 @@ public Map<EntityKey, Object> getEntitySnapshotsByKey() {
 	@Override
 	public Map<EntityKey, Object> getOrInitializeEntitySnapshotsByKey() {
 		if ( entitySnapshotsByKey == null ) {
-			entitySnapshotsByKey = mapOfSize( INIT_COLL_SIZE );
+			entitySnapshotsByKey = entityKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return entitySnapshotsByKey;
 	}
@@ -1396,6 +1430,11 @@ public void setFlushing(boolean flushing) {
 		return collectionFlushActionTracker;
 	}
 
+	@Override
+	public @Nullable FlushCandidates getFlushCandidates() {
+		return flushCandidates;
+	}
+
 	@Override
 	public void setCollectionFlushActionTracker(@Nullable CollectionFlushActionTracker collectionFlushActionTracker) {
 		this.collectionFlushActionTracker = collectionFlushActionTracker;
@@ -1943,7 +1982,7 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 				if ( traceEnabled ) {
 					PERSISTENCE_CONTEXT_LOGGER.startingDeserializationOfEntries( count, "entitySnapshotsByKey" );
 				}
-				context.entitySnapshotsByKey = mapOfSize( Math.max( count, INIT_COLL_SIZE ) );
+				context.entitySnapshotsByKey = context.entityKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 				for ( int i = 0; i < count; i++ ) {
 					context.entitySnapshotsByKey.put( EntityKey.deserialize( ois, factory ), ois.readObject() );
 				}
@@ -1956,7 +1995,7 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 				if ( traceEnabled ) {
 					PERSISTENCE_CONTEXT_LOGGER.startingDeserializationOfEntries( count, "entitiesByKey" );
 				}
-				context.entitiesByKey = mapOfSize( Math.max( count, INIT_COLL_SIZE ) );
+				context.entitiesByKey = context.entityKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 				final var metamodel = factory.getMappingMetamodel();
 				for ( int i = 0; i < count; i++ ) {
 					final var entityKey = EntityKey.deserialize( ois, factory );
@@ -1989,7 +2028,7 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 				if ( traceEnabled ) {
 					PERSISTENCE_CONTEXT_LOGGER.startingDeserializationOfEntries( count, "collectionsByKey" );
 				}
-				context.collectionsByKey = mapOfSize( Math.max( count, INIT_COLL_SIZE ) );
+				context.collectionsByKey = context.collectionKeyMapOfSize( Math.max( count, INIT_COLL_SIZE ) );
 				for ( int i = 0; i < count; i++ ) {
 					context.collectionsByKey.put( CollectionKey.deserialize( ois, session ),
 							(PersistentCollection<?>) ois.readObject() );
@@ -2050,6 +2089,13 @@ public static StatefulPersistenceContext deserialize(ObjectInputStream ois, Sess
 			throw new InvalidObjectException( he.getMessage() );
 		}
 
+		if ( context.flushCandidates != null ) {
+			// the deserialized entities were not tracked
+			for ( var entry : context.reentrantSafeEntityEntries() ) {
+				context.flushCandidates.add( entry.getValue() );
+			}
+		}
+
 		return context;
 	}
 
@@ -2178,7 +2224,7 @@ public void clearCollectionsByKey() {
 	@Override
 	public PersistentCollection<?> addCollectionByKey(CollectionKey collectionKey, PersistentCollection<?> collection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = mapOfSize( INIT_COLL_SIZE );
+			collectionsByKey = collectionKeyMapOfSize( INIT_COLL_SIZE );
 		}
 		return collectionsByKey.put( collectionKey, collection );
 	}
@@ -31,6 +31,7 @@
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,11 +40,26 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildGroupedBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildGroupedBatch}
+	 * @param multiRowInserts Whether batched inserts should be executed
+	 * as multi-row inserts, when the database supports them
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
 		if ( globalBatchSize > 1 ) {
 			BATCH_MESSAGE_LOGGER.batchingEnabled( globalBatchSize );
 		}
 		BATCH_MESSAGE_LOGGER.usingStandardBatchBuilder();
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
 	}
 
 	public int getJdbcBatchSize() {
@@ -64,7 +80,7 @@ public GroupedBatch buildGroupedBatch(
 			JdbcCoordinator jdbcCoordinator) {
 		final int batchSize = batchSize( explicitBatchSize );
 		assert batchSize > 1;
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, multiRowInserts, jdbcCoordinator );
 	}
 
 	@Override
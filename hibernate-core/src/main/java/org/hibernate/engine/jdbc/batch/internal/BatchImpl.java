@@ -4,15 +4,20 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityExistsException;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
 import org.hibernate.StatementObserver;
+import org.hibernate.action.queue.spi.bind.DelayedValueAccess;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.batch.spi.GroupedBatch;
@@ -21,12 +26,16 @@
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.exception.ConstraintViolationException;
 import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+import org.hibernate.type.descriptor.ValueBinder;
 
 import static java.util.Objects.requireNonNull;
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_LOGGER;
@@ -36,6 +45,12 @@
 /**
  * Standard implementation of
  * {@link org.hibernate.engine.jdbc.batch.spi.Batch}.
+ * <p>
+ * When {@linkplain org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS enabled},
+ * the rows of an insert are not added to the JDBC batch of its statement.
+ * Instead, their values are kept until the batch is executed, and then inserted
+ * by a single {@code insert into ... values (...), (...)} statement, or by a few
+ * such statements if the rows exceed the limit of the database.
  *
  * @author Steve Ebersole
  */
@@ -55,11 +70,31 @@ public class BatchImpl implements GroupedBatch {
 	private boolean batchExecuted;
 	private StaleStateMapper[] staleStateMappers;
 
+	// the rows of the statements executed as multi-row inserts, by table name,
+	// with a null value for the tables whose statements are batched by JDBC,
+	// or null if multi-row inserts are disabled
+	private final @Nullable Map<String, PendingRows> multiRowInsertRows;
+
 	public BatchImpl(
 			BatchKey key,
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, false, jdbcCoordinator );
+	}
+
+	/**
+	 * @param multiRowInserts Whether inserts should be executed as multi-row
+	 * inserts when the database supports them
+	 *
+	 * @since 8.1
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			boolean multiRowInserts,
+			JdbcCoordinator jdbcCoordinator) {
 		requireNonNull( key, "Batch key cannot be null" );
 		requireNonNull( jdbcCoordinator, "JDBC coordinator cannot be null" );
 
@@ -73,6 +108,14 @@ public BatchImpl(
 		statementObserver = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getStatementObserver();
 		sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
+		multiRowInsertRows =
+				multiRowInserts
+						&& batchSizeToUse > 1
+						&& jdbcServices.getDialect().supportsMultiRowInsert()
+						&& jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor
+						? new HashMap<>()
+						: null;
+
 		if ( BATCH_MESSAGE_LOGGER.isTraceEnabled() ) {
 			BATCH_MESSAGE_LOGGER.createBatch(
 					batchSizeToUse,
@@ -140,6 +183,17 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 							statementDetails.getMutatingTableDetails().getTableName(),
 							batchPosition+1
 					);
+					final var pendingRows = pendingRows( tableName, statementDetails );
+					if ( pendingRows != null ) {
+						try {
+							pendingRows.add( jdbcValueBindings.getBindingGroup(
+									statementDetails.getMutatingTableDetails().getTableName() ) );
+						}
+						finally {
+							jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+						}
+						return;
+					}
 					//noinspection resource
 					final var statement = statementDetails.resolveStatement();
 					final String sqlString = statementDetails.getSqlString();
@@ -176,6 +230,53 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 
 	protected void releaseStatements() {
 		statementGroup.release();
+		if ( multiRowInsertRows != null ) {
+			for ( var pendingRows : multiRowInsertRows.values() ) {
+				if ( pendingRows != null ) {
+					pendingRows.clear();
+				}
+			}
+		}
+	}
+
+	/**
+	 * The rows to insert using a multi-row insert, or {@code null} if the given
+	 * statement is batched by JDBC.
+	 */
+	private @Nullable PendingRows pendingRows(String tableName, PreparedStatementDetails statementDetails) {
+		if ( multiRowInsertRows == null ) {
+			return null;
+		}
+		else if ( multiRowInsertRows.containsKey( tableName ) ) {
+			return multiRowInsertRows.get( tableName );
+		}
+		else {
+			final var pendingRows = createPendingRows( statementDetails );
+			multiRowInsertRows.put( tableName, pendingRows );
+			return pendingRows;
+		}
+	}
+
+	private @Nullable PendingRows createPendingRows(PreparedStatementDetails statementDetails) {
+		final var insert = statementDetails.getMultiRowInsert();
+		if ( insert != null && !insert.isCallable() ) {
+			final var expectation = statementDetails.getExpectation();
+			final int parameterCount = insert.getParameterBinders().size();
+			// the total row count can only be checked for expectations of one row per insert
+			final boolean rowCountChecked = expectation.getClass() == Expectation.RowCount.class;
+			if ( parameterCount > 0 && ( rowCountChecked || expectation instanceof Expectation.None ) ) {
+				final int rowLimit =
+						jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices()
+								.getDialect().getMultiRowInsertRowLimit( parameterCount );
+				final int maxRows = rowLimit > 0 ? Math.min( rowLimit, batchSizeToUse ) : batchSizeToUse;
+				if ( maxRows > 1 ) {
+					final boolean identifierTable = statementDetails.getMutatingTableDetails().isIdentifierTable();
+					return new PendingRows( insert, parameterCount, maxRows, identifierTable,
+							rowCountChecked && identifierTable, batchSizeToUse );
+				}
+			}
+		}
+		return null;
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -260,7 +361,21 @@ protected void performExecution() {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
 				final var statement = statementDetails.getStatement();
-				if ( statement != null ) {
+				final var pendingRows = multiRowInsertRows == null ? null : multiRowInsertRows.get( tableName );
+				if ( pendingRows != null ) {
+					try {
+						executeMultiRowInserts( pendingRows );
+					}
+					catch (SQLException e) {
+						abortBatch( e );
+						throw convertBatchException( sqlExceptionHelper.convert( e, "could not execute batch", sql ) );
+					}
+					catch (RuntimeException re) {
+						abortBatch( re );
+						throw convertBatchException( re );
+					}
+				}
+				else if ( statement != null ) {
 					try {
 						if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
 							final var eventMonitor = jdbcSessionOwner.getEventMonitor();
@@ -303,6 +418,66 @@ protected void performExecution() {
 		}
 	}
 
+	private void executeMultiRowInserts(PendingRows pendingRows) throws SQLException {
+		try {
+			for ( int firstRow = 0; firstRow < pendingRows.size; firstRow += pendingRows.maxRowsPerStatement ) {
+				executeMultiRowInsert( pendingRows, firstRow,
+						Math.min( pendingRows.maxRowsPerStatement, pendingRows.size - firstRow ) );
+			}
+		}
+		finally {
+			pendingRows.clear();
+		}
+	}
+
+	private void executeMultiRowInsert(PendingRows pendingRows, int firstRow, int numberOfRows)
+			throws SQLException {
+		final var session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		final String sql = pendingRows.insert.getMultiRowSqlString( numberOfRows, session.getFactory() );
+		sqlStatementLogger.logStatement( sql );
+		statementObserver.performingSql( sql, -1 );
+		final var statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		try {
+			pendingRows.bind( statement, firstRow, numberOfRows, session );
+			final int rowCount =
+					pendingRows.identifierTable
+							? executeIdentifierTableInsert( statement, sql )
+							: jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			// a negative row count means that the driver does not know it
+			if ( pendingRows.rowCountChecked && rowCount >= 0 && rowCount != numberOfRows ) {
+				throw new StaleStateException( "Multi-row insert returned unexpected row count (expected row count "
+						+ numberOfRows + " but was " + rowCount + ") [" + sql + "]" );
+			}
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
+	/**
+	 * Execute a multi-row insert into the identifier table, reporting it to the
+	 * event monitor as a batch execution, just like {@link #performExecution()}
+	 * reports the JDBC batch of the identifier table.
+	 */
+	private int executeIdentifierTableInsert(PreparedStatement statement, String sql) throws SQLException {
+		final var jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final var eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		final var eventMonitor = jdbcSessionOwner.getEventMonitor();
+		final var executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+		try {
+			eventHandler.jdbcExecuteBatchStart();
+			return statement.executeUpdate();
+		}
+		catch (SQLException sqle) {
+			jdbcCoordinator.afterFailedStatementExecution( sqle );
+			throw sqle;
+		}
+		finally {
+			eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+			eventHandler.jdbcExecuteBatchEnd();
+		}
+	}
+
 	private RuntimeException convertBatchException(RuntimeException exception) {
 		return jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor session
 			&& session.getFactory().getSessionFactoryOptions().isJpaBootstrap()
@@ -352,7 +527,8 @@ public void release() {
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
 			final var statementGroup = getStatementGroup();
 			if ( statementGroup.getNumberOfStatements() > 0
-					&& statementGroup.hasMatching( statementDetails -> statementDetails.getStatement() != null ) ) {
+					&& ( statementGroup.hasMatching( statementDetails -> statementDetails.getStatement() != null )
+							|| hasPendingRows() ) ) {
 				BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
 			}
 		}
@@ -360,8 +536,88 @@ public void release() {
 		observers.clear();
 	}
 
+	private boolean hasPendingRows() {
+		if ( multiRowInsertRows != null ) {
+			for ( var pendingRows : multiRowInsertRows.values() ) {
+				if ( pendingRows != null && pendingRows.size > 0 ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return "BatchImpl(" + getKey().toLoggableString() + ")";
 	}
+
+	/**
+	 * The JDBC values of the rows of a multi-row insert, captured when the rows
+	 * are added to the batch, with the values of each row stored at consecutive
+	 * positions.
+	 */
+	private static final class PendingRows {
+		private final JdbcInsertMutation insert;
+		private final int parameterCount;
+		private final int maxRowsPerStatement;
+		private final boolean identifierTable;
+		private final boolean rowCountChecked;
+		private final Object[] values;
+		private final ValueBinder<?>[] valueBinders;
+		private int size;
+
+		private PendingRows(
+				JdbcInsertMutation insert,
+				int parameterCount,
+				int maxRowsPerStatement,
+				boolean identifierTable,
+				boolean rowCountChecked,
+				int batchSize) {
+			this.insert = insert;
+			this.parameterCount = parameterCount;
+			this.maxRowsPerStatement = maxRowsPerStatement;
+			this.identifierTable = identifierTable;
+			this.rowCountChecked = rowCountChecked;
+			this.values = new Object[batchSize * parameterCount];
+			this.valueBinders = new ValueBinder<?>[batchSize * parameterCount];
+		}
+
+		private void add(@Nullable BindingGroup bindingGroup) {
+			if ( bindingGroup != null ) {
+				final int offset = size * parameterCount;
+				for ( var binding : bindingGroup.getBindings() ) {
+					assert binding.getPosition() <= parameterCount;
+					final int index = offset + binding.getPosition() - 1;
+					// unwrap delayed value accessors, as when binding the values to the statement
+					final Object value = binding.getValue();
+					values[index] = value instanceof DelayedValueAccess handle ? handle.get() : value;
+					valueBinders[index] = binding.getValueBinder();
+				}
+			}
+			size++;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void bind(
+				PreparedStatement statement,
+				int firstRow,
+				int numberOfRows,
+				SharedSessionContractImplementor session)
+						throws SQLException {
+			final int offset = firstRow * parameterCount;
+			for ( int i = 0; i < numberOfRows * parameterCount; i++ ) {
+				final var valueBinder = (ValueBinder<Object>) valueBinders[offset + i];
+				if ( valueBinder != null ) {
+					valueBinder.bind( statement, values[offset + i], i + 1, session );
+				}
+			}
+		}
+
+		private void clear() {
+			Arrays.fill( values, 0, size * parameterCount, null );
+			Arrays.fill( valueBinders, 0, size * parameterCount, null );
+			size = 0;
+		}
+	}
 }
@@ -66,6 +66,8 @@
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS, 0 to fail immediately when the pool is exhausted
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -104,6 +106,7 @@ private PooledConnections buildPool(Map<String,Object> configuration, ServiceReg
 		final int minSize = getInt( MIN_SIZE, configuration, 1 );
 		final int maxSize = getInt( POOL_SIZE, configuration, 20 );
 		final int initialSize = getInt( INITIAL_SIZE, configuration, minSize );
+		final long acquisitionTimeout = getLong( ACQUISITION_TIMEOUT, configuration, 0 );
 
 		if ( loginTimeout!= null ) {
 			DriverManager.setLoginTimeout( loginTimeout );
@@ -160,6 +163,7 @@ private PooledConnections buildPool(Map<String,Object> configuration, ServiceReg
 				.initialSize( initialSize )
 				.minSize( minSize )
 				.maxSize( maxSize )
+				.acquisitionTimeout( acquisitionTimeout )
 				.validator( this )
 				.build();
 	}
@@ -9,7 +9,11 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hibernate.internal.log.ConnectionInfoLogger.CONNECTION_INFO_LOGGER;
 
 class PooledConnections {
@@ -20,12 +24,21 @@ class PooledConnections {
 
 	private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 	private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+	// the number of connections in allConnections, plus those being created
+	private final AtomicInteger connectionCount = new AtomicInteger();
+
+	// threads waiting for a connection park on a j.u.c. lock, rather than
+	// on a monitor, so that virtual threads do not pin their carrier
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition connectionAvailable = lock.newCondition();
+	private final AtomicInteger waiters = new AtomicInteger();
 
 	private final ConnectionCreator connectionCreator;
 	private final ConnectionValidator connectionValidator;
 	private final boolean autoCommit;
 	private final int minSize;
 	private final int maxSize;
+	private final long acquisitionTimeout;
 
 	private volatile boolean primed;
 
@@ -39,6 +52,7 @@ private PooledConnections(
 		autoCommit = builder.autoCommit;
 		maxSize = builder.maxSize;
 		minSize = builder.minSize;
+		acquisitionTimeout = builder.acquisitionTimeout;
 		addConnections( builder.initialSize );
 	}
 
@@ -69,6 +83,7 @@ void add(Connection conn) {
 		if ( connection != null ) {
 			availableConnections.offer( connection );
 		}
+		signalConnectionAvailable();
 	}
 
 	private Connection releaseConnection(Connection conn) {
@@ -89,25 +104,96 @@ private Connection releaseConnection(Connection conn) {
 	}
 
 	Connection poll() {
+		final long deadline = System.nanoTime() + MILLISECONDS.toNanos( acquisitionTimeout );
 		Connection conn;
 		do {
 			conn = availableConnections.poll();
 			if ( conn == null ) {
-				synchronized (allConnections) {
-					if ( allConnections.size() < maxSize ) {
-						addConnections( 1 );
-						return poll();
-					}
-				}
-				throw new HibernateException(
-						"The internal connection pool has reached its maximum size and no connection is currently available" );
+				// the connection is opened without holding any lock
+				conn = reserveConnection() ? createConnection() : awaitConnection( deadline );
+			}
+			if ( conn != null ) {
+				conn = prepareConnection( conn );
 			}
-			conn = prepareConnection( conn );
 		}
 		while ( conn == null );
 		return conn;
 	}
 
+	private boolean reserveConnection() {
+		int count;
+		do {
+			count = connectionCount.get();
+			if ( count >= maxSize ) {
+				return false;
+			}
+		}
+		while ( !connectionCount.compareAndSet( count, count + 1 ) );
+		return true;
+	}
+
+	private Connection createConnection() {
+		final Connection connection;
+		try {
+			connection = connectionCreator.createConnection();
+		}
+		catch (RuntimeException e) {
+			connectionCount.decrementAndGet();
+			signalConnectionAvailable();
+			throw e;
+		}
+		allConnections.add( connection );
+		return connection;
+	}
+
+	/**
+	 * Wait until a connection is returned to the pool, or until the pool has room for a
+	 * new connection, in which case {@code null} is returned.
+	 */
+	private Connection awaitConnection(long deadline) {
+		if ( acquisitionTimeout <= 0 ) {
+			throw new HibernateException(
+					"The internal connection pool has reached its maximum size and no connection is currently available" );
+		}
+		waiters.incrementAndGet();
+		lock.lock();
+		try {
+			while ( true ) {
+				final Connection conn = availableConnections.poll();
+				if ( conn != null || connectionCount.get() < maxSize ) {
+					return conn;
+				}
+				final long remaining = deadline - System.nanoTime();
+				if ( remaining <= 0 ) {
+					throw new HibernateException(
+							"The internal connection pool has reached its maximum size and no connection became available within "
+									+ acquisitionTimeout + "ms" );
+				}
+				connectionAvailable.awaitNanos( remaining );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+		}
+		finally {
+			lock.unlock();
+			waiters.decrementAndGet();
+		}
+	}
+
+	private void signalConnectionAvailable() {
+		if ( waiters.get() > 0 ) {
+			lock.lock();
+			try {
+				connectionAvailable.signal();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
 	protected Connection prepareConnection(Connection conn) {
 		Exception t = null;
 		try {
@@ -135,7 +221,11 @@ protected void closeConnection(Connection conn, Throwable t) {
 			}
 		}
 		finally {
-			if ( !allConnections.remove( conn ) ) {
+			if ( allConnections.remove( conn ) ) {
+				connectionCount.decrementAndGet();
+				signalConnectionAvailable();
+			}
+			else {
 				CONNECTION_INFO_LOGGER.connectionRemoveFailed();
 			}
 		}
@@ -170,9 +260,8 @@ protected void removeConnections(int numberToBeRemoved) {
 
 	protected void addConnections(int numberOfConnections) {
 		for ( int i = 0; i < numberOfConnections; i++ ) {
-			Connection connection = connectionCreator.createConnection();
-			allConnections.add( connection );
-			availableConnections.add( connection );
+			connectionCount.incrementAndGet();
+			availableConnections.add( createConnection() );
 		}
 	}
 
@@ -195,6 +284,7 @@ static class Builder {
 		private int initialSize = 1;
 		private int minSize = 1;
 		private int maxSize = 20;
+		private long acquisitionTimeout;
 
 		Builder(ConnectionCreator connectionCreator) {
 			this.connectionCreator = connectionCreator;
@@ -220,6 +310,11 @@ Builder maxSize(int maxSize) {
 			return this;
 		}
 
+		Builder acquisitionTimeout(long acquisitionTimeout) {
+			this.acquisitionTimeout = acquisitionTimeout;
+			return this;
+		}
+
 		Builder validator(ConnectionValidator connectionValidator) {
 			this.connectionValidator = connectionValidator;
 			return this;
@@ -7,10 +7,12 @@
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 
+import jakarta.annotation.Nullable;
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * Descriptor for details about a {@link PreparedStatement}
@@ -29,6 +31,18 @@ public interface PreparedStatementDetails {
 	 */
 	String getSqlString();
 
+	/**
+	 * The insert from which the {@linkplain #getSqlString() SQL} was rendered,
+	 * if its rows may instead be inserted by a single statement, or {@code null}.
+	 *
+	 * @see JdbcInsertMutation#getMultiRowSqlString
+	 *
+	 * @since 8.1
+	 */
+	default @Nullable JdbcInsertMutation getMultiRowInsert() {
+		return null;
+	}
+
 	/**
 	 * The {@link PreparedStatement} generated from the SQL.  May return null.
 	 *
@@ -15,6 +15,7 @@
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * Describes a particular {@link PreparedStatement} within a {@linkplain PreparedStatementGroup group}
@@ -22,6 +23,7 @@
  * @author Steve Ebersole
  */
 public class PreparedStatementDetailsStandard implements PreparedStatementDetails {
+	private final PreparableMutationOperation mutationOperation;
 	private final TableMapping mutatingTableDetails;
 	private final String sql;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
@@ -51,6 +53,7 @@ public PreparedStatementDetailsStandard(
 			Supplier<PreparedStatement> jdbcStatementCreator,
 			Expectation expectation,
 			JdbcServices jdbcServices) {
+		this.mutationOperation = tableMutation;
 		this.mutatingTableDetails = tableMutation.getTableDetails();
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
@@ -63,6 +66,15 @@ public TableMapping getMutatingTableDetails() {
 		return mutatingTableDetails;
 	}
 
+	@Override
+	public JdbcInsertMutation getMultiRowInsert() {
+		return mutationOperation instanceof JdbcInsertMutation insert
+			&& insert.isMultiRowCapable()
+			&& sql.equals( insert.getSqlString() )
+				? insert
+				: null;
+	}
+
 	@Override
 	public void releaseStatement(SharedSessionContractImplementor session) {
 		if ( statement != null ) {
@@ -64,6 +64,13 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The {@link EntityKey}s and {@link CollectionKey}s of lazy associations which were
+	 * candidates for prefetching, but were not prefetched, with a callback to notify when
+	 * one of them is fetched after all.
+	 */
+	private @Nullable Map<Object, Runnable> prefetchCandidates;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -82,6 +89,7 @@ public void clear() {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		prefetchCandidates = null;
 	}
 
 
@@ -173,6 +181,21 @@ public void removeBatchLoadableEntityKey(EntityKey key) {
 		}
 	}
 
+	/**
+	 * The number of keys of the given entity currently waiting to be batch fetched.
+	 *
+	 * @since 8.1
+	 */
+	public int getBatchLoadableEntityKeyCount(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys != null ) {
+			final var entityKeys = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+			return entityKeys == null ? 0 : entityKeys.size();
+		}
+		else {
+			return 0;
+		}
+	}
+
 	/**
 	 * Intended for test usage. Really has no use-case in Hibernate proper.
 	 */
@@ -324,6 +347,22 @@ public void removeBatchLoadableCollection(CollectionEntry collectionEntry) {
 		}
 	}
 
+	/**
+	 * The number of uninitialized collections of the given role currently
+	 * waiting to be batch fetched.
+	 *
+	 * @since 8.1
+	 */
+	public int getBatchLoadableCollectionCount(PluralAttributeMapping pluralAttributeMapping) {
+		if ( batchLoadableCollections != null ) {
+			final var map = batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+			return map == null ? 0 : map.size();
+		}
+		else {
+			return 0;
+		}
+	}
+
 
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}.
@@ -459,6 +498,50 @@ else if ( !isCached( loadedKey, collectionPersister ) ) {
 		return keys;
 	}
 
+
+	// prefetch planning support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Register the key of an uninitialized entity or collection which was a candidate
+	 * for prefetching, along with a callback to run if it is fetched later on.
+	 *
+	 * @param key An {@link EntityKey} or a {@link CollectionKey}
+	 *
+	 * @since 8.1
+	 */
+	public void addPrefetchCandidate(Object key, Runnable onFetch) {
+		if ( prefetchCandidates == null ) {
+			prefetchCandidates = mapOfSize( 16 );
+		}
+		prefetchCandidates.put( key, onFetch );
+	}
+
+	/**
+	 * Whether there are any prefetch candidates waiting to be fetched.
+	 *
+	 * @since 8.1
+	 */
+	public boolean hasPrefetchCandidates() {
+		return prefetchCandidates != null && !prefetchCandidates.isEmpty();
+	}
+
+	/**
+	 * Called when an uninitialized entity or collection is about to be fetched,
+	 * running the callback registered if it was a prefetch candidate.
+	 *
+	 * @param key An {@link EntityKey} or a {@link CollectionKey}
+	 *
+	 * @since 8.1
+	 */
+	public void prefetchCandidateFetched(Object key) {
+		if ( prefetchCandidates != null ) {
+			final var onFetch = prefetchCandidates.remove( key );
+			if ( onFetch != null ) {
+				onFetch.run();
+			}
+		}
+	}
+
 	public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -110,6 +111,19 @@ public interface EntityEntry {
 	 */
 	boolean requiresDirtyCheck(Object entity);
 
+	/**
+	 * Called by the inline dirty tracking of an enhanced entity when its first
+	 * change since the dirty attributes were last cleared is recorded, or when
+	 * changes were made to the entity without being recorded.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#INCREMENTAL_FLUSH
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default void afterTrackedChange() {
+	}
+
 	/**
 	 * Can the entity be modified?
 	 * <p>
@@ -80,6 +80,9 @@ public class LoadQueryInfluencers implements Serializable {
 	@Nullable
 	private Object temporalIdentifier;
 
+	@Nullable
+	private RootGraphImplementor<?> prefetchGraph;
+
 	public LoadQueryInfluencers(@Nonnull SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
 		batchSize = sessionFactory.getSessionFactoryOptions().getDefaultBatchFetchSize();
@@ -352,6 +355,23 @@ public void setReadOnly(@Nullable Boolean readOnly) {
 		this.readOnly = readOnly;
 	}
 
+	/**
+	 * The graph of lazy associations to prefetch whenever a batch of
+	 * entities or collections is fetched.
+	 *
+	 * @see org.hibernate.Session#setPrefetchGraph(jakarta.persistence.EntityGraph)
+	 *
+	 * @since 8.1
+	 */
+	@Nullable
+	public RootGraphImplementor<?> getPrefetchGraph() {
+		return prefetchGraph;
+	}
+
+	public void setPrefetchGraph(@Nullable RootGraphImplementor<?> prefetchGraph) {
+		this.prefetchGraph = prefetchGraph;
+	}
+
 	public int getBatchSize() {
 		return batchSize;
 	}
@@ -16,6 +16,7 @@
 import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.FlushCandidates;
 import org.hibernate.engine.internal.ProxyUtil;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -637,6 +638,19 @@ EntityHolder claimEntityHolderIfPossible(
 	@Nullable
 	CollectionFlushActionTracker getCollectionFlushActionTracker();
 
+	/**
+	 * The entities which must be visited by the next flush, or {@code null}
+	 * if every entity must be visited.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#INCREMENTAL_FLUSH
+	 *
+	 * @since 8.1
+	 */
+	@Internal
+	default @Nullable FlushCandidates getFlushCandidates() {
+		return null;
+	}
+
 	/**
 	 * Set the collection action state for the current flush.
 	 */
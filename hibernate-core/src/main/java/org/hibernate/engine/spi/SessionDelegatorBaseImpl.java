@@ -1576,6 +1576,16 @@ public void setSubselectFetchingEnabled(boolean enabled) {
 		delegate.setSubselectFetchingEnabled( enabled );
 	}
 
+	@Override
+	public EntityGraph<?> getPrefetchGraph() {
+		return delegate.getPrefetchGraph();
+	}
+
+	@Override
+	public void setPrefetchGraph(EntityGraph<?> graph) {
+		delegate.setPrefetchGraph( graph );
+	}
+
 	@Override
 	public int getFetchBatchSize() {
 		return delegate.getFetchBatchSize();
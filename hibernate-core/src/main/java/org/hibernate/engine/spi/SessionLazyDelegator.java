@@ -788,6 +788,16 @@ public void setSubselectFetchingEnabled(boolean enabled) {
 		this.lazySession.get().setSubselectFetchingEnabled( enabled );
 	}
 
+	@Override
+	public EntityGraph<?> getPrefetchGraph() {
+		return this.lazySession.get().getPrefetchGraph();
+	}
+
+	@Override
+	public void setPrefetchGraph(EntityGraph<?> graph) {
+		this.lazySession.get().setPrefetchGraph( graph );
+	}
+
 	@Override
 	@Nonnull
 	public HibernateCriteriaBuilder getCriteriaBuilder() {
@@ -9,6 +9,7 @@
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.FetchMethod;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.tree.from.TableGroup;
@@ -16,6 +17,8 @@
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.collection.internal.CollectionFetch;
 
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
 
@@ -104,7 +107,39 @@ public static RegistrationHandler createRegistrationHandler(
 		return sqlAst.getQuerySpec().getFromClause().getRoots().isEmpty()
 				? NO_OP_REG_HANDLER
 				: new StandardRegistrationHandler( batchFetchQueue, sqlAst,
-						jdbcParameters, jdbcParameterBindings, appliedGraph );
+						jdbcParameters, jdbcParameterBindings, appliedGraph,
+						hasSeparateCollectionFetches( batchFetchQueue, sqlAst ) );
+	}
+
+	/**
+	 * Whether the given query fetches some collection by subselect
+	 * in place of a fetch join.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#SEPARATE_COLLECTION_FETCHES
+	 */
+	private static boolean hasSeparateCollectionFetches(BatchFetchQueue batchFetchQueue, SelectStatement sqlAst) {
+		if ( batchFetchQueue.getSession().getFactory().getSessionFactoryOptions()
+				.isSeparateCollectionFetchesEnabled() ) {
+			for ( var domainResult : sqlAst.getDomainResultDescriptors() ) {
+				if ( domainResult instanceof FetchParent fetchParent
+						&& hasSubqueryCollectionFetches( fetchParent ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasSubqueryCollectionFetches(FetchParent fetchParent) {
+		for ( var fetch : fetchParent.getFetches() ) {
+			if ( fetch instanceof CollectionFetch collectionFetch
+					&& collectionFetch.getFetchOptions().fetchMethod() == FetchMethod.BY_SUBQUERY
+				|| fetch instanceof FetchParent nestedFetchParent
+					&& hasSubqueryCollectionFetches( nestedFetchParent ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	public interface RegistrationHandler {
@@ -119,6 +154,7 @@ public static class StandardRegistrationHandler implements RegistrationHandler {
 		private final JdbcParametersList loadingJdbcParameters;
 		private final JdbcParameterBindings loadingJdbcParameterBindings;
 		private final AppliedGraph appliedGraph;
+		private final boolean registerAll;
 		private final Map<NavigablePath, SubselectFetch> subselectFetches = new HashMap<>();
 
 		private StandardRegistrationHandler(
@@ -126,18 +162,21 @@ private StandardRegistrationHandler(
 				SelectStatement loadingSqlAst,
 				JdbcParametersList loadingJdbcParameters,
 				JdbcParameterBindings loadingJdbcParameterBindings,
-				AppliedGraph appliedGraph) {
+				AppliedGraph appliedGraph,
+				boolean registerAll) {
 			this.batchFetchQueue = batchFetchQueue;
 			this.loadingSqlAst = loadingSqlAst;
 			this.loadingJdbcParameters = loadingJdbcParameters;
 			this.loadingJdbcParameterBindings = loadingJdbcParameterBindings;
 			this.appliedGraph = appliedGraph;
+			this.registerAll = registerAll;
 		}
 
 		@Override
 		public void addKey(EntityHolder holder) {
-			if ( batchFetchQueue.getSession().getLoadQueryInfluencers()
-					.hasSubselectLoadableAttributes( holder.getDescriptor(), appliedGraph ) ) {
+			if ( registerAll
+					|| batchFetchQueue.getSession().getLoadQueryInfluencers()
+							.hasSubselectLoadableAttributes( holder.getDescriptor(), appliedGraph ) ) {
 				final var path = castNonNull( holder.getEntityInitializer() ).getNavigablePath();
 				final var querySpec = loadingSqlAst.getQuerySpec();
 				final var subselectFetch = subselectFetches.computeIfAbsent(
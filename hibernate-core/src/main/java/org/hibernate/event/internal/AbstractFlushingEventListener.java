@@ -13,6 +13,7 @@
 import org.hibernate.engine.internal.BidirectionalAssociationSynchronizer;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
+import org.hibernate.engine.internal.FlushCandidates;
 import org.hibernate.engine.internal.FlushProcessingContext;
 import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -30,6 +31,8 @@
 import org.hibernate.internal.util.collections.InstanceIdentityMap;
 import org.hibernate.persister.entity.EntityPersister;
 
+import java.util.Map;
+
 
 import static org.hibernate.engine.internal.Collections.processUnreachableCollection;
 import static org.hibernate.event.internal.EventListenerLogging.EVENT_LISTENER_LOGGER;
@@ -146,7 +149,7 @@ private void prepareEntityFlushes(@Nonnull EventSource session, @Nonnull Persist
 		EVENT_LISTENER_LOGGER.processingFlushTimeCascades();
 		final var context = PersistContext.create();
 		// safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( var entry : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( var entry : flushableEntityEntries( persistenceContext ) ) {
 			final var entityEntry = entry.getValue();
 			if ( flushable( entityEntry ) ) {
 				cascadeOnFlush( session, entityEntry.getPersister(), entry.getKey(), context );
@@ -160,7 +163,7 @@ void checkForTransientReferences(@Nonnull EventSource session, @Nonnull Persiste
 		// processed, so that all entities which will be persisted are
 		// persistent when we do the check (I wonder if we could move this
 		// into Nullability, instead of abusing the Cascade infrastructure)
-		for ( var entryEntry : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( var entryEntry : flushableEntityEntries( persistenceContext ) ) {
 			final var entry = entryEntry.getValue();
 			if ( checkable( entry ) ) {
 				Cascade.cascade(
@@ -175,6 +178,17 @@ void checkForTransientReferences(@Nonnull EventSource session, @Nonnull Persiste
 		}
 	}
 
+	/**
+	 * Every entity in the persistence context or, when flushing incrementally,
+	 * only the {@linkplain FlushCandidates candidates} for the next flush.
+	 */
+	private static Map.Entry<Object, EntityEntry>[] flushableEntityEntries(@Nonnull PersistenceContext persistenceContext) {
+		final var flushCandidates = persistenceContext.getFlushCandidates();
+		return flushCandidates == null
+				? persistenceContext.reentrantSafeEntityEntries()
+				: flushCandidates.entityEntries();
+	}
+
 	private static boolean flushable(@Nonnull EntityEntry entry) {
 		final var status = entry.getStatus();
 		return status == Status.MANAGED
@@ -244,7 +258,13 @@ private int flushEntities(@Nonnull FlushEvent event, @Nonnull PersistenceContext
 		// collections that are changing roles. This might cause entities
 		// to be loaded.
 		// So this needs to be safe from concurrent modification problems.
-		final var entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		// When flushing incrementally, entities changed from now on are
+		// candidates for the next flush.
+		final var flushCandidates = persistenceContext.getFlushCandidates();
+		final var entityEntries =
+				flushCandidates == null
+						? persistenceContext.reentrantSafeEntityEntries()
+						: flushCandidates.drain();
 		final int count = entityEntries.length;
 
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
@@ -262,6 +282,12 @@ private int flushEntities(@Nonnull FlushEvent event, @Nonnull PersistenceContext
 			}
 		}
 
+		if ( flushCandidates != null ) {
+			for ( var me : entityEntries ) {
+				flushCandidates.retain( me.getKey(), me.getValue() );
+			}
+		}
+
 		source.getActionQueue().sortActions();
 
 		return count;
@@ -612,6 +612,11 @@ private static void markInterceptorDirty(@Nonnull final Object entity, @Nonnull
 			if ( !selfDirtinessTrackerTarget.$$_hibernate_hasDirtyAttributes()
 					&& !asManagedEntity( entity ).$$_hibernate_useTracker() ) {
 				managedEntity.$$_hibernate_setUseTracker( false );
+				// the changes were not tracked
+				final var entityEntry = managedEntity.$$_hibernate_getEntityEntry();
+				if ( entityEntry != null ) {
+					entityEntry.afterTrackedChange();
+				}
 			}
 			else {
 				managedEntity.$$_hibernate_setUseTracker( true );
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+
+/**
+ * Specialized contract for {@link BeforeExecutionGenerator}s capable of generating
+ * the identifiers of many entities at once, with fewer round trips to the database
+ * than generating them one at a time.
+ * <p>
+ * This is used by {@link org.hibernate.StatelessSession#insertMultiple}.
+ *
+ * @see org.hibernate.dialect.sequence.SequenceSupport#getSequenceNextValuesString(String)
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface BulkIdentifierGenerator extends BeforeExecutionGenerator {
+	/**
+	 * Generate the given number of identifiers for new entities.
+	 *
+	 * @param session The session from which the request originates
+	 * @param count The number of identifiers to generate
+	 *
+	 * @return The generated identifiers
+	 */
+	Object[] generate(SharedSessionContractImplementor session, int count);
+}
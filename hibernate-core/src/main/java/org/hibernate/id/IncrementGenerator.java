@@ -8,6 +8,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -58,6 +60,8 @@ public class IncrementGenerator implements IdentifierGenerator {
 	private String sql;
 
 	private long previousValue;
+	// the first generation runs a query, which must not pin a virtual thread
+	private final Lock lock = new ReentrantLock();
 
 	/**
 	 * @deprecated Exposed for tests only.
@@ -68,11 +72,17 @@ public String[] getAllSqlForTests() {
 	}
 
 	@Override
-	public synchronized Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
-		if ( sql != null ) {
-			initializePreviousValue( session );
+	public Object generate(SharedSessionContractImplementor session, Object object) throws HibernateException {
+		lock.lock();
+		try {
+			if ( sql != null ) {
+				initializePreviousValue( session );
+			}
+			return makeIntegralValue( previousValue++, returnClass );
+		}
+		finally {
+			lock.unlock();
 		}
-		return makeIntegralValue( previousValue++, returnClass );
 	}
 
 	@Override
@@ -4,6 +4,8 @@
  */
 package org.hibernate.id.enhanced;
 
+import org.hibernate.Incubating;
+
 /**
  * Contract for providing callback access to a {@link DatabaseStructure},
  * typically from the {@link Optimizer}.
@@ -18,6 +20,25 @@ public interface AccessCallback {
 	 */
 	long getNextValue();
 
+	/**
+	 * Retrieve the next values from the underlying source, in one round
+	 * trip to the database, if possible.
+	 *
+	 * @param count The number of values
+	 *
+	 * @return The next values, in the order in which they were obtained
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default long[] getNextValues(int count) {
+		final long[] values = new long[count];
+		for ( int i = 0; i < count; i++ ) {
+			values[i] = getNextValue();
+		}
+		return values;
+	}
+
 	/**
 	 * Obtain the tenant identifier (multi-tenancy), if one, associated with this callback.
 	 *
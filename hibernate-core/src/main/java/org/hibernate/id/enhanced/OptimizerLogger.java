@@ -69,4 +69,8 @@ public interface OptimizerLogger extends BasicLogger {
 	@LogMessage(level = WARN)
 	@Message(value = "Unable to instantiate specified optimizer [%s], falling back to noop optimizer", id = 90407)
 	void unableToInstantiateOptimizer(String type);
+
+	@LogMessage(level = DEBUG)
+	@Message(value = "Creating striped pooled optimizer (lo) with [incrementSize=%s, stripes=%s, returnClass=%s]", id = 90408)
+	void creatingStripedPooledLoOptimizer(int incrementSize, int stripeCount, String returnClassName);
 }
@@ -7,6 +7,7 @@
 import java.sql.SQLException;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.model.relational.InitCommand;
 import org.hibernate.boot.model.relational.Namespace;
@@ -35,6 +36,7 @@ public class SequenceStructure implements DatabaseStructure {
 	private final String options;
 
 	private String sql;
+	private String multipleValuesSql;
 	private boolean applyIncrementSizeToSourceValues;
 	private int accessCounter;
 	protected QualifiedName physicalSequenceName;
@@ -99,45 +101,21 @@ public AccessCallback buildCallback(final SharedSessionContractImplementor sessi
 			throw new AssertionFailure( "SequenceStyleGenerator's SequenceStructure was not properly initialized" );
 		}
 
-			return new AccessCallback() {
-				@Override
-				public long getNextValue() {
-					accessCounter++;
-					try {
-					final var jdbcCoordinator = session.getJdbcCoordinator();
-					final var statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
-					final var resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
-					try {
-						final var resultSet = jdbcCoordinator.getResultSetReturn().extract( statement, sql );
-							try {
-								resultSet.next();
-								final long value = extractLong( resultSet, 1 );
-								if ( JDBC_LOGGER.isTraceEnabled() ) {
-									JDBC_LOGGER.sequenceValueRetrievedFromDatabase( value );
-								}
-								return value;
-						}
-						finally {
-							try {
-								resourceRegistry.release( resultSet, statement );
-							}
-							catch( Throwable ignore ) {
-								// intentionally empty
-							}
-						}
-					}
-					finally {
-						resourceRegistry.release( statement );
-						jdbcCoordinator.afterStatementExecution();
-					}
+		return new AccessCallback() {
+			@Override
+			public long getNextValue() {
+				accessCounter++;
+				return selectValues( session, sql, 1 )[0];
+			}
 
+			@Override
+			public long[] getNextValues(int count) {
+				if ( multipleValuesSql == null || count == 1 ) {
+					return AccessCallback.super.getNextValues( count );
 				}
-				catch ( SQLException sqle) {
-					throw session.getJdbcServices().getSqlExceptionHelper().convert(
-							sqle,
-							"could not get next sequence value",
-							sql
-					);
+				else {
+					accessCounter++;
+					return selectValues( session, multipleValuesSql, count );
 				}
 			}
 
@@ -148,6 +126,52 @@ public String getTenantIdentifier() {
 		};
 	}
 
+	private static long[] selectValues(SharedSessionContractImplementor session, String sql, int count) {
+		try {
+			final var jdbcCoordinator = session.getJdbcCoordinator();
+			final var statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+			final var resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+			try {
+				if ( count > 1 ) {
+					statement.setInt( 1, count );
+				}
+				final var resultSet = jdbcCoordinator.getResultSetReturn().extract( statement, sql );
+				try {
+					final long[] values = new long[count];
+					for ( int i = 0; i < count; i++ ) {
+						if ( !resultSet.next() ) {
+							throw new HibernateException( "Sequence returned fewer values than requested" );
+						}
+						values[i] = extractLong( resultSet, 1 );
+						if ( JDBC_LOGGER.isTraceEnabled() ) {
+							JDBC_LOGGER.sequenceValueRetrievedFromDatabase( values[i] );
+						}
+					}
+					return values;
+				}
+				finally {
+					try {
+						resourceRegistry.release( resultSet, statement );
+					}
+					catch( Throwable ignore ) {
+						// intentionally empty
+					}
+				}
+			}
+			finally {
+				resourceRegistry.release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+		catch ( SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not get next sequence value",
+					sql
+			);
+		}
+	}
+
 	@Override
 	public void configure(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
@@ -160,8 +184,10 @@ public void registerExportables(Database database) {
 
 	@Override
 	public void initialize(SqlStringGenerationContext context) {
-		sql = context.getDialect().getSequenceSupport()
-				.getSequenceNextValString( context.format( physicalSequenceName ) );
+		final var sequenceSupport = context.getDialect().getSequenceSupport();
+		final String sequenceName = context.format( physicalSequenceName );
+		sql = sequenceSupport.getSequenceNextValString( sequenceName );
+		multipleValuesSql = sequenceSupport.getSequenceNextValuesString( sequenceName );
 	}
 
 	@Override
@@ -17,8 +17,8 @@
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.BulkIdentifierGenerator;
 import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.PersistentIdentifierGenerator;
@@ -105,7 +105,7 @@
  * @author Lukasz Antoniak
  */
 public class SequenceStyleGenerator
-		implements PersistentIdentifierGenerator, BulkInsertionCapableIdentifierGenerator, BeforeExecutionGenerator {
+		implements PersistentIdentifierGenerator, BulkInsertionCapableIdentifierGenerator, BulkIdentifierGenerator {
 
 	// general purpose parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -562,6 +562,54 @@ public Object generate(SharedSessionContractImplementor session, Object object)
 		return optimizer.generate( databaseStructure.buildCallback( session ) );
 	}
 
+	// BulkIdentifierGenerator implementation ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public Object[] generate(SharedSessionContractImplementor session, int count) {
+		final int valuesPerSourceValue =
+				optimizer instanceof NoopOptimizer ? 1 : Math.max( optimizer.getIncrementSize(), 1 );
+		final var callback =
+				new PrefetchingAccessCallback( databaseStructure.buildCallback( session ), valuesPerSourceValue );
+		final Object[] ids = new Object[count];
+		for ( int i = 0; i < count; i++ ) {
+			callback.remaining = count - i;
+			ids[i] = optimizer.generate( callback );
+		}
+		return ids;
+	}
+
+	/**
+	 * Obtains from the database, in one round trip, as many source values
+	 * as the optimizer needs to generate the remaining identifiers.
+	 */
+	private static class PrefetchingAccessCallback implements AccessCallback {
+		private final AccessCallback callback;
+		private final int valuesPerSourceValue;
+		private int remaining;
+		private long[] sourceValues;
+		private int position;
+
+		private PrefetchingAccessCallback(AccessCallback callback, int valuesPerSourceValue) {
+			this.callback = callback;
+			this.valuesPerSourceValue = valuesPerSourceValue;
+		}
+
+		@Override
+		public long getNextValue() {
+			if ( sourceValues == null || position == sourceValues.length ) {
+				final int count = ( remaining + valuesPerSourceValue - 1 ) / valuesPerSourceValue;
+				sourceValues = callback.getNextValues( Math.max( count, 1 ) );
+				position = 0;
+			}
+			return sourceValues[position++];
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return callback.getTenantIdentifier();
+		}
+	}
+
 	// BulkInsertionCapableIdentifierGenerator implementation ~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -4,6 +4,8 @@
  */
 package org.hibernate.id.enhanced;
 
+import org.hibernate.Incubating;
+
 import static org.hibernate.internal.util.StringHelper.isEmpty;
 
 /**
@@ -40,7 +42,18 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the lo value is stored in the database, and each chunk is divided
+	 * among stripes from which concurrent threads take values without locking.
+	 *
+	 * @see StripedPooledLoOptimizer
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	POOLED_STRIPED;
 
 	@Override
 	public String getExternalName() {
@@ -51,6 +64,7 @@ public String getExternalName() {
 			case POOLED -> "pooled";
 			case POOLED_LO -> "pooled-lo";
 			case POOLED_LOTL -> "pooled-lotl";
+			case POOLED_STRIPED -> "pooled-striped";
 		};
 	}
 
@@ -63,6 +77,7 @@ public Class<? extends Optimizer> getOptimizerClass() {
 			case POOLED -> PooledOptimizer.class;
 			case POOLED_LO -> PooledLoOptimizer.class;
 			case POOLED_LOTL -> PooledLoThreadLocalOptimizer.class;
+			case POOLED_STRIPED -> StripedPooledLoOptimizer.class;
 		};
 	}
 
@@ -70,7 +85,7 @@ public Class<? extends Optimizer> getOptimizerClass() {
 	public boolean isPooled() {
 		return switch ( this ) {
 			case NONE, HILO, LEGACY_HILO -> false;
-			case POOLED, POOLED_LO, POOLED_LOTL -> true;
+			case POOLED, POOLED_LO, POOLED_LOTL, POOLED_STRIPED -> true;
 		};
 	}
 
@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.ast.tree.expression.Expression;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.makeIntegralValue;
+import static org.hibernate.id.enhanced.OptimizerLogger.OPTIMIZER_MESSAGE_LOGGER;
+
+/**
+ * Variation of {@link PooledLoOptimizer} for generators used by many threads
+ * at once.  Like {@code PooledLoOptimizer}, it interprets the value held by
+ * the database as the lo value of the range of ids it allocates.
+ * <p>
+ * Each range fetched from the database is divided into sub-ranges, which are
+ * leased to a fixed number of stripes, about one per available processor.  A thread
+ * takes its ids from the sub-range leased to the stripe it hashes to, using
+ * a compare-and-set, and only a thread which finds the whole range exhausted
+ * takes a lock, to fetch the next range from the database.
+ * <p>
+ * Unlike {@link PooledLoThreadLocalOptimizer}, the state is not held by the
+ * thread, so no ids are lost when a thread terminates, making this optimizer
+ * suitable for short-lived and virtual threads.  Ids are unique, but are not
+ * generated in increasing order across threads.
+ *
+ * @see PooledLoOptimizer
+ * @see StandardOptimizerDescriptor#POOLED_STRIPED
+ *
+ * @since 8.1
+ */
+@Incubating
+public class StripedPooledLoOptimizer extends AbstractOptimizer {
+	private final int stripeCount;
+	private final int leaseSize;
+
+	private volatile GenerationState noTenantState;
+	private volatile Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code StripedPooledLoOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public StripedPooledLoOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		// a power of two, no greater than the increment size
+		final int processors = Runtime.getRuntime().availableProcessors();
+		stripeCount = Math.min( Integer.highestOneBit( processors * 2 - 1 ), Integer.highestOneBit( incrementSize ) );
+		leaseSize = incrementSize / stripeCount;
+		noTenantState = new GenerationState();
+		OPTIMIZER_MESSAGE_LOGGER.creatingStripedPooledLoOptimizer( incrementSize, stripeCount, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final var state = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		return makeIntegralValue( state.generate( callback, stripe() ), returnClass );
+	}
+
+	private int stripe() {
+		final int hash = System.identityHashCode( Thread.currentThread() );
+		return ( hash ^ ( hash >>> 16 ) ) & ( stripeCount - 1 );
+	}
+
+	@Override
+	public void reset() {
+		noTenantState = new GenerationState();
+		tenantSpecificState = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * The number of stripes among which each range of ids is divided.
+	 */
+	public int getStripeCount() {
+		return stripeCount;
+	}
+
+	// for Hibernate testsuite use only
+	@Override
+	public Long getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public Expression createLowValueExpression(Expression databaseValue, SessionFactoryImplementor sessionFactory) {
+		return databaseValue;
+	}
+
+	/**
+	 * A sub-range of ids, from {@code next} up to, but excluding, {@code limit}.
+	 * The value of {@code next} may overshoot the limit once the lease is exhausted.
+	 */
+	private static final class Lease {
+		private final AtomicLong next;
+		private final long limit;
+
+		private Lease(long first, long limit) {
+			this.next = new AtomicLong( first );
+			this.limit = limit;
+		}
+	}
+
+	private final class GenerationState {
+		private final AtomicReferenceArray<Lease> stripes;
+		// leases which lost the race to be installed in a stripe
+		private final ConcurrentLinkedQueue<Lease> returnedLeases = new ConcurrentLinkedQueue<>();
+		// the range last fetched from the database
+		private volatile Lease range;
+		private volatile Long lastSourceValue;
+		private final ReentrantLock fetchLock = new ReentrantLock();
+
+		private GenerationState() {
+			stripes = new AtomicReferenceArray<>( stripeCount );
+		}
+
+		private long generate(AccessCallback callback, int stripe) {
+			final var lease = stripes.get( stripe );
+			if ( lease != null ) {
+				final long value = lease.next.getAndIncrement();
+				if ( value < lease.limit ) {
+					return value;
+				}
+			}
+			final var newLease = nextLease( callback );
+			final long value = newLease.next.getAndIncrement();
+			if ( !stripes.compareAndSet( stripe, lease, newLease ) ) {
+				// another thread refilled the stripe first
+				// keep the rest of the lease for later use
+				if ( value + 1 < newLease.limit ) {
+					returnedLeases.offer( newLease );
+				}
+			}
+			return value;
+		}
+
+		private Lease nextLease(AccessCallback callback) {
+			while ( true ) {
+				final var returnedLease = returnedLeases.poll();
+				if ( returnedLease != null ) {
+					if ( returnedLease.next.get() < returnedLease.limit ) {
+						return returnedLease;
+					}
+				}
+				else {
+					final var range = this.range;
+					if ( range != null ) {
+						final long first = range.next.getAndAdd( leaseSize );
+						if ( first < range.limit ) {
+							return new Lease( first, Math.min( first + leaseSize, range.limit ) );
+						}
+					}
+					fetchRange( callback, range );
+				}
+			}
+		}
+
+		private void fetchRange(AccessCallback callback, Lease exhaustedRange) {
+			fetchLock.lock();
+			try {
+				// another thread might have fetched the next range while we waited
+				if ( range == exhaustedRange ) {
+					final long sourceValue = callback.getNextValue();
+					// handle cases where initial-value is less that one (hsqldb for instance)
+					final long first = Math.max( sourceValue, 1 );
+					range = new Lease( first, sourceValue + incrementSize );
+					lastSourceValue = sourceValue;
+				}
+			}
+			finally {
+				fetchLock.unlock();
+			}
+		}
+	}
+}
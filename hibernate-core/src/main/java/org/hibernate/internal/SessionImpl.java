@@ -961,6 +961,10 @@ public Object immediateLoad(@Nonnull String entityName, @Nonnull Object id) {
 			final var persister = requireEntityPersister( entityName );
 			SESSION_LOGGER.initializingProxy( infoString( persister, id, getFactory() ) );
 		}
+		final var batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		if ( batchFetchQueue.hasPrefetchCandidates() ) {
+			batchFetchQueue.prefetchCandidateFetched( generateEntityKey( id, requireEntityPersister( entityName ) ) );
+		}
 		final var event = makeLoadEvent( entityName, id, getReadOnlyFromLoadQueryInfluencers(), true );
 		fireLoadNoChecks( event, IMMEDIATE_LOAD );
 		final Object result = event.getResult();
@@ -1738,6 +1742,14 @@ public ProcedureCall createStoredProcedureCall(@Nonnull String procedureName, @N
 	public void initializeCollection(@Nonnull PersistentCollection<?> collection, boolean writing) {
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
+		final var batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		if ( batchFetchQueue.hasPrefetchCandidates() ) {
+			final var entry = persistenceContext.getCollectionEntry( collection );
+			if ( entry != null && entry.getLoadedPersister() != null && entry.getLoadedKey() != null ) {
+				batchFetchQueue.prefetchCandidateFetched(
+						generateCollectionKey( entry.getLoadedPersister(), entry.getLoadedKey() ) );
+			}
+		}
 		eventListenerGroups.eventListenerGroup_INIT_COLLECTION
 				.fireEventOnEachListener( new InitializeCollectionEvent( collection, this ),
 						InitializeCollectionEventListener::onInitializeCollection );
@@ -1981,6 +1993,17 @@ public boolean isSubselectFetchingEnabled() {
 		return loadQueryInfluencers.getSubselectFetchEnabled();
 	}
 
+	@Override
+	public EntityGraph<?> getPrefetchGraph() {
+		return loadQueryInfluencers.getPrefetchGraph();
+	}
+
+	@Override
+	public void setPrefetchGraph(EntityGraph<?> graph) {
+		checkSessionReentrancy();
+		loadQueryInfluencers.setPrefetchGraph( (RootGraphImplementor<?>) graph );
+	}
+
 	@Override
 	public void setFetchBatchSize(int batchSize) {
 		checkSessionReentrancy();
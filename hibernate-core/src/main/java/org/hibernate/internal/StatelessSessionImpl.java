@@ -30,6 +30,7 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.collection.spi.CollectionSemantics;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.engine.creation.internal.SharedSessionCreationOptions;
 import org.hibernate.engine.creation.internal.options.StatelessOptions;
 import org.hibernate.engine.internal.TransactionCompletionCallbacksImpl;
@@ -40,6 +41,7 @@
 import org.hibernate.engine.spi.TransactionCompletionCallbacks;
 import org.hibernate.engine.spi.TransactionCompletionCallbacksImplementor;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.event.service.spi.EventListenerGroups;
 import org.hibernate.event.spi.PostCollectionRecreateEvent;
 import org.hibernate.event.spi.PostCollectionRecreateEventListener;
@@ -69,6 +71,7 @@
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.id.BulkIdentifierGenerator;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.internal.find.FindByKeyOperation;
 import org.hibernate.internal.find.StatelessFindByKeyOperation;
@@ -86,7 +89,9 @@
 import org.hibernate.type.TypeHelper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -358,8 +363,9 @@ public void insertMultiple(@Nonnull List<?> entities) {
 		final Integer batchSize = getJdbcBatchSize();
 		setJdbcBatchSize( entities.size() );
 		try {
+			final var identifiers = preallocateIdentifiers( entities );
 			for ( Object entity : entities ) {
-				doInsert( null, entity );
+				doInsert( null, entity, identifiers == null ? null : identifiers.get( entity ) );
 			}
 			getJdbcCoordinator().executeBatch();
 		}
@@ -378,7 +384,7 @@ public void insertMultiple(@Nonnull List<?> entities) {
 	public Object insert(@Nullable String entityName, @Nonnull Object entity) {
 		checkOpen();
 		try {
-			return doInsert( entityName, entity );
+			return doInsert( entityName, entity, null );
 		}
 		catch ( MappingException e ) {
 			throw getExceptionConverter().convert( new IllegalArgumentException( e.getMessage(), e ) );
@@ -388,7 +394,192 @@ public Object insert(@Nullable String entityName, @Nonnull Object entity) {
 		}
 	}
 
-	private Object doInsert(String entityName, Object entity) {
+	@Override
+	public void bulkInsert(@Nonnull List<?> entities) {
+		checkOpen();
+		final var bulkInsertSupport = getDialect().getBulkInsertSupport();
+		if ( bulkInsertSupport == null || !bulkInsertSupport.isAvailable( this ) ) {
+			insertMultiple( entities );
+		}
+		else {
+			final Integer batchSize = getJdbcBatchSize();
+			setJdbcBatchSize( entities.size() );
+			try {
+				final var identifiers = preallocateIdentifiers( entities );
+				// consecutive entities of the same type are inserted together
+				PendingBulkInsert pending = null;
+				for ( Object entity : entities ) {
+					final var persister = getEntityPersister( null, entity );
+					if ( persister.getGenerator().generatedOnExecution( entity, this ) ) {
+						if ( pending != null ) {
+							executeBulkInsert( pending, bulkInsertSupport );
+							pending = null;
+						}
+						doInsert( null, entity, null );
+					}
+					else {
+						if ( pending != null && pending.persister != persister ) {
+							executeBulkInsert( pending, bulkInsertSupport );
+							pending = null;
+						}
+						if ( pending == null ) {
+							pending = new PendingBulkInsert( persister );
+						}
+						prepareBulkInsert( pending, entity, identifiers == null ? null : identifiers.get( entity ) );
+					}
+				}
+				if ( pending != null ) {
+					executeBulkInsert( pending, bulkInsertSupport );
+				}
+				getJdbcCoordinator().executeBatch();
+			}
+			catch ( MappingException e ) {
+				throw getExceptionConverter().convert( new IllegalArgumentException( e.getMessage(), e ) );
+			}
+			catch ( RuntimeException e ) {
+				throw getExceptionConverter().convert( e );
+			}
+			finally {
+				setJdbcBatchSize( batchSize );
+			}
+		}
+	}
+
+	/**
+	 * Entities of the same type waiting to be inserted by a single bulk insert,
+	 * with their identifiers and state.
+	 */
+	private static final class PendingBulkInsert {
+		private final EntityPersister persister;
+		private final List<Object> entities = new ArrayList<>();
+		private final List<Object> ids = new ArrayList<>();
+		private final List<Object[]> states = new ArrayList<>();
+
+		private PendingBulkInsert(EntityPersister persister) {
+			this.persister = persister;
+		}
+	}
+
+	private void prepareBulkInsert(PendingBulkInsert pending, Object entity, Object preallocatedId) {
+		checkNotReadOnly();
+		final var persister = pending.persister;
+		final Object[] state = persister.getValues( entity );
+		if ( persister.isVersioned() ) {
+			if ( seedVersion( entity, state, persister, this ) ) {
+				persister.setValues( entity, state );
+			}
+		}
+		final var generator = persister.getGenerator();
+		final Object id;
+		if ( generator.generatedBeforeExecution( entity, this ) ) {
+			id = generateIdentifier( persister, entity, preallocatedId );
+			persister.setIdentifier( entity, id, this );
+		}
+		else { // assigned identifier
+			id = persister.getIdentifier( entity, this );
+			if ( id == null ) {
+				throw new IdentifierGenerationException( "Identifier of entity '" + persister.getEntityName() + "' must be manually assigned before calling 'bulkInsert()'" );
+			}
+		}
+		if ( !firePreInsert( entity, id, state, persister ) ) {
+			runInterceptorCallback(
+					() -> getInterceptor().onInsert( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() ) );
+			pending.entities.add( entity );
+			pending.ids.add( id );
+			pending.states.add( state );
+		}
+	}
+
+	private void executeBulkInsert(PendingBulkInsert pending, BulkInsertSupport bulkInsertSupport) {
+		final var persister = pending.persister;
+		final var entities = pending.entities;
+		if ( !entities.isEmpty() ) {
+			// rows inserted by earlier statements must be written first
+			getJdbcCoordinator().executeBatch();
+			// an insert event for each entity, completed only if the entities were bulk inserted,
+			// since otherwise each entity is inserted, and its event reported, by coordinateInsert()
+			final var eventMonitor = getEventMonitor();
+			final var events = new DiagnosticEvent[entities.size()];
+			for ( int i = 0; i < events.length; i++ ) {
+				events[i] = eventMonitor.beginEntityInsertEvent();
+			}
+			boolean bulkInserted = false;
+			boolean success = false;
+			try {
+				bulkInserted = persister.getInsertCoordinator()
+						.bulkInsert( entities, pending.ids, pending.states, bulkInsertSupport, this );
+				success = true;
+			}
+			catch (ConstraintViolationException cve) {
+				throw convertException( cve );
+			}
+			finally {
+				if ( bulkInserted || !success ) {
+					for ( int i = 0; i < events.length; i++ ) {
+						eventMonitor.completeEntityInsertEvent( events[i], pending.ids.get( i ),
+								persister.getEntityName(), success, this );
+					}
+				}
+			}
+			final var statistics = getStatistics();
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final Object entity = entities.get( i );
+				final Object id = pending.ids.get( i );
+				final Object[] state = pending.states.get( i );
+				if ( !bulkInserted ) {
+					coordinateInsert( persister, entity, id, state );
+				}
+				recreateCollections( entity, id, persister );
+				firePostInsert( entity, id, state, persister );
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.insertEntity( persister.getEntityName() );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Generate the identifiers of the given entities which have a {@link BulkIdentifierGenerator},
+	 * a whole list of entities of the same type at once.
+	 *
+	 * @return the generated identifiers, keyed by entity instance, or {@code null} if none
+	 */
+	private Map<Object, Object> preallocateIdentifiers(List<?> entities) {
+		if ( entities.size() < 2 ) {
+			return null;
+		}
+		Map<EntityPersister, List<Object>> entitiesByPersister = null;
+		for ( Object entity : entities ) {
+			final var persister = getEntityPersister( null, entity );
+			if ( persister.getGenerator() instanceof BulkIdentifierGenerator generator
+					&& generator.generatesOnInsert()
+					&& !generator.allowAssignedIdentifiers()
+					&& generator.generatedBeforeExecution( entity, this ) ) {
+				if ( entitiesByPersister == null ) {
+					entitiesByPersister = new HashMap<>();
+				}
+				entitiesByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( entity );
+			}
+		}
+		if ( entitiesByPersister == null ) {
+			return null;
+		}
+		checkNotReadOnly();
+		final Map<Object, Object> identifiers = new IdentityHashMap<>( entities.size() );
+		entitiesByPersister.forEach( (persister, entitiesOfType) -> {
+			if ( entitiesOfType.size() > 1 ) {
+				final Object[] ids =
+						( (BulkIdentifierGenerator) persister.getGenerator() )
+								.generate( this, entitiesOfType.size() );
+				for ( int i = 0; i < ids.length; i++ ) {
+					identifiers.put( entitiesOfType.get( i ), ids[i] );
+				}
+			}
+		} );
+		return identifiers;
+	}
+
+	private Object doInsert(String entityName, Object entity, Object preallocatedId) {
 		checkNotReadOnly();
 		final var persister = getEntityPersister( entityName, entity );
 		final Object id;
@@ -400,11 +591,7 @@ private Object doInsert(String entityName, Object entity) {
 		}
 		final var generator = persister.getGenerator();
 		if ( generator.generatedBeforeExecution( entity, this ) ) {
-			if ( !generator.generatesOnInsert() ) {
-				throw new IdentifierGenerationException( "Identifier generator must generate on insert" );
-			}
-			final Object currentValue = generator.allowAssignedIdentifiers() ? persister.getIdentifier( entity ) : null;
-			id = ( (BeforeExecutionGenerator) generator ).generate( this, entity, currentValue, INSERT );
+			id = generateIdentifier( persister, entity, preallocatedId );
 			persister.setIdentifier( entity, id, this );
 			if ( firePreInsert(entity, id, state, persister) ) {
 				return id;
@@ -412,19 +599,7 @@ private Object doInsert(String entityName, Object entity) {
 			else {
 				runInterceptorCallback(
 						() -> getInterceptor().onInsert( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() ) );
-				final var eventMonitor = getEventMonitor();
-				final var event = eventMonitor.beginEntityInsertEvent();
-				boolean success = false;
-				try {
-					persister.getInsertCoordinator().insert( entity, id, state, this );
-					success = true;
-				}
-				catch (ConstraintViolationException cve) {
-					throw convertException( cve );
-				}
-				finally {
-					eventMonitor.completeEntityInsertEvent( event, id, persister.getEntityName(), success, this );
-				}
+				coordinateInsert( persister, entity, id, state );
 			}
 		}
 		else if ( generator.generatedOnExecution( entity, this ) ) {
@@ -467,19 +642,7 @@ else if ( generator.generatedOnExecution( entity, this ) ) {
 			else {
 				runInterceptorCallback(
 						() -> getInterceptor().onInsert( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() ) );
-				final var eventMonitor = getEventMonitor();
-				final var event = eventMonitor.beginEntityInsertEvent();
-				boolean success = false;
-				try {
-					persister.getInsertCoordinator().insert( entity, id, state, this );
-					success = true;
-				}
-				catch (ConstraintViolationException cve) {
-					throw convertException( cve );
-				}
-				finally {
-					eventMonitor.completeEntityInsertEvent( event, id, persister.getEntityName(), success, this );
-				}
+				coordinateInsert( persister, entity, id, state );
 			}
 		}
 		recreateCollections( entity, id, persister );
@@ -491,6 +654,36 @@ else if ( generator.generatedOnExecution( entity, this ) ) {
 		return id;
 	}
 
+	private Object generateIdentifier(EntityPersister persister, Object entity, Object preallocatedId) {
+		final var generator = persister.getGenerator();
+		if ( !generator.generatesOnInsert() ) {
+			throw new IdentifierGenerationException( "Identifier generator must generate on insert" );
+		}
+		if ( preallocatedId != null ) {
+			return preallocatedId;
+		}
+		else {
+			final Object currentValue = generator.allowAssignedIdentifiers() ? persister.getIdentifier( entity ) : null;
+			return ( (BeforeExecutionGenerator) generator ).generate( this, entity, currentValue, INSERT );
+		}
+	}
+
+	private void coordinateInsert(EntityPersister persister, Object entity, Object id, Object[] state) {
+		final var eventMonitor = getEventMonitor();
+		final var event = eventMonitor.beginEntityInsertEvent();
+		boolean success = false;
+		try {
+			persister.getInsertCoordinator().insert( entity, id, state, this );
+			success = true;
+		}
+		catch (ConstraintViolationException cve) {
+			throw convertException( cve );
+		}
+		finally {
+			eventMonitor.completeEntityInsertEvent( event, id, persister.getEntityName(), success, this );
+		}
+	}
+
 	private PersistenceException convertException(ConstraintViolationException cve) {
 		return getSessionFactoryOptions().isJpaBootstrap()
 			&& cve.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
@@ -56,6 +56,7 @@
 	private FindMultipleOption.SessionCheckMode sessionCheckMode = FindMultipleOption.SessionCheckMode.ENABLED;
 	private FindMultipleOption.RemovalsMode removalsMode = FindMultipleOption.RemovalsMode.REPLACE;
 	private FindMultipleOption.OrderingMode orderingMode = FindMultipleOption.OrderingMode.ORDERED;
+	private FindMultipleOption.ParallelFetch parallelFetch;
 
 	private CacheStoreMode cacheStoreMode;
 	private CacheRetrieveMode cacheRetrieveMode;
@@ -122,6 +123,9 @@ else if ( option instanceof FindMultipleOption.RemovalsMode removalsMode ) {
 				else if ( option instanceof FindMultipleOption.OrderingMode orderingMode ) {
 					this.orderingMode = orderingMode;
 				}
+				else if ( option instanceof FindMultipleOption.ParallelFetch parallelFetch ) {
+					this.parallelFetch = parallelFetch;
+				}
 				else if ( option instanceof CacheStoreMode cacheStoreMode ) {
 					this.cacheStoreMode = cacheStoreMode;
 					this.refreshSession = false;
@@ -369,6 +373,11 @@ public Integer getBatchSize() {
 		return batchSize == null ? null : batchSize.batchSize();
 	}
 
+	@Override
+	public int getParallelFetchConnections() {
+		return parallelFetch == null ? 0 : parallelFetch.connections();
+	}
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/// Temporarily defined full constructor in support of
@@ -22,6 +22,23 @@ public static int ceilingPowerOfTwo(int value) {
 		return 1 << -Integer.numberOfLeadingZeros(value - 1);
 	}
 
+	/**
+	 * Returns the number of elements a list of {@code size} elements is padded to when it
+	 * has to be split into chunks of at most {@code chunkSize} elements: the smallest power
+	 * of two number that is greater than or equal to {@code size} or, if that number exceeds
+	 * {@code chunkSize}, the smallest power of two number of chunks holding all the elements.
+	 *
+	 * @param size the number of elements
+	 * @param chunkSize the maximum number of elements of a chunk, or {@code 0} if unlimited
+	 * @return the padded number of elements
+	 */
+	public static int ceilingPowerOfTwo(int size, int chunkSize) {
+		final int ceilingPowerOfTwo = ceilingPowerOfTwo( size );
+		return chunkSize <= 0 || ceilingPowerOfTwo <= chunkSize
+				? ceilingPowerOfTwo
+				: ceilingPowerOfTwo( divideRoundingUp( size, chunkSize ) ) * chunkSize;
+	}
+
 	/**
 	 * Returns the result of dividing a positive {@code numerator} by a positive {@code denominator} rounded up.
 	 * <p>
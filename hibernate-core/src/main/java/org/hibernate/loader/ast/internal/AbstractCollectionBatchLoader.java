@@ -89,6 +89,7 @@ public PersistentCollection<?> load(Object key, SharedSessionContractImplementor
 		}
 		initializeKeys( key, keys, session );
 		finishInitializingKeys( keys, session );
+		PrefetchPlanner.of( session ).collectionsFetched( getLoadable(), keys, session );
 
 		return session.getPersistenceContext().getCollection( collectionKey( key, session ) );
 	}
@@ -90,6 +90,7 @@ private T load(
 		}
 		else {
 			initializeEntities( ids, id, entityInstance, lockOptions, readOnly, session );
+			PrefetchPlanner.of( session ).entitiesFetched( getLoadable(), ids, session );
 			final var entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
 			//noinspection unchecked
 			return (T) session.getPersistenceContext().getEntity( entityKey );
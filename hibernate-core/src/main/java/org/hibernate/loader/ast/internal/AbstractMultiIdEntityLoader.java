@@ -5,6 +5,7 @@
 package org.hibernate.loader.ast.internal;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.hibernate.FindMultipleOption;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -23,6 +24,7 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static org.hibernate.event.spi.LoadEventListener.GET;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
@@ -120,14 +122,20 @@ private List<T> orderedMultiLoad(
 		final var persister = loadable.getEntityPersister();
 		final var idType = loadable.getIdentifierMapping().getJavaType();
 
-		final int maxBatchSize = maxBatchSize( ids, loadOptions );
+		final var lockOptions = lockOptions( loadOptions );
+		final int maxBatchSize =
+				isParallelFetch( loadOptions, lockOptions, session )
+						? parallelBatchSize( ids, loadOptions )
+						: maxBatchSize( ids, loadOptions );
 
 		final List<Object> results = arrayList( ids.length );
 
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
-		final var lockOptions = lockOptions( loadOptions );
+		// when fetching in parallel, the batches are collected and fetched at the end
+		final List<List<Object>> parallelBatches =
+				isParallelFetch( loadOptions, lockOptions, session ) ? new ArrayList<>() : null;
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = coerce( idType, ids[i] );
@@ -138,7 +146,12 @@ private List<T> orderedMultiLoad(
 				idsInBatch.add( id );
 				if ( idsInBatch.size() >= maxBatchSize ) {
 					// we've hit the allotted max-batch-size, perform an "intermediate load"
-					loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
+					if ( parallelBatches == null ) {
+						loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
+					}
+					else {
+						parallelBatches.add( new ArrayList<>( idsInBatch ) );
+					}
 					idsInBatch.clear();
 				}
 				// Save the EntityKey instance for use later
@@ -147,7 +160,13 @@ private List<T> orderedMultiLoad(
 			}
 		}
 
-		if ( !idsInBatch.isEmpty() ) {
+		if ( parallelBatches != null ) {
+			if ( !idsInBatch.isEmpty() ) {
+				parallelBatches.add( idsInBatch );
+			}
+			loadEntitiesInParallel( parallelBatches, lockOptions, loadOptions, session );
+		}
+		else if ( !idsInBatch.isEmpty() ) {
 			// we still have ids to load from the processing above since
 			// the last max-batch-size trigger, perform a load for them
 			loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
@@ -171,6 +190,59 @@ private static LockOptions lockOptions(MultiIdLoadOptions loadOptions) {
 
 	protected abstract int maxBatchSize(Object[] ids, MultiIdLoadOptions loadOptions);
 
+	/**
+	 * Whether the batches of ids should be fetched concurrently over several connections.
+	 *
+	 * @see FindMultipleOption.ParallelFetch
+	 */
+	protected boolean isParallelFetch(
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return loadOptions.getParallelFetchConnections() > 0
+			// the additional connections can't hold locks for the transaction
+			&& !lockOptions.getLockMode().greaterThan( LockMode.READ )
+			// nor be enlisted in a JTA transaction from other threads
+			&& !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta();
+	}
+
+	private void loadEntitiesInParallel(
+			List<List<Object>> idBatches,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		if ( idBatches.size() > 1 ) {
+			final List<ParallelBatchFetcher.Batch> batches = new ArrayList<>( idBatches.size() );
+			for ( var idsInBatch : idBatches ) {
+				final var batch = prepareBatch( idsInBatch, lockOptions, loadOptions, session );
+				if ( batch == null ) {
+					break;
+				}
+				batches.add( batch );
+			}
+			if ( batches.size() == idBatches.size() ) {
+				ParallelBatchFetcher.fetch( batches, loadOptions.getParallelFetchConnections(), session );
+				return;
+			}
+		}
+		for ( var idsInBatch : idBatches ) {
+			loadEntitiesById( idsInBatch, lockOptions, loadOptions, session );
+		}
+	}
+
+	/**
+	 * Prepare, without executing it, the query which loads the entities
+	 * with the given ids into the persistence context, or return null if
+	 * the batch must be loaded by {@link #loadEntitiesById}.
+	 */
+	@Nullable ParallelBatchFetcher.Batch prepareBatch(
+			List<Object> idsInBatch,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		return null;
+	}
+
 	private void handleResults(
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session,
@@ -272,7 +344,12 @@ protected List<T> unorderedMultiLoad(
 				}
 		);
 		if ( !isEmpty( unresolvableIds ) ) {
-			loadEntitiesWithUnresolvedIds( unresolvableIds, loadOptions, lockOptions, results, session );
+			if ( isParallelFetch( loadOptions, lockOptions, session ) ) {
+				loadEntitiesWithUnresolvedIdsInParallel( unresolvableIds, loadOptions, lockOptions, results, session );
+			}
+			else {
+				loadEntitiesWithUnresolvedIds( unresolvableIds, loadOptions, lockOptions, results, session );
+			}
 			final var batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
 			final var persister = getLoadable().getEntityPersister();
 			for ( Object id : unresolvableIds ) {
@@ -294,6 +371,48 @@ protected abstract void loadEntitiesWithUnresolvedIds(
 			List<T> results,
 			SharedSessionContractImplementor session);
 
+	private void loadEntitiesWithUnresolvedIdsInParallel(
+			Object[] unresolvableIds,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			List<T> results,
+			SharedSessionContractImplementor session) {
+		final int maxBatchSize = parallelBatchSize( unresolvableIds, loadOptions );
+		final List<List<Object>> idBatches = new ArrayList<>();
+		for ( int start = 0; start < unresolvableIds.length; start += maxBatchSize ) {
+			final int end = Math.min( start + maxBatchSize, unresolvableIds.length );
+			idBatches.add( asList( unresolvableIds ).subList( start, end ) );
+		}
+		loadEntitiesInParallel( idBatches, lockOptions, loadOptions, session );
+		// the entities were loaded into the persistence context
+		final var persistenceContext = session.getPersistenceContextInternal();
+		final var persister = getLoadable().getEntityPersister();
+		for ( Object id : unresolvableIds ) {
+			final Object entity = persistenceContext.getEntity( session.generateEntityKey( id, persister ) );
+			if ( entity != null ) {
+				//noinspection unchecked
+				results.add( (T) persistenceContext.proxyFor( entity ) );
+			}
+		}
+	}
+
+	/**
+	 * The size of the batches when fetching in parallel, which, unless
+	 * an explicit batch size was given, spreads the ids evenly over the
+	 * connections when a single query could load all of them.
+	 */
+	private int parallelBatchSize(Object[] ids, MultiIdLoadOptions loadOptions) {
+		final int maxBatchSize = maxBatchSize( ids, loadOptions );
+		final Integer explicitBatchSize = loadOptions.getBatchSize();
+		if ( explicitBatchSize != null && explicitBatchSize > 0 || maxBatchSize < ids.length ) {
+			return maxBatchSize;
+		}
+		else {
+			final int connections = loadOptions.getParallelFetchConnections();
+			return Math.max( 1, ( ids.length + connections - 1 ) / connections );
+		}
+	}
+
 	private <R> Object[] resolveInCachesIfEnabled(
 			Object[] ids,
 			@Nonnull MultiIdLoadOptions loadOptions,
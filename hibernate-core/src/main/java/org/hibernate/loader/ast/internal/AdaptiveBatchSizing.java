@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.hibernate.loader.ast.spi.BatchLoader;
+
+/**
+ * Chooses the batch loader used by an adaptive batch loader, from a moving average
+ * of the number of keys which were waiting to be batch fetched whenever a batch
+ * fetch was triggered.
+ * <p>
+ * Batch sizes are rounded up to a power of two and clamped to the configured bounds,
+ * and a batch loader is created lazily for each of them, so that few distinct SQL
+ * statements are needed.
+ *
+ * @param <L> The type of the batch loaders
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+ *
+ * @since 8.1
+ */
+class AdaptiveBatchSizing<L extends BatchLoader> {
+	// the average is a fixed point number with four fractional bits
+	private static final int SCALE = 16;
+	// each observation moves the average by an eighth of its distance to it
+	private static final int SMOOTHING_SHIFT = 3;
+
+	private final int minSize;
+	private final int maxSize;
+	private final IntFunction<L> loaderCreator;
+
+	private final AtomicInteger scaledAverage;
+	private final Map<Integer, L> loaders = new ConcurrentHashMap<>();
+
+	AdaptiveBatchSizing(int initialSize, int minSize, int maxSize, IntFunction<L> loaderCreator) {
+		assert minSize > 1 && minSize <= maxSize;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.loaderCreator = loaderCreator;
+		scaledAverage = new AtomicInteger( clamp( initialSize ) * SCALE );
+	}
+
+	int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Record the number of keys currently waiting to be batch fetched,
+	 * and return the batch loader to use for them.
+	 */
+	L observe(int pendingKeys) {
+		final int sample = clamp( pendingKeys ) * SCALE;
+		final int average =
+				scaledAverage.updateAndGet( current -> current + ( ( sample - current ) >> SMOOTHING_SHIFT ) );
+		return loader( average );
+	}
+
+	/**
+	 * The batch loader for the current average, without recording any observation.
+	 */
+	L current() {
+		return loader( scaledAverage.get() );
+	}
+
+	private L loader(int scaledAverage) {
+		final int average = ( scaledAverage + SCALE - 1 ) / SCALE;
+		return loaders.computeIfAbsent( batchSize( average ), loaderCreator::apply );
+	}
+
+	private int batchSize(int average) {
+		final int powerOfTwo = average <= 1 ? 1 : Integer.highestOneBit( average - 1 ) << 1;
+		return clamp( powerOfTwo );
+	}
+
+	private int clamp(int size) {
+		return Math.max( minSize, Math.min( maxSize, size ) );
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+
+/**
+ * A {@link CollectionBatchLoader} which adjusts its batch size to the number of
+ * uninitialized collections waiting in the {@link org.hibernate.engine.spi.BatchFetchQueue}
+ * when a batch fetch is triggered, delegating to a batch loader of the chosen size.
+ *
+ * @see AdaptiveBatchSizing
+ *
+ * @since 8.1
+ */
+public class CollectionBatchLoaderAdaptive implements CollectionBatchLoader {
+	private final PluralAttributeMapping attributeMapping;
+	private final AdaptiveBatchSizing<CollectionBatchLoader> sizing;
+
+	public CollectionBatchLoaderAdaptive(
+			int domainBatchSize,
+			int minBatchSize,
+			int maxBatchSize,
+			PluralAttributeMapping attributeMapping,
+			IntFunction<CollectionBatchLoader> loaderCreator) {
+		this.attributeMapping = attributeMapping;
+		this.sizing = new AdaptiveBatchSizing<>( domainBatchSize, minBatchSize, maxBatchSize, loaderCreator );
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return attributeMapping;
+	}
+
+	/**
+	 * The most collections a single load may initialize, that is, the largest
+	 * size adaptive batch fetching may choose for this role. The size chosen
+	 * for each batch is reported by {@link org.hibernate.stat.CollectionStatistics#getBatchFetchSize()}.
+	 */
+	@Override
+	public int getDomainBatchSize() {
+		return sizing.getMaxSize();
+	}
+
+	@Override
+	public PersistentCollection<?> load(Object key, SharedSessionContractImplementor session) {
+		final int pendingKeys =
+				session.getPersistenceContextInternal().getBatchFetchQueue()
+						.getBatchLoadableCollectionCount( attributeMapping );
+		final var loader = sizing.observe( pendingKeys );
+		final var statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.collectionBatchSizeAdapted(
+					attributeMapping.getCollectionDescriptor().getRole(),
+					loader.getDomainBatchSize()
+			);
+		}
+		return loader.load( key, session );
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"CollectionBatchLoaderAdaptive(%s [%s])",
+				attributeMapping.getNavigableRole().getFullPath(),
+				sizing.getMaxSize()
+		);
+	}
+}
@@ -168,6 +168,7 @@ private PersistentCollection<?> loadWithConversion(
 				finishInitializingKey( initializedKey, session );
 			}
 		}
+		PrefetchPlanner.of( session ).collectionsFetched( getLoadable(), domainKeys, session );
 		return session.getPersistenceContext()
 				.getCollection( collectionKey( keyBeingLoaded, session ) );
 	}
@@ -146,12 +146,25 @@ public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImpl
 						}
 					}
 			);
+			prefetchCollectionElements( triggerKey, subSelectFetchedCollections, session );
 			subSelectFetchedCollections.clear();
 		}
 
 		return collection;
 	}
 
+	private void prefetchCollectionElements(
+			Object triggerKey,
+			List<PersistentCollection<?>> subSelectFetchedCollections,
+			SharedSessionContractImplementor session) {
+		final Object[] keys = new Object[subSelectFetchedCollections.size() + 1];
+		keys[0] = triggerKey;
+		for ( int i = 0; i < subSelectFetchedCollections.size(); i++ ) {
+			keys[i + 1] = subSelectFetchedCollections.get( i ).getKey();
+		}
+		PrefetchPlanner.of( session ).collectionsFetched( attributeMapping, keys, session );
+	}
+
 	private CollectionKey collectionKey(EntityKey key, SharedSessionContractImplementor session) {
 		return session.generateCollectionKey( attributeMapping.getCollectionDescriptor(), key.getIdentifier() );
 	}
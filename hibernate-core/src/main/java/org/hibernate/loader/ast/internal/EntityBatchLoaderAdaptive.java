@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+
+/**
+ * An {@link EntityBatchLoader} which adjusts its batch size to the number of
+ * entities waiting in the {@link org.hibernate.engine.spi.BatchFetchQueue}
+ * when a batch fetch is triggered, delegating to a batch loader of the
+ * chosen size.
+ *
+ * @see AdaptiveBatchSizing
+ *
+ * @since 8.1
+ */
+public class EntityBatchLoaderAdaptive<T> implements EntityBatchLoader<T> {
+	private final EntityMappingType entityDescriptor;
+	private final AdaptiveBatchSizing<EntityBatchLoader<T>> sizing;
+
+	public EntityBatchLoaderAdaptive(
+			int domainBatchSize,
+			int minBatchSize,
+			int maxBatchSize,
+			EntityMappingType entityDescriptor,
+			IntFunction<EntityBatchLoader<T>> loaderCreator) {
+		this.entityDescriptor = entityDescriptor;
+		this.sizing = new AdaptiveBatchSizing<>( domainBatchSize, minBatchSize, maxBatchSize, loaderCreator );
+	}
+
+	@Override
+	public EntityMappingType getLoadable() {
+		return entityDescriptor;
+	}
+
+	/**
+	 * The largest batch size adaptive batch fetching may choose, rather than
+	 * the size of the next batch, since this is the most entities a single
+	 * load may initialize. The size of the most recent batch is reported by
+	 * {@link org.hibernate.stat.EntityStatistics#getBatchFetchSize()}.
+	 */
+	@Override
+	public int getDomainBatchSize() {
+		return sizing.getMaxSize();
+	}
+
+	@Override
+	public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		return chooseLoader( session ).load( pkValue, lockOptions, readOnly, session );
+	}
+
+	@Override
+	public T load(
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		return chooseLoader( session ).load( pkValue, entityInstance, lockOptions, readOnly, session );
+	}
+
+	@Override
+	public T load(
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return chooseLoader( session ).load( pkValue, entityInstance, lockOptions, session );
+	}
+
+	@Override
+	public Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+		return sizing.current().loadDatabaseSnapshot( id, session );
+	}
+
+	private EntityBatchLoader<T> chooseLoader(SharedSessionContractImplementor session) {
+		final int pendingKeys =
+				session.getPersistenceContextInternal().getBatchFetchQueue()
+						.getBatchLoadableEntityKeyCount( entityDescriptor );
+		final var loader = sizing.observe( pendingKeys );
+		final var statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.entityBatchSizeAdapted( entityDescriptor.getEntityName(), loader.getDomainBatchSize() );
+		}
+		return loader;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"EntityBatchLoaderAdaptive(%s [%s])",
+				entityDescriptor.getEntityName(),
+				sizing.getMaxSize()
+		);
+	}
+}
@@ -98,6 +98,24 @@ protected void loadEntitiesById(
 			LockOptions lockOptions,
 			MultiIdLoadOptions loadOptions,
 			SharedSessionContractImplementor session) {
+		final var batch = prepareBatch( idsInBatch, lockOptions, loadOptions, session );
+		getJdbcSelectExecutor().executeQuery(
+				batch.jdbcSelect(),
+				batch.jdbcParameterBindings(),
+				batch.executionContext(),
+				RowTransformerStandardImpl.instance(),
+				null,
+				batch.idCount(),
+				ManagedResultConsumer.INSTANCE
+		);
+	}
+
+	@Override
+	ParallelBatchFetcher.Batch prepareBatch(
+			List<Object> idsInBatch,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
 		final var sqlAst =
 				createSelectBySingleArrayParameter(
 						getLoadable(),
@@ -130,7 +148,7 @@ public LockOptions getLockOptions() {
 						}
 				);
 
-		getJdbcSelectExecutor().executeQuery(
+		return new ParallelBatchFetcher.Batch(
 				jdbcOperation,
 				bindings,
 				new ExecutionContextWithSubselectFetchHandler(
@@ -146,10 +164,7 @@ public LockOptions getLockOptions() {
 								&& TRUE.equals( loadOptions.getReadOnly( statefulSession ) ),
 						lockOptions
 				),
-				RowTransformerStandardImpl.instance(),
-				null,
-				idsInBatch.size(),
-				ManagedResultConsumer.INSTANCE
+				idsInBatch.size()
 		);
 	}
 
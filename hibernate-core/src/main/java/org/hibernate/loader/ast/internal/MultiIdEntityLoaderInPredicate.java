@@ -101,6 +101,25 @@ private List<T> performRegularMultiLoad(
 //					getLoadable().getEntityName(), numberOfIdsInBatch );
 //		}
 
+		final var batch = prepareBatch( idsInBatch, lockOptions, loadOptions, session );
+		return getJdbcSelectExecutor().list(
+				batch.jdbcSelect(),
+				batch.jdbcParameterBindings(),
+				batch.executionContext(),
+				RowTransformerStandardImpl.instance(),
+				null,
+				ListResultsConsumer.UniqueSemantic.FILTER,
+				numberOfIdsInBatch
+		);
+	}
+
+	@Override
+	ParallelBatchFetcher.Batch prepareBatch(
+			List<Object> idsInBatch,
+			LockOptions lockOptions,
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		final int numberOfIdsInBatch = idsInBatch.size();
 		final var jdbcParametersBuilder =
 				JdbcParametersList.newBuilder( numberOfIdsInBatch * idJdbcTypeCount );
 
@@ -134,7 +153,7 @@ private List<T> performRegularMultiLoad(
 		// we should have used all the JdbcParameter references (created bindings for all)
 		assert offset == jdbcParameters.size();
 
-		return getJdbcSelectExecutor().list(
+		return new ParallelBatchFetcher.Batch(
 				getSqlAstTranslatorFactory().buildSelectTranslator( getSessionFactory(), sqlAst )
 						.translate( jdbcParameterBindings, new QueryOptionsAdapter() {
 							@Override
@@ -151,10 +170,7 @@ public LockOptions getLockOptions() {
 								&& TRUE.equals( loadOptions.getReadOnly( statefulSession ) ),
 						lockOptions
 				),
-				RowTransformerStandardImpl.instance(),
-				null,
-				ListResultsConsumer.UniqueSemantic.FILTER,
-				idsInBatch.size()
+				numberOfIdsInBatch
 		);
 	}
 
@@ -9,6 +9,7 @@
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -17,7 +18,9 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.TRACE;
+import static org.jboss.logging.Logger.Level.WARN;
 
 /**
  * Logging related to loading a {@linkplain org.hibernate.loader.ast.spi.Loadable loadable}
@@ -103,4 +106,12 @@ public interface MultiKeyLoadLogging extends BasicLogger {
 	@LogMessage(level = TRACE)
 	@Message(id = 90006124, value = "Finishing collection batch fetch chunk (%s) %s - %s (%s)")
 	void finishingCollectionBatchFetchChunk(String collectionInfoString, int startIndex, int endIndex, int nonNullElementCount);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 90006125, value = "No additional JDBC connection available for parallel fetch, fetching the remaining batches over the connection of the session")
+	void parallelFetchConnectionUnavailable(@Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = 90006126, value = "Prefetch of '%s' failed, the association will be fetched when it is navigated")
+	void prefetchFailed(String role, @Cause Throwable cause);
 }
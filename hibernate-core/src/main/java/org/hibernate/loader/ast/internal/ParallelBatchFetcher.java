@@ -0,0 +1,600 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Timeout;
+import org.hibernate.HibernateException;
+import org.hibernate.Timeouts;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesBuffered;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingProducerStandard;
+import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.spi.ManagedResultConsumer;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.format.FormatMapper;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * Executes the queries fetching batches of entities concurrently, over
+ * additional JDBC connections obtained from the session's
+ * {@link org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess}.
+ * <p>
+ * For each worker in turn, the thread of the session obtains a connection,
+ * prepares the statements of the worker and binds their parameters, and then
+ * immediately hands the connection over to the worker, running on the
+ * {@link ParallelFetchExecutor} of the session factory. The worker executes
+ * the statements, and reads their rows into memory, using a snapshot of the
+ * {@link WrapperOptions} of the session. The thread of the session assembles
+ * the entities from the rows of each batch, in the order of the batches, so
+ * that the session is only ever used by its own thread.
+ * <p>
+ * The connection of the session is obtained first. When no additional
+ * connection is available, the batches of the workers which could not be
+ * started are fetched over the connection of the session instead, so that
+ * sessions competing for the last connections of a pool never wait for
+ * each other.
+ * <p>
+ * The query or lock timeout, if any, applies to the statements, and also
+ * bounds the time spent waiting for the workers.
+ *
+ * @see org.hibernate.FindMultipleOption.ParallelFetch
+ *
+ * @since 8.1
+ */
+final class ParallelBatchFetcher {
+
+	/**
+	 * A query fetching a batch of entities, ready for execution.
+	 */
+	record Batch(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			int idCount) {
+	}
+
+	private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+	private ParallelBatchFetcher() {
+	}
+
+	/**
+	 * Fetch the given batches over at most the given number of additional
+	 * connections, or sequentially over the connection of the session when
+	 * the rows of some batch can't be read ahead of their processing.
+	 */
+	static void fetch(List<Batch> batches, int connections, SharedSessionContractImplementor session) {
+		final int batchCount = batches.size();
+		final var mappings = new JdbcValuesMapping[batchCount];
+		for ( int i = 0; i < batchCount; i++ ) {
+			final var mapping = bufferableMapping( batches.get( i ).jdbcSelect() );
+			if ( mapping == null ) {
+				fetchSequentially( batches, session );
+				return;
+			}
+			mappings[i] = mapping;
+		}
+
+		final var timeout = timeout( batches.get( 0 ).executionContext() );
+		final long deadline =
+				timeout == null
+						? NO_DEADLINE
+						: System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeout.milliseconds() );
+		final int workerCount = Math.min( connections, batchCount );
+		final List<Worker> workers = new ArrayList<>( workerCount );
+		final var queries = new Query[batchCount];
+		RuntimeException failure = null;
+		try {
+			// the batches of a worker which can't be started are fetched
+			// over this connection, which must therefore not be waited for
+			session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			final var options = new WrapperOptionsSnapshot( session );
+			final var executor = session.getFactory().getServiceRegistry()
+					.requireService( ParallelFetchExecutor.class );
+			for ( int w = 0; w < workerCount; w++ ) {
+				final var connection = tryObtainConnection( session );
+				if ( connection == null ) {
+					break;
+				}
+				final var worker = new Worker( connection, session, options );
+				workers.add( worker );
+				// each worker executes every n-th batch, so that
+				// the batches are read roughly in the order of
+				// their processing
+				for ( int i = w; i < batchCount; i += workerCount ) {
+					queries[i] = worker.prepare( batches.get( i ), mappings[i], timeout );
+				}
+				worker.submitted = true;
+				executor.execute( worker );
+			}
+			for ( int i = 0; i < batchCount; i++ ) {
+				final var batch = batches.get( i );
+				if ( queries[i] == null ) {
+					fetchSequentially( batch, session );
+				}
+				else {
+					process( batch, await( queries[i], deadline, session ) );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			failure = e;
+			for ( var worker : workers ) {
+				worker.cancel();
+			}
+		}
+		finally {
+			for ( var worker : workers ) {
+				try {
+					worker.release( deadline );
+				}
+				catch (RuntimeException e) {
+					if ( failure == null ) {
+						failure = e;
+					}
+					else {
+						failure.addSuppressed( e );
+					}
+				}
+			}
+		}
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * The query timeout, or else the lock timeout, if either is set.
+	 */
+	private static @Nullable Timeout timeout(ExecutionContext executionContext) {
+		final var queryOptions = executionContext.getQueryOptions();
+		if ( queryOptions != null ) {
+			final var timeout = queryOptions.getTimeout();
+			if ( Timeouts.isRealTimeout( timeout ) ) {
+				return timeout;
+			}
+			final var lockOptions = queryOptions.getLockOptions();
+			if ( lockOptions != null && Timeouts.isRealTimeout( lockOptions.getTimeout() ) ) {
+				return lockOptions.getTimeout();
+			}
+		}
+		return null;
+	}
+
+	private static void fetchSequentially(List<Batch> batches, SharedSessionContractImplementor session) {
+		for ( var batch : batches ) {
+			fetchSequentially( batch, session );
+		}
+	}
+
+	private static void fetchSequentially(Batch batch, SharedSessionContractImplementor session) {
+		session.getJdbcServices().getJdbcSelectExecutor().executeQuery(
+				batch.jdbcSelect(),
+				batch.jdbcParameterBindings(),
+				batch.executionContext(),
+				RowTransformerStandardImpl.instance(),
+				null,
+				batch.idCount(),
+				ManagedResultConsumer.INSTANCE
+		);
+	}
+
+	private static void process(Batch batch, JdbcValuesBuffered rows) {
+		try {
+			new BufferedJdbcSelectExecutor( rows ).executeQuery(
+					batch.jdbcSelect(),
+					batch.jdbcParameterBindings(),
+					batch.executionContext(),
+					RowTransformerStandardImpl.instance(),
+					null,
+					batch.idCount(),
+					ManagedResultConsumer.INSTANCE
+			);
+		}
+		finally {
+			// no statement was executed, but the connection of the
+			// session was obtained, and may need to be released
+			batch.executionContext().getSession().getJdbcCoordinator().afterStatementExecution();
+		}
+	}
+
+	/**
+	 * The mapping of the results of the given query, if it is known before
+	 * executing the query, and the rows can be read before being processed,
+	 * that is, if no value is a LOB locator which depends on the connection.
+	 */
+	private static @Nullable JdbcValuesMapping bufferableMapping(JdbcSelect jdbcSelect) {
+		if ( jdbcSelect.getJdbcValuesMappingProducer() instanceof JdbcValuesMappingProducerStandard producer ) {
+			final var mapping = producer.getStaticallyResolvedMapping();
+			if ( mapping != null ) {
+				for ( var sqlSelection : mapping.getSqlSelections() ) {
+					final var javaTypeClass =
+							sqlSelection.getExpressionType().getSingleJdbcMapping()
+									.getJdbcJavaType().getJavaTypeClass();
+					if ( Blob.class.isAssignableFrom( javaTypeClass )
+							|| Clob.class.isAssignableFrom( javaTypeClass )
+							|| SQLXML.class.isAssignableFrom( javaTypeClass ) ) {
+						return null;
+					}
+				}
+				return mapping;
+			}
+		}
+		return null;
+	}
+
+	private static String inspect(String incomingSql, SharedSessionContractImplementor session) {
+		final String inspectedSql =
+				session.getJdbcSessionContext().getStatementInspector().inspect( incomingSql );
+		final String sql = inspectedSql == null ? incomingSql : inspectedSql;
+		session.getJdbcServices().getSqlStatementLogger().logStatement( sql );
+		return sql;
+	}
+
+	/**
+	 * Wait until the rows of the given query have been read, at most until the deadline.
+	 */
+	private static JdbcValuesBuffered await(
+			Query query,
+			long deadline,
+			SharedSessionContractImplementor session) {
+		try {
+			return deadline == NO_DEADLINE
+					? query.rows().get()
+					: query.rows().get( deadline - System.nanoTime(), TimeUnit.NANOSECONDS );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException cause ) {
+				throw cause;
+			}
+			else if ( e.getCause() instanceof Error error ) {
+				throw error;
+			}
+			throw new HibernateException( "Parallel fetch failed", e.getCause() );
+		}
+		catch (TimeoutException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					new SQLTimeoutException( "Timed out waiting for the results of a parallel fetch" ),
+					"JDBC exception executing SQL",
+					query.sql()
+			);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for the results of a parallel fetch", e );
+		}
+	}
+
+	/**
+	 * A prepared statement, with its parameters bound, and the rows it returns.
+	 */
+	private record Query(
+			PreparedStatement statement,
+			String sql,
+			JdbcValuesMapping mapping,
+			CompletableFuture<JdbcValuesBuffered> rows) {
+	}
+
+	/**
+	 * Executes the queries prepared on a connection, in turn, on a thread of
+	 * the {@link ParallelFetchExecutor}.
+	 */
+	private static final class Worker implements Runnable {
+		private final Connection connection;
+		private final SharedSessionContractImplementor session;
+		private final WrapperOptions options;
+		private final SqlExceptionHelper sqlExceptionHelper;
+		private final JdbcConnectionAccess connectionAccess;
+		private final List<Query> queries = new ArrayList<>();
+		private final CompletableFuture<Void> finished = new CompletableFuture<>();
+		// set by whichever of the worker and the thread of the session is done
+		// with the connection first, the other one then releases the connection
+		private final AtomicBoolean handedOver = new AtomicBoolean();
+		private volatile boolean cancelled;
+		private boolean submitted;
+
+		private Worker(Connection connection, SharedSessionContractImplementor session, WrapperOptions options) {
+			this.connection = connection;
+			this.session = session;
+			this.options = options;
+			this.sqlExceptionHelper = session.getJdbcServices().getSqlExceptionHelper();
+			this.connectionAccess = session.getJdbcConnectionAccess();
+		}
+
+		/**
+		 * Prepare the statement of the given batch, and bind its parameters,
+		 * on the thread of the session.
+		 */
+		private Query prepare(Batch batch, JdbcValuesMapping mapping, @Nullable Timeout timeout) {
+			final var executionContext = batch.executionContext();
+			final String sql = inspect( batch.jdbcSelect().getSqlString(), session );
+			try {
+				final var statement = connection.prepareStatement( sql );
+				final var query = new Query( statement, sql, mapping, new CompletableFuture<>() );
+				queries.add( query );
+				if ( timeout != null ) {
+					statement.setQueryTimeout( Timeouts.getTimeoutInSeconds( timeout ) );
+				}
+				int position = 1;
+				for ( var parameterBinder : batch.jdbcSelect().getParameterBinders() ) {
+					parameterBinder.bindParameterValue(
+							statement,
+							position++,
+							batch.jdbcParameterBindings(),
+							executionContext
+					);
+				}
+				return query;
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper()
+						.convert( e, "JDBC exception preparing SQL", sql );
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				for ( var query : queries ) {
+					if ( cancelled ) {
+						query.rows().cancel( false );
+					}
+					else {
+						try {
+							query.rows().complete( read( query ) );
+						}
+						catch (Throwable e) {
+							query.rows().completeExceptionally( e );
+						}
+					}
+				}
+			}
+			finally {
+				finished.complete( null );
+				if ( !handedOver.compareAndSet( false, true ) ) {
+					// the thread of the session stopped waiting for this worker
+					try {
+						releaseConnection();
+					}
+					catch (RuntimeException ignored) {
+						// nobody is left to report it to
+					}
+				}
+			}
+		}
+
+		private JdbcValuesBuffered read(Query query) {
+			try ( var statement = query.statement();
+					var resultSet = statement.executeQuery() ) {
+				return JdbcValuesBuffered.read( resultSet, query.mapping(), options );
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper.convert( e, "JDBC exception executing SQL", query.sql() );
+			}
+		}
+
+		/**
+		 * Stop executing queries, and cancel the one being executed, if any.
+		 */
+		private void cancel() {
+			cancelled = true;
+			for ( var query : queries ) {
+				if ( !query.rows().isDone() ) {
+					try {
+						query.statement().cancel();
+					}
+					catch (SQLException ignored) {
+						// the worker reports the failure of the statement, if any
+					}
+				}
+			}
+		}
+
+		/**
+		 * Release the connection once the worker is done with it, unless it is
+		 * still running at the deadline, in which case the worker releases it.
+		 */
+		private void release(long deadline) {
+			if ( submitted && !awaitFinished( deadline ) && handedOver.compareAndSet( false, true ) ) {
+				cancel();
+				return;
+			}
+			releaseConnection();
+		}
+
+		private boolean awaitFinished(long deadline) {
+			try {
+				if ( deadline == NO_DEADLINE ) {
+					finished.get();
+				}
+				else {
+					finished.get( deadline - System.nanoTime(), TimeUnit.NANOSECONDS );
+				}
+				return true;
+			}
+			catch (TimeoutException | ExecutionException e) {
+				return finished.isDone();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return finished.isDone();
+			}
+		}
+
+		private void releaseConnection() {
+			for ( var query : queries ) {
+				try {
+					query.statement().close();
+				}
+				catch (SQLException ignored) {
+					// the connection is released anyway
+				}
+			}
+			try {
+				try {
+					// end the transaction in which the queries ran, if any
+					if ( !connection.getAutoCommit() ) {
+						connection.rollback();
+					}
+				}
+				finally {
+					connectionAccess.releaseConnection( connection );
+				}
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper.convert( e, "Unable to release JDBC Connection used for parallel fetch" );
+			}
+		}
+	}
+
+	/**
+	 * An additional connection, or {@code null} if none is available.
+	 */
+	private static @Nullable Connection tryObtainConnection(SharedSessionContractImplementor session) {
+		try {
+			return session.getJdbcConnectionAccess().obtainConnection();
+		}
+		catch (SQLException | RuntimeException e) {
+			MULTI_KEY_LOAD_LOGGER.parallelFetchConnectionUnavailable( e );
+			return null;
+		}
+	}
+
+	/**
+	 * The options of the session, captured by its own thread, for reading
+	 * rows on the threads of the workers. LOB locators are never read ahead,
+	 * and so no {@link org.hibernate.engine.jdbc.LobCreator} is needed.
+	 */
+	private static final class WrapperOptionsSnapshot implements WrapperOptions {
+		private final SessionFactoryImplementor factory;
+		private final Dialect dialect;
+		private final TypeConfiguration typeConfiguration;
+		private final @Nullable TimeZone jdbcTimeZone;
+		private final boolean useStreamForLobBinding;
+		private final int preferredSqlTypeCodeForBoolean;
+		private final boolean useLanguageTagForLocale;
+		private final FormatMapper xmlFormatMapper;
+		private final FormatMapper jsonFormatMapper;
+
+		private WrapperOptionsSnapshot(SharedSessionContractImplementor session) {
+			factory = session.getFactory();
+			dialect = session.getDialect();
+			typeConfiguration = session.getTypeConfiguration();
+			jdbcTimeZone = session.getJdbcTimeZone();
+			useStreamForLobBinding = session.useStreamForLobBinding();
+			preferredSqlTypeCodeForBoolean = session.getPreferredSqlTypeCodeForBoolean();
+			useLanguageTagForLocale = session.useLanguageTagForLocale();
+			xmlFormatMapper = session.getXmlFormatMapper();
+			jsonFormatMapper = session.getJsonFormatMapper();
+		}
+
+		@Override
+		@Nonnull
+		public SharedSessionContractImplementor getSession() {
+			throw new UnsupportedOperationException( "The session may not be used by a parallel fetch worker" );
+		}
+
+		@Override
+		@Nonnull
+		public SessionFactoryImplementor getSessionFactory() {
+			return factory;
+		}
+
+		@Override
+		public Dialect getDialect() {
+			return dialect;
+		}
+
+		@Override
+		@Nonnull
+		public TypeConfiguration getTypeConfiguration() {
+			return typeConfiguration;
+		}
+
+		@Override
+		public TimeZone getJdbcTimeZone() {
+			return jdbcTimeZone;
+		}
+
+		@Override
+		public boolean useStreamForLobBinding() {
+			return useStreamForLobBinding;
+		}
+
+		@Override
+		public int getPreferredSqlTypeCodeForBoolean() {
+			return preferredSqlTypeCodeForBoolean;
+		}
+
+		@Override
+		public boolean useLanguageTagForLocale() {
+			return useLanguageTagForLocale;
+		}
+
+		@Override
+		@Nonnull
+		public FormatMapper getXmlFormatMapper() {
+			return xmlFormatMapper;
+		}
+
+		@Override
+		@Nonnull
+		public FormatMapper getJsonFormatMapper() {
+			return jsonFormatMapper;
+		}
+	}
+
+	/**
+	 * Processes rows which were already read, instead of executing the query.
+	 */
+	private static final class BufferedJdbcSelectExecutor extends JdbcSelectExecutorStandardImpl {
+		private final JdbcValuesBuffered rows;
+
+		private BufferedJdbcSelectExecutor(JdbcValuesBuffered rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		protected JdbcValues resolveJdbcValuesSource(
+				String queryIdentifier,
+				JdbcSelect jdbcSelect,
+				boolean canBeCached,
+				ExecutionContext executionContext,
+				ResultSetAccess resultSetAccess) {
+			return rows;
+		}
+	}
+}
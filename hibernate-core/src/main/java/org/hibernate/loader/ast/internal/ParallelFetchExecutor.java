@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * The threads shared by every {@linkplain ParallelBatchFetcher parallel fetch}
+ * of a session factory. A worker is never queued: it runs on an idle thread, or
+ * else on a new thread, since it holds a JDBC connection which must not sit idle.
+ * The number of threads is thus bounded by the number of connections used for
+ * parallel fetches at once. Threads are stopped once they have been idle for a
+ * minute.
+ *
+ * @see org.hibernate.FindMultipleOption.ParallelFetch
+ *
+ * @since 8.1
+ */
+public final class ParallelFetchExecutor implements Service, Stoppable {
+	private final transient ThreadPoolExecutor executor;
+
+	ParallelFetchExecutor() {
+		final var threadCount = new AtomicInteger();
+		executor = new ThreadPoolExecutor(
+				0,
+				Integer.MAX_VALUE,
+				1, TimeUnit.MINUTES,
+				new SynchronousQueue<>(),
+				runnable -> {
+					final var thread = new Thread( runnable );
+					thread.setDaemon( true );
+					thread.setName( "Hibernate parallel fetch " + threadCount.incrementAndGet() );
+					return thread;
+				}
+		);
+	}
+
+	void execute(Runnable task) {
+		executor.execute( task );
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdownNow();
+	}
+}
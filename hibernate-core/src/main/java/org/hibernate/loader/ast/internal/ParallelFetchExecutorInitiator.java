@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import jakarta.annotation.Nonnull;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Standard initiator for the {@link ParallelFetchExecutor}.
+ *
+ * @since 8.1
+ */
+public class ParallelFetchExecutorInitiator implements SessionFactoryServiceInitiator<ParallelFetchExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final ParallelFetchExecutorInitiator INSTANCE = new ParallelFetchExecutorInitiator();
+
+	@Override
+	@Nonnull
+	public ParallelFetchExecutor initiateService(@Nonnull SessionFactoryServiceInitiatorContext context) {
+		return new ParallelFetchExecutor();
+	}
+
+	@Override
+	@Nonnull
+	public Class<ParallelFetchExecutor> getServiceInitiated() {
+		return ParallelFetchExecutor.class;
+	}
+}
@@ -0,0 +1,458 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.Nullable;
+import org.hibernate.FindMultipleOption;
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.metamodel.model.domain.ManagedDomainType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.Service;
+
+import static org.hibernate.graph.spi.GraphHelper.appliesTo;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Prefetches the lazy associations of entities which were just batch fetched,
+ * either entities fetched by an entity batch loader, or the elements of the
+ * collections fetched by a collection batch loader. The identifiers of the
+ * associated entities are already known from the fetched state, so all the
+ * entities associated by one association are fetched by a single multi-load,
+ * and then their own associations are prefetched, level by level.
+ * <p>
+ * The associations to prefetch are those named by the
+ * {@linkplain org.hibernate.Session#setPrefetchGraph prefetch graph} of the
+ * session, if any, and, if {@linkplain org.hibernate.cfg.FetchSettings#PREFETCH_PLANNING
+ * enabled}, those which were usually navigated after previous batches were
+ * fetched. The access history is kept per association role, by registering the
+ * uninitialized associations which were not prefetched as
+ * {@linkplain org.hibernate.engine.spi.BatchFetchQueue#addPrefetchCandidate
+ * prefetch candidates} of the session, and noticing when they are fetched.
+ * <p>
+ * Lazy collections are only prefetched when they are batch or subselect
+ * fetched, by initializing one of them. The batch loader of the collection
+ * calls back into the planner, which continues at the depth it had reached.
+ * <p>
+ * Prefetching is speculative, so a failure to prefetch an association is
+ * logged, and never propagated to the lazy load which triggered it.
+ *
+ * @since 8.1
+ */
+public class PrefetchPlanner implements Service {
+	// an association must have been observed this many times before it is prefetched
+	private static final int MIN_OBSERVATIONS = 4;
+	// the counts of an access history are halved once this many observations were made
+	private static final int MAX_OBSERVATIONS = 256;
+	// one prefetch in so many is skipped, to keep observing whether the association is navigated
+	private static final int SAMPLING_INTERVAL = 16;
+	// guards against runaway prefetching along deep graphs
+	private static final int MAX_DEPTH = 8;
+
+	private final boolean learning;
+	private final Map<String, AccessHistory> histories = new ConcurrentHashMap<>();
+	// the depth of the prefetch in progress on this thread, if any
+	private final ThreadLocal<Integer> currentDepth = ThreadLocal.withInitial( () -> 0 );
+
+	public PrefetchPlanner(boolean learning) {
+		this.learning = learning;
+	}
+
+	/**
+	 * The planner of the factory of the given session.
+	 */
+	public static PrefetchPlanner of(SharedSessionContractImplementor session) {
+		return session.getFactory().getServiceRegistry().requireService( PrefetchPlanner.class );
+	}
+
+	/**
+	 * Called once an entity batch loader has fetched the entities with the given identifiers.
+	 */
+	public void entitiesFetched(
+			EntityMappingType entityDescriptor,
+			Object[] ids,
+			SharedSessionContractImplementor session) {
+		if ( isPlanning( session ) ) {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final var persister = entityDescriptor.getEntityPersister();
+			final List<Object> entities = new ArrayList<>( ids.length );
+			for ( Object id : ids ) {
+				if ( id != null ) {
+					final Object entity = persistenceContext.getEntity( session.generateEntityKey( id, persister ) );
+					if ( entity != null ) {
+						entities.add( entity );
+					}
+				}
+			}
+			final var graph = session.getLoadQueryInfluencers().getPrefetchGraph();
+			final var subgraph = graph == null ? null : findSubgraph( graph, domainType( persister, session ) );
+			prefetch( entities, subgraph, session, currentDepth.get() );
+		}
+	}
+
+	/**
+	 * Called once a collection batch loader has fetched the collections with the given keys.
+	 */
+	public void collectionsFetched(
+			PluralAttributeMapping attributeMapping,
+			Object[] keys,
+			SharedSessionContractImplementor session) {
+		final var collectionDescriptor = attributeMapping.getCollectionDescriptor();
+		if ( collectionDescriptor.getElementType().isEntityType() && isPlanning( session ) ) {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final List<Object> elements = new ArrayList<>();
+			for ( Object key : keys ) {
+				if ( key != null ) {
+					final var collection =
+							persistenceContext.getCollection( session.generateCollectionKey( collectionDescriptor, key ) );
+					if ( collection != null && collection.wasInitialized() ) {
+						final var entries = collection.entries( collectionDescriptor );
+						while ( entries.hasNext() ) {
+							final Object element = collection.getElement( entries.next() );
+							if ( element != null ) {
+								elements.add( element );
+							}
+						}
+					}
+				}
+			}
+			final var graph = session.getLoadQueryInfluencers().getPrefetchGraph();
+			final var subgraph = graph == null ? null : findElementSubgraph(
+					graph,
+					domainType( collectionDescriptor.getOwnerEntityPersister(), session ),
+					attributeMapping.getAttributeName()
+			);
+			prefetch( elements, subgraph, session, currentDepth.get() );
+		}
+	}
+
+	private boolean isPlanning(SharedSessionContractImplementor session) {
+		return ( learning || session.getLoadQueryInfluencers().getPrefetchGraph() != null )
+			&& !session.isStateless()
+			// never while the results of some query are still being processed
+			&& session.getPersistenceContextInternal().isLoadFinished();
+	}
+
+	private void prefetch(
+			List<Object> entities,
+			@Nullable GraphImplementor<?> graph,
+			SharedSessionContractImplementor session,
+			int depth) {
+		if ( entities.isEmpty() || depth >= MAX_DEPTH ) {
+			return;
+		}
+
+		final var persistenceContext = session.getPersistenceContextInternal();
+		final var batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		final var mappingMetamodel = session.getFactory().getMappingMetamodel();
+		final Map<AttributeMapping, Decision> decisions = new HashMap<>();
+		final Map<Target, Set<Object>> idsByTarget = new LinkedHashMap<>();
+		final Map<String, PersistentCollection<?>> collectionsByRole = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			final var entry = persistenceContext.getEntry( entity );
+			if ( entry != null ) {
+				final var persister = entry.getPersister();
+				final Object[] loadedState = entry.getLoadedState();
+				final int count = persister.getNumberOfAttributeMappings();
+				for ( int i = 0; i < count; i++ ) {
+					final var attribute = persister.getAttributeMapping( i );
+					if ( attribute instanceof ToOneAttributeMapping || attribute instanceof PluralAttributeMapping ) {
+						// prefer the loaded state, since calling a getter might initialize the association
+						final Object value =
+								loadedState == null
+										? attribute.getValue( entity )
+										: loadedState[attribute.getStateArrayPosition()];
+						if ( attribute instanceof ToOneAttributeMapping ) {
+							final var lazyInitializer = extractLazyInitializer( value );
+							if ( lazyInitializer != null && lazyInitializer.isUninitialized() ) {
+								final var decision =
+										decisions.computeIfAbsent( attribute, a -> decide( a, graph, session ) );
+								final var target = mappingMetamodel.getEntityDescriptor( lazyInitializer.getEntityName() );
+								final Object id = lazyInitializer.getInternalIdentifier();
+								if ( decision.prefetch() ) {
+									idsByTarget.computeIfAbsent( new Target( target, decision.subgraph() ),
+											t -> new LinkedHashSet<>() ).add( id );
+								}
+								else if ( decision.observation() != null ) {
+									batchFetchQueue.addPrefetchCandidate( session.generateEntityKey( id, target ),
+											decision.observation().candidate() );
+								}
+							}
+						}
+						else if ( value instanceof PersistentCollection<?> collection
+								&& !collection.wasInitialized()
+								&& isFetchedTogether( (PluralAttributeMapping) attribute, session ) ) {
+							final var decision =
+									decisions.computeIfAbsent( attribute, a -> decide( a, graph, session ) );
+							if ( decision.prefetch() ) {
+								collectionsByRole.putIfAbsent( collection.getRole(), collection );
+							}
+							else if ( decision.observation() != null && collection.getKey() != null ) {
+								final var collectionDescriptor =
+										( (PluralAttributeMapping) attribute ).getCollectionDescriptor();
+								batchFetchQueue.addPrefetchCandidate(
+										session.generateCollectionKey( collectionDescriptor, collection.getKey() ),
+										decision.observation().candidate()
+								);
+							}
+						}
+					}
+				}
+			}
+		}
+
+		final int previousDepth = currentDepth.get();
+		currentDepth.set( depth + 1 );
+		try {
+			for ( var idsOfTarget : idsByTarget.entrySet() ) {
+				final var target = idsOfTarget.getKey();
+				final List<?> fetched;
+				try {
+					fetched = target.persister()
+							.multiLoad( idsOfTarget.getValue().toArray(), session, PrefetchLoadOptions.INSTANCE );
+				}
+				catch (RuntimeException e) {
+					MULTI_KEY_LOAD_LOGGER.prefetchFailed( target.persister().getEntityName(), e );
+					continue;
+				}
+				final List<Object> next = new ArrayList<>( fetched.size() );
+				for ( Object entity : fetched ) {
+					if ( entity != null ) {
+						final var lazyInitializer = extractLazyInitializer( entity );
+						if ( lazyInitializer == null ) {
+							next.add( entity );
+						}
+						else if ( !lazyInitializer.isUninitialized() ) {
+							next.add( lazyInitializer.getImplementation() );
+						}
+					}
+				}
+				prefetch( next, target.subgraph(), session, depth + 1 );
+			}
+			// the batch or subselect fetch of each role prefetches the associations of its elements in turn
+			for ( var collection : collectionsByRole.values() ) {
+				try {
+					collection.forceInitialization();
+				}
+				catch (RuntimeException e) {
+					MULTI_KEY_LOAD_LOGGER.prefetchFailed( collection.getRole(), e );
+				}
+			}
+		}
+		finally {
+			currentDepth.set( previousDepth );
+		}
+	}
+
+	private static boolean isFetchedTogether(PluralAttributeMapping attribute, SharedSessionContractImplementor session) {
+		final var collectionDescriptor = attribute.getCollectionDescriptor();
+		final var influencers = session.getLoadQueryInfluencers();
+		return influencers.effectiveBatchSize( collectionDescriptor ) > 1
+			|| influencers.effectiveSubselectFetchEnabled( collectionDescriptor );
+	}
+
+	private Decision decide(
+			AttributeMapping attribute,
+			@Nullable GraphImplementor<?> graph,
+			SharedSessionContractImplementor session) {
+		if ( graph != null ) {
+			final var node = graph.findNode( attribute.getAttributeName() );
+			if ( node != null ) {
+				return new Decision( true, node.getValueSubgraph(), null );
+			}
+		}
+		if ( learning ) {
+			final var history =
+					histories.computeIfAbsent( attribute.getNavigableRole().getFullPath(),
+							role -> new AccessHistory() );
+			return history.shouldPrefetch()
+					? new Decision( true, null, null )
+					: new Decision( false, null, new Observation( history ) );
+		}
+		else {
+			return new Decision( false, null, null );
+		}
+	}
+
+	private static ManagedDomainType<?> domainType(EntityPersister persister, SharedSessionContractImplementor session) {
+		return session.getFactory().getJpaMetamodel().entity( persister.getEntityName() );
+	}
+
+	/**
+	 * The first (sub)graph of the given graph which applies to the given type.
+	 */
+	private static @Nullable GraphImplementor<?> findSubgraph(GraphImplementor<?> graph, ManagedDomainType<?> type) {
+		if ( appliesTo( graph, type ) ) {
+			return graph;
+		}
+		for ( var node : graph.getAttributeNodeList() ) {
+			final var subgraph = node.getValueSubgraph();
+			if ( subgraph != null ) {
+				final var found = findSubgraph( subgraph, type );
+				if ( found != null ) {
+					return found;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The subgraph of the elements of the given collection attribute, in
+	 * the first (sub)graph of the given graph which applies to its owner.
+	 */
+	private static @Nullable GraphImplementor<?> findElementSubgraph(
+			GraphImplementor<?> graph,
+			ManagedDomainType<?> ownerType,
+			String attributeName) {
+		if ( appliesTo( graph, ownerType ) ) {
+			final var node = graph.findNode( attributeName );
+			if ( node != null ) {
+				return node.getValueSubgraph();
+			}
+		}
+		for ( var node : graph.getAttributeNodeList() ) {
+			final var subgraph = node.getValueSubgraph();
+			if ( subgraph != null ) {
+				final var found = findElementSubgraph( subgraph, ownerType, attributeName );
+				if ( found != null ) {
+					return found;
+				}
+			}
+		}
+		return null;
+	}
+
+	private record Target(EntityPersister persister, @Nullable GraphImplementor<?> subgraph) {
+	}
+
+	private record Decision(boolean prefetch, @Nullable GraphImplementor<?> subgraph, @Nullable Observation observation) {
+	}
+
+	/**
+	 * How often an association was navigated after the batch containing it was fetched.
+	 */
+	private static final class AccessHistory {
+		// the number of observations in the high half, and of navigations in the low half
+		private final AtomicLong counts = new AtomicLong();
+		private final AtomicInteger prefetches = new AtomicInteger();
+
+		boolean shouldPrefetch() {
+			final long current = counts.get();
+			final long observed = current >>> 32;
+			final long navigated = current & 0xFFFFFFFFL;
+			return observed >= MIN_OBSERVATIONS
+				&& navigated * 2 >= observed
+				&& prefetches.incrementAndGet() % SAMPLING_INTERVAL != 0;
+		}
+
+		void observed() {
+			counts.updateAndGet( current -> {
+				final long observed = ( current >>> 32 ) + 1;
+				final long navigated = current & 0xFFFFFFFFL;
+				return observed > MAX_OBSERVATIONS
+						? ( observed / 2 ) << 32 | navigated / 2
+						: observed << 32 | navigated;
+			} );
+		}
+
+		void navigated() {
+			counts.incrementAndGet();
+		}
+	}
+
+	/**
+	 * The observation of an association for one batch, which counts as
+	 * navigated if any of its candidates is fetched later.
+	 */
+	private static final class Observation {
+		private final AccessHistory history;
+		private boolean observed;
+		private boolean navigated;
+
+		private Observation(AccessHistory history) {
+			this.history = history;
+		}
+
+		Runnable candidate() {
+			if ( !observed ) {
+				observed = true;
+				history.observed();
+			}
+			return this::navigated;
+		}
+
+		private void navigated() {
+			if ( !navigated ) {
+				navigated = true;
+				history.navigated();
+			}
+		}
+	}
+
+	private static final class PrefetchLoadOptions implements MultiIdLoadOptions {
+		private static final PrefetchLoadOptions INSTANCE = new PrefetchLoadOptions();
+
+		@Override
+		public FindMultipleOption.SessionCheckMode getSessionCheckMode() {
+			return FindMultipleOption.SessionCheckMode.ENABLED;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isRefreshSession() {
+			return false;
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return session.getLoadQueryInfluencers().getReadOnly();
+		}
+
+		@Override
+		public FindMultipleOption.RemovalsMode getRemovalsMode() {
+			return FindMultipleOption.RemovalsMode.REPLACE;
+		}
+
+		@Override
+		public FindMultipleOption.OrderingMode getOrderingMode() {
+			return FindMultipleOption.OrderingMode.UNORDERED;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+}
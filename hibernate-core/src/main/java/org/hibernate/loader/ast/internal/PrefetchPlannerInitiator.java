@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import jakarta.annotation.Nonnull;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Standard initiator for the {@link PrefetchPlanner}.
+ *
+ * @since 8.1
+ */
+public class PrefetchPlannerInitiator implements SessionFactoryServiceInitiator<PrefetchPlanner> {
+	/**
+	 * Singleton access
+	 */
+	public static final PrefetchPlannerInitiator INSTANCE = new PrefetchPlannerInitiator();
+
+	@Override
+	@Nonnull
+	public PrefetchPlanner initiateService(@Nonnull SessionFactoryServiceInitiatorContext context) {
+		return new PrefetchPlanner( context.getSessionFactoryOptions().isPrefetchPlanningEnabled() );
+	}
+
+	@Override
+	@Nonnull
+	public Class<PrefetchPlanner> getServiceInitiated() {
+		return PrefetchPlanner.class;
+	}
+}
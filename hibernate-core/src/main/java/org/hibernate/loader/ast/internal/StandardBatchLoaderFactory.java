@@ -16,6 +16,9 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.BasicType;
 
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE;
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -24,8 +27,19 @@
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	private final int adaptiveMinBatchSize;
+	private final int adaptiveMaxBatchSize;
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		adaptiveMaxBatchSize = getInt( ADAPTIVE_BATCH_FETCH_MAX_SIZE, configurationValues, 0 );
+		adaptiveMinBatchSize =
+				Math.min( Math.max( 2, getInt( ADAPTIVE_BATCH_FETCH_MIN_SIZE, configurationValues, 2 ) ),
+						Math.max( 2, adaptiveMaxBatchSize ) );
+	}
+
+	private boolean isAdaptive() {
+		return adaptiveMaxBatchSize > 1;
 	}
 
 	@Override
@@ -33,6 +47,24 @@ public <T> EntityBatchLoader<T> createEntityBatchLoader(
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers influencers) {
+		if ( isAdaptive() ) {
+			return new EntityBatchLoaderAdaptive<>(
+					domainBatchSize,
+					adaptiveMinBatchSize,
+					adaptiveMaxBatchSize,
+					entityDescriptor,
+					batchSize -> createStandardEntityBatchLoader( batchSize, entityDescriptor, influencers )
+			);
+		}
+		else {
+			return createStandardEntityBatchLoader( domainBatchSize, entityDescriptor, influencers );
+		}
+	}
+
+	private static <T> EntityBatchLoader<T> createStandardEntityBatchLoader(
+			int domainBatchSize,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers influencers) {
 		final var factory = influencers.getSessionFactory();
 		// NOTE: don't use the EntityIdentifierMapping here because it will not be known until later
 		final var identifierType = entityDescriptor.getEntityPersister().getIdentifierType();
@@ -53,6 +85,25 @@ public CollectionBatchLoader createCollectionBatchLoader(
 			LoadQueryInfluencers influencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor factory) {
+		if ( isAdaptive() ) {
+			return new CollectionBatchLoaderAdaptive(
+					domainBatchSize,
+					adaptiveMinBatchSize,
+					adaptiveMaxBatchSize,
+					attributeMapping,
+					batchSize -> createStandardCollectionBatchLoader( batchSize, influencers, attributeMapping, factory )
+			);
+		}
+		else {
+			return createStandardCollectionBatchLoader( domainBatchSize, influencers, attributeMapping, factory );
+		}
+	}
+
+	private static CollectionBatchLoader createStandardCollectionBatchLoader(
+			int domainBatchSize,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor factory) {
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
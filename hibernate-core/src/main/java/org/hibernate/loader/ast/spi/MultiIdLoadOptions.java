@@ -5,6 +5,7 @@
 package org.hibernate.loader.ast.spi;
 
 import org.hibernate.FindMultipleOption;
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SessionImplementor;
 
 
@@ -56,4 +57,17 @@ default boolean isSessionCheckingEnabled() {
 	 * Should the entities be loaded in read-only mode?
 	 */
 	Boolean getReadOnly(SessionImplementor session);
+
+	/**
+	 * The number of additional JDBC connections over which batches of ids are
+	 * fetched concurrently, or zero if they are fetched sequentially.
+	 *
+	 * @see FindMultipleOption.ParallelFetch
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getParallelFetchConnections() {
+		return 0;
+	}
 }
@@ -22,7 +22,6 @@
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
-import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
@@ -298,9 +297,11 @@ private static Object convertCacheEntryToEntity(
 			isReadOnly = lazyInitializer.isReadOnly();
 		}
 		else {
-			isReadOnly = source.isDefaultReadOnly();
+			// entities of an immutable type are always read-only,
+			// just as when they are loaded from the database
+			isReadOnly = source.isDefaultReadOnly() || !subclassPersister.isMutable();
 		}
-		holder.setEntityEntry(
+		final var loadingEntry =
 				persistenceContext.addEntry(
 						entity,
 						Status.LOADING,
@@ -310,11 +311,10 @@ private static Object convertCacheEntryToEntity(
 						entry.getVersion(),
 						LockMode.NONE,
 						true,
-						persister
-				)
-		);
+						subclassPersister
+				);
+		holder.setEntityEntry( loadingEntry );
 
-		final Type[] types = subclassPersister.getPropertyTypes();
 		// initializes the entity by (desired) side effect
 		final var standardCacheEntry = (StandardCacheEntryImpl) entry;
 		final Object[] values = standardCacheEntry.assemble(
@@ -324,28 +324,37 @@ private static Object convertCacheEntryToEntity(
 				source.getInterceptor(),
 				source
 		);
-		if ( standardCacheEntry.isDeepCopyNeeded() ) {
-			TypeHelper.deepCopy(
-					values,
-					types,
-					subclassPersister.getPropertyUpdateability(),
+		final EntityEntry entityEntry;
+		if ( isReadOnly ) {
+			// a read-only entry never keeps a snapshot of the loaded
+			// state, so there's no need to copy the assembled values
+			// or to replace the entry created above
+			persistenceContext.setEntryStatus( loadingEntry, Status.READ_ONLY );
+			entityEntry = loadingEntry;
+		}
+		else {
+			if ( standardCacheEntry.isDeepCopyNeeded() ) {
+				TypeHelper.deepCopy(
+						values,
+						subclassPersister.getPropertyTypes(),
+						subclassPersister.getPropertyUpdateability(),
+						values,
+						source
+				);
+			}
+			entityEntry = persistenceContext.addEntry(
+					entity,
+					Status.MANAGED,
 					values,
-					source
+					null,
+					entityId,
+					getVersion( values, subclassPersister ),
+					LockMode.NONE,
+					true,
+					subclassPersister
 			);
+			holder.setEntityEntry( entityEntry );
 		}
-		final Object version = getVersion( values, subclassPersister );
-		final var entityEntry = persistenceContext.addEntry(
-				entity,
-				isReadOnly ? Status.READ_ONLY : Status.MANAGED,
-				values,
-				null,
-				entityId,
-				version,
-				LockMode.NONE,
-				true,
-				subclassPersister
-		);
-		holder.setEntityEntry( entityEntry );
 		subclassPersister.afterInitialize( entity, source );
 		entityEntry.postLoad( entity );
 		persistenceContext.initializeNonLazyCollections();
@@ -4,6 +4,10 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 
@@ -34,4 +38,27 @@ public interface InsertCoordinator extends MutationCoordinator {
 			Object id,
 			Object[] values,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * Persist the given entity instances, using the provided identifiers,
+	 * via the native bulk insert mechanism of the database.
+	 *
+	 * @param entities The entity instances
+	 * @param ids The identifiers, in the order of the entity instances
+	 * @param values The extracted attribute values, in the order of the entity instances
+	 *
+	 * @return {@code false} if instances of the entity cannot be inserted via the
+	 *         given {@link BulkInsertSupport}, in which case nothing was inserted
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean bulkInsert(
+			List<?> entities,
+			List<?> ids,
+			List<Object[]> values,
+			BulkInsertSupport bulkInsertSupport,
+			SharedSessionContractImplementor session) {
+		return false;
+	}
 }
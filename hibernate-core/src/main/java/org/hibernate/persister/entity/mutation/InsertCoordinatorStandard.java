@@ -7,6 +7,7 @@
 import jakarta.annotation.Nullable;
 import org.hibernate.Internal;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.engine.jdbc.batch.internal.EntityInsertBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
@@ -14,6 +15,7 @@
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -23,6 +25,7 @@
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.id.CompositeNestedGeneratedValueGenerator;
 import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.TableDetails;
 import org.hibernate.persister.entity.EntityPersister;
@@ -34,6 +37,7 @@
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.sql.model.ast.builder.TableMutationBuilder;
+import org.hibernate.sql.model.internal.TableInsertStandard;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -53,6 +57,7 @@
 public class InsertCoordinatorStandard extends AbstractMutationCoordinator implements InsertCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BatchKey batchKey;
+	private volatile BulkInsertTable bulkInsertTable;
 
 	public InsertCoordinatorStandard(EntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
@@ -141,6 +146,167 @@ protected boolean preInsertInMemoryValueGeneration(Object[] values, Object entit
 		return foundStateDependentGenerator;
 	}
 
+	@Override
+	public boolean bulkInsert(
+			List<?> entities,
+			List<?> ids,
+			List<Object[]> values,
+			BulkInsertSupport bulkInsertSupport,
+			SharedSessionContractImplementor session) {
+		final var table = bulkInsertTable();
+		if ( !table.isSupportedBy( bulkInsertSupport ) ) {
+			return false;
+		}
+		else {
+			final var persister = entityPersister();
+			final var tableDetails = (EntityTableMapping) staticInsertGroup.getSingleOperation().getTableDetails();
+			final var attributeMappings = persister.getAttributeMappings();
+			final boolean[] propertyInclusions = persister.getPropertyInsertability();
+			final var bulkInsert =
+					bulkInsertSupport.beginBulkInsert( table.tableName(), table.columnNames(), table.jdbcMappings(), session );
+			try {
+				for ( int i = 0; i < entities.size(); i++ ) {
+					final Object entity = entities.get( i );
+					final Object[] entityValues = values.get( i );
+					preInsertInMemoryValueGeneration( entityValues, entity, session );
+					final var row = new BulkInsertRow( table );
+					for ( final int attributeIndex : tableDetails.getAttributeIndexes() ) {
+						if ( propertyInclusions[attributeIndex] ) {
+							final var attributeMapping = attributeMappings.get( attributeIndex );
+							decomposeAttribute(
+									entityValues[attributeIndex],
+									session,
+									row,
+									attributeMapping,
+									attributeMapping.getGenerator(),
+									entity
+							);
+						}
+					}
+					breakDownJdbcValue( ids.get( i ), session, row, tableDetails );
+					bulkInsert.addRow( row.values );
+				}
+				bulkInsert.complete();
+			}
+			catch (RuntimeException e) {
+				try {
+					bulkInsert.cancel();
+				}
+				catch (RuntimeException suppressed) {
+					e.addSuppressed( suppressed );
+				}
+				throw e;
+			}
+			return true;
+		}
+	}
+
+	private BulkInsertTable bulkInsertTable() {
+		var table = bulkInsertTable;
+		if ( table == null ) {
+			table = createBulkInsertTable();
+			bulkInsertTable = table;
+		}
+		return table;
+	}
+
+	/**
+	 * A bulk insert is only possible for an entity mapped to a single table,
+	 * whose static insert statement assigns a parameter or a null to every
+	 * column, and which has no values generated by the database.
+	 */
+	private BulkInsertTable createBulkInsertTable() {
+		final var persister = entityPersister();
+		if ( staticInsertGroup == null
+				|| staticInsertGroup.getNumberOfOperations() != 1
+				|| persister.isIdentifierAssignedByInsert()
+				|| persister.hasInsertGeneratedProperties() ) {
+			return BulkInsertTable.NONE;
+		}
+		final var insertGroupBuilder = new MutationGroupBuilder( MutationType.INSERT, persister );
+		persister.forEachMutableTable(
+				(tableMapping) -> insertGroupBuilder.addTableDetailsBuilder( createTableInsertBuilder( tableMapping, false ) )
+		);
+		applyTableInsertDetails( insertGroupBuilder, persister.getPropertyInsertability(), null, null, false );
+		final var mutationGroup = insertGroupBuilder.buildMutationGroup();
+		if ( mutationGroup.getNumberOfTableMutations() != 1
+				|| !( mutationGroup.getSingleTableMutation() instanceof TableInsertStandard tableInsert )
+				|| tableInsert.getNumberOfReturningColumns() > 0 ) {
+			return BulkInsertTable.NONE;
+		}
+		final var valueBindings = tableInsert.getValueBindings();
+		final String[] columnNames = new String[valueBindings.size()];
+		final JdbcMapping[] jdbcMappings = new JdbcMapping[valueBindings.size()];
+		for ( int i = 0; i < valueBindings.size(); i++ ) {
+			final var valueBinding = valueBindings.get( i );
+			final var valueExpression = valueBinding.getValueExpression();
+			final String fragment = valueExpression == null ? null : valueExpression.getFragment();
+			if ( !"?".equals( fragment ) && !TableMutationBuilder.NULL.equals( fragment ) ) {
+				// a literal, or a custom write expression
+				return BulkInsertTable.NONE;
+			}
+			columnNames[i] = valueBinding.getColumnReference().getColumnExpression();
+			jdbcMappings[i] = valueBinding.getColumnReference().getJdbcMapping();
+		}
+		return new BulkInsertTable( tableInsert.getTableName(), columnNames, jdbcMappings );
+	}
+
+	/**
+	 * The columns of the table written by a bulk insert.
+	 */
+	private record BulkInsertTable(String tableName, String[] columnNames, JdbcMapping[] jdbcMappings) {
+		private static final BulkInsertTable NONE = new BulkInsertTable( null, null, null );
+
+		private boolean isSupportedBy(BulkInsertSupport bulkInsertSupport) {
+			if ( tableName == null ) {
+				return false;
+			}
+			for ( var jdbcMapping : jdbcMappings ) {
+				if ( !bulkInsertSupport.supportsJdbcMapping( jdbcMapping ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Collects the JDBC values of a row of a bulk insert, in the order
+	 * of the columns of the {@link BulkInsertTable}.
+	 */
+	private static final class BulkInsertRow implements JdbcValueBindings {
+		private final String[] columnNames;
+		private final Object[] values;
+
+		private BulkInsertRow(BulkInsertTable table) {
+			columnNames = table.columnNames();
+			values = new Object[columnNames.length];
+		}
+
+		@Override
+		public void bindValue(Object value, String tableName, String columnName, ParameterUsage usage) {
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				if ( columnNames[i].equals( columnName ) ) {
+					values[i] = value;
+					return;
+				}
+			}
+		}
+
+		@Override
+		public BindingGroup getBindingGroup(String tableName) {
+			return null;
+		}
+
+		@Override
+		public void beforeStatement(PreparedStatementDetails statementDetails) {
+		}
+
+		@Override
+		public void afterStatement(TableMapping mutatingTable) {
+		}
+	}
+
 	public static class InsertValuesAnalysis implements ValuesAnalysis {
 		private final List<TableMapping> tablesWithNonNullValues = new ArrayList<>();
 
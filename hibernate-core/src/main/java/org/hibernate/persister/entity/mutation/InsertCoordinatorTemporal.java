@@ -4,6 +4,9 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.List;
+
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
@@ -53,4 +56,15 @@ protected void decomposeForInsert(
 			);
 		}
 	}
+
+	@Override
+	public boolean bulkInsert(
+			List<?> entities,
+			List<?> ids,
+			List<Object[]> values,
+			BulkInsertSupport bulkInsertSupport,
+			SharedSessionContractImplementor session) {
+		// the temporal columns are not written by a bulk insert
+		return false;
+	}
 }
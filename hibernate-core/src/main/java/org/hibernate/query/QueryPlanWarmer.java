@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.stat.Statistics;
+
+import jakarta.annotation.Nullable;
+
+import static java.util.Comparator.comparingLong;
+
+/**
+ * Reads and writes the lists of hot queries whose
+ * {@linkplain org.hibernate.query.spi.SelectQueryPlan query plans} are built in the
+ * background once the {@link org.hibernate.SessionFactory} is created, when
+ * {@value org.hibernate.cfg.QuerySettings#QUERY_PLAN_WARMUP_ENABLED} is enabled.
+ * <p>
+ * A list of hot queries holds one query per line, with backslashes, line breaks and
+ * tabs escaped as in Java string literals, optionally followed by a tab and the name of
+ * the result type of the query.  Empty lines, and lines starting with {@code #}, are
+ * ignored.  It is usually recorded from the {@link Statistics} of a production system
+ * using {@link #writeQueries}.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_WARMUP_QUERIES
+ *
+ * @since 8.1
+ */
+@Incubating
+public final class QueryPlanWarmer {
+	private QueryPlanWarmer() {
+	}
+
+	/**
+	 * An HQL query listed in a list of hot queries.
+	 *
+	 * @param queryString The HQL query
+	 * @param resultType The name of the result type of the query, or {@code null}
+	 * if the query is untyped
+	 */
+	public record HotQuery(String queryString, @Nullable String resultType) {
+	}
+
+	/**
+	 * Read a list of queries written by {@link #writeQueries}.
+	 */
+	public static List<HotQuery> readQueries(Reader reader) throws IOException {
+		final List<HotQuery> queries = new ArrayList<>();
+		final var lines = new BufferedReader( reader );
+		String line;
+		while ( ( line = lines.readLine() ) != null ) {
+			if ( !line.isBlank() && !line.startsWith( "#" ) ) {
+				// tabs within the query are escaped
+				final int tab = line.indexOf( '\t' );
+				queries.add( tab < 0
+						? new HotQuery( unescape( line ), null )
+						: new HotQuery( unescape( line.substring( 0, tab ) ), line.substring( tab + 1 ).trim() ) );
+			}
+		}
+		return queries;
+	}
+
+	/**
+	 * Write the HQL selection queries recorded by the given statistics, along with
+	 * their result types, the most frequently executed first, as a list of hot queries
+	 * to be read by {@link #readQueries}.  Native SQL queries, and criteria queries,
+	 * are not written.
+	 *
+	 * @param maxQueries The maximum number of queries to write
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_WARMUP_QUERIES
+	 * @see org.hibernate.stat.QueryStatistics#getResultTypes()
+	 */
+	public static void writeQueries(Statistics statistics, int maxQueries, Writer writer) throws IOException {
+		final List<HotQuery> queries = new ArrayList<>();
+		final List<Long> executionCounts = new ArrayList<>();
+		for ( String query : statistics.getQueries() ) {
+			final var queryStatistics = statistics.getQueryStatistics( query );
+			final long executionCount = queryStatistics.getExecutionCount();
+			// only the plans of HQL queries have result types
+			if ( executionCount > 0 ) {
+				for ( var resultType : queryStatistics.getResultTypes() ) {
+					queries.add( new HotQuery( query, resultType.getName() ) );
+					executionCounts.add( executionCount );
+				}
+			}
+		}
+		final Integer[] order = new Integer[queries.size()];
+		for ( int i = 0; i < order.length; i++ ) {
+			order[i] = i;
+		}
+		Arrays.sort( order, comparingLong( (Integer i) -> executionCounts.get( i ) ).reversed() );
+		writer.write( "# Hot queries recorded by Hibernate, one per line, followed by a tab and the result type\n" );
+		for ( int i = 0; i < Math.min( maxQueries, order.length ); i++ ) {
+			final var query = queries.get( order[i] );
+			writer.write( escape( query.queryString() ) );
+			writer.write( '\t' );
+			writer.write( query.resultType() );
+			writer.write( '\n' );
+		}
+		writer.flush();
+	}
+
+	private static String escape(String query) {
+		final var escaped = new StringBuilder( query.length() );
+		for ( int i = 0; i < query.length(); i++ ) {
+			final char c = query.charAt( i );
+			switch ( c ) {
+				case '\\' -> escaped.append( "\\\\" );
+				case '\n' -> escaped.append( "\\n" );
+				case '\r' -> escaped.append( "\\r" );
+				case '\t' -> escaped.append( "\\t" );
+				default -> escaped.append( c );
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static String unescape(String line) {
+		if ( line.indexOf( '\\' ) < 0 ) {
+			return line;
+		}
+		final var unescaped = new StringBuilder( line.length() );
+		for ( int i = 0; i < line.length(); i++ ) {
+			final char c = line.charAt( i );
+			if ( c == '\\' && i + 1 < line.length() ) {
+				final char next = line.charAt( ++i );
+				switch ( next ) {
+					case 'n' -> unescaped.append( '\n' );
+					case 'r' -> unescaped.append( '\r' );
+					case 't' -> unescaped.append( '\t' );
+					default -> unescaped.append( next );
+				}
+			}
+			else {
+				unescaped.append( c );
+			}
+		}
+		return unescaped.toString();
+	}
+}
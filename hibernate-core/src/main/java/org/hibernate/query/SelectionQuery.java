@@ -40,6 +40,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -227,6 +228,26 @@ default Stream<R> stream() {
 		return list().stream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a {@link Flow.Publisher}
+	 * which honors the demand of its subscriber.  Rows are read from the JDBC
+	 * {@code ResultSet} only as results are requested, and entities are detached
+	 * from the persistence context once they have been emitted, so that the
+	 * memory used is bounded regardless of the size of the result.
+	 * <p>
+	 * Results are read on the thread which requests them, and the session must
+	 * not be used concurrently while the subscription is active.  The
+	 * {@code ResultSet} is closed when the results are exhausted, or when the
+	 * subscription is cancelled.  The returned publisher accepts one subscriber.
+	 *
+	 * @return The results as a {@link Flow.Publisher}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	@Nonnull
+	Flow.Publisher<R> getResultPublisher();
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * throwing an exception if the query returns no results.
@@ -9,12 +9,18 @@
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 import org.jboss.logging.annotations.ValidIdRange;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
+import static org.jboss.logging.Logger.Level.WARN;
+
 /**
  * @author Steve Ebersole
  */
@@ -29,4 +35,20 @@ public interface HqlLogging extends BasicLogger {
 	String LOGGER_NAME = SubSystemLogging.BASE + ".query.hql";
 
 	HqlLogging QUERY_LOGGER = Logger.getMessageLogger( MethodHandles.lookup(), HqlLogging.class, LOGGER_NAME, Locale.ROOT );
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 90003501, value = "Loaded %s precompiled HQL parse trees from '%s'")
+	void loadedParseTreeArchive(int count, String resourceName);
+
+	@LogMessage(level = WARN)
+	@Message(id = 90003502, value = "Ignoring HQL parse tree archive '%s' built by a different version of Hibernate")
+	void incompatibleParseTreeArchive(String resourceName);
+
+	@LogMessage(level = WARN)
+	@Message(id = 90003503, value = "Unable to read HQL parse tree archive '%s'")
+	void unableToReadParseTreeArchive(String resourceName, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = 90003504, value = "HQL parse tree archive '%s' not found")
+	void parseTreeArchiveNotFound(String resourceName);
 }
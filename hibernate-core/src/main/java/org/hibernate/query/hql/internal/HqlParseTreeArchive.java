@@ -0,0 +1,659 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.hql.internal;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.Version;
+import org.hibernate.grammars.hql.HqlParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A compact archive of the ANTLR parse trees of HQL queries, usually the named queries
+ * of an application, built ahead of time by the Hibernate build plugins, and used by
+ * {@link StandardHqlTranslator} to skip parsing these queries at runtime.
+ * <p>
+ * The semantic representation of a query refers to the runtime metamodel, and so must
+ * still be built when the query is first used, but its parse tree depends only on the
+ * text of the query and the HQL grammar. An archive is therefore ignored if it was built
+ * by a different version of Hibernate.
+ * <p>
+ * Rebuilding an archived tree is much cheaper than parsing the query before the parser
+ * has warmed up, that is, while the application is starting, but is no faster than
+ * parsing it with a warm parser. Each query is therefore rebuilt from the archive just
+ * once, after which it is parsed like any other query.
+ *
+ * @see org.hibernate.cfg.QuerySettings#HQL_PARSE_TREE_ARCHIVE
+ *
+ * @since 8.1
+ */
+@Incubating
+public class HqlParseTreeArchive {
+	/**
+	 * The name of the resource the build plugins write the archive to, and which
+	 * is loaded by default.
+	 */
+	public static final String DEFAULT_RESOURCE_NAME = "META-INF/hibernate/hql-parse-trees.bin";
+
+	private static final int MAGIC = 0x48514C54;
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int TERMINAL_NODE = 0;
+	private static final int RULE_NODE = 1;
+
+	private static final int TOKEN_FIELD = 0;
+	private static final int RULE_FIELD = 1;
+	private static final int LIST_FIELD = 2;
+	private static final int STRING_FIELD = 3;
+
+	private static final Map<Class<?>, ContextType> CONTEXT_TYPES = new ConcurrentHashMap<>();
+
+	private static final MethodType CONSTRUCTOR_TYPE =
+			MethodType.methodType( ParserRuleContext.class, ParserRuleContext.class, int.class );
+	private static final MethodType SETTER_TYPE =
+			MethodType.methodType( void.class, ParserRuleContext.class, Object.class );
+
+	private final Map<String, EncodedTree> encodedTrees;
+
+	private HqlParseTreeArchive(Map<String, EncodedTree> encodedTrees) {
+		this.encodedTrees = encodedTrees;
+	}
+
+	/**
+	 * Read an archive previously written by {@link Writer#write(OutputStream)}.
+	 *
+	 * @return The archive, or {@code null} if it was built by a different
+	 * version of Hibernate
+	 */
+	public static HqlParseTreeArchive read(InputStream inputStream) throws IOException {
+		final var input = new DataInputStream( new GZIPInputStream( inputStream ) );
+		if ( input.readInt() != MAGIC ) {
+			throw new HibernateException( "Not an HQL parse tree archive" );
+		}
+		if ( input.readInt() != FORMAT_VERSION || !grammarSignature().equals( input.readUTF() ) ) {
+			return null;
+		}
+
+		final var contextTypes = new ContextType[readInt( input )];
+		for ( int i = 0; i < contextTypes.length; i++ ) {
+			contextTypes[i] = contextType( contextClass( input.readUTF() ) );
+		}
+		final var fieldNames = new String[readInt( input )];
+		for ( int i = 0; i < fieldNames.length; i++ ) {
+			fieldNames[i] = input.readUTF();
+		}
+		final var setters = new MethodHandle[contextTypes.length][fieldNames.length];
+		for ( int i = 0; i < contextTypes.length; i++ ) {
+			for ( int j = 0; j < fieldNames.length; j++ ) {
+				setters[i][j] = contextTypes[i].settersByName.get( fieldNames[j] );
+			}
+		}
+		final var dictionary = new Dictionary( contextTypes, setters );
+		final int count = readInt( input );
+		final Map<String, EncodedTree> encodedTrees = new ConcurrentHashMap<>( count * 4 / 3 + 1 );
+		for ( int i = 0; i < count; i++ ) {
+			final String hql = readString( input );
+			final var bytes = new byte[readInt( input )];
+			input.readFully( bytes );
+			encodedTrees.put( hql, new EncodedTree( dictionary, bytes ) );
+		}
+		return new HqlParseTreeArchive( encodedTrees );
+	}
+
+	/**
+	 * Combine the archives built for several modules of an application, each
+	 * of them usually packaged as a distinct resource with the same name. A
+	 * query found in more than one archive is rebuilt from the first of them.
+	 */
+	public static HqlParseTreeArchive merge(List<HqlParseTreeArchive> archives) {
+		if ( archives.size() == 1 ) {
+			return archives.get( 0 );
+		}
+		final Map<String, EncodedTree> encodedTrees = new ConcurrentHashMap<>();
+		for ( var archive : archives ) {
+			archive.encodedTrees.forEach( encodedTrees::putIfAbsent );
+		}
+		return new HqlParseTreeArchive( encodedTrees );
+	}
+
+	/**
+	 * Load the generated context class with the given simple name, without
+	 * scanning the nested classes of {@link HqlParser}, which would require
+	 * every one of them to be registered for reflection in a native image.
+	 */
+	private static Class<?> contextClass(String simpleName) {
+		try {
+			final Class<?> type = Class.forName( HqlParser.class.getName() + '$' + simpleName,
+					false, HqlParser.class.getClassLoader() );
+			if ( ParserRuleContext.class.isAssignableFrom( type ) ) {
+				return type;
+			}
+		}
+		catch (ClassNotFoundException e) {
+			// fall through
+		}
+		throw new HibernateException( "Unknown HQL parse tree node type: " + simpleName );
+	}
+
+	/**
+	 * The number of queries in this archive which have not yet been
+	 * {@linkplain #getParseTree rebuilt}.
+	 */
+	public int size() {
+		return encodedTrees.size();
+	}
+
+	public boolean contains(String hql) {
+		return encodedTrees.containsKey( hql );
+	}
+
+	/**
+	 * Rebuild the parse tree of the given query, and remove it from the archive.
+	 *
+	 * @return A new parse tree, or {@code null} if the query is not part of this
+	 * archive, or was already rebuilt
+	 */
+	public HqlParser.StatementContext getParseTree(String hql) {
+		final var encodedTree = encodedTrees.remove( hql );
+		if ( encodedTree == null ) {
+			return null;
+		}
+		try {
+			final var input = new DataInputStream( new ByteArrayInputStream( encodedTree.bytes() ) );
+			final CharStream charStream = CharStreams.fromString( hql );
+			final var source = new Pair<TokenSource, CharStream>( null, charStream );
+			final var tokens = new Token[readInt( input )];
+			for ( int i = 0; i < tokens.length; i++ ) {
+				final var token = new CommonToken( source, readInt( input ), readInt( input ), readInt( input ), readInt( input ) );
+				token.setLine( readInt( input ) );
+				token.setCharPositionInLine( readInt( input ) );
+				token.setTokenIndex( i );
+				if ( input.readBoolean() ) {
+					token.setText( readString( input ) );
+				}
+				tokens[i] = token;
+			}
+			input.readUnsignedByte();
+			return (HqlParser.StatementContext) readRuleNode( encodedTree.dictionary(), input, null, tokens );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to rebuild the archived parse tree of query: " + hql, e );
+		}
+	}
+
+	private static ParserRuleContext readRuleNode(
+			Dictionary dictionary,
+			DataInput input,
+			ParserRuleContext parent,
+			Token[] tokens) throws IOException {
+		final int typeIndex = readInt( input );
+		final ParserRuleContext context = dictionary.contextTypes()[typeIndex].instantiate( parent, readInt( input ) );
+		context.start = readToken( input, tokens );
+		context.stop = readToken( input, tokens );
+
+		final int childCount = readInt( input );
+		for ( int i = 0; i < childCount; i++ ) {
+			if ( input.readUnsignedByte() == TERMINAL_NODE ) {
+				context.addChild( new TerminalNodeImpl( tokens[readInt( input )] ) );
+			}
+			else {
+				context.addChild( readRuleNode( dictionary, input, context, tokens ) );
+			}
+		}
+
+		final int fieldCount = readInt( input );
+		for ( int i = 0; i < fieldCount; i++ ) {
+			final MethodHandle setter = dictionary.setters()[typeIndex][readInt( input )];
+			if ( setter == null ) {
+				throw new HibernateException( "Unknown field of HQL parse tree node: " + context.getClass().getName() );
+			}
+			final Object value = switch ( input.readUnsignedByte() ) {
+				case TOKEN_FIELD -> tokens[readInt( input )];
+				case RULE_FIELD -> context.getChild( readInt( input ) );
+				case LIST_FIELD -> {
+					final int size = readInt( input );
+					final List<Object> list = new ArrayList<>( size );
+					for ( int j = 0; j < size; j++ ) {
+						list.add( input.readUnsignedByte() == TOKEN_FIELD
+								? tokens[readInt( input )]
+								: context.getChild( readInt( input ) ) );
+					}
+					yield list;
+				}
+				default -> readString( input );
+			};
+			set( setter, context, value );
+		}
+		return context;
+	}
+
+	/**
+	 * The context types, and the setters of their fields, referred to by index
+	 * from the encoded trees of one archive.
+	 *
+	 * @param setters The setters of the fields of each context type, by archived
+	 * field index
+	 */
+	private record Dictionary(ContextType[] contextTypes, MethodHandle[][] setters) {
+	}
+
+	private record EncodedTree(Dictionary dictionary, byte[] bytes) {
+	}
+
+	private static Token readToken(DataInput input, Token[] tokens) throws IOException {
+		final int index = readInt( input );
+		return index < 0 ? null : tokens[index];
+	}
+
+	/**
+	 * Builds an archive of the parse trees of HQL queries.
+	 */
+	public static class Writer {
+		private final Map<String, byte[]> encodedTrees = new LinkedHashMap<>();
+		private final Map<Class<?>, Integer> contextTypeIndexes = new LinkedHashMap<>();
+		private final Map<String, Integer> fieldNameIndexes = new LinkedHashMap<>();
+
+		/**
+		 * Parse the given query and add its parse tree to the archive.
+		 *
+		 * @return {@code false} if the query could not be archived, in which
+		 * case it will simply be parsed at runtime
+		 */
+		public boolean add(String hql) {
+			if ( encodedTrees.containsKey( hql ) ) {
+				return true;
+			}
+			final var hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser(
+					hql,
+					HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql )
+			);
+			final HqlParser.StatementContext parseTree;
+			try {
+				parseTree = StandardHqlTranslator.parseHql( hql, hqlParser );
+			}
+			catch (RuntimeException e) {
+				// the error will be reported when the query is used
+				return false;
+			}
+
+			final List<Token> tokens = ( (CommonTokenStream) hqlParser.getTokenStream() ).getTokens();
+			final var bytes = new ByteArrayOutputStream();
+			final var output = new DataOutputStream( bytes );
+			try {
+				writeInt( output, tokens.size() );
+				for ( Token token : tokens ) {
+					writeInt( output, token.getType() );
+					writeInt( output, token.getChannel() );
+					writeInt( output, token.getStartIndex() );
+					writeInt( output, token.getStopIndex() );
+					writeInt( output, token.getLine() );
+					writeInt( output, token.getCharPositionInLine() );
+					final String text = token.getText();
+					final boolean explicitText = token.getType() != Token.EOF
+							&& !text.equals( token.getInputStream()
+									.getText( Interval.of( token.getStartIndex(), token.getStopIndex() ) ) );
+					output.writeBoolean( explicitText );
+					if ( explicitText ) {
+						writeString( output, text );
+					}
+				}
+				writeNode( output, parseTree, tokens );
+				output.flush();
+			}
+			catch (UnsupportedTreeException e) {
+				return false;
+			}
+			catch (IOException | IllegalAccessException e) {
+				throw new HibernateException( "Unable to archive the parse tree of query: " + hql, e );
+			}
+			encodedTrees.put( hql, bytes.toByteArray() );
+			return true;
+		}
+
+		/**
+		 * Add the named HQL queries declared by the {@code @NamedQuery} annotations of the
+		 * given class, either the Jakarta Persistence or the Hibernate ones.  Annotations
+		 * are matched by name, since the class might have been loaded by a class loader
+		 * with its own copy of the annotation types.
+		 *
+		 * @return The number of queries which were added
+		 */
+		public int addNamedQueries(Class<?> annotatedClass) {
+			int count = 0;
+			for ( Annotation annotation : annotatedClass.getDeclaredAnnotations() ) {
+				switch ( annotation.annotationType().getName() ) {
+					case "jakarta.persistence.NamedQuery", "org.hibernate.annotations.NamedQuery" -> {
+						if ( add( (String) attribute( annotation, "query" ) ) ) {
+							count++;
+						}
+					}
+					case "jakarta.persistence.NamedQueries", "org.hibernate.annotations.NamedQueries" -> {
+						for ( Object namedQuery : (Object[]) attribute( annotation, "value" ) ) {
+							if ( add( (String) attribute( (Annotation) namedQuery, "query" ) ) ) {
+								count++;
+							}
+						}
+					}
+					default -> {
+					}
+				}
+			}
+			return count;
+		}
+
+		private static Object attribute(Annotation annotation, String name) {
+			try {
+				return annotation.annotationType().getMethod( name ).invoke( annotation );
+			}
+			catch (ReflectiveOperationException e) {
+				throw new HibernateException( "Unable to read attribute '" + name + "' of " + annotation, e );
+			}
+		}
+
+		/**
+		 * The number of queries added to the archive.
+		 */
+		public int size() {
+			return encodedTrees.size();
+		}
+
+		public void write(OutputStream outputStream) throws IOException {
+			final var gzip = new GZIPOutputStream( outputStream );
+			final var output = new DataOutputStream( gzip );
+			output.writeInt( MAGIC );
+			output.writeInt( FORMAT_VERSION );
+			output.writeUTF( grammarSignature() );
+
+			writeInt( output, contextTypeIndexes.size() );
+			for ( Class<?> contextType : contextTypeIndexes.keySet() ) {
+				output.writeUTF( contextType.getSimpleName() );
+			}
+			writeInt( output, fieldNameIndexes.size() );
+			for ( String fieldName : fieldNameIndexes.keySet() ) {
+				output.writeUTF( fieldName );
+			}
+			writeInt( output, encodedTrees.size() );
+			for ( Map.Entry<String, byte[]> entry : encodedTrees.entrySet() ) {
+				writeString( output, entry.getKey() );
+				writeInt( output, entry.getValue().length );
+				output.write( entry.getValue() );
+			}
+			output.flush();
+			gzip.finish();
+		}
+
+		private void writeNode(DataOutput output, ParseTree node, List<Token> tokens)
+				throws IOException, IllegalAccessException {
+			if ( node instanceof ErrorNode ) {
+				throw new UnsupportedTreeException();
+			}
+			else if ( node instanceof TerminalNode terminal ) {
+				output.writeByte( TERMINAL_NODE );
+				writeInt( output, tokenIndex( terminal.getSymbol(), tokens ) );
+			}
+			else {
+				final var context = (ParserRuleContext) node;
+				final Class<?> type = context.getClass();
+				if ( type.getEnclosingClass() != HqlParser.class ) {
+					throw new UnsupportedTreeException();
+				}
+				output.writeByte( RULE_NODE );
+				writeInt( output, contextTypeIndexes.computeIfAbsent( type, t -> contextTypeIndexes.size() ) );
+				writeInt( output, context.invokingState );
+				writeInt( output, context.start == null ? -1 : tokenIndex( context.start, tokens ) );
+				writeInt( output, context.stop == null ? -1 : tokenIndex( context.stop, tokens ) );
+
+				final int childCount = context.getChildCount();
+				writeInt( output, childCount );
+				for ( int i = 0; i < childCount; i++ ) {
+					writeNode( output, context.getChild( i ), tokens );
+				}
+
+				final List<Field> fields = contextType( type ).fields;
+				int fieldCount = 0;
+				for ( Field field : fields ) {
+					if ( field.get( context ) != null ) {
+						fieldCount++;
+					}
+				}
+				writeInt( output, fieldCount );
+				for ( Field field : fields ) {
+					final Object value = field.get( context );
+					if ( value != null ) {
+						writeInt( output, fieldNameIndexes.computeIfAbsent( field.getName(), n -> fieldNameIndexes.size() ) );
+						writeFieldValue( output, value, context, tokens );
+					}
+				}
+			}
+		}
+
+		private static void writeFieldValue(DataOutput output, Object value, ParserRuleContext context, List<Token> tokens)
+				throws IOException {
+			if ( value instanceof Token token ) {
+				output.writeByte( TOKEN_FIELD );
+				writeInt( output, tokenIndex( token, tokens ) );
+			}
+			else if ( value instanceof ParserRuleContext child ) {
+				output.writeByte( RULE_FIELD );
+				writeInt( output, childIndex( child, context ) );
+			}
+			else if ( value instanceof List<?> list ) {
+				output.writeByte( LIST_FIELD );
+				writeInt( output, list.size() );
+				for ( Object element : list ) {
+					if ( element instanceof Token token ) {
+						output.writeByte( TOKEN_FIELD );
+						writeInt( output, tokenIndex( token, tokens ) );
+					}
+					else if ( element instanceof ParserRuleContext child ) {
+						output.writeByte( RULE_FIELD );
+						writeInt( output, childIndex( child, context ) );
+					}
+					else {
+						throw new UnsupportedTreeException();
+					}
+				}
+			}
+			else if ( value instanceof String string ) {
+				output.writeByte( STRING_FIELD );
+				writeString( output, string );
+			}
+			else {
+				throw new UnsupportedTreeException();
+			}
+		}
+
+		private static int tokenIndex(Token token, List<Token> tokens) {
+			final int index = token.getTokenIndex();
+			if ( index < 0 || index >= tokens.size() || tokens.get( index ) != token ) {
+				throw new UnsupportedTreeException();
+			}
+			return index;
+		}
+
+		private static int childIndex(ParserRuleContext child, ParserRuleContext context) {
+			for ( int i = 0; i < context.getChildCount(); i++ ) {
+				if ( context.getChild( i ) == child ) {
+					return i;
+				}
+			}
+			throw new UnsupportedTreeException();
+		}
+	}
+
+	/**
+	 * Identifies the version of the grammar the parse trees were built with.
+	 */
+	private static String grammarSignature() {
+		return Version.getVersionString() + ':' + Integer.toHexString( HqlParser._serializedATN.hashCode() );
+	}
+
+	private static ContextType contextType(Class<?> type) {
+		return CONTEXT_TYPES.computeIfAbsent( type, ContextType::new );
+	}
+
+	/**
+	 * How to instantiate the generated context class of a parser rule, and
+	 * the fields holding the labeled elements and return values of the rule.
+	 */
+	private static final class ContextType {
+		// (ParserRuleContext parent, int invokingState) -> ParserRuleContext
+		private final MethodHandle constructor;
+		private final List<Field> fields = new ArrayList<>();
+		// (ParserRuleContext context, Object value) -> void
+		private final Map<String, MethodHandle> settersByName = new HashMap<>();
+
+		private ContextType(Class<?> type) {
+			final var lookup = MethodHandles.publicLookup();
+			try {
+				MethodHandle ruleConstructor = null;
+				for ( Constructor<?> candidate : type.getConstructors() ) {
+					final Class<?>[] parameterTypes = candidate.getParameterTypes();
+					if ( parameterTypes.length == 2
+							&& parameterTypes[0] == ParserRuleContext.class
+							&& parameterTypes[1] == int.class ) {
+						ruleConstructor = lookup.unreflectConstructor( candidate ).asType( CONSTRUCTOR_TYPE );
+						break;
+					}
+					else if ( parameterTypes.length == 1
+							&& parameterTypes[0] == type.getSuperclass()
+							&& parameterTypes[0] != ParserRuleContext.class ) {
+						// the context of a labeled alternative, which copies the context of its rule
+						ruleConstructor = MethodHandles.filterReturnValue(
+								new ContextType( parameterTypes[0] ).constructor,
+								lookup.unreflectConstructor( candidate )
+										.asType( MethodType.methodType( ParserRuleContext.class, ParserRuleContext.class ) )
+						);
+					}
+				}
+				if ( ruleConstructor == null ) {
+					throw new HibernateException( "Unable to instantiate HQL parse tree node type: " + type.getName() );
+				}
+				this.constructor = ruleConstructor;
+
+				for ( Class<?> current = type; current != ParserRuleContext.class; current = current.getSuperclass() ) {
+					for ( Field field : current.getDeclaredFields() ) {
+						final int modifiers = field.getModifiers();
+						if ( Modifier.isPublic( modifiers ) && !Modifier.isStatic( modifiers ) ) {
+							fields.add( field );
+							settersByName.put( field.getName(), lookup.unreflectSetter( field ).asType( SETTER_TYPE ) );
+						}
+					}
+				}
+			}
+			catch (IllegalAccessException e) {
+				throw new HibernateException( "Unable to access HQL parse tree node type: " + type.getName(), e );
+			}
+			fields.sort( Comparator.comparing( Field::getName ) );
+		}
+
+		private ParserRuleContext instantiate(ParserRuleContext parent, int invokingState) {
+			try {
+				return (ParserRuleContext) constructor.invokeExact( parent, invokingState );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable t) {
+				throw new HibernateException( "Unable to instantiate HQL parse tree node", t );
+			}
+		}
+	}
+
+	private static void set(MethodHandle setter, ParserRuleContext context, Object value) {
+		try {
+			setter.invokeExact( context, value );
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable t) {
+			throw new HibernateException( "Unable to set field of HQL parse tree node", t );
+		}
+	}
+
+	private static class UnsupportedTreeException extends RuntimeException {
+		private UnsupportedTreeException() {
+			super( null, null, false, false );
+		}
+	}
+
+	// variable-length encoding of (mostly small, possibly -1) integers
+
+	private static void writeInt(DataOutput output, int value) throws IOException {
+		int zigZag = ( value << 1 ) ^ ( value >> 31 );
+		while ( ( zigZag & ~0x7F ) != 0 ) {
+			output.writeByte( ( zigZag & 0x7F ) | 0x80 );
+			zigZag >>>= 7;
+		}
+		output.writeByte( zigZag );
+	}
+
+	private static int readInt(DataInput input) throws IOException {
+		int zigZag = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = input.readUnsignedByte();
+			zigZag |= ( b & 0x7F ) << shift;
+			shift += 7;
+		}
+		while ( ( b & 0x80 ) != 0 );
+		return ( zigZag >>> 1 ) ^ -( zigZag & 1 );
+	}
+
+	// unlike writeUTF(), not limited to 64KB
+
+	private static void writeString(DataOutput output, String value) throws IOException {
+		final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+		writeInt( output, bytes.length );
+		output.write( bytes );
+	}
+
+	private static String readString(DataInput input) throws IOException {
+		final byte[] bytes = new byte[readInt( input )];
+		input.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+}
@@ -42,12 +42,27 @@ public class StandardHqlTranslator implements HqlTranslator {
 
 	private final SqmCreationContext sqmCreationContext;
 	private final SqmCreationOptions sqmCreationOptions;
+	private final HqlParseTreeArchive parseTreeArchive;
 
 	public StandardHqlTranslator(
 			SqmCreationContext sqmCreationContext,
 			SqmCreationOptions sqmCreationOptions) {
+		this( sqmCreationContext, sqmCreationOptions, null );
+	}
+
+	/**
+	 * @param parseTreeArchive Precompiled parse trees of the queries known at build
+	 * time, or {@code null}
+	 *
+	 * @since 8.1
+	 */
+	public StandardHqlTranslator(
+			SqmCreationContext sqmCreationContext,
+			SqmCreationOptions sqmCreationOptions,
+			HqlParseTreeArchive parseTreeArchive) {
 		this.sqmCreationContext = sqmCreationContext;
 		this.sqmCreationOptions = sqmCreationOptions;
+		this.parseTreeArchive = parseTreeArchive;
 	}
 
 	@Override
@@ -87,11 +102,21 @@ public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType)
 	}
 
 	private HqlParser.StatementContext parseHql(String hql) {
+		if ( parseTreeArchive != null ) {
+			final var archivedParseTree = parseTreeArchive.getParseTree( hql );
+			if ( archivedParseTree != null ) {
+				return archivedParseTree;
+			}
+		}
+
 		// Build the lexer
 		final var hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
 		// Build the parse tree
 		final var hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser( hql, hqlLexer );
+		return parseHql( hql, hqlParser );
+	}
 
+	static HqlParser.StatementContext parseHql(String hql, HqlParser hqlParser) {
 		// try to use SLL(k)-based parsing first - it's faster
 		hqlParser.getInterpreter().setPredictionMode( PredictionMode.SLL );
 		hqlParser.removeErrorListeners();
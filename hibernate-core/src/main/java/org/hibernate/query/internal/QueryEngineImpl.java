@@ -16,6 +16,7 @@
 import org.hibernate.metamodel.model.domain.JpaMetamodel;
 import org.hibernate.type.BindingContext;
 import org.hibernate.query.hql.spi.HqlTranslator;
+import org.hibernate.query.hql.internal.HqlParseTreeArchive;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.named.spi.NamedObjectRepository;
 import org.hibernate.query.spi.QueryEngine;
@@ -33,15 +34,19 @@
 import org.hibernate.type.spi.TypeConfiguration;
 import org.jboss.logging.Logger;
 
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static java.util.Comparator.comparingInt;
+import static org.hibernate.cfg.QuerySettings.HQL_PARSE_TREE_ARCHIVE;
 import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_ENABLED;
 import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+import static org.hibernate.query.hql.internal.HqlLogging.QUERY_LOGGER;
 
 /**
  * Aggregation and encapsulation of the components Hibernate uses
@@ -85,7 +90,7 @@ public QueryEngineImpl(
 		// create the NodeBuilder, but then we need the NodeBuilder to create the HqlTranslator
 		// and that's only because we're using the NodeBuilder as the SqmCreationContext
 		nodeBuilder = createCriteriaBuilder( context, this, options, serviceRegistry, options.getUuid(), name );
-		hqlTranslator = resolveHqlTranslator( options, dialect, nodeBuilder );
+		hqlTranslator = resolveHqlTranslator( options, dialect, nodeBuilder, classLoaderService, properties );
 	}
 
 	private static SqmCriteriaNodeBuilder createCriteriaBuilder(
@@ -98,7 +103,9 @@ private static SqmCriteriaNodeBuilder createCriteriaBuilder(
 	private static HqlTranslator resolveHqlTranslator(
 			QueryEngineOptions options,
 			Dialect dialect,
-			SqmCreationContext sqmCreationContext) {
+			SqmCreationContext sqmCreationContext,
+			ClassLoaderService classLoaderService,
+			Map<String,Object> properties) {
 		final var customHqlTranslator = options.getCustomHqlTranslator();
 		if ( customHqlTranslator != null ) {
 			return customHqlTranslator;
@@ -108,7 +115,53 @@ private static HqlTranslator resolveHqlTranslator(
 			return hqlTranslator;
 		}
 		return new StandardHqlTranslator( sqmCreationContext,
-				new SqmCreationOptionsStandard( options ) );
+				new SqmCreationOptionsStandard( options ),
+				loadParseTreeArchive( classLoaderService, properties ) );
+	}
+
+	private static HqlParseTreeArchive loadParseTreeArchive(
+			ClassLoaderService classLoaderService,
+			Map<String,Object> properties) {
+		final String configuredName = getString( HQL_PARSE_TREE_ARCHIVE, properties );
+		final String resourceName = configuredName == null
+				? HqlParseTreeArchive.DEFAULT_RESOURCE_NAME
+				: configuredName.trim();
+		if ( resourceName.isEmpty() || classLoaderService == null ) {
+			return null;
+		}
+		// every module of the application may have an archive of its own
+		final List<URL> resources = classLoaderService.locateResources( resourceName );
+		if ( resources.isEmpty() ) {
+			if ( configuredName != null ) {
+				QUERY_LOGGER.parseTreeArchiveNotFound( resourceName );
+			}
+			return null;
+		}
+		final List<HqlParseTreeArchive> archives = new ArrayList<>( resources.size() );
+		for ( URL resource : resources ) {
+			final var archive = readParseTreeArchive( resource );
+			if ( archive != null ) {
+				archives.add( archive );
+			}
+		}
+		return archives.isEmpty() ? null : HqlParseTreeArchive.merge( archives );
+	}
+
+	private static HqlParseTreeArchive readParseTreeArchive(URL resource) {
+		try ( var inputStream = resource.openStream() ) {
+			final var archive = HqlParseTreeArchive.read( inputStream );
+			if ( archive == null ) {
+				QUERY_LOGGER.incompatibleParseTreeArchive( resource.toString() );
+			}
+			else {
+				QUERY_LOGGER.loadedParseTreeArchive( archive.size(), resource.toString() );
+			}
+			return archive;
+		}
+		catch (Exception e) {
+			QUERY_LOGGER.unableToReadParseTreeArchive( resource.toString(), e );
+			return null;
+		}
 	}
 
 	private static SqmTranslatorFactory resolveSqmTranslatorFactory(
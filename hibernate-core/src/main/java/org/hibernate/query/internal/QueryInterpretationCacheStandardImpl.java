@@ -19,6 +19,7 @@
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -87,6 +88,7 @@ public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
 		if ( cached != null ) {
 			if ( statisticsEnabled ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
+				hqlQueryPlanResolved( key, statistics );
 			}
 			return cached;
 		}
@@ -95,10 +97,22 @@ public <K extends Key, R> SelectQueryPlan<R> resolveSelectQueryPlan(
 		queryPlanCache.put( key.prepareForStore(), plan );
 		if ( statisticsEnabled ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
+			hqlQueryPlanResolved( key, statistics );
 		}
 		return plan;
 	}
 
+	private static void hqlQueryPlanResolved(Key key, StatisticsImplementor statistics) {
+		// the result type of the plan of an HQL query, but not of a criteria query
+		if ( key instanceof SqmInterpretationsKey sqmKey ) {
+			final String hql = sqmKey.getQueryString();
+			final var resultType = sqmKey.getResultType();
+			if ( hql != null && resultType != null ) {
+				statistics.hqlQueryPlanResolved( hql, resultType );
+			}
+		}
+	}
+
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		return null;
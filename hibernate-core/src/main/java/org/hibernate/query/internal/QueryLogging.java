@@ -19,6 +19,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.TRACE;
@@ -85,4 +86,28 @@ static Logger subLogger(String subName) {
 	@LogMessage(level = TRACE)
 	@Message(value = "Destroying query interpretation cache", id = 90003009)
 	void destroyingQueryInterpretationCache();
+
+	@LogMessage(level = INFO)
+	@Message(value = "Warming up %s query plans in the background", id = 90003010)
+	void warmingUpQueryPlans(int count);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Warmed up %s query plans in %s ms (%s failed)", id = 90003011)
+	void warmedUpQueryPlans(int count, long milliseconds, int failures);
+
+	@LogMessage(level = DEBUG)
+	@Message(value = "Unable to warm up query plan for [%s]", id = 90003012)
+	void unableToWarmUpQueryPlan(String queryString, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to read the queries to warm up from [%s]", id = 90003013)
+	void unableToReadWarmupQueries(String resourceName, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Queries to warm up not found: %s", id = 90003014)
+	void warmupQueriesNotFound(String resourceName);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Subscriber to query results threw an exception from onNext(), cancelling its subscription", id = 90003015)
+	void subscriberFailed(@Cause Throwable e);
 }
@@ -0,0 +1,284 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Incubating;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.SelectionQuery;
+
+import jakarta.persistence.Tuple;
+
+import static org.hibernate.query.internal.QueryLogging.QUERY_MESSAGE_LOGGER;
+
+/**
+ * A {@link Flow.Publisher} of the results of a {@link SelectionQuery}, read from
+ * a {@linkplain ScrollMode#FORWARD_ONLY forward-only} {@link ScrollableResults}.
+ * <p>
+ * Results are read from the JDBC {@code ResultSet} only as they are requested by
+ * the subscriber, on the thread which calls {@link Flow.Subscription#request},
+ * and the fetch size of the {@code ResultSet} follows the outstanding demand, up
+ * to the {@linkplain SelectionQuery#getFetchSize() fetch size of the query}, so
+ * that no more rows are held in memory than the subscriber is ready to consume.
+ * Entities loaded by the query are detached from the persistence context once they
+ * have been delivered to the subscriber, so that the persistence context does not
+ * grow with the size of the result. Entities which were already managed before their
+ * row was read, possibly with pending changes, are left in the persistence context.
+ * <p>
+ * The query is executed when the subscriber first requests results, and the
+ * {@code ResultSet} is closed when the results are exhausted, when an error
+ * occurs, or when the subscription is cancelled. A subscriber which throws
+ * from {@link Flow.Subscriber#onNext} has its subscription cancelled, and is
+ * not signalled again.  Only one subscriber is
+ * supported.  Since a session is not thread-safe, it must not be used by
+ * other threads while the subscription is active.
+ *
+ * @see SelectionQuery#getResultPublisher()
+ *
+ * @since 8.1
+ */
+@Incubating
+public class ScrollableResultsPublisher<R> implements Flow.Publisher<R> {
+	/**
+	 * The maximum fetch size used when the query does not specify one.
+	 */
+	public static final int DEFAULT_MAX_FETCH_SIZE = 512;
+
+	private final SelectionQuery<R> query;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	public ScrollableResultsPublisher(SelectionQuery<R> query) {
+		this.query = query;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super R> subscriber) {
+		if ( subscriber == null ) {
+			throw new NullPointerException( "Subscriber may not be null" );
+		}
+		if ( subscribed.compareAndSet( false, true ) ) {
+			subscriber.onSubscribe( new ResultsSubscription<>( query, subscriber ) );
+		}
+		else {
+			subscriber.onSubscribe( new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			} );
+			subscriber.onError( new IllegalStateException( "Query results may only be published to one subscriber" ) );
+		}
+	}
+
+	private static final class ResultsSubscription<R> implements Flow.Subscription {
+		private final SelectionQuery<R> query;
+		private final Flow.Subscriber<? super R> subscriber;
+		private final SessionImplementor session;
+		private final int maxFetchSize;
+
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger pending = new AtomicInteger();
+		private volatile boolean cancelled;
+		private volatile IllegalArgumentException invalidRequest;
+
+		// only accessed by the thread which holds 'pending'
+		private ScrollableResults<R> results;
+		private int fetchSize;
+		private boolean done;
+		// the keys of the entities which were managed before the current row was read
+		private Set<EntityKey> managedKeys;
+		private int managedEntityCount;
+
+		private ResultsSubscription(SelectionQuery<R> query, Flow.Subscriber<? super R> subscriber) {
+			this.query = query;
+			this.subscriber = subscriber;
+			this.session = query.getSession() instanceof SessionImplementor sessionImplementor
+					? sessionImplementor
+					: null;
+			final Integer queryFetchSize = query.getFetchSize();
+			this.maxFetchSize = queryFetchSize == null || queryFetchSize <= 0
+					? DEFAULT_MAX_FETCH_SIZE
+					: queryFetchSize;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( n <= 0 ) {
+				invalidRequest = new IllegalArgumentException( "Requested number of results must be positive: " + n );
+			}
+			else {
+				demand.getAndUpdate( requested -> requested + n < 0 ? Long.MAX_VALUE : requested + n );
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		/**
+		 * Emit results on the calling thread, unless another thread, or an enclosing
+		 * call on this thread from {@link Flow.Subscriber#onNext}, is already emitting
+		 * them, in which case that thread takes care of the new demand.
+		 */
+		private void drain() {
+			if ( pending.getAndIncrement() == 0 ) {
+				int missed = 1;
+				do {
+					emit();
+					missed = pending.addAndGet( -missed );
+				}
+				while ( missed != 0 );
+			}
+		}
+
+		private void emit() {
+			if ( done ) {
+				return;
+			}
+			if ( cancelled ) {
+				finish();
+				return;
+			}
+			final var invalidRequest = this.invalidRequest;
+			if ( invalidRequest != null ) {
+				finish();
+				subscriber.onError( invalidRequest );
+				return;
+			}
+			final long requested = demand.get();
+			if ( requested == 0 ) {
+				return;
+			}
+			long emitted = 0;
+			try {
+				if ( results == null ) {
+					results = query.scroll( ScrollMode.FORWARD_ONLY );
+				}
+				adjustFetchSize( requested );
+				while ( emitted != requested ) {
+					if ( cancelled ) {
+						finish();
+						return;
+					}
+					rememberManagedEntities();
+					if ( !results.next() ) {
+						finish();
+						subscriber.onComplete();
+						return;
+					}
+					final R result = results.get();
+					if ( !deliver( result ) ) {
+						return;
+					}
+					release( result );
+					emitted++;
+				}
+			}
+			catch (RuntimeException e) {
+				finish();
+				subscriber.onError( e );
+				return;
+			}
+			if ( requested != Long.MAX_VALUE ) {
+				demand.addAndGet( -emitted );
+			}
+		}
+
+		/**
+		 * Pass the result to the subscriber, cancelling the subscription if the
+		 * subscriber throws, since it may then not be signalled again.
+		 *
+		 * @return {@code false} if the subscription was cancelled
+		 */
+		private boolean deliver(R result) {
+			try {
+				subscriber.onNext( result );
+				return true;
+			}
+			catch (RuntimeException e) {
+				cancelled = true;
+				finish();
+				QUERY_MESSAGE_LOGGER.subscriberFailed( e );
+				return false;
+			}
+		}
+
+		private void adjustFetchSize(long requested) {
+			final int size = (int) Math.min( requested, maxFetchSize );
+			if ( size != fetchSize ) {
+				results.setFetchSize( size );
+				fetchSize = size;
+			}
+		}
+
+		/**
+		 * Remember which entities are managed before a row is read, unless the
+		 * persistence context is unchanged since the previous row was released.
+		 */
+		private void rememberManagedEntities() {
+			if ( session != null ) {
+				final var persistenceContext = session.getPersistenceContextInternal();
+				if ( managedKeys == null
+						|| persistenceContext.getNumberOfManagedEntities() != managedEntityCount ) {
+					managedKeys = new HashSet<>( persistenceContext.getEntitiesByKey().keySet() );
+				}
+			}
+		}
+
+		private void release(Object result) {
+			if ( session != null ) {
+				if ( result instanceof Object[] row ) {
+					for ( Object element : row ) {
+						detach( element );
+					}
+				}
+				else if ( result instanceof Tuple tuple ) {
+					for ( Object element : tuple.toArray() ) {
+						detach( element );
+					}
+				}
+				else {
+					detach( result );
+				}
+				managedEntityCount = session.getPersistenceContextInternal().getNumberOfManagedEntities();
+			}
+		}
+
+		/**
+		 * Detach the given result if it is an entity which was loaded by reading
+		 * the current row.
+		 */
+		private void detach(Object result) {
+			if ( result != null ) {
+				final var entry = session.getPersistenceContextInternal().getEntry( result );
+				if ( entry != null && !managedKeys.contains( entry.getEntityKey() ) ) {
+					session.detach( result );
+				}
+			}
+		}
+
+		private void finish() {
+			done = true;
+			if ( results != null ) {
+				results.close();
+			}
+		}
+	}
+}
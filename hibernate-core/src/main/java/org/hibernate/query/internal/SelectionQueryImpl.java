@@ -89,6 +89,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.function.BooleanSupplier;
 
 import static java.lang.Boolean.TRUE;
@@ -1005,6 +1006,12 @@ public ScrollableResults<R> scroll(@Nonnull ScrollMode scrollMode) {
 		return executeQuery( scrollMode, this::doScroll );
 	}
 
+	@Override
+	@Nonnull
+	public Flow.Publisher<R> getResultPublisher() {
+		return new ScrollableResultsPublisher<>( this );
+	}
+
 	private ScrollableResults<R> doScroll(ScrollMode scrollMode) {
 		final var statement = getSqmStatement();
 		final var queryOptions = getQueryOptions();
@@ -1198,6 +1205,38 @@ else if ( sqm instanceof AbstractSqmDmlStatement<R> update ) {
 		}
 	}
 
+	/// Resolve the plan of this query, caching it in the [query plan cache][org.hibernate.query.spi.QueryInterpretationCache],
+	/// and [prepare][SelectQueryPlan#prepare] it for listing the results of the query, without
+	/// executing it.  The plan is not translated to SQL when the type of some parameter is
+	/// unknown, since the translation would then depend on the arguments of the first execution.
+	///
+	/// @return `false` if the plan of this query is not cacheable
+	///
+	/// @since 8.1
+	public boolean prepareQueryPlan() {
+		final var queryCache = getInterpretationCache();
+		if ( !queryCache.isEnabled() || createInterpretationsKey( this ) == null ) {
+			return false;
+		}
+		final var queryPlan = resolveQueryPlan();
+		for ( var queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			if ( queryParameter.getHibernateType() == null ) {
+				return true;
+			}
+		}
+		final var statement = getSqmStatement();
+		final var queryOptions = getQueryOptions();
+		final boolean containsCollectionFetches =
+				statement.containsCollectionFetches()
+						|| containsCollectionFetches( queryOptions );
+		queryPlan.prepare( listExecutionContext(
+				hasLimit( statement, queryOptions ),
+				containsCollectionFetches,
+				shouldApplyLimitInMemory( statement, queryOptions )
+		) );
+		return true;
+	}
+
 	private SelectQueryPlan<R> resolveQueryPlan() {
 		final var queryCache = getInterpretationCache();
 		if ( queryCache.isEnabled() ) {
@@ -48,4 +48,14 @@
 	 */
 	ScrollableResults<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Prepare the plan for execution without executing it, performing
+	 * any work which would otherwise be done by its first execution,
+	 * such as the translation of the query to SQL.
+	 *
+	 * @since 8.1
+	 */
+	default void prepare(DomainQueryExecutionContext executionContext) {
+	}
+
 }
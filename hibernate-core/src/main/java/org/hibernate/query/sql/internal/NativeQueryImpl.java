@@ -60,6 +60,7 @@
 import org.hibernate.query.internal.AbstractQuery;
 import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
 import org.hibernate.query.internal.ResultSetMappingResolutionContext;
+import org.hibernate.query.internal.ScrollableResultsPublisher;
 import org.hibernate.query.named.spi.NamedNativeQueryMemento;
 import org.hibernate.query.named.spi.NamedResultSetMappingMemento;
 import org.hibernate.query.named.internal.NativeMutationMementoImpl;
@@ -109,6 +110,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -1092,6 +1094,12 @@ private ScrollableResults<R> doScroll(ScrollMode scrollMode) {
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	@Nonnull
+	public Flow.Publisher<R> getResultPublisher() {
+		return new ScrollableResultsPublisher<>( this );
+	}
+
 	@Override
 	public int execute() {
 		return executeMutation( this::doExecute );
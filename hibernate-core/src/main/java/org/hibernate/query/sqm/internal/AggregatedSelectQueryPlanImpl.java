@@ -81,4 +81,11 @@ public ScrollableResults<R> performScroll(ScrollMode scrollMode, DomainQueryExec
 		}
 		throw new UnsupportedOperationException();
 	}
+
+	@Override
+	public void prepare(DomainQueryExecutionContext executionContext) {
+		for ( var aggregatedQueryPlan : aggregatedQueryPlans ) {
+			aggregatedQueryPlan.prepare( executionContext );
+		}
+	}
 }
@@ -4,12 +4,14 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import jakarta.annotation.Nullable;
 import jakarta.persistence.Tuple;
 import org.hibernate.AssertionFailure;
 import org.hibernate.InstantiationException;
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.scrollable.EmptyScrollableResults;
 import org.hibernate.internal.util.MutableObject;
@@ -18,7 +20,9 @@
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.internal.DomainParameterXref.ExpansionMode;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.internal.SqmParameterInterpretation;
 import org.hibernate.query.sqm.tree.spi.expression.SqmParameter;
@@ -49,11 +53,18 @@
 import org.hibernate.sql.results.spi.RowTransformer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
 import static org.hibernate.internal.util.ReflectHelper.isClass;
 import static org.hibernate.internal.util.collections.ArrayHelper.toStringArray;
 import static org.hibernate.query.internal.AbstractSqmQuery.CRITERIA_HQL_STRING;
@@ -75,7 +86,11 @@
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResults<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation<SelectStatement, JdbcSelect> cacheableSqmInterpretation;
+	// the translations of this plan for distinct shapes of the
+	// parameter bindings, most recently translated first
+	private volatile ShapedInterpretation[] interpretations = NO_INTERPRETATIONS;
+	// translation is slow, and a monitor would pin the virtual threads waiting for it
+	private final ReentrantLock translationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -420,76 +435,180 @@ public ScrollableResults<R> performScroll(ScrollMode scrollMode, DomainQueryExec
 				: withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
+	@Override
+	public void prepare(DomainQueryExecutionContext executionContext) {
+		if ( interpretations.length == 0 ) {
+			translationLock.lock();
+			try {
+				if ( interpretations.length == 0 ) {
+					translate( BindingShape.of( domainParameterXref, executionContext ), executionContext,
+							new MutableObject<>() );
+				}
+			}
+			finally {
+				translationLock.unlock();
+			}
+		}
+	}
+
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		final var session = executionContext.getSession();
 		final var queryOptions = executionContext.getQueryOptions();
 
 		final boolean preFlushed = session.autoPreFlushIfRequired( executionContext.getQueryParameterBindings() );
 
-		// IMPORTANT NOTE: Intentional double-lock checking
-		// Another solution would be to use ReadWriteLock
-		// to protect access. But synchronized is simpler here.
-		// We will verify during throughput testing whether
-		// this is an issue and consider changes then.
-
-		var localCopy = cacheableSqmInterpretation;
+		final var shape = BindingShape.of( domainParameterXref, executionContext );
+		var interpretation = findInterpretation( shape );
 		JdbcParameterBindings jdbcParameterBindings = null;
 
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
+		if ( interpretation == null && interpretations.length == 0 ) {
+			// IMPORTANT NOTE: Intentional double-lock checking
+			// Another solution would be to use ReadWriteLock
+			// to protect access. But a plain lock is simpler here.
+			// We will verify during throughput testing whether
+			// this is an issue and consider changes then.
+			translationLock.lock();
+			try {
+				interpretation = findInterpretation( shape );
+				if ( interpretation == null && interpretations.length == 0 ) {
 					final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-					localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
+					interpretation = translate( shape, executionContext, mutableValue );
 					jdbcParameterBindings = mutableValue.get();
-					cacheableSqmInterpretation = localCopy;
-				}
-				else {
-					// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-					// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-					final var jdbcSelect = localCopy.jdbcOperation();
-					if ( jdbcSelect.dependsOnParameterBindings() ) {
-						jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
-					}
-					// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-					// We could avoid this by putting the lock options into the cache key
-					if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
-						final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-						localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
-						jdbcParameterBindings = mutableValue.get();
-						cacheableSqmInterpretation = localCopy;
-					}
 				}
 			}
+			finally {
+				translationLock.unlock();
+			}
 		}
-		else {
-			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			final var jdbcSelect = localCopy.jdbcOperation();
+
+		if ( interpretation != null && jdbcParameterBindings == null ) {
+			// If the translation depends on parameter bindings, we have to check that it is compatible with them,
+			// and in any case with the current limit and lock options, or translate from SQM to SQL AST again
+			final var jdbcSelect = interpretation.interpretation().jdbcOperation();
 			if ( jdbcSelect.dependsOnParameterBindings() ) {
-				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+				jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
 			if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
-				final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
-				localCopy = buildInterpretation( sqm, domainParameterXref, executionContext, mutableValue );
-				jdbcParameterBindings = mutableValue.get();
-				cacheableSqmInterpretation = localCopy;
+				interpretation = null;
 			}
 		}
 
-		if ( jdbcParameterBindings == null ) {
-			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+		if ( interpretation == null ) {
+			final MutableObject<JdbcParameterBindings> mutableValue = new MutableObject<>();
+			interpretation = translate( shape, executionContext, mutableValue );
+			jdbcParameterBindings = mutableValue.get();
 		}
+		else if ( jdbcParameterBindings == null ) {
+			jdbcParameterBindings = createJdbcParameterBindings( interpretation, executionContext );
+		}
+
+		return interpreter.interpret( context, executionContext, interpretation.interpretation(), jdbcParameterBindings, preFlushed );
+	}
 
-		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings, preFlushed );
+	private ShapedInterpretation findInterpretation(BindingShape shape) {
+		for ( var interpretation : interpretations ) {
+			if ( interpretation.matches( shape ) ) {
+				return interpretation;
+			}
+		}
+		return null;
+	}
+
+	private ShapedInterpretation translate(
+			BindingShape shape,
+			DomainQueryExecutionContext executionContext,
+			MutableObject<JdbcParameterBindings> firstJdbcParameterBindingsConsumer) {
+		// the expansions of the multivalued parameters belong to the translation,
+		// which may then be used concurrently with translations of other shapes
+		final var xref = shape.parameterListSizes() == null ? domainParameterXref : domainParameterXref.copy();
+		final var sqmInterpretation = buildInterpretation( sqm, xref, executionContext, firstJdbcParameterBindingsConsumer );
+		final var factory = executionContext.getSession().getFactory();
+		final var options = factory.getSessionFactoryOptions();
+		final var interpretation = new ShapedInterpretation(
+				shape,
+				expansionModes( shape, xref ),
+				factory.getJdbcServices().getDialect().getInExpressionCountLimit(),
+				options.getInClauseArrayParameterThreshold(),
+				sqmInterpretation,
+				xref
+		);
+		cache( interpretation, options.getQueryPlanSqlCacheMaxSize() );
+		return interpretation;
+	}
+
+	private @Nullable List<Set<ExpansionMode>> expansionModes(BindingShape shape, DomainParameterXref xref) {
+		if ( shape.parameterListSizes() == null ) {
+			return null;
+		}
+		final List<Set<ExpansionMode>> expansionModes = new ArrayList<>( domainParameterXref.getQueryParameterCount() );
+		for ( var queryParameter : domainParameterXref.getQueryParameters().keySet() ) {
+			expansionModes.add( xref.getExpansionModes( queryParameter ) );
+		}
+		return expansionModes;
+	}
+
+	/**
+	 * Keep the given translation, in place of any translation for the same shape,
+	 * evicting the least recently translated shape once there are {@code maxSize}.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_SQL_CACHE_MAX_SIZE
+	 */
+	private void cache(ShapedInterpretation interpretation, int maxSize) {
+		translationLock.lock();
+		try {
+			final var current = interpretations;
+			final int size = Math.min( current.length + 1, Math.max( maxSize, 1 ) );
+			final var updated = new ShapedInterpretation[size];
+			updated[0] = interpretation;
+			int count = 1;
+			for ( int i = 0; i < current.length && count < size; i++ ) {
+				if ( !current[i].matches( interpretation.shape() ) ) {
+					updated[count++] = current[i];
+				}
+			}
+			interpretations = count == size ? updated : Arrays.copyOf( updated, count );
+		}
+		finally {
+			translationLock.unlock();
+		}
+	}
+
+	private JdbcParameterBindings createJdbcParameterBindings(
+			ShapedInterpretation interpretation,
+			DomainQueryExecutionContext executionContext) {
+		return createJdbcParameterBindings(
+				interpretation.interpretation(),
+				interpretation.domainParameterXref(),
+				executionContext
+		);
 	}
 
 	// For Hibernate Reactive
 	protected JdbcParameterBindings createJdbcParameterBindings(
 			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation,
 			DomainQueryExecutionContext executionContext) {
+		return createJdbcParameterBindings( sqmInterpretation, domainParameterXref( sqmInterpretation ),
+				executionContext );
+	}
+
+	/**
+	 * The {@link DomainParameterXref} holding the expansions of the multivalued
+	 * parameters of the given translation of this plan.
+	 */
+	private DomainParameterXref domainParameterXref(
+			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation) {
+		for ( var interpretation : interpretations ) {
+			if ( interpretation.interpretation() == sqmInterpretation ) {
+				return interpretation.domainParameterXref();
+			}
+		}
+		return domainParameterXref;
+	}
+
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			CacheableSqmInterpretation<SelectStatement, JdbcSelect> sqmInterpretation,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext) {
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
 				domainParameterXref,
@@ -560,6 +679,170 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 		);
 	}
 
+	private static final ShapedInterpretation[] NO_INTERPRETATIONS = new ShapedInterpretation[0];
+
+	/**
+	 * A translation of the plan, along with the {@link DomainParameterXref}
+	 * holding the expansions of its multivalued parameters.
+	 *
+	 * @param shape The shape of the bindings the plan was translated for
+	 * @param expansionModes How the values of each parameter were passed to the
+	 * database, or {@code null} if no parameter has multiple values
+	 */
+	private record ShapedInterpretation(
+			BindingShape shape,
+			@Nullable List<Set<ExpansionMode>> expansionModes,
+			int inExpressionCountLimit,
+			int arrayParameterThreshold,
+			CacheableSqmInterpretation<SelectStatement, JdbcSelect> interpretation,
+			DomainParameterXref domainParameterXref) {
+
+		/**
+		 * Whether this translation may be used with bindings of the given shape.
+		 * A translation with multivalued parameters may be used for a different
+		 * number of values, as long as they only occur in {@code IN} lists which
+		 * are padded to the same number of elements, or are bound as an array.
+		 */
+		private boolean matches(BindingShape other) {
+			if ( !shape.equalsIgnoringParameterListSizes( other ) ) {
+				return false;
+			}
+			final var sizes = shape.parameterListSizes();
+			final var otherSizes = other.parameterListSizes();
+			if ( sizes == null || otherSizes == null ) {
+				return sizes == otherSizes;
+			}
+			assert expansionModes != null;
+			for ( int i = 0; i < sizes.size(); i++ ) {
+				final int size = sizes.get( i );
+				final int otherSize = otherSizes.get( i );
+				if ( size != otherSize && !matches( expansionModes.get( i ), size, otherSize ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean matches(Set<ExpansionMode> modes, int size, int otherSize) {
+			if ( size < 0 || otherSize < 0 || modes.isEmpty() || modes.contains( ExpansionMode.EXACT ) ) {
+				return false;
+			}
+			else if ( arrayParameterThreshold > 0
+					&& size >= arrayParameterThreshold != otherSize >= arrayParameterThreshold ) {
+				// a list might be bound as an array for one of the sizes
+				return false;
+			}
+			else {
+				return !modes.contains( ExpansionMode.PADDED )
+					|| ceilingPowerOfTwo( size, inExpressionCountLimit )
+							== ceilingPowerOfTwo( otherSize, inExpressionCountLimit );
+			}
+		}
+	}
+
+	/**
+	 * The aspects of the parameter bindings, query options and enabled filters of
+	 * an execution of the plan which its translation to SQL depends on, beyond
+	 * what is already part of the {@linkplain SqmInterpretationsKey key} of the
+	 * plan. Translations may still depend on the values bound to some parameters,
+	 * as checked by {@link JdbcSelect#isCompatibleWith}.
+	 *
+	 * @param parameterListSizes The number of values bound to each parameter, or
+	 * {@code -1} for a single value, or {@code null} if no parameter has multiple
+	 * values
+	 * @param filterNames The names of the enabled filters, or {@code null} if no
+	 * filter is enabled
+	 * @param filterArgumentListSizes The number of values of each multivalued
+	 * argument of the enabled filters, by filter and parameter name, or {@code null}
+	 * if there is none
+	 */
+	private record BindingShape(
+			@Nullable List<Integer> parameterListSizes,
+			@Nullable Set<String> filterNames,
+			@Nullable Map<String, Integer> filterArgumentListSizes,
+			boolean hasOffset,
+			boolean hasLimit,
+			boolean scroll) {
+
+		private static BindingShape of(
+				DomainParameterXref domainParameterXref,
+				DomainQueryExecutionContext executionContext) {
+			final var queryOptions = executionContext.getQueryOptions();
+			final var limit = queryOptions.getLimit();
+			final var loadQueryInfluencers = executionContext.getSession().getLoadQueryInfluencers();
+			final boolean hasEnabledFilters = loadQueryInfluencers.hasEnabledFilters();
+			return new BindingShape(
+					parameterListSizes( domainParameterXref, executionContext.getQueryParameterBindings() ),
+					hasEnabledFilters ? Set.copyOf( loadQueryInfluencers.getEnabledFilterNames() ) : null,
+					hasEnabledFilters ? filterArgumentListSizes( loadQueryInfluencers ) : null,
+					limit != null && limit.getFirstRow() != null,
+					limit != null && limit.getMaxRows() != null,
+					queryOptions.isScrollExecution()
+			);
+		}
+
+		private boolean equalsIgnoringParameterListSizes(BindingShape other) {
+			return hasOffset == other.hasOffset
+				&& hasLimit == other.hasLimit
+				&& scroll == other.scroll
+				&& Objects.equals( filterNames, other.filterNames )
+				&& Objects.equals( filterArgumentListSizes, other.filterArgumentListSizes );
+		}
+
+		private static @Nullable List<Integer> parameterListSizes(
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings parameterBindings) {
+			final var queryParameters = domainParameterXref.getQueryParameters().keySet();
+			List<Integer> sizes = null;
+			int index = 0;
+			for ( var queryParameter : queryParameters ) {
+				final var binding = parameterBindings.getBinding( queryParameter );
+				if ( binding.isMultiValued() ) {
+					if ( sizes == null ) {
+						sizes = new ArrayList<>( queryParameters.size() );
+						for ( int i = 0; i < index; i++ ) {
+							sizes.add( -1 );
+						}
+					}
+					sizes.add( binding.getBindValues().size() );
+				}
+				else if ( sizes != null ) {
+					sizes.add( -1 );
+				}
+				index++;
+			}
+			return sizes;
+		}
+
+		/**
+		 * The arguments of filters are bound to the statement, except for the
+		 * values of multivalued arguments, which are rendered as a list.
+		 */
+		private static @Nullable Map<String, Integer> filterArgumentListSizes(
+				LoadQueryInfluencers loadQueryInfluencers) {
+			Map<String, Integer> sizes = null;
+			for ( var filter : loadQueryInfluencers.getEnabledFilters().values() ) {
+				final var filterDefinition = filter.getFilterDefinition();
+				for ( String parameterName : filterDefinition.getParameterNames() ) {
+					final Object argument = filter.getParameterValue( parameterName );
+					final var jdbcMapping = filterDefinition.getParameterJdbcMapping( parameterName );
+					if ( argument instanceof Iterable<?> values
+							&& ( jdbcMapping == null || !jdbcMapping.getJavaTypeDescriptor().isInstance( argument ) ) ) {
+						if ( sizes == null ) {
+							sizes = new HashMap<>();
+						}
+						int size = 0;
+						for ( Object ignored : values ) {
+							size++;
+						}
+						sizes.put( filter.getName() + '.' + parameterName, size );
+					}
+				}
+			}
+			return sizes;
+		}
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
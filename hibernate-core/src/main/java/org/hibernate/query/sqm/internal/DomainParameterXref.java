@@ -16,6 +16,7 @@
 import org.hibernate.type.BasicCollectionType;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -23,6 +24,7 @@
 import java.util.Set;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 
 /**
  * Maintains a cross-reference between SqmParameter and QueryParameter references.
@@ -53,6 +55,8 @@ public static DomainParameterXref from(SqmStatement<?> sqmStatement) {
 	private final IdentityHashMap<SqmParameter<?>, QueryParameterImplementor<?>> queryParamBySqmParam;
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
+	private Map<SqmParameter<?>,Integer> expansionPositions;
+	private Map<QueryParameterImplementor<?>,Set<ExpansionMode>> expansionModes;
 
 	private DomainParameterXref() {
 		sqmParamsByQueryParam = new LinkedHashMap<>( 0 );
@@ -159,16 +163,58 @@ public QueryParameterImplementor<?> getQueryParameter(SqmParameter<?> sqmParamet
 				: queryParamBySqmParam.get( sqmParameter );
 	}
 
+	/**
+	 * Add an expansion of a multivalued parameter, to which the value at the given
+	 * position among the values bound to the parameter is bound, or the last value
+	 * if there are fewer values, for an expansion padding an {@code IN} list.
+	 */
 	public void addExpansion(
 			QueryParameterImplementor<?> domainParam,
 			SqmParameter<?> originalSqmParameter,
-			SqmParameter<?> expansion) {
+			SqmParameter<?> expansion,
+			int position) {
 		assert !queryParamBySqmParam.isEmpty();
+		assert position > 0;
 		queryParamBySqmParam.put( expansion, domainParam );
 		if ( expansions == null ) {
 			expansions = new IdentityHashMap<>();
+			expansionPositions = new IdentityHashMap<>();
 		}
 		expansions.computeIfAbsent( originalSqmParameter, p -> new ArrayList<>() ).add( expansion );
+		expansionPositions.put( expansion, position );
+	}
+
+	/**
+	 * The position of the value bound to the given expansion among the values bound
+	 * to its parameter, the original parameter being at position {@code 0}.
+	 */
+	public int getExpansionPosition(SqmParameter<?> expansion) {
+		return expansionPositions.get( expansion );
+	}
+
+	/**
+	 * Record how the values of a multivalued parameter were passed to the database
+	 * by one of the uses of the parameter.
+	 */
+	public void addExpansionMode(QueryParameterImplementor<?> domainParam, ExpansionMode mode) {
+		if ( expansionModes == null ) {
+			expansionModes = new IdentityHashMap<>();
+		}
+		expansionModes.computeIfAbsent( domainParam, p -> EnumSet.noneOf( ExpansionMode.class ) ).add( mode );
+	}
+
+	/**
+	 * How the values of the given multivalued parameter were passed to the database
+	 * by its uses.
+	 */
+	public Set<ExpansionMode> getExpansionModes(QueryParameterImplementor<?> domainParam) {
+		if ( expansionModes == null ) {
+			return emptySet();
+		}
+		else {
+			final var modes = expansionModes.get( domainParam );
+			return modes == null ? emptySet() : modes;
+		}
 	}
 
 	public List<SqmParameter<?>> getExpansions(SqmParameter<?> sqmParameter) {
@@ -189,6 +235,35 @@ public void clearExpansions() {
 				}
 			}
 			expansions.clear();
+			expansionPositions.clear();
 		}
+		if ( expansionModes != null ) {
+			expansionModes.clear();
+		}
+	}
+
+	/**
+	 * How the values bound to a multivalued parameter are passed to the database,
+	 * which determines whether a translation of the query can be reused for a
+	 * different number of values.
+	 */
+	public enum ExpansionMode {
+		/**
+		 * As one JDBC parameter per value.
+		 */
+		EXACT,
+		/**
+		 * As one JDBC parameter per element of an {@code IN} list, padded to a
+		 * power of two elements by repeating the last value.
+		 *
+		 * @see org.hibernate.internal.util.MathHelper#ceilingPowerOfTwo(int, int)
+		 */
+		PADDED,
+		/**
+		 * As a single JDBC parameter of SQL {@code ARRAY} type.
+		 *
+		 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD
+		 */
+		ARRAY
 	}
 }
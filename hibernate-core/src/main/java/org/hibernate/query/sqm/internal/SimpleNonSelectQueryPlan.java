@@ -22,6 +22,7 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter.omittingLockingAndPaging;
 import static org.hibernate.query.sqm.internal.SqmUtil.generateJdbcParamsXref;
@@ -35,6 +36,7 @@ public class SimpleNonSelectQueryPlan implements NonSelectQueryPlan {
 	private final DomainParameterXref domainParameterXref;
 
 	private volatile CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> interpretation;
+	private final ReentrantLock translationLock = new ReentrantLock();
 
 	public SimpleNonSelectQueryPlan(SqmDmlStatement<?> statement, DomainParameterXref domainParameterXref) {
 		this.statement = statement;
@@ -113,7 +115,8 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 		CacheableSqmInterpretation<MutationStatement, JdbcOperationQueryMutation> localCopy = interpretation;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			translationLock.lock();
+			try {
 				localCopy = interpretation;
 				if ( localCopy == null ) {
 					builtInterpretation = buildInterpretation( statement, domainParameterXref, context );
@@ -124,6 +127,9 @@ protected Interpretation getInterpretation(DomainQueryExecutionContext context)
 					builtInterpretation = updateInterpretation( localCopy, context );
 				}
 			}
+			finally {
+				translationLock.unlock();
+			}
 		}
 		else {
 			builtInterpretation = updateInterpretation( localCopy, context );
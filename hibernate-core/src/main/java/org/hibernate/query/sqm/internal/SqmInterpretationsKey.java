@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sqm.spi.InterpretationsKeySource;
 import org.hibernate.query.sqm.tree.spi.SqmStatement;
@@ -61,19 +62,22 @@ private static boolean isCacheable(InterpretationsKeySource keySource) {
 		// for now at least, skip caching Criteria-based plans
 		// - especially wrt parameters atm; this works with HQL because the
 		// parameters are part of the query string; with Criteria, they're not.
+		final var loadQueryInfluencers = keySource.getLoadQueryInfluencers();
 		return keySource.isQueryPlanCacheable()
 			&& keySource.getQueryOptions().isLimitInMemoryEnabled() != Boolean.TRUE
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& !keySource.getLoadQueryInfluencers().hasEnabledFilters()
 				// At the moment we cannot cache query plan if it has an entity graph
 			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& !keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean();
+				// The plan keeps a translation per shape of the parameter bindings, each
+				// with its own expansions of the multivalued parameters, and including the
+				// enabled filters, unless this is disabled, see ConcreteSqmSelectQueryPlan
+			&& ( hasSqlCache( loadQueryInfluencers )
+				|| !loadQueryInfluencers.hasEnabledFilters()
+					&& !keySource.hasMultiValuedParameterBindingsChecker().getAsBoolean() );
+	}
+
+	private static boolean hasSqlCache(LoadQueryInfluencers loadQueryInfluencers) {
+		return loadQueryInfluencers.getSessionFactory().getSessionFactoryOptions()
+				.getQueryPlanSqlCacheMaxSize() > 0;
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
@@ -129,6 +133,10 @@ public String getQueryString() {
 		return query instanceof String ? (String) query : null;
 	}
 
+	public Class<?> getResultType() {
+		return resultType;
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if ( this == other ) {
@@ -54,6 +54,7 @@
 import org.hibernate.query.sqm.spi.SqmQuerySource;
 import org.hibernate.query.sqm.spi.JdbcParameterBySqmParameterAccess;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.internal.MultiValuedArrayJdbcParameter;
 import org.hibernate.query.sqm.sql.spi.SqmToSqlAstConverter;
 import org.hibernate.query.sqm.tree.spi.SqmDeleteOrUpdateStatement;
 import org.hibernate.query.sqm.tree.spi.SqmDmlStatement;
@@ -606,32 +607,38 @@ else if ( !domainParamBinding.isBound() ) {
 			}
 			else if ( domainParamBinding.isMultiValued() ) {
 				final var bindValues = domainParamBinding.getBindValues();
-				final var valueIterator = bindValues.iterator();
 				// the original SqmParameter is the one we are processing - create a binding for it
-				final Object firstValue = valueIterator.next();
+				final Object firstValue = bindValues.iterator().next();
 				for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
 					final var jdbcParams = jdbcParamsBinds.get( i );
-					createValueBindings(
-							jdbcParameterBindings,
-							queryParameter,
-							domainParamBinding,
-							parameterType,
-							jdbcParams,
-							firstValue,
-							session
-					);
+					if ( jdbcParams.size() == 1
+							&& jdbcParams.get( 0 ) instanceof MultiValuedArrayJdbcParameter arrayParameter ) {
+						// all the values are bound at once, there are no expansions for this use
+						jdbcParameterBindings.addBinding( arrayParameter,
+								new JdbcParameterBindingImpl( arrayParameter.getSqlTypedMapping().getJdbcMapping(),
+										arrayParameter.toArray( bindValues, session ) ) );
+					}
+					else {
+						createValueBindings(
+								jdbcParameterBindings,
+								queryParameter,
+								domainParamBinding,
+								parameterType,
+								jdbcParams,
+								firstValue,
+								session
+						);
+					}
 				}
 
-				// and then one for each of the expansions
+				// and then one for each of the expansions, which might pad an IN list
+				// to more elements than there are values, see BaseSqmToSqlAstConverter
 				final var expansions = domainParameterXref.getExpansions( sqmParameter );
-				final int expansionCount = bindValues.size() - 1;
-				final int parameterUseCount = jdbcParamsBinds.size();
-				assert expansions.size() == expansionCount * parameterUseCount;
-				int expansionPosition = 0;
-				while ( valueIterator.hasNext() ) {
-					final Object expandedValue = valueIterator.next();
-					for ( int j = 0; j < parameterUseCount; j++ ) {
-						final var expansionSqmParam = expansions.get( expansionPosition + j * expansionCount );
+				if ( !expansions.isEmpty() ) {
+					final Object[] values = bindValues.toArray();
+					for ( var expansionSqmParam : expansions ) {
+						final int position = domainParameterXref.getExpansionPosition( expansionSqmParam );
+						final Object expandedValue = values[Math.min( position, values.length - 1 )];
 						final var jdbcParamBinds = jdbcParamMap.get( expansionSqmParam );
 						for ( int i = 0; i < jdbcParamBinds.size(); i++ ) {
 							final var expansionJdbcParams = jdbcParamBinds.get( i );
@@ -646,7 +653,6 @@ else if ( domainParamBinding.isMultiValued() ) {
 							);
 						}
 					}
-					expansionPosition++;
 				}
 			}
 			else {
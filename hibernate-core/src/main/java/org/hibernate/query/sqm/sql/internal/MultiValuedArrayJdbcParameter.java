@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.sqm.sql.internal;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import org.hibernate.Incubating;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.SqlTypedMapping;
+import org.hibernate.sql.exec.internal.SqlTypedMappingJdbcParameter;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * A JDBC parameter of SQL {@code ARRAY} type to which all the values of a
+ * multivalued query parameter are bound at once, in place of one JDBC
+ * parameter per value.
+ *
+ * @see org.hibernate.sql.ast.tree.predicate.InArrayPredicate
+ * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD
+ *
+ * @since 8.1
+ */
+@Incubating
+public class MultiValuedArrayJdbcParameter extends SqlTypedMappingJdbcParameter {
+	private final JdbcMapping elementJdbcMapping;
+
+	public MultiValuedArrayJdbcParameter(SqlTypedMapping arrayTypedMapping, JdbcMapping elementJdbcMapping) {
+		super( arrayTypedMapping );
+		this.elementJdbcMapping = elementJdbcMapping;
+	}
+
+	public JdbcMapping getElementJdbcMapping() {
+		return elementJdbcMapping;
+	}
+
+	/**
+	 * Convert the given values of the query parameter to the array bound to this parameter.
+	 */
+	public Object[] toArray(Collection<?> values, WrapperOptions options) {
+		final var javaType = elementJdbcMapping.getJavaTypeDescriptor();
+		final var jdbcJavaType = elementJdbcMapping.getJdbcJavaType();
+		final Object[] array = (Object[]) Array.newInstance( jdbcJavaType.getJavaTypeClass(), values.size() );
+		int index = 0;
+		for ( Object value : values ) {
+			// the values of a multivalued parameter are not coerced on binding
+			final Object domainValue = value == null || javaType.isInstance( value )
+					? value
+					: javaType.wrap( value, options );
+			array[index++] = elementJdbcMapping.convertToRelationalValue( domainValue );
+		}
+		return array;
+	}
+}
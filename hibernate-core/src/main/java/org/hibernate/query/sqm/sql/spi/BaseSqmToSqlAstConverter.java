@@ -28,6 +28,7 @@
 import org.hibernate.id.CompositeNestedGeneratedValueGenerator;
 import org.hibernate.id.OptimizableGenerator;
 import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
@@ -114,6 +115,7 @@
 import org.hibernate.query.sqm.function.SelfRenderingSqmFunction;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.DomainParameterXref.ExpansionMode;
 import org.hibernate.query.sqm.internal.SqmPathVisitor;
 import org.hibernate.query.sqm.produce.function.internal.PatternRenderer;
 import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
@@ -128,6 +130,7 @@
 import org.hibernate.query.sqm.sql.internal.EmbeddableValuedExpression;
 import org.hibernate.query.sqm.sql.internal.EmbeddableValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.EntityValuedPathInterpretation;
+import org.hibernate.query.sqm.sql.internal.MultiValuedArrayJdbcParameter;
 import org.hibernate.query.sqm.sql.internal.NonAggregatedCompositeValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.PluralValuedSimplePathInterpretation;
 import org.hibernate.query.sqm.sql.internal.SqlAstProcessingStateImpl;
@@ -348,6 +351,7 @@
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -434,7 +438,7 @@
 import static org.hibernate.boot.model.process.internal.InferredBasicValueResolver.resolveSqlTypeIndicators;
 import static org.hibernate.generator.EventType.INSERT;
 import static org.hibernate.internal.util.NullnessHelper.coalesceSuppliedValues;
-import static org.hibernate.internal.util.NullnessUtil.castNonNull;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.resolveArrayJdbcMapping;
 import static org.hibernate.metamodel.mapping.EntityDiscriminatorMapping.DISCRIMINATOR_ROLE_NAME;
 import static org.hibernate.query.internal.QueryLogging.QUERY_MESSAGE_LOGGER;
 import static org.hibernate.query.common.TemporalUnit.EPOCH;
@@ -495,6 +499,8 @@
 	 */
 	private Map<String, String> cteNameMapping;
 	private boolean containsCollectionFetches;
+	// the paths of the collection fetch joins which are fetched by subselect instead of by joining
+	private Set<String> separateCollectionFetches;
 	private boolean trackSelectionsForGroup;
 
 	// Captures the list of SqlSelection for a navigable path.
@@ -3553,9 +3559,17 @@ protected void consumeExplicitJoins(SqmFrom<?, ?> sqmFrom, TableGroup lhsTableGr
 //		}
 		sqmFrom.visitSqmJoins(
 				sqmJoin -> {
-					final TableGroup actualTableGroup = getActualTableGroup( lhsTableGroup, sqmJoin );
-					registerPathAttributeEntityNameUsage( sqmJoin, actualTableGroup );
-					consumeExplicitJoin( sqmJoin, actualTableGroup, actualTableGroup, true );
+					if ( isSeparateCollectionFetch( sqmJoin ) ) {
+						if ( separateCollectionFetches == null ) {
+							separateCollectionFetches = new HashSet<>();
+						}
+						separateCollectionFetches.add( sqmJoin.getNavigablePath().getIdentifierForTableGroup() );
+					}
+					else {
+						final TableGroup actualTableGroup = getActualTableGroup( lhsTableGroup, sqmJoin );
+						registerPathAttributeEntityNameUsage( sqmJoin, actualTableGroup );
+						consumeExplicitJoin( sqmJoin, actualTableGroup, actualTableGroup, true );
+					}
 				}
 		);
 		final var sqmTreats = sqmFrom.getSqmTreats();
@@ -3579,6 +3593,29 @@ protected void consumeExplicitJoins(SqmFrom<?, ?> sqmFrom, TableGroup lhsTableGr
 		}
 	}
 
+	/**
+	 * Whether the given join is a collection fetch join which should be left out of the
+	 * query, and fetched by subselect instead, because another collection is already
+	 * join fetched.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#SEPARATE_COLLECTION_FETCHES
+	 */
+	private boolean isSeparateCollectionFetch(SqmJoin<?, ?> sqmJoin) {
+		return containsCollectionFetches
+			&& sqmJoin instanceof SqmAttributeJoin<?, ?> attributeJoin
+			&& attributeJoin.isFetched()
+			&& attributeJoin.getReferencedPathSource() instanceof PluralPersistentAttribute<?, ?, ?>
+			// an inner join would filter the results
+			&& attributeJoin.getSqmJoinType() == SqmJoinType.LEFT
+			// nothing else may refer to the join
+			&& attributeJoin.getExplicitAlias() == null
+			&& attributeJoin.getJoinPredicate() == null
+			&& !attributeJoin.hasTreats()
+			&& attributeJoin.getSqmJoins().isEmpty()
+			&& getProcessingStateStack().depth() == 1
+			&& getSessionFactoryOptions().isSeparateCollectionFetchesEnabled();
+	}
+
 	protected TableGroup consumeExplicitJoin(
 			SqmJoin<?, ?> sqmJoin,
 			TableGroup lhsTableGroup,
@@ -6371,22 +6408,21 @@ protected Expression consumeSqmParameter(SqmParameter<?> sqmParameter) {
 	}
 
 	private SqlTuple expandParameter(SqmParameter<?> sqmParameter, QueryParameterBinding<?> domainParamBinding, QueryParameterImplementor<?> domainParam) {
-		final var bindValues = domainParamBinding.getBindValues();
-		final List<Expression> expressions = new ArrayList<>( bindValues.size() );
-		boolean first = true;
-		for ( Object bindValue : bindValues ) {
+		final int bindValueCount = domainParamBinding.getBindValues().size();
+		final List<Expression> expressions = new ArrayList<>( bindValueCount );
+		for ( int position = 0; position < bindValueCount; position++ ) {
 			final SqmParameter<?> sqmParamToConsume;
 			// for each bind value create an "expansion"
-			if ( first ) {
+			if ( position == 0 ) {
 				sqmParamToConsume = sqmParameter;
-				first = false;
 			}
 			else {
 				sqmParamToConsume = sqmParameter.copy();
-				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, position );
 			}
 			expressions.add( consumeSingleSqmParameter( sqmParamToConsume ) );
 		}
+		domainParameterXref.addExpansionMode( domainParam, ExpansionMode.EXACT );
 		return new SqlTuple( expressions, null );
 	}
 
@@ -6694,9 +6730,10 @@ private void resolveSqmParameter(
 			BiConsumer<Integer,JdbcParameter> jdbcParameterConsumer) {
 		sqmParameterMappingModelTypes.put( expression, valueMapping );
 		final var jdbcParams = jdbcParamsBySqmParam.get( expression );
-		final int parameterId = jdbcParams == null
+		final Integer existingParameterId = jdbcParams == null ? null : firstParameterId( jdbcParams );
+		final int parameterId = existingParameterId == null
 				? jdbcParameters.getJdbcParameters().size()
-				: castNonNull( jdbcParams.get( 0 ).get( 0 ).getParameterId() );
+				: existingParameterId;
 		final var bindable = bindable( valueMapping );
 		if ( bindable instanceof SelectableMappings selectableMappings ) {
 			selectableMappings.forEachSelectable(
@@ -6730,6 +6767,17 @@ else if ( bindable instanceof SelectableMapping selectableMapping ) {
 		}
 	}
 
+	private static Integer firstParameterId(List<List<JdbcParameter>> jdbcParams) {
+		for ( var parameters : jdbcParams ) {
+			// an array parameter binding all the values of a multivalued parameter has no id
+			final Integer parameterId = parameters.get( 0 ).getParameterId();
+			if ( parameterId != null ) {
+				return parameterId;
+			}
+		}
+		return null;
+	}
+
 	private SqlTypedMapping sqlTypedMapping(SqmParameter<?> expression, Bindable bindable) {
 		if ( bindable instanceof BasicType<?> basicType) {
 			final int sqlTypeCode = basicType.getJdbcType().getDdlTypeCode();
@@ -8616,8 +8664,11 @@ public Predicate visitInListPredicate(SqmInListPredicate<?> predicate) {
 				&& listExpressions.get( 0 ) instanceof SqmParameter<?> sqmParameter ) {
 			if ( sqmParameter.allowMultiValuedBinding() ) {
 				final var specialCase = processInListWithSingleParameter( predicate, sqmParameter );
-				if ( specialCase != null ) {
-					handleTypeComparison( specialCase );
+				if ( specialCase instanceof InListPredicate inListPredicate ) {
+					handleTypeComparison( inListPredicate );
+					return inListPredicate;
+				}
+				else if ( specialCase != null ) {
 					return specialCase;
 				}
 			}
@@ -8681,7 +8732,7 @@ private void handleTypeComparison(InListPredicate inPredicate) {
 		}
 	}
 
-	private InListPredicate processInListWithSingleParameter(
+	private Predicate processInListWithSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter) {
 		assert sqmParameter.allowMultiValuedBinding();
@@ -8691,7 +8742,7 @@ private InListPredicate processInListWithSingleParameter(
 
 	}
 
-	private InListPredicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
+	private Predicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
 		final var domainParam = domainParameterXref.getQueryParameter( sqmParameter );
 		final var domainParamBinding = domainParameterBindings.getBinding( domainParam );
 		// triggers normal processing
@@ -8700,7 +8751,7 @@ private InListPredicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPre
 				: null;
 	}
 
-	private InListPredicate processInSingleCriteriaParameter(
+	private Predicate processInSingleCriteriaParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			JpaCriteriaParameter<?> jpaCriteriaParameter) {
 		assert jpaCriteriaParameter.allowsMultiValuedBinding();
@@ -8712,22 +8763,31 @@ private InListPredicate processInSingleCriteriaParameter(
 				: null;
 	}
 
-	private InListPredicate processInSingleParameter(
+	private Predicate processInSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter,
 			QueryParameterImplementor<?> domainParam,
 			QueryParameterBinding<?> domainParamBinding) {
-		final var iterator = domainParamBinding.getBindValues().iterator();
+		// visited once, whether the values are bound to an array or expanded
+		final var testExpression = (Expression) sqmPredicate.getTestExpression().accept( this );
+		final var inArrayPredicate =
+				processInArrayParameter( sqmPredicate, testExpression, sqmParameter, domainParamBinding );
+		if ( inArrayPredicate != null ) {
+			domainParameterXref.addExpansionMode( domainParam, ExpansionMode.ARRAY );
+			return inArrayPredicate;
+		}
+
+		final int bindValueCount = domainParamBinding.getBindValues().size();
 
 		final var inListPredicate = new InListPredicate(
-				(Expression) sqmPredicate.getTestExpression().accept( this ),
+				testExpression,
 				sqmPredicate.isNegated(),
 				getBooleanType()
 		);
 
 		final var fromClauseIndex = fromClauseIndexStack.getCurrent();
 
-		if ( !iterator.hasNext() ) {
+		if ( bindValueCount == 0 ) {
 			final var expressible =
 					determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex );
 			domainParamBinding.setType( (MappingModelExpressible) expressible );
@@ -8739,15 +8799,22 @@ private InListPredicate processInSingleParameter(
 		);
 
 		try {
+			// when query plans keep a translation per shape of the parameter bindings,
+			// pad the list, so that lists of similar sizes share a translation
+			final boolean padded =
+					getSessionFactory().getSessionFactoryOptions().getQueryPlanSqlCacheMaxSize() > 0;
+			final int expressionCount =
+					padded
+							? MathHelper.ceilingPowerOfTwo( bindValueCount, getDialect().getInExpressionCountLimit() )
+							: bindValueCount;
 			inListPredicate.addExpression( consumeSingleSqmParameter( sqmParameter ) );
-			iterator.next();
-			while ( iterator.hasNext() ) {
-				iterator.next();
+			for ( int position = 1; position < expressionCount; position++ ) {
 				// for each bind value create an "expansion"
 				final var sqmParamToConsume = sqmParameter.copy();
-				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, position );
 				inListPredicate.addExpression( consumeSingleSqmParameter( sqmParamToConsume ) );
 			}
+			domainParameterXref.addExpansionMode( domainParam, padded ? ExpansionMode.PADDED : ExpansionMode.EXACT );
 			return inListPredicate;
 		}
 		finally {
@@ -8755,6 +8822,76 @@ private InListPredicate processInSingleParameter(
 		}
 	}
 
+	/**
+	 * Bind all the values of the multivalued parameter of {@code path in :values} to
+	 * a single parameter of SQL {@code ARRAY} type, when there are enough of them.
+	 *
+	 * @param testExpression The already converted test expression of the predicate
+	 *
+	 * @return The predicate, or {@code null} if the values have to be expanded
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD
+	 */
+	private InArrayPredicate processInArrayParameter(
+			SqmInListPredicate<?> sqmPredicate,
+			Expression testExpression,
+			SqmParameter<?> sqmParameter,
+			QueryParameterBinding<?> domainParamBinding) {
+		final int threshold = getSessionFactory().getSessionFactoryOptions().getInClauseArrayParameterThreshold();
+		if ( threshold <= 0
+				|| domainParamBinding.getBindValues().size() < threshold
+				// the array would have to be searched for nulls
+				|| sqmPredicate.isNegated()
+				|| !getDialect().useArrayForMultiValuedParameters()
+				|| !( sqmPredicate.getTestExpression() instanceof SqmPath<?> )
+				|| sqmPredicate.getTestExpression() instanceof DiscriminatorSqmPath<?> ) {
+			return null;
+		}
+		final var valueMapping =
+				determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndexStack.getCurrent() );
+		if ( !( valueMapping instanceof BasicValuedMapping basicValuedMapping )
+				|| basicValuedMapping.getJdbcMapping().getValueConverter() != null ) {
+			return null;
+		}
+		final var elementJdbcMapping = basicValuedMapping.getJdbcMapping();
+		final JdbcMapping arrayJdbcMapping;
+		try {
+			arrayJdbcMapping = resolveArrayJdbcMapping(
+					elementJdbcMapping,
+					elementJdbcMapping.getJdbcJavaType().getJavaTypeClass(),
+					getSessionFactory()
+			);
+		}
+		catch (IllegalArgumentException e) {
+			// no array type for this element type
+			return null;
+		}
+		if ( !( testExpression instanceof BasicValuedPathInterpretation<?> ) ) {
+			return null;
+		}
+
+		final var arrayParameter = new MultiValuedArrayJdbcParameter(
+				basicValuedMapping instanceof SelectableMapping selectable
+						? new SqlTypedMappingImpl(
+								selectable.getLength(),
+								selectable.getArrayLength(),
+								selectable.getPrecision(),
+								selectable.getScale(),
+								selectable.getTemporalPrecision(),
+								arrayJdbcMapping
+						)
+						: new SqlTypedMappingImpl( arrayJdbcMapping ),
+				elementJdbcMapping
+		);
+		sqmParameterMappingModelTypes.put( sqmParameter, basicValuedMapping );
+		jdbcParameters.addParameter( arrayParameter );
+		jdbcParamsBySqmParam.computeIfAbsent( sqmParameter, k -> new ArrayList<>( 1 ) )
+				.add( List.of( arrayParameter ) );
+		//noinspection unchecked,rawtypes
+		( (QueryParameterBinding) domainParamBinding ).setType( basicValuedMapping );
+		return new InArrayPredicate( testExpression, arrayParameter, getBooleanType() );
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		final var testExpression = predicate.getTestExpression();
@@ -8884,6 +9021,7 @@ private Fetch createFetch(FetchParent fetchParent, Fetchable fetchable, Boolean
 		final var fetchedJoin = fromClauseIndex.findFetchedJoinByPath( resolvedNavigablePath );
 
 		boolean explicitFetch = false;
+		boolean separateFetch = false;
 		EntityGraphTraversalState.TraversalResult traversalResult = null;
 
 		TableGroup joinedTableGroup = null;
@@ -8912,6 +9050,16 @@ private Fetch createFetch(FetchParent fetchParent, Fetchable fetchable, Boolean
 				registerFetchOptions( fetchablePath, traversalResult.getFetchOptions() );
 			}
 		}
+		else if ( separateCollectionFetches != null
+				&& separateCollectionFetches.contains( resolvedNavigablePath.getIdentifierForTableGroup() ) ) {
+			// there was an explicit fetch in the SQM, but the collection is fetched by subselect
+			fetchablePath = resolvedNavigablePath;
+			alias = null;
+			fetchTiming = FetchTiming.IMMEDIATE;
+			explicitFetch = true;
+			separateFetch = true;
+			registerFetchOptions( fetchablePath, FetchOptions.of( null, null, null, FetchMethod.BY_SUBQUERY ) );
+		}
 		else {
 			fetchablePath = resolvedNavigablePath;
 			// there was not an explicit fetch in the SQM
@@ -9075,7 +9223,8 @@ else if ( getLoadQueryInfluencers().hasEnabledFetchProfiles() ) {
 								pluralAttributeMapping.getMappedType()
 										.getCollectionSemantics()
 										.getCollectionClassification();
-						if ( collectionClassification == CollectionClassification.BAG ) {
+						// a bag fetched by subselect doesn't multiply the rows
+						if ( collectionClassification == CollectionClassification.BAG && !separateFetch ) {
 							final var navigableRole = fetchable.getNavigableRole();
 							if ( currentBagRole != null ) {
 								throw new MultipleBagFetchException(
@@ -9418,20 +9567,19 @@ public List<Expression> expandSelfRenderingFunctionMultiValueParameter(SqmParame
 		final int bindValuesSize = bindValues.size();
 		final List<Expression> result = new ArrayList<>( bindValuesSize );
 
-		boolean first = true;
-		for ( int i = 0; i < bindValuesSize; i++ ) {
+		for ( int position = 0; position < bindValuesSize; position++ ) {
 			final SqmParameter<?> sqmParamToConsume;
 			// for each bind value create an "expansion"
-			if ( first ) {
+			if ( position == 0 ) {
 				sqmParamToConsume = sqmParameter;
-				first = false;
 			}
 			else {
 				sqmParamToConsume = sqmParameter.copy();
-				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume );
+				domainParameterXref.addExpansion( domainParam, sqmParameter, sqmParamToConsume, position );
 			}
 			result.add( consumeSingleSqmParameter( sqmParamToConsume ) );
 		}
+		domainParameterXref.addExpansionMode( domainParam, ExpansionMode.EXACT );
 		return result;
 	}
 
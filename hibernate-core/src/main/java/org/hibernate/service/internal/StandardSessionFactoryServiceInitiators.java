@@ -10,6 +10,8 @@
 import org.hibernate.engine.extension.spi.ExtensionIntegrationServiceInitiator;
 import org.hibernate.engine.query.spi.NativeQueryInterpreterInitiator;
 import org.hibernate.engine.spi.CacheInitiator;
+import org.hibernate.loader.ast.internal.ParallelFetchExecutorInitiator;
+import org.hibernate.loader.ast.internal.PrefetchPlannerInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
@@ -28,6 +30,8 @@ public static List<SessionFactoryServiceInitiator<?>> buildStandardServiceInitia
 		serviceInitiators.add( CacheInitiator.INSTANCE );
 		serviceInitiators.add( NativeQueryInterpreterInitiator.INSTANCE );
 		serviceInitiators.add( ExtensionIntegrationServiceInitiator.INSTANCE );
+		serviceInitiators.add( ParallelFetchExecutorInitiator.INSTANCE );
+		serviceInitiators.add( PrefetchPlannerInitiator.INSTANCE );
 		return serviceInitiators;
 	}
 
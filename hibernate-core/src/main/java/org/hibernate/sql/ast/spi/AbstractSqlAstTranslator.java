@@ -7766,24 +7766,34 @@ private int processFilterParameter(FilterFragmentParameter parameter, String sql
 		final Object value = parameter.getValue();
 		final JdbcMapping valueMapping = parameter.getValueMapping();
 
+		final var argument =
+				new FilterJdbcParameter.FilterArgument( parameter.getFilterName(), parameter.getParameterName() );
 		if ( value instanceof Iterable<?> iterable
 				&& !valueMapping.getJavaTypeDescriptor().isInstance( value ) ) {
-			processIterableFilterParameterValue( valueMapping, iterable.iterator() );
+			processIterableFilterParameterValue( parameter, argument, iterable.iterator() );
 		}
 		else {
-			processSingularFilterParameterValue( valueMapping, value );
+			processSingularFilterParameterValue( parameter, argument, -1, value );
 		}
 
 		return markerStart + marker.length();
 	}
 
-	private void processSingularFilterParameterValue(JdbcMapping valueMapping, Object value) {
-		visitParameterAsParameter( new FilterJdbcParameter( valueMapping, value ) );
+	private void processSingularFilterParameterValue(
+			FilterFragmentParameter parameter,
+			FilterJdbcParameter.FilterArgument argument,
+			int position,
+			Object value) {
+		visitParameterAsParameter( new FilterJdbcParameter( parameter.getValueMapping(), argument, position, value ) );
 	}
 
-	private void processIterableFilterParameterValue(JdbcMapping valueMapping, Iterator<?> iterator) {
+	private void processIterableFilterParameterValue(
+			FilterFragmentParameter parameter,
+			FilterJdbcParameter.FilterArgument argument,
+			Iterator<?> iterator) {
+		int position = 0;
 		while ( iterator.hasNext() ) {
-			processSingularFilterParameterValue( valueMapping, iterator.next() );
+			processSingularFilterParameterValue( parameter, argument, position++, iterator.next() );
 			if ( iterator.hasNext() ) {
 				appendSql( "," );
 			}
@@ -7978,15 +7988,7 @@ private void appendInClauseSeparator(InListPredicate inListPredicate) {
 	}
 
 	private static int addPadding(int bindValueCount, int inExprLimit) {
-		final int ceilingPowerOfTwo = MathHelper.ceilingPowerOfTwo( bindValueCount );
-		if ( inExprLimit <= 0 || ceilingPowerOfTwo <= inExprLimit ) {
-			return ceilingPowerOfTwo;
-		}
-		else {
-			int numberOfInClauses = MathHelper.divideRoundingUp( bindValueCount, inExprLimit );
-			int numberOfInClausesWithPadding = MathHelper.ceilingPowerOfTwo( numberOfInClauses );
-			return numberOfInClausesWithPadding * inExprLimit;
-		}
+		return MathHelper.ceilingPowerOfTwo( bindValueCount, inExprLimit );
 	}
 
 	@Override
@@ -8720,12 +8722,18 @@ protected void renderInsertInto(TableInsertStandard tableInsert) {
 		try {
 			sqlBuffer.append( ") values (" );
 
-			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
-				if ( columnPosition > 0 ) {
-					sqlBuffer.append( ',' );
+			// a multi-row insert repeats the tuple of values for each row
+			for ( int row = 0; row < tableInsert.getNumberOfRows(); row++ ) {
+				if ( row > 0 ) {
+					sqlBuffer.append( "),(" );
 				}
-				columnValueBinding.getValueExpression().accept( this );
-			} );
+				tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
+					if ( columnPosition > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					columnValueBinding.getValueExpression().accept( this );
+				} );
+			}
 		}
 		finally {
 			getCurrentClauseStack().pop();
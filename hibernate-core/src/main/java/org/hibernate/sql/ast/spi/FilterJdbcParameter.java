@@ -4,8 +4,10 @@
  */
 package org.hibernate.sql.ast.spi;
 
+import java.lang.ref.WeakReference;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 
 import jakarta.annotation.Nullable;
 import org.hibernate.metamodel.mapping.JdbcMapping;
@@ -17,14 +19,28 @@
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 /**
+ * A parameter of a {@linkplain org.hibernate.Filter filter}, bound to the current
+ * argument of the filter, since a cached translation of a query is reused whatever
+ * the arguments of its filters.
+ *
  * @author Nathan Xu
  */
 class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	private final JdbcMapping jdbcMapping;
+	private final FilterArgument argument;
+	// the position of the value among the values of a multivalued argument, or -1
+	private final int position;
+	// the argument the statement was translated with
 	private final Object jdbcParameterValue;
 
-	FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+	FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			FilterArgument argument,
+			int position,
+			Object jdbcParameterValue) {
 		this.jdbcMapping = jdbcMapping;
+		this.argument = argument;
+		this.position = position;
 		this.jdbcParameterValue = jdbcParameterValue;
 	}
 
@@ -37,13 +53,29 @@ public JdbcParameterBinder getParameterBinder() {
 	public void bindParameterValue(PreparedStatement statement, int startPosition, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) throws SQLException {
 		jdbcMapping.getJdbcValueBinder().bind(
 				statement,
-				jdbcMapping.convertToRelationalValue( jdbcParameterValue ),
+				jdbcMapping.convertToRelationalValue( currentValue( executionContext ) ),
 				startPosition,
 				executionContext.getSession()
 		);
 
 	}
 
+	private Object currentValue(ExecutionContext executionContext) {
+		final var resolved = argument.resolve( executionContext );
+		if ( resolved.enabled() ) {
+			if ( position < 0 ) {
+				return resolved.argument();
+			}
+			else {
+				final Object[] values = resolved.values();
+				if ( values != null && position < values.length ) {
+					return values[position];
+				}
+			}
+		}
+		return jdbcParameterValue;
+	}
+
 	@Override
 	public JdbcMappingContainer getExpressionType() {
 		return jdbcMapping;
@@ -58,4 +90,65 @@ public JdbcMappingContainer getExpressionType() {
 	public void accept(SqlAstWalker sqlTreeWalker) {
 		throw new IllegalStateException(  );
 	}
+
+	/**
+	 * The argument of a parameter of a filter, shared by the JDBC parameters it
+	 * was expanded to, and resolved once per execution of the statement, since
+	 * the argument may be supplied by a resolver.
+	 */
+	static final class FilterArgument {
+		private final String filterName;
+		private final String parameterName;
+		// the argument resolved for the execution in progress
+		private volatile @Nullable Resolved resolved;
+
+		FilterArgument(String filterName, String parameterName) {
+			this.filterName = filterName;
+			this.parameterName = parameterName;
+		}
+
+		private Resolved resolve(ExecutionContext executionContext) {
+			final var current = resolved;
+			if ( current != null && current.executionContext().get() == executionContext ) {
+				return current;
+			}
+			else {
+				final var loadQueryInfluencers = executionContext.getLoadQueryInfluencers();
+				final var filter =
+						loadQueryInfluencers == null ? null : loadQueryInfluencers.getEnabledFilter( filterName );
+				final Resolved result;
+				if ( filter == null ) {
+					result = new Resolved( new WeakReference<>( executionContext ), false, null, null );
+				}
+				else {
+					final Object argument = filter.getParameterValue( parameterName );
+					result = new Resolved( new WeakReference<>( executionContext ), true, argument, toArray( argument ) );
+				}
+				resolved = result;
+				return result;
+			}
+		}
+
+		private static @Nullable Object[] toArray(@Nullable Object argument) {
+			if ( argument instanceof Iterable<?> iterable ) {
+				final var values = new ArrayList<>();
+				iterable.forEach( values::add );
+				return values.toArray();
+			}
+			else {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * The argument resolved for an execution, referring to its context weakly,
+	 * since the translation of the statement, and so the argument, may be cached.
+	 */
+	private record Resolved(
+			WeakReference<ExecutionContext> executionContext,
+			boolean enabled,
+			@Nullable Object argument,
+			@Nullable Object[] values) {
+	}
 }
@@ -7,6 +7,7 @@
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.Incubating;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
@@ -60,4 +61,39 @@ default int getNumberOfReturningColumns() {
 	 * @see #getReturningColumns
 	 */
 	void forEachReturningColumn(BiConsumer<Integer,ColumnReference> consumer);
+
+	/**
+	 * The number of rows inserted, each rendered as its own tuple of values.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getNumberOfRows() {
+		return 1;
+	}
+
+	/**
+	 * Whether this insert may be {@linkplain #forRows rendered for several rows},
+	 * that is, whether it inserts a single row with a tuple of values, and does
+	 * not return any column.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isMultiRowCapable() {
+		return false;
+	}
+
+	/**
+	 * A copy of this insert which inserts the given number of rows.
+	 *
+	 * @throws UnsupportedOperationException if this insert is not
+	 * {@linkplain #isMultiRowCapable multi-row capable}
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default TableInsert forRows(int numberOfRows) {
+		throw new UnsupportedOperationException( "Insert cannot be rendered for multiple rows" );
+	}
 }
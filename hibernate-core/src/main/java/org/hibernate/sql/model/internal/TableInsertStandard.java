@@ -9,7 +9,9 @@
 
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ast.AbstractTableInsert;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
@@ -23,6 +25,7 @@
  */
 public class TableInsertStandard extends AbstractTableInsert implements TableInsert, GeneratedMutation<JdbcInsertMutation> {
 	private final List<ColumnReference> returningColumns;
+	private final int numberOfRows;
 
 	public TableInsertStandard(
 			MutatingTableReference mutatingTable,
@@ -30,8 +33,47 @@ public TableInsertStandard(
 			List<ColumnValueBinding> valueBindings,
 			List<ColumnReference> returningColumns,
 			List<ColumnValueParameter> parameters) {
+		this( mutatingTable, mutationTarget, valueBindings, returningColumns, parameters, 1 );
+	}
+
+	private TableInsertStandard(
+			MutatingTableReference mutatingTable,
+			MutationTarget<?,?> mutationTarget,
+			List<ColumnValueBinding> valueBindings,
+			List<ColumnReference> returningColumns,
+			List<ColumnValueParameter> parameters,
+			int numberOfRows) {
 		super( mutatingTable, mutationTarget, parameters, valueBindings );
 		this.returningColumns = returningColumns;
+		this.numberOfRows = numberOfRows;
+	}
+
+	@Override
+	public int getNumberOfRows() {
+		return numberOfRows;
+	}
+
+	@Override
+	public boolean isMultiRowCapable() {
+		return numberOfRows == 1
+			&& getClass() == TableInsertStandard.class
+			&& getNumberOfValueBindings() > 0
+			&& getNumberOfReturningColumns() == 0;
+	}
+
+	@Override
+	public TableInsertStandard forRows(int numberOfRows) {
+		if ( !isMultiRowCapable() ) {
+			throw new UnsupportedOperationException( "Insert cannot be rendered for multiple rows" );
+		}
+		return new TableInsertStandard(
+				getMutatingTable(),
+				getMutationTarget(),
+				getValueBindings(),
+				returningColumns,
+				getParameters(),
+				numberOfRows
+		);
 	}
 
 	@Override
@@ -54,6 +96,22 @@ public boolean isCallable() {
 		return false;
 	}
 
+	@Override
+	protected JdbcInsertMutation createMutationOperation(
+			TableMapping tableDetails,
+			String sql,
+			List<JdbcParameterBinder> effectiveBinders) {
+		return new JdbcInsertMutation(
+				tableDetails,
+				getMutationTarget(),
+				sql,
+				isCallable(),
+				getExpectation(),
+				effectiveBinders,
+				isMultiRowCapable() ? this : null
+		);
+	}
+
 	@Override
 	public void accept(SqlAstWalker walker) {
 		walker.visitStandardTableInsert( this );
@@ -5,12 +5,18 @@
 package org.hibernate.sql.model.jdbc;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import jakarta.annotation.Nullable;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.TableInsert;
 
 /**
  * Descriptor for a table insert originating from a flush
@@ -18,6 +24,9 @@
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private final @Nullable TableInsert tableInsert;
+	private final Map<Integer, String> multiRowSqlStrings;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?,?> mutationTarget,
@@ -25,7 +34,27 @@ public JdbcInsertMutation(
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, null );
+	}
+
+	/**
+	 * @param tableInsert The insert from which the SQL was rendered, if it
+	 * may also be rendered as a multi-row insert
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?,?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			@Nullable TableInsert tableInsert) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.tableInsert = tableInsert != null && tableInsert.isMultiRowCapable() ? tableInsert : null;
+		this.multiRowSqlStrings = this.tableInsert == null ? Map.of() : new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -33,6 +62,45 @@ public MutationType getMutationType() {
 		return MutationType.INSERT;
 	}
 
+	/**
+	 * Whether the rows inserted by several executions of this insert
+	 * may instead be inserted by a single statement.
+	 *
+	 * @see #getMultiRowSqlString(int, SessionFactoryImplementor)
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public boolean isMultiRowCapable() {
+		return tableInsert != null;
+	}
+
+	/**
+	 * The SQL of a single statement inserting the given number of rows,
+	 * with a tuple of values per row. The JDBC parameters of each tuple
+	 * occur in the same order as the parameters of {@link #getSqlString()}.
+	 * The SQL is rendered once per number of rows, and then reused.
+	 *
+	 * @see #isMultiRowCapable()
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	public String getMultiRowSqlString(int numberOfRows, SessionFactoryImplementor factory) {
+		if ( tableInsert == null ) {
+			throw new UnsupportedOperationException( "Insert cannot be rendered for multiple rows: " + this );
+		}
+		else if ( numberOfRows == 1 ) {
+			return getSqlString();
+		}
+		else {
+			return multiRowSqlStrings.computeIfAbsent( numberOfRows,
+					rows -> tableInsert.forRows( rows )
+							.createMutationOperation( null, factory )
+							.getSqlString() );
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "JdbcInsertMutation(" + getTableDetails().getTableName() + ")";
@@ -0,0 +1,296 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * The rows of a cached query result, stored column by column.
+ * <p>
+ * Columns holding only {@link Long}, {@link Integer}, or {@link Double}
+ * values are stored in primitive arrays, with a bitmap of null values,
+ * and columns holding only strings are dictionary-encoded, so that a
+ * cached result holds a few arrays instead of an array and several boxed
+ * values per row. The values are only decoded when they are read, by
+ * {@link #getValue(int, int)}.
+ * <p>
+ * This class is an immutable view of the list built by
+ * {@link QueryCachePutManagerEnabledImpl}: the optional
+ * {@link CachedJdbcValuesMetadata}, followed by one element per row,
+ * followed by the result count. Rows accessed through {@link #get(int)}
+ * are materialized.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR
+ *
+ * @since 8.1
+ */
+public final class ColumnarQueryResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final @Nullable CachedJdbcValuesMetadata metadata;
+	private final int rowCount;
+	// whether each row is an array of values, or a single value
+	private final boolean arrayRows;
+	private final Column[] columns;
+	private final int resultCount;
+
+	private ColumnarQueryResults(
+			@Nullable CachedJdbcValuesMetadata metadata,
+			int rowCount,
+			boolean arrayRows,
+			Column[] columns,
+			int resultCount) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.arrayRows = arrayRows;
+		this.columns = columns;
+		this.resultCount = resultCount;
+	}
+
+	/**
+	 * Store the given cached query result column by column.
+	 *
+	 * @param results The list built by {@link QueryCachePutManagerEnabledImpl}
+	 *
+	 * @return The columnar result, or {@code null} if the rows do not all
+	 *         have the same shape
+	 */
+	public static @Nullable ColumnarQueryResults from(List<?> results) {
+		if ( results.isEmpty() ) {
+			return null;
+		}
+		final var metadata = results.get( 0 ) instanceof CachedJdbcValuesMetadata cachedMetadata ? cachedMetadata : null;
+		final int offset = metadata == null ? 0 : 1;
+		final int rowCount = results.size() - offset - 1;
+		final int resultCount = (int) results.get( results.size() - 1 );
+		if ( rowCount == 0 ) {
+			return new ColumnarQueryResults( metadata, 0, false, new Column[0], resultCount );
+		}
+
+		final boolean arrayRows = results.get( offset ) instanceof Object[];
+		final int columnCount = arrayRows ? ( (Object[]) results.get( offset ) ).length : 1;
+		for ( int row = 0; row < rowCount; row++ ) {
+			final Object value = results.get( row + offset );
+			if ( arrayRows
+					? !( value instanceof Object[] array ) || array.length != columnCount
+					: value instanceof Object[] ) {
+				return null;
+			}
+		}
+
+		final var columns = new Column[columnCount];
+		final var values = new Object[rowCount];
+		for ( int column = 0; column < columnCount; column++ ) {
+			for ( int row = 0; row < rowCount; row++ ) {
+				final Object value = results.get( row + offset );
+				values[row] = arrayRows ? ( (Object[]) value )[column] : value;
+			}
+			columns[column] = Column.of( values );
+		}
+		return new ColumnarQueryResults( metadata, rowCount, arrayRows, columns, resultCount );
+	}
+
+	/**
+	 * The number of rows.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Decode the value of the given column of the given row.
+	 *
+	 * @param row The row, indexed from zero
+	 * @param column The column, indexed from zero
+	 */
+	public @Nullable Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	@Override
+	public Object get(int index) {
+		final int offset = metadata == null ? 0 : 1;
+		if ( metadata != null && index == 0 ) {
+			return metadata;
+		}
+		else if ( index == rowCount + offset ) {
+			return resultCount;
+		}
+		else if ( index < offset || index > rowCount + offset ) {
+			throw new IndexOutOfBoundsException( index );
+		}
+		else {
+			final int row = index - offset;
+			if ( arrayRows ) {
+				final var values = new Object[columns.length];
+				for ( int column = 0; column < columns.length; column++ ) {
+					values[column] = columns[column].get( row );
+				}
+				return values;
+			}
+			else {
+				return columns[0].get( row );
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return ( metadata == null ? 0 : 1 ) + rowCount + 1;
+	}
+
+	private abstract static class Column implements Serializable {
+		abstract @Nullable Object get(int row);
+
+		static Column of(Object[] values) {
+			Class<?> type = null;
+			for ( Object value : values ) {
+				if ( value != null ) {
+					if ( type == null ) {
+						type = value.getClass();
+					}
+					else if ( type != value.getClass() ) {
+						return new ObjectColumn( values.clone() );
+					}
+				}
+			}
+			if ( type == Long.class ) {
+				return new LongColumn( values );
+			}
+			else if ( type == Integer.class ) {
+				return new IntColumn( values );
+			}
+			else if ( type == Double.class ) {
+				return new DoubleColumn( values );
+			}
+			else if ( type == String.class ) {
+				return new StringColumn( values );
+			}
+			else {
+				return new ObjectColumn( values.clone() );
+			}
+		}
+
+		static @Nullable long[] nulls(Object[] values) {
+			long[] nulls = null;
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] == null ) {
+					if ( nulls == null ) {
+						nulls = new long[( values.length + 63 ) >>> 6];
+					}
+					nulls[row >>> 6] |= 1L << row;
+				}
+			}
+			return nulls;
+		}
+
+		static boolean isNull(@Nullable long[] nulls, int row) {
+			return nulls != null && ( nulls[row >>> 6] & ( 1L << row ) ) != 0;
+		}
+	}
+
+	private static final class LongColumn extends Column {
+		private final long[] values;
+		private final @Nullable long[] nulls;
+
+		private LongColumn(Object[] values) {
+			this.values = new long[values.length];
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] != null ) {
+					this.values[row] = (Long) values[row];
+				}
+			}
+			this.nulls = nulls( values );
+		}
+
+		@Override
+		@Nullable Object get(int row) {
+			return isNull( nulls, row ) ? null : values[row];
+		}
+	}
+
+	private static final class IntColumn extends Column {
+		private final int[] values;
+		private final @Nullable long[] nulls;
+
+		private IntColumn(Object[] values) {
+			this.values = new int[values.length];
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] != null ) {
+					this.values[row] = (Integer) values[row];
+				}
+			}
+			this.nulls = nulls( values );
+		}
+
+		@Override
+		@Nullable Object get(int row) {
+			return isNull( nulls, row ) ? null : values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+		private final double[] values;
+		private final @Nullable long[] nulls;
+
+		private DoubleColumn(Object[] values) {
+			this.values = new double[values.length];
+			for ( int row = 0; row < values.length; row++ ) {
+				if ( values[row] != null ) {
+					this.values[row] = (Double) values[row];
+				}
+			}
+			this.nulls = nulls( values );
+		}
+
+		@Override
+		@Nullable Object get(int row) {
+			return isNull( nulls, row ) ? null : values[row];
+		}
+	}
+
+	private static final class StringColumn extends Column {
+		private final String[] dictionary;
+		// index in the dictionary, or -1 for null
+		private final int[] codes;
+
+		private StringColumn(Object[] values) {
+			final var indexes = new HashMap<String, Integer>();
+			this.codes = new int[values.length];
+			for ( int row = 0; row < values.length; row++ ) {
+				codes[row] = values[row] == null
+						? -1
+						: indexes.computeIfAbsent( (String) values[row], value -> indexes.size() );
+			}
+			this.dictionary = new String[indexes.size()];
+			indexes.forEach( (value, code) -> dictionary[code] = value );
+		}
+
+		@Override
+		@Nullable Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+
+	private static final class ObjectColumn extends Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			this.values = values;
+		}
+
+		@Override
+		@Nullable Object get(int row) {
+			return values[row];
+		}
+	}
+}
@@ -52,9 +52,19 @@ public void finishUp(int resultCount, SharedSessionContractImplementor session)
 		if ( !dataToCache.isEmpty() ) {
 			dataToCache.add( resultCount );
 		}
-		final boolean put = queryCache.put( queryKey, dataToCache, session );
+		final boolean put = queryCache.put( queryKey, resultsToCache( session ), session );
 		if ( put && statistics.isStatisticsEnabled() ) {
 			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
 		}
 	}
+
+	private List<?> resultsToCache(SharedSessionContractImplementor session) {
+		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheColumnarEnabled() ) {
+			final var columnarResults = ColumnarQueryResults.from( dataToCache );
+			if ( columnarResults != null ) {
+				return columnarResults;
+			}
+		}
+		return dataToCache;
+	}
 }
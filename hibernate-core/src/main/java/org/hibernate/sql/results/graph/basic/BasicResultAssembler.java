@@ -94,6 +94,15 @@ public JavaType<J> getAssembledJavaType() {
 				: assembledJavaType;
 	}
 
+	/**
+	 * The position of the value in the "JDBC values array" if this assembler
+	 * returns the raw JDBC value unchanged, or {@code -1} otherwise
+	 */
+	@Internal
+	public int getRawValuesArrayPosition() {
+		return valueConverter == null && !unwrapRowProcessingState ? valuesArrayPosition : -1;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
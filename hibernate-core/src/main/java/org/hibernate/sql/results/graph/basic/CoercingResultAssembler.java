@@ -31,4 +31,9 @@ public CoercingResultAssembler(
 	public Object extractRawValue(RowProcessingState rowProcessingState) {
 		return assembledJavaType.coerce( super.extractRawValue( rowProcessingState ) );
 	}
+
+	@Override
+	public int getRawValuesArrayPosition() {
+		return -1;
+	}
 }
@@ -4,6 +4,10 @@
  */
 package org.hibernate.sql.results.internal;
 
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Nullable;
 import jakarta.persistence.CacheStoreMode;
 
 import org.hibernate.SharedSessionContract;
@@ -17,6 +21,7 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowBlock;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 
@@ -29,6 +34,39 @@
  */
 public class ResultsHelper {
 
+	/**
+	 * Read every row of the given block, passing the result of each row to the consumer.
+	 * The result is the value of the only column, if there is one column and no
+	 * transformer, or the array of the values of the columns, transformed if required.
+	 *
+	 * @param positions The positions of the columns of the result in the block
+	 * @param resultRowFactory Supplies the array holding the values of a row
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> void readRowBlock(
+			RowBlock rowBlock,
+			int[] positions,
+			@Nullable RowTransformer<T> rowTransformer,
+			Supplier<Object[]> resultRowFactory,
+			Consumer<? super T> consumer) {
+		final int rowCount = rowBlock.getRowCount();
+		if ( positions.length == 1 && rowTransformer == null ) {
+			final int position = positions[0];
+			for ( int row = 0; row < rowCount; row++ ) {
+				consumer.accept( (T) rowBlock.getObject( row, position ) );
+			}
+		}
+		else {
+			for ( int row = 0; row < rowCount; row++ ) {
+				final Object[] resultRow = resultRowFactory.get();
+				for ( int i = 0; i < positions.length; i++ ) {
+					resultRow[i] = rowBlock.getObject( row, positions[i] );
+				}
+				consumer.accept( rowTransformer == null ? (T) resultRow : rowTransformer.transformRow( resultRow ) );
+			}
+		}
+	}
+
 	public static <R> RowReader<R> createRowReader(
 			SessionFactoryImplementor sessionFactory,
 			RowTransformer<R> rowTransformer,
@@ -42,11 +80,11 @@ public static <R> RowReader<R> createRowReader(
 			RowTransformer<R> rowTransformer,
 			Class<R> transformedResultJavaType,
 			JdbcValuesMapping jdbcValuesMapping) {
-		return new StandardRowReader<>(
-				jdbcValuesMapping.resolveAssemblers( sessionFactory ),
-				rowTransformer,
-				transformedResultJavaType
-		);
+		final var resolution = jdbcValuesMapping.resolveAssemblers( sessionFactory );
+		final var scalarRowReader = ScalarRowReader.from( resolution, rowTransformer, transformedResultJavaType );
+		return scalarRowReader != null
+				? scalarRowReader
+				: new StandardRowReader<>( resolution, rowTransformer, transformedResultJavaType );
 	}
 
 	public static void finalizeCollectionLoading(
@@ -19,9 +19,12 @@
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.sql.results.jdbc.spi.RowBlock;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.sql.results.spi.RowReader;
 
+import jakarta.annotation.Nullable;
+
 /**
  * Standard RowProcessingState implementation
  */
@@ -95,6 +98,14 @@ public boolean next() {
 		return jdbcValues.next( this );
 	}
 
+	public boolean isRowBlockEnabled() {
+		return jdbcValues.isRowBlockEnabled();
+	}
+
+	public @Nullable RowBlock nextRowBlock() {
+		return jdbcValues.nextRowBlock( this );
+	}
+
 	public boolean previous() {
 		return jdbcValues.previous( this );
 	}
@@ -41,4 +41,9 @@ public R transformRow(Object[] row) {
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
 	}
+
+	@Override
+	public boolean retainsRow() {
+		return false;
+	}
 }
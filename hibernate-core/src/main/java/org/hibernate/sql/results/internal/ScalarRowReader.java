@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.internal;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.internal.build.AllowReflection;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
+import org.hibernate.sql.results.jdbc.spi.RowBlock;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * {@link RowReader} for results made up of basic values only, that is, when the
+ * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping} contains no entity,
+ * collection or embeddable results and hence no initializers.
+ * <p>
+ * Values are assembled straight into the final tuple.  When the {@link RowTransformer}
+ * does not {@linkplain RowTransformer#retainsRow() retain} the row array, for example
+ * for record and constructor projections, a single array is reused for every row so
+ * that the only per-row allocation is the transformed result itself.
+ *
+ * @see StandardRowReader
+ */
+public class ScalarRowReader<T> implements RowReader<T> {
+	private final BasicResultAssembler<?>[] resultAssemblers;
+	private final @Nullable RowTransformer<T> rowTransformer;
+	private final @Nullable Class<T> domainResultJavaType;
+	private final Class<?> resultElementClass;
+	// reused for every row, if the transformer does not hold on to it
+	private final @Nullable Object[] rowBuffer;
+	// the values array position read by each result assembler, if rows can be read a block at a time
+	private final @Nullable int[] rowBlockPositions;
+
+	private ScalarRowReader(
+			BasicResultAssembler<?>[] resultAssemblers,
+			RowTransformer<T> rowTransformer,
+			@Nullable Class<T> domainResultJavaType,
+			Class<?> resultElementClass) {
+		this.resultAssemblers = resultAssemblers;
+		this.rowTransformer =
+				rowTransformer == RowTransformerArrayImpl.instance() && resultAssemblers.length != 1
+				|| rowTransformer == RowTransformerStandardImpl.instance()
+				|| rowTransformer == RowTransformerSingularReturnImpl.instance() && resultAssemblers.length == 1
+					? null
+					: rowTransformer;
+		this.domainResultJavaType = domainResultJavaType;
+		this.resultElementClass = resultElementClass;
+		this.rowBuffer =
+				this.rowTransformer != null && !this.rowTransformer.retainsRow()
+						&& resultElementClass == Object.class
+						? new Object[resultAssemblers.length]
+						: null;
+		this.rowBlockPositions = determineRowBlockPositions( resultAssemblers );
+	}
+
+	/**
+	 * Create a reader for the given resolution, or return {@code null} if the
+	 * results are not basic values only.
+	 */
+	public static <T> @Nullable ScalarRowReader<T> from(
+			JdbcValuesMappingResolution jdbcValuesMappingResolution,
+			RowTransformer<T> rowTransformer,
+			@Nullable Class<T> domainResultJavaType) {
+		if ( jdbcValuesMappingResolution.getInitializers().length > 0 ) {
+			return null;
+		}
+		final var domainResultAssemblers = jdbcValuesMappingResolution.getDomainResultAssemblers();
+		final var resultAssemblers = new BasicResultAssembler<?>[domainResultAssemblers.length];
+		for ( int i = 0; i < domainResultAssemblers.length; i++ ) {
+			if ( domainResultAssemblers[i] instanceof BasicResultAssembler<?> basicResultAssembler ) {
+				resultAssemblers[i] = basicResultAssembler;
+			}
+			else {
+				return null;
+			}
+		}
+		final Class<?> resultElementClass = determineResultElementClass( resultAssemblers, domainResultJavaType );
+		// primitive arrays are left to StandardRowReader
+		return resultElementClass.isPrimitive()
+				? null
+				: new ScalarRowReader<>( resultAssemblers, rowTransformer, domainResultJavaType, resultElementClass );
+	}
+
+	private static Class<?> determineResultElementClass(
+			DomainResultAssembler<?>[] resultAssemblers,
+			@Nullable Class<?> domainResultJavaType) {
+		return domainResultJavaType == null
+			|| domainResultJavaType == Object[].class
+			|| domainResultJavaType == Object.class
+			|| !domainResultJavaType.isArray()
+			|| resultAssemblers.length == 1
+				&& domainResultJavaType == resultAssemblers[0].getAssembledJavaType().getJavaTypeClass()
+				? Object.class
+				: domainResultJavaType.getComponentType();
+	}
+
+	private static @Nullable int[] determineRowBlockPositions(BasicResultAssembler<?>[] resultAssemblers) {
+		final int[] positions = new int[resultAssemblers.length];
+		for ( int i = 0; i < resultAssemblers.length; i++ ) {
+			positions[i] = resultAssemblers[i].getRawValuesArrayPosition();
+			if ( positions[i] < 0 ) {
+				return null;
+			}
+		}
+		return positions;
+	}
+
+	@Override
+	public @Nullable Class<T> getDomainResultResultJavaType() {
+		return domainResultJavaType;
+	}
+
+	@Override
+	public List<JavaType<?>> getResultJavaTypes() {
+		final List<JavaType<?>> javaTypes = new ArrayList<>( resultAssemblers.length );
+		for ( var resultAssembler : resultAssemblers ) {
+			javaTypes.add( resultAssembler.getAssembledJavaType() );
+		}
+		return javaTypes;
+	}
+
+	@Override
+	public int getInitializerCount() {
+		return 0;
+	}
+
+	@Override
+	public void startLoading(RowProcessingState processingState) {
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T readRow(RowProcessingState rowProcessingState) {
+		if ( resultAssemblers.length == 1 && rowTransformer == null ) {
+			return (T) resultAssemblers[0].assemble( rowProcessingState );
+		}
+		else {
+			final Object[] resultRow = newResultRow();
+			for ( int i = 0; i < resultAssemblers.length; i++ ) {
+				resultRow[i] = resultAssemblers[i].assemble( rowProcessingState );
+			}
+			return rowTransformer == null
+					? (T) resultRow
+					: rowTransformer.transformRow( resultRow );
+		}
+	}
+
+	@Override
+	public boolean isRowBlockCapable() {
+		return rowBlockPositions != null;
+	}
+
+	@Override
+	public void readRowBlock(RowBlock rowBlock, RowProcessingState processingState, Consumer<? super T> consumer) {
+		assert rowBlockPositions != null;
+		ResultsHelper.readRowBlock( rowBlock, rowBlockPositions, rowTransformer, this::newResultRow, consumer );
+	}
+
+	@AllowReflection
+	private Object[] newResultRow() {
+		if ( rowBuffer != null ) {
+			return rowBuffer;
+		}
+		else if ( resultElementClass == Object.class ) {
+			return new Object[resultAssemblers.length];
+		}
+		else {
+			return (Object[]) Array.newInstance( resultElementClass, resultAssemblers.length );
+		}
+	}
+
+	@Override
+	public void finishUp(RowProcessingState processingState) {
+	}
+
+	@Override
+	public @Nullable EntityKey resolveSingleResultEntityKey(RowProcessingState rowProcessingState) {
+		return null;
+	}
+
+	@Override
+	public boolean hasCollectionInitializers() {
+		return false;
+	}
+}
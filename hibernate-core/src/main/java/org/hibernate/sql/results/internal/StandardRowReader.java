@@ -7,13 +7,16 @@
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.internal.build.AllowReflection;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingResolution;
+import org.hibernate.sql.results.jdbc.spi.RowBlock;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
@@ -38,6 +41,8 @@
 
 	private final ComponentType componentType;
 	private final Class<?> resultElementClass;
+	// the values array position read by each result assembler, if rows can be read a block at a time
+	private final @Nullable int[] rowBlockPositions;
 
 	public StandardRowReader(
 			JdbcValuesMappingResolution jdbcValuesMappingResolution,
@@ -90,6 +95,30 @@ public StandardRowReader(
 			this.resultElementClass = domainResultJavaType.getComponentType();
 			this.componentType = ComponentType.determineComponentType( domainResultJavaType );
 		}
+		this.rowBlockPositions = initializers.length == 0 ? determineRowBlockPositions() : null;
+	}
+
+	private @Nullable int[] determineRowBlockPositions() {
+		switch ( componentType ) {
+			case OBJECT, INT, LONG, DOUBLE -> {
+				final int[] positions = new int[resultAssemblers.length];
+				for ( int i = 0; i < resultAssemblers.length; i++ ) {
+					if ( resultAssemblers[i] instanceof BasicResultAssembler<?> basicResultAssembler ) {
+						positions[i] = basicResultAssembler.getRawValuesArrayPosition();
+						if ( positions[i] < 0 ) {
+							return null;
+						}
+					}
+					else {
+						return null;
+					}
+				}
+				return positions;
+			}
+			default -> {
+				return null;
+			}
+		}
 	}
 
 	@Override
@@ -140,6 +169,72 @@ public T readRow(RowProcessingState rowProcessingState) {
 		return result;
 	}
 
+	@Override
+	public boolean isRowBlockCapable() {
+		return rowBlockPositions != null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void readRowBlock(RowBlock rowBlock, RowProcessingState processingState, Consumer<? super T> consumer) {
+		final int[] positions = rowBlockPositions;
+		assert positions != null;
+		if ( componentType != ComponentType.OBJECT ) {
+			final int rowCount = rowBlock.getRowCount();
+			for ( int row = 0; row < rowCount; row++ ) {
+				consumer.accept( (T) readPrimitiveRow( rowBlock, row, positions ) );
+			}
+		}
+		else {
+			ResultsHelper.readRowBlock( rowBlock, positions, rowTransformer,
+					() -> newResultRow( positions.length ), consumer );
+		}
+	}
+
+	@AllowReflection
+	private Object[] newResultRow(int length) {
+		return (Object[]) Array.newInstance( resultElementClass, length );
+	}
+
+	private Object readPrimitiveRow(RowBlock rowBlock, int row, int[] positions) {
+		// Values held in a primitive vector of the matching type are copied without boxing,
+		// anything else is unboxed just like in readPrimitiveRow(RowProcessingState)
+		switch ( componentType ) {
+			case INT:
+				final int[] resultIntRow = new int[positions.length];
+				for ( int i = 0; i < positions.length; i++ ) {
+					final int position = positions[i];
+					resultIntRow[i] = rowBlock.getColumnKind( position ) == RowBlock.ColumnKind.INT
+							&& !rowBlock.isNull( row, position )
+							? rowBlock.getInt( row, position )
+							: (int) rowBlock.getObject( row, position );
+				}
+				return resultIntRow;
+			case LONG:
+				final long[] resultLongRow = new long[positions.length];
+				for ( int i = 0; i < positions.length; i++ ) {
+					final int position = positions[i];
+					resultLongRow[i] = rowBlock.getColumnKind( position ) == RowBlock.ColumnKind.LONG
+							&& !rowBlock.isNull( row, position )
+							? rowBlock.getLong( row, position )
+							: (long) rowBlock.getObject( row, position );
+				}
+				return resultLongRow;
+			case DOUBLE:
+				final double[] resultDoubleRow = new double[positions.length];
+				for ( int i = 0; i < positions.length; i++ ) {
+					final int position = positions[i];
+					resultDoubleRow[i] = rowBlock.getColumnKind( position ) == RowBlock.ColumnKind.DOUBLE
+							&& !rowBlock.isNull( row, position )
+							? rowBlock.getDouble( row, position )
+							: (double) rowBlock.getObject( row, position );
+				}
+				return resultDoubleRow;
+			default:
+				throw new AssertionError( "Row blocks are only read for int, long and double components" );
+		}
+	}
+
 	@AllowReflection
 	@SuppressWarnings("unchecked")
 	private T getResult(RowProcessingState rowProcessingState) {
@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.jdbc.spi.RowBlock;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * {@link RowBlock} implementation filled from a JDBC {@link ResultSet}.
+ * <p>
+ * The block is reused for each batch of rows, so that reading a large
+ * result only allocates the column vectors once.
+ */
+public class ColumnarRowBlock implements RowBlock {
+	private final SqlSelection[] sqlSelections;
+	private final ColumnKind[] columnKinds;
+	private final int capacity;
+
+	private final long[][] longColumns;
+	private final int[][] intColumns;
+	private final double[][] doubleColumns;
+	private final Object[][] objectColumns;
+	// one bit per row, only allocated for primitive columns
+	private final long[][] nullBitmaps;
+
+	private int rowCount;
+	private boolean exhausted;
+
+	private ColumnarRowBlock(SqlSelection[] sqlSelections, ColumnKind[] columnKinds, int capacity) {
+		this.sqlSelections = sqlSelections;
+		this.columnKinds = columnKinds;
+		this.capacity = capacity;
+
+		final int columnCount = sqlSelections.length;
+		this.longColumns = new long[columnCount][];
+		this.intColumns = new int[columnCount][];
+		this.doubleColumns = new double[columnCount][];
+		this.objectColumns = new Object[columnCount][];
+		this.nullBitmaps = new long[columnCount][];
+		for ( int i = 0; i < columnCount; i++ ) {
+			switch ( columnKinds[i] ) {
+				case LONG -> longColumns[i] = new long[capacity];
+				case INT -> intColumns[i] = new int[capacity];
+				case DOUBLE -> doubleColumns[i] = new double[capacity];
+				case OBJECT -> objectColumns[i] = new Object[capacity];
+			}
+			if ( columnKinds[i] != ColumnKind.OBJECT && columnKinds[i] != ColumnKind.NONE ) {
+				nullBitmaps[i] = new long[( capacity + 63 ) >>> 6];
+			}
+		}
+	}
+
+	/**
+	 * Create a block for the given selections, or return {@code null} if one
+	 * of the selections can not safely be read ahead of the current row.
+	 *
+	 * @param sqlSelections The selections, indexed by their values array position
+	 * @param capacity The maximum number of rows held by the block
+	 */
+	public static @Nullable ColumnarRowBlock create(SqlSelection[] sqlSelections, int capacity) {
+		final var columnKinds = new ColumnKind[sqlSelections.length];
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final var sqlSelection = sqlSelections[i];
+			if ( sqlSelection == null ) {
+				columnKinds[i] = ColumnKind.NONE;
+			}
+			else {
+				final var columnKind = determineColumnKind( sqlSelection );
+				if ( columnKind == null ) {
+					return null;
+				}
+				columnKinds[i] = columnKind;
+			}
+		}
+		return new ColumnarRowBlock( sqlSelections, columnKinds, capacity );
+	}
+
+	private static @Nullable ColumnKind determineColumnKind(SqlSelection sqlSelection) {
+		final var expressionType = sqlSelection.getExpressionType();
+		if ( expressionType == null || expressionType.getJdbcTypeCount() != 1 ) {
+			return ColumnKind.OBJECT;
+		}
+		final var jdbcMapping = expressionType.getSingleJdbcMapping();
+		final var jdbcType = jdbcMapping.getJdbcType();
+		if ( jdbcType.isLobOrLong() ) {
+			// LOB locators and streams are only valid while the ResultSet is positioned on their row
+			return null;
+		}
+		else if ( sqlSelection.getJdbcValueExtractor() != jdbcMapping.getJdbcValueExtractor() ) {
+			return ColumnKind.OBJECT;
+		}
+		else {
+			final Class<?> javaTypeClass = jdbcMapping.getJavaTypeDescriptor().getJavaTypeClass();
+			if ( jdbcType == BigIntJdbcType.INSTANCE && javaTypeClass == Long.class ) {
+				return ColumnKind.LONG;
+			}
+			else if ( jdbcType == IntegerJdbcType.INSTANCE && javaTypeClass == Integer.class ) {
+				return ColumnKind.INT;
+			}
+			else if ( jdbcType == DoubleJdbcType.INSTANCE && javaTypeClass == Double.class ) {
+				return ColumnKind.DOUBLE;
+			}
+			else {
+				return ColumnKind.OBJECT;
+			}
+		}
+	}
+
+	/**
+	 * Read the next rows of the given {@link ResultSet} into this block,
+	 * replacing its previous content.
+	 *
+	 * @return {@code true} if at least one row was read
+	 */
+	public boolean fill(ResultSet resultSet, SharedSessionContractImplementor session) throws SQLException {
+		if ( exhausted ) {
+			rowCount = 0;
+			return false;
+		}
+		for ( long[] nullBitmap : nullBitmaps ) {
+			if ( nullBitmap != null ) {
+				Arrays.fill( nullBitmap, 0L );
+			}
+		}
+		int row = 0;
+		while ( row < capacity && resultSet.next() ) {
+			for ( int column = 0; column < columnKinds.length; column++ ) {
+				readValue( resultSet, session, row, column );
+			}
+			row++;
+		}
+		rowCount = row;
+		exhausted = row < capacity;
+		return row > 0;
+	}
+
+	private void readValue(ResultSet resultSet, SharedSessionContractImplementor session, int row, int column)
+			throws SQLException {
+		switch ( columnKinds[column] ) {
+			case LONG -> {
+				longColumns[column][row] = resultSet.getLong( sqlSelections[column].getJdbcResultSetIndex() );
+				if ( resultSet.wasNull() ) {
+					setNull( row, column );
+				}
+			}
+			case INT -> {
+				intColumns[column][row] = resultSet.getInt( sqlSelections[column].getJdbcResultSetIndex() );
+				if ( resultSet.wasNull() ) {
+					setNull( row, column );
+				}
+			}
+			case DOUBLE -> {
+				doubleColumns[column][row] = resultSet.getDouble( sqlSelections[column].getJdbcResultSetIndex() );
+				if ( resultSet.wasNull() ) {
+					setNull( row, column );
+				}
+			}
+			case OBJECT -> {
+				final var sqlSelection = sqlSelections[column];
+				objectColumns[column][row] =
+						sqlSelection.getJdbcValueExtractor()
+								.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), session );
+			}
+		}
+	}
+
+	private void setNull(int row, int column) {
+		nullBitmaps[column][row >>> 6] |= 1L << row;
+	}
+
+	/**
+	 * Whether the underlying {@link ResultSet} has no more rows to read.
+	 */
+	public boolean isExhausted() {
+		return exhausted;
+	}
+
+	/**
+	 * Discard the rows held by this block.
+	 */
+	public void clear() {
+		rowCount = 0;
+		for ( Object[] objectColumn : objectColumns ) {
+			if ( objectColumn != null ) {
+				Arrays.fill( objectColumn, null );
+			}
+		}
+	}
+
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columnKinds.length;
+	}
+
+	@Override
+	public ColumnKind getColumnKind(int column) {
+		return columnKinds[column];
+	}
+
+	@Override
+	public boolean isNull(int row, int column) {
+		final long[] nullBitmap = nullBitmaps[column];
+		return nullBitmap == null
+				? objectColumns[column] == null || objectColumns[column][row] == null
+				: ( nullBitmap[row >>> 6] & ( 1L << row ) ) != 0;
+	}
+
+	@Override
+	public long getLong(int row, int column) {
+		return longColumns[column][row];
+	}
+
+	@Override
+	public int getInt(int row, int column) {
+		return intColumns[column][row];
+	}
+
+	@Override
+	public double getDouble(int row, int column) {
+		return doubleColumns[column][row];
+	}
+
+	@Override
+	public Object getObject(int row, int column) {
+		return switch ( columnKinds[column] ) {
+			case LONG -> isNull( row, column ) ? null : longColumns[column][row];
+			case INT -> isNull( row, column ) ? null : intColumns[column][row];
+			case DOUBLE -> isNull( row, column ) ? null : doubleColumns[column][row];
+			case OBJECT -> objectColumns[column][row];
+			case NONE -> null;
+		};
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * An {@link AbstractJdbcValues} implementation over rows which were read from
+ * a JDBC {@link ResultSet} in advance, possibly by some other thread, using the
+ * value extractors of a {@linkplain JdbcValuesMapping mapping} resolved without
+ * the metadata of the result set.
+ *
+ * @since 8.1
+ */
+public class JdbcValuesBuffered extends AbstractJdbcValues {
+	private final JdbcValuesMapping valuesMapping;
+	private List<Object[]> rows;
+	private final int numberOfRows;
+	private int position = -1;
+
+	public JdbcValuesBuffered(List<Object[]> rows, JdbcValuesMapping valuesMapping) {
+		this.rows = rows;
+		this.numberOfRows = rows.size();
+		this.valuesMapping = valuesMapping;
+	}
+
+	/**
+	 * Read every remaining row of the given result set. Each row is an array
+	 * indexed by the {@linkplain org.hibernate.sql.ast.spi.SqlSelection#getValuesArrayPosition
+	 * values array position} of the selections.
+	 */
+	public static JdbcValuesBuffered read(
+			ResultSet resultSet,
+			JdbcValuesMapping valuesMapping,
+			WrapperOptions options) throws SQLException {
+		final var sqlSelections = valuesMapping.getSqlSelections();
+		final int rowSize = valuesMapping.getRowSize();
+		final List<Object[]> rows = new ArrayList<>();
+		while ( resultSet.next() ) {
+			final Object[] row = new Object[rowSize];
+			for ( var sqlSelection : sqlSelections ) {
+				row[sqlSelection.getValuesArrayPosition()] =
+						sqlSelection.getJdbcValueExtractor()
+								.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), options );
+			}
+			rows.add( row );
+		}
+		return new JdbcValuesBuffered( rows, valuesMapping );
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		return moveTo( position + 1 );
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		return moveTo( position - 1 );
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		return moveTo( position + numberOfRows );
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		// positions are indexed from one, and negative positions count from the end
+		return moveTo( position < 0 ? numberOfRows + position : position - 1 );
+	}
+
+	private boolean moveTo(int position) {
+		if ( position < 0 ) {
+			this.position = -1;
+			return false;
+		}
+		else if ( position >= numberOfRows ) {
+			this.position = numberOfRows;
+			return false;
+		}
+		else {
+			this.position = position;
+			return true;
+		}
+	}
+
+	@Override
+	public int getPosition() {
+		return position + 1;
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0;
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		position = -1;
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0;
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		return moveTo( 0 );
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return position >= numberOfRows;
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		position = numberOfRows;
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		return numberOfRows > 0 && position == numberOfRows - 1;
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		return moveTo( numberOfRows - 1 );
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return valuesMapping;
+	}
+
+	@Override
+	public boolean usesFollowOnLocking() {
+		return false;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int valueIndex) {
+		return position < 0 || position >= numberOfRows ? null : rows.get( position )[valueIndex];
+	}
+
+	@Override
+	public void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded) {
+		// No-op
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		rows = null;
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {
+	}
+
+	@Override
+	public int getResultCountEstimate() {
+		return numberOfRows;
+	}
+}
@@ -7,6 +7,7 @@
 import java.util.List;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
@@ -17,6 +18,7 @@
  */
 public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private List<?> cachedResults;
+	private ColumnarQueryResults columnarResults;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private final int[] valueIndexesToCacheIndexes;
@@ -28,6 +30,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		// See QueryCachePutManagerEnabledImpl for what is being put into the cached results
 		this.cachedResults = cachedResults;
+		this.columnarResults = cachedResults instanceof ColumnarQueryResults columnar ? columnar : null;
 		final CachedJdbcValuesMetadata metadata = !cachedResults.isEmpty()
 				&& cachedResults.get( 0 ) instanceof CachedJdbcValuesMetadata cachedMetadata
 						? cachedMetadata
@@ -213,6 +216,10 @@ public Object getCurrentRowValue(int valueIndex) {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( columnarResults != null ) {
+			// decode the value without materializing the row
+			return columnarResults.getValue( position, valueIndexesToCacheIndexes[valueIndex] );
+		}
 		final Object row = cachedResults.get( position + offset );
 		if ( row instanceof Object[] array ) {
 			return array[valueIndexesToCacheIndexes[valueIndex]];
@@ -226,6 +233,7 @@ public Object getCurrentRowValue(int valueIndex) {
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedResults = null;
+		columnarResults = null;
 	}
 
 	@Override
@@ -8,6 +8,8 @@
 import java.util.List;
 import java.util.Set;
 
+import jakarta.annotation.Nullable;
+
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -34,6 +36,16 @@ public JdbcValuesMappingProducerStandard(List<SqlSelection> sqlSelections, List<
 		this.resolvedMapping = new StandardJdbcValuesMapping( sqlSelections, domainResults );
 	}
 
+	/**
+	 * The mapping, if it can be resolved without the metadata of the JDBC
+	 * result set, or {@code null} if some selection has an unknown type.
+	 *
+	 * @since 8.1
+	 */
+	public @Nullable JdbcValuesMapping getStaticallyResolvedMapping() {
+		return resolvedMapping.needsResolve() ? null : resolvedMapping;
+	}
+
 	@Override
 	public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
 
@@ -22,8 +22,11 @@
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowBlock;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
+import jakarta.annotation.Nullable;
+
 import static java.util.Arrays.copyOf;
 
 /**
@@ -51,6 +54,10 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final int rowToCacheSize;
 	private int resultCount;
 
+	// only used when reading rows ahead in blocks, see QuerySettings#QUERY_ROW_BLOCK_SIZE
+	private final @Nullable ColumnarRowBlock rowBlock;
+	private int rowBlockPosition = -1;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -101,6 +108,21 @@ public JdbcValuesResultSetImpl(
 			}
 			this.rowToCacheSize = cacheIndex;
 		}
+		this.rowBlock = resolveRowBlock( sqlSelections, queryCachePutManager, executionContext );
+	}
+
+	private static @Nullable ColumnarRowBlock resolveRowBlock(
+			SqlSelection[] sqlSelections,
+			QueryCachePutManager queryCachePutManager,
+			ExecutionContext executionContext) {
+		final int rowBlockSize =
+				executionContext.getSession().getFactory().getSessionFactoryOptions()
+						.getQueryRowBlockSize();
+		// reading ahead is incompatible with moving the cursor backwards,
+		// and the query cache needs to see every row as it is processed
+		return rowBlockSize > 1 && queryCachePutManager == null && !executionContext.isScrollResult()
+				? ColumnarRowBlock.create( sqlSelections, rowBlockSize )
+				: null;
 	}
 
 	private int determineResultCountEstimate(
@@ -143,7 +165,55 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		return advance( advanceNext() );
+		return rowBlock == null
+				? advance( advanceNext() )
+				: advanceInRowBlock();
+	}
+
+	private boolean advanceInRowBlock() {
+		assert rowBlock != null;
+		if ( ++rowBlockPosition < rowBlock.getRowCount() ) {
+			return true;
+		}
+		else if ( fillRowBlock() ) {
+			rowBlockPosition = 0;
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private boolean fillRowBlock() {
+		assert rowBlock != null;
+		try {
+			return rowBlock.fill( resultSet, executionContext.getSession() );
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (next) ResultSet position", e );
+		}
+	}
+
+	@Override
+	public boolean isRowBlockEnabled() {
+		return rowBlock != null;
+	}
+
+	@Override
+	public @Nullable RowBlock nextRowBlock(RowProcessingState rowProcessingState) {
+		if ( rowBlock == null ) {
+			return null;
+		}
+		assert rowBlockPosition < 0 || rowBlockPosition >= rowBlock.getRowCount() - 1
+				: "Row block requested before the previous rows were processed";
+		if ( fillRowBlock() ) {
+			// the cursor is now positioned on the last row of the block
+			rowBlockPosition = rowBlock.getRowCount() - 1;
+			return rowBlock;
+		}
+		else {
+			return null;
+		}
 	}
 
 	@Override
@@ -327,6 +397,9 @@ public final void finishUp(SharedSessionContractImplementor session) {
 		if ( queryCachePutManager != null ) {
 			queryCachePutManager.finishUp( resultCount, session );
 		}
+		if ( rowBlock != null ) {
+			rowBlock.clear();
+		}
 		resultSetAccess.release();
 	}
 
@@ -373,6 +446,9 @@ else if ( rowToCacheSize < 1 ) {
 
 	@Override
 	public Object getCurrentRowValue(int valueIndex) {
+		if ( rowBlock != null ) {
+			return rowBlock.getObject( rowBlockPosition, valueIndex );
+		}
 		if ( !initializedIndexes.get( valueIndex ) ) {
 			initializedIndexes.set( valueIndex );
 			final var sqlSelection = sqlSelections[valueIndex];
@@ -4,8 +4,11 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import jakarta.annotation.Nullable;
+
 /**
  * Provides unified access to query results (JDBC values - see
  * {@link RowProcessingState#getJdbcValue} whether they come from
@@ -74,6 +77,31 @@ public interface JdbcValues {
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
+	/**
+	 * Whether this source reads rows ahead into {@linkplain RowBlock row blocks},
+	 * which may then be consumed whole via {@link #nextRowBlock}.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isRowBlockEnabled() {
+		return false;
+	}
+
+	/**
+	 * Read the next block of rows, skipping the row-at-a-time cursor.  May only be
+	 * called when {@link #isRowBlockEnabled()} and all rows previously returned by
+	 * {@link #next} have been processed.
+	 *
+	 * @return The next block of rows, or {@code null} if there are no more results
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default @Nullable RowBlock nextRowBlock(RowProcessingState rowProcessingState) {
+		return null;
+	}
+
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
 	/**
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * A block of consecutive rows read from a JDBC source, stored column by column.
+ * Columns of {@code long}, {@code int} and {@code double} values are held in
+ * primitive vectors alongside a null bitmap, so that they can be read without
+ * boxing via {@link #getLong}, {@link #getInt} and {@link #getDouble}.
+ * <p>
+ * Columns are addressed by their position in the "JDBC values array", exactly as
+ * with {@link JdbcValues#getCurrentRowValue(int)}.
+ *
+ * @see JdbcValues#nextRowBlock(RowProcessingState)
+ * @see org.hibernate.cfg.QuerySettings#QUERY_ROW_BLOCK_SIZE
+ *
+ * @since 8.1
+ */
+@Incubating
+public interface RowBlock {
+	/**
+	 * The storage used for a column of a {@link RowBlock}
+	 */
+	enum ColumnKind {
+		LONG,
+		INT,
+		DOUBLE,
+		OBJECT,
+		/**
+		 * The position is not backed by any selection
+		 */
+		NONE
+	}
+
+	/**
+	 * The number of rows held by this block.
+	 */
+	int getRowCount();
+
+	/**
+	 * The number of columns held by this block.
+	 */
+	int getColumnCount();
+
+	/**
+	 * The storage used for the given column.
+	 */
+	ColumnKind getColumnKind(int column);
+
+	/**
+	 * Whether the value at the given row and column is {@code null}.
+	 */
+	boolean isNull(int row, int column);
+
+	/**
+	 * The value at the given row and column of a {@link ColumnKind#LONG} column,
+	 * or {@code 0} if the value is {@linkplain #isNull null}.
+	 */
+	long getLong(int row, int column);
+
+	/**
+	 * The value at the given row and column of an {@link ColumnKind#INT} column,
+	 * or {@code 0} if the value is {@linkplain #isNull null}.
+	 */
+	int getInt(int row, int column);
+
+	/**
+	 * The value at the given row and column of a {@link ColumnKind#DOUBLE} column,
+	 * or {@code 0} if the value is {@linkplain #isNull null}.
+	 */
+	double getDouble(int row, int column);
+
+	/**
+	 * The value at the given row and column, boxed if the column is held in a
+	 * primitive vector.
+	 */
+	Object getObject(int row, int column);
+}
@@ -17,6 +17,7 @@
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
+import org.hibernate.sql.results.jdbc.spi.RowBlock;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.spi.EntityJavaType;
 import org.hibernate.type.spi.TypeConfiguration;
@@ -243,6 +244,9 @@ private static <R> int read(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
 			Results<R> results) {
+		if ( rowProcessingState.isRowBlockEnabled() && rowReader.isRowBlockCapable() ) {
+			return readRowBlocks( rowProcessingState, rowReader, results );
+		}
 		int readRows = 0;
 		while ( rowProcessingState.next() ) {
 			results.add( rowReader.readRow( rowProcessingState ) );
@@ -252,6 +256,21 @@ private static <R> int read(
 		return readRows;
 	}
 
+	private static <R> int readRowBlocks(
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			Results<R> results) {
+		int readRows = 0;
+		RowBlock rowBlock;
+		while ( ( rowBlock = rowProcessingState.nextRowBlock() ) != null ) {
+			// no need to finishRowProcessing() for each row, since it only
+			// puts rows in the query cache, and then row blocks are not read
+			rowReader.readRowBlock( rowBlock, rowProcessingState, results::add );
+			readRows += rowBlock.getRowCount();
+		}
+		return readRows;
+	}
+
 	private static <R> int readUniqueAssert(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
@@ -5,8 +5,11 @@
 package org.hibernate.sql.results.spi;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.sql.results.jdbc.spi.RowBlock;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
@@ -45,6 +48,26 @@
 	 */
 	R readRow(RowProcessingState processingState);
 
+	/**
+	 * Whether this reader is able to {@linkplain #readRowBlock read a whole block of rows}
+	 * at once.  This is only possible when reading a row involves no initializers.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default boolean isRowBlockCapable() {
+		return false;
+	}
+
+	/**
+	 * Read every row of the given block, passing the result of each row to the consumer.
+	 * Only called if this reader {@linkplain #isRowBlockCapable is able to}.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	void readRowBlock(RowBlock rowBlock, RowProcessingState processingState, Consumer<? super R> consumer);
+
 	/**
 	 * Called at the end of processing all rows
 	 */
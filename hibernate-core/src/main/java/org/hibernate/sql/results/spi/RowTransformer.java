@@ -26,4 +26,15 @@
 	default int determineNumberOfResultElements(int rawElementCount) {
 		return rawElementCount;
 	}
+
+	/**
+	 * Whether the transformed result may keep a reference to the row array passed
+	 * to {@link #transformRow}.  If not, the caller is free to reuse the same array
+	 * for the next row.
+	 *
+	 * @since 8.1
+	 */
+	default boolean retainsRow() {
+		return true;
+	}
 }
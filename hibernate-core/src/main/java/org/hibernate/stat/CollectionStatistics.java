@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Collection-related statistics.
  *
@@ -42,4 +44,18 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The batch size most recently chosen by adaptive batch fetching
+	 * for this collection role, or zero if it was never batch fetched
+	 * adaptively.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
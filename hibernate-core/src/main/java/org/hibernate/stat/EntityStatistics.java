@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Entity-related statistics.
  *
@@ -48,4 +50,17 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The batch size most recently chosen by adaptive batch fetching
+	 * for this entity, or zero if it was never batch fetched adaptively.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
@@ -5,6 +5,9 @@
 package org.hibernate.stat;
 
 import java.io.Serializable;
+import java.util.Set;
+
+import org.hibernate.Incubating;
 
 /**
  * Statistics relating to a particular query written in HQL or SQL.
@@ -103,4 +106,16 @@ default long getPlanCompilationTotalMicroseconds() {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The result types for which a plan of this HQL query was cached.
+	 * Always empty for a native SQL query.
+	 *
+	 * @since 8.1
+	 */
+	@Incubating
+	default Set<Class<?>> getResultTypes() {
+		//For backward compatibility
+		return Set.of();
+	}
 }
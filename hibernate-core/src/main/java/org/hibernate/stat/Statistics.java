@@ -400,4 +400,41 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of flushes which reused the shape of a cached flush plan.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#FLUSH_PLAN_CACHE_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	long getFlushPlanCacheHitCount();
+
+	/**
+	 * The global number of flush plan lookups <em>not</em> found in cache.
+	 *
+	 * @see org.hibernate.cfg.FlushSettings#FLUSH_PLAN_CACHE_MAX_SIZE
+	 *
+	 * @since 8.1
+	 */
+	long getFlushPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans built ahead of their first execution.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_WARMUP_ENABLED
+	 *
+	 * @since 8.1
+	 */
+	long getQueryPlanWarmupCount();
+
+	/**
+	 * The global number of query plans which could not be built ahead of their
+	 * first execution.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_WARMUP_ENABLED
+	 *
+	 * @since 8.1
+	 */
+	long getQueryPlanWarmupFailureCount();
 }
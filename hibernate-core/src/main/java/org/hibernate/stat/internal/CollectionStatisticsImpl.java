@@ -26,6 +26,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private volatile int batchFetchSize;
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super( () -> usingCache( persister, CachedDomainDataAccess::getRegion, null ) );
@@ -52,6 +53,10 @@ public long getUpdateCount() {
 		return updateCount.sum();
 	}
 
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -72,6 +77,10 @@ void incrementRemoveCount() {
 		removeCount.increment();
 	}
 
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	public String toString() {
 		final var text = new StringBuilder()
 				.append( "CollectionStatistics" )
@@ -80,7 +89,8 @@ public String toString() {
 				.append( ",fetchCount=" ).append( this.fetchCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
-				.append( ",updateCount=" ).append( this.updateCount );
+				.append( ",updateCount=" ).append( this.updateCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize );
 		appendCacheStats( text );
 		return text.append(']').toString();
 	}
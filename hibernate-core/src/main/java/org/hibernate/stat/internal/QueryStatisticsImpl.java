@@ -4,6 +4,9 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -34,6 +37,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
+	private final Set<Class<?>> resultTypes = ConcurrentHashMap.newKeySet();
 
 
 	private final Lock readLock;
@@ -151,6 +155,11 @@ public long getPlanCompilationTotalMicroseconds() {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	@Override
+	public Set<Class<?>> getResultTypes() {
+		return Collections.unmodifiableSet( resultTypes );
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -204,6 +213,10 @@ void incrementPlanCacheMissCount() {
 		planCacheMissCount.increment();
 	}
 
+	void addResultType(Class<?> resultType) {
+		resultTypes.add( resultType );
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 			+ "[query=" + query
@@ -92,6 +92,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
 
+	private final LongAdder flushPlanCacheHitCount = new LongAdder();
+	private final LongAdder flushPlanCacheMissCount = new LongAdder();
+
+	private final LongAdder queryPlanWarmupCount = new LongAdder();
+	private final LongAdder queryPlanWarmupFailureCount = new LongAdder();
+
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
 	private final LongAdder updateTimestampsCachePutCount = new LongAdder();
@@ -204,6 +210,12 @@ public void clear() {
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		flushPlanCacheHitCount.reset();
+		flushPlanCacheMissCount.reset();
+
+		queryPlanWarmupCount.reset();
+		queryPlanWarmupFailureCount.reset();
+
 		resetStart();
 
 		STATISTICS_LOGGER.statisticsReset();
@@ -301,6 +313,11 @@ public void fetchEntity(String entityName) {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityBatchSizeAdapted(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -415,6 +432,11 @@ public void fetchCollection(String role) {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionBatchSizeAdapted(String role, int batchSize) {
+		getCollectionStatistics( role ).setBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -803,6 +825,51 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public void hqlQueryPlanResolved(String hql, Class<?> resultType) {
+		getQueryStatistics( hql ).addResultType( resultType );
+	}
+
+	@Override
+	public long getFlushPlanCacheHitCount() {
+		return flushPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getFlushPlanCacheMissCount() {
+		return flushPlanCacheMissCount.sum();
+	}
+
+	@Override
+	public void flushPlanCacheHit() {
+		flushPlanCacheHitCount.increment();
+	}
+
+	@Override
+	public void flushPlanCacheMiss() {
+		flushPlanCacheMissCount.increment();
+	}
+
+	@Override
+	public long getQueryPlanWarmupCount() {
+		return queryPlanWarmupCount.sum();
+	}
+
+	@Override
+	public long getQueryPlanWarmupFailureCount() {
+		return queryPlanWarmupFailureCount.sum();
+	}
+
+	@Override
+	public void queryPlanWarmedUp(String query) {
+		queryPlanWarmupCount.increment();
+	}
+
+	@Override
+	public void queryPlanWarmupFailed(String query) {
+		queryPlanWarmupFailureCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -980,6 +1047,10 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",flush plan cache hits=" + flushPlanCacheHitCount +
+				",flush plan cache misses=" + flushPlanCacheMissCount +
+				",query plans warmed up=" + queryPlanWarmupCount +
+				",query plan warmup failures=" + queryPlanWarmupFailureCount +
 				']';
 	}
 
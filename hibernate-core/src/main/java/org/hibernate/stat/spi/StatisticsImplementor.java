@@ -283,6 +283,86 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that adaptive batch fetching chose a batch size
+	 * for fetching instances of an entity.
+	 *
+	 * @param entityName The name of the entity
+	 * @param batchSize The chosen batch size
+	 *
+	 * @since 8.1
+	 */
+	default void entityBatchSizeAdapted(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that adaptive batch fetching chose a batch size
+	 * for fetching collections of a role.
+	 *
+	 * @param role The collection role
+	 * @param batchSize The chosen batch size
+	 *
+	 * @since 8.1
+	 */
+	default void collectionBatchSizeAdapted(String role, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the flush plan cache resulted in a hit.
+	 *
+	 * @since 8.1
+	 */
+	default void flushPlanCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from the flush plan cache resulted in a miss.
+	 *
+	 * @since 8.1
+	 */
+	default void flushPlanCacheMiss() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that a cached plan of an HQL query was used, or built
+	 * and cached, for the given result type.
+	 *
+	 * @param hql The query
+	 * @param resultType The result type of the plan
+	 *
+	 * @since 8.1
+	 */
+	default void hqlQueryPlanResolved(String hql, Class<?> resultType) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the plan of a query was built ahead of its first execution.
+	 *
+	 * @param query The query
+	 *
+	 * @since 8.1
+	 */
+	default void queryPlanWarmedUp(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the plan of a query could not be built ahead of its
+	 * first execution.
+	 *
+	 * @param query The query
+	 *
+	 * @since 8.1
+	 */
+	default void queryPlanWarmupFailed(String query) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
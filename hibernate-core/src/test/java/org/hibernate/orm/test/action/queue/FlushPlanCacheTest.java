@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.action.queue;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.action.queue.spi.QueueType;
+import org.hibernate.cfg.FlushSettings;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the reuse of flush plan shapes across flushes.
+ *
+ * @see FlushSettings#FLUSH_PLAN_CACHE_MAX_SIZE
+ */
+@ServiceRegistry(settings = @Setting(name = FlushSettings.FLUSH_PLAN_CACHE_MAX_SIZE, value = "16"))
+@DomainModel(annotatedClasses = {
+		FlushPlanCacheTest.Department.class,
+		FlushPlanCacheTest.Member.class,
+		FlushPlanCacheTest.Project.class
+})
+@SessionFactory(generateStatistics = true)
+public class FlushPlanCacheTest {
+	@BeforeEach
+	void checkQueueType(SessionFactoryScope factoryScope) {
+		if ( factoryScope.getSessionFactory().getActionQueueFactory().getConfiguredQueueType() != QueueType.GRAPH ) {
+			Assumptions.abort( "Skipping GRAPH test with non-GRAPH queue type" );
+		}
+		factoryScope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope factoryScope) {
+		factoryScope.dropData();
+	}
+
+	@Test
+	void testSameShapeReusesPlan(SessionFactoryScope factoryScope) {
+		final var statistics = factoryScope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 3; i++ ) {
+			final int base = i * 10;
+			factoryScope.inTransaction( (session) -> {
+				var department = new Department( base, "department " + base );
+				session.persist( department );
+				session.persist( new Member( base + 1, "member " + ( base + 1 ), department ) );
+				session.persist( new Member( base + 2, "member " + ( base + 2 ), department ) );
+			} );
+		}
+
+		assertThat( statistics.getFlushPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getFlushPlanCacheHitCount() ).isEqualTo( 2 );
+
+		factoryScope.inTransaction( (session) -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final int base = i * 10;
+				var member = session.find( Member.class, base + 2 );
+				assertThat( member.department.id ).isEqualTo( base );
+			}
+		} );
+	}
+
+	@Test
+	void testDifferentShapesAreCachedSeparately(SessionFactoryScope factoryScope) {
+		final var statistics = factoryScope.getSessionFactory().getStatistics();
+
+		factoryScope.inTransaction( (session) -> {
+			var department = new Department( 1, "department" );
+			session.persist( department );
+			session.persist( new Member( 1, "member", department ) );
+		} );
+		factoryScope.inTransaction( (session) -> {
+			var department = new Department( 2, "department" );
+			session.persist( department );
+			session.persist( new Member( 2, "member", department ) );
+			session.persist( new Project( 2, "project", department ) );
+		} );
+		factoryScope.inTransaction( (session) -> {
+			var department = new Department( 3, "department" );
+			session.persist( department );
+			session.persist( new Member( 3, "member", department ) );
+		} );
+
+		assertThat( statistics.getFlushPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getFlushPlanCacheHitCount() ).isEqualTo( 1 );
+
+		factoryScope.inTransaction( (session) -> {
+			assertThat( session.find( Project.class, 2 ).department.id ).isEqualTo( 2 );
+			assertThat( session.find( Member.class, 3 ).department.id ).isEqualTo( 3 );
+		} );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Integer id;
+		String name;
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "StaffMember")
+	public static class Member {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Department department;
+
+		public Member() {
+		}
+
+		public Member(Integer id, String name, Department department) {
+			this.id = id;
+			this.name = name;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Project")
+	public static class Project {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Department department;
+
+		public Project() {
+		}
+
+		public Project(Integer id, String title, Department department) {
+			this.id = id;
+			this.title = title;
+			this.department = department;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.action.queue;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.action.queue.spi.QueueType;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.FlushSettings;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the pipelined execution of independent plan steps.
+ *
+ * @see FlushSettings#GRAPH_PIPELINED_EXECUTION
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "15"),
+		@Setting(name = FlushSettings.GRAPH_PIPELINED_EXECUTION, value = "true")
+})
+@DomainModel(annotatedClasses = {
+		PipelinedExecutionTest.Category.class,
+		PipelinedExecutionTest.Employee.class
+})
+@SessionFactory(useCollectingStatementObserver = true)
+public class PipelinedExecutionTest {
+	@BeforeEach
+	void checkQueueType(SessionFactoryScope factoryScope) {
+		if ( factoryScope.getSessionFactory().getActionQueueFactory().getConfiguredQueueType() != QueueType.GRAPH ) {
+			Assumptions.abort( "Skipping GRAPH test with non-GRAPH queue type" );
+		}
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope factoryScope) {
+		factoryScope.dropData();
+	}
+
+	@Test
+	void testIndependentStepsShareBatches(SessionFactoryScope factoryScope) {
+		var sqlCollector = factoryScope.getCollectingStatementObserver();
+
+		factoryScope.inTransaction( (session) -> {
+			var rootCategory = new Category( 1, "root", null, null );
+			var rootEmployee = new Employee( 1, "ceo", null );
+			session.persist( rootCategory );
+			session.persist( rootEmployee );
+			// each category depends on the root category, and each employee on the root employee,
+			// so that their operations cannot be grouped, but they do not depend on one another
+			for ( int i = 2; i <= 6; i++ ) {
+				session.persist( new Category( i, "category " + i, rootCategory, null ) );
+				session.persist( new Employee( i, "employee " + i, rootEmployee ) );
+			}
+			sqlCollector.clear();
+		} );
+
+		// a single batch for each table
+		var statements = sqlCollector.getStatements();
+		assertThat( statements ).hasSize( 12 );
+		final String firstTable = statements.get( 0 ).sql().startsWith( "insert into Category " )
+				? "insert into Category "
+				: "insert into Employee ";
+		final String secondTable = firstTable.contains( "Category" )
+				? "insert into Employee "
+				: "insert into Category ";
+		for ( int i = 0; i < 6; i++ ) {
+			assertThat( statements.get( i ).sql() ).startsWith( firstTable );
+			assertThat( statements.get( i ).batchPosition() ).isEqualTo( i + 1 );
+			assertThat( statements.get( i + 6 ).sql() ).startsWith( secondTable );
+			assertThat( statements.get( i + 6 ).batchPosition() ).isEqualTo( i + 1 );
+		}
+
+		factoryScope.inTransaction( (session) -> {
+			assertThat( session.find( Category.class, 4 ).parent.id ).isEqualTo( 1 );
+			assertThat( session.find( Employee.class, 6 ).manager.id ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	void testDependentStepsWaitForBatches(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( (session) -> {
+			var rootEmployee = new Employee( 1, "ceo", null );
+			var rootCategory = new Category( 1, "root", null, rootEmployee );
+			session.persist( rootCategory );
+			session.persist( rootEmployee );
+			for ( int i = 2; i <= 6; i++ ) {
+				// the curator is inserted in the same batch as the other employees
+				var curator = new Employee( i, "employee " + i, rootEmployee );
+				session.persist( new Category( i, "category " + i, rootCategory, curator ) );
+				session.persist( curator );
+			}
+		} );
+
+		factoryScope.inTransaction( (session) -> {
+			var category = session.find( Category.class, 5 );
+			assertThat( category.parent.id ).isEqualTo( 1 );
+			assertThat( category.curator.id ).isEqualTo( 5 );
+			assertThat( category.curator.manager.id ).isEqualTo( 1 );
+		} );
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Category parent;
+		@ManyToOne
+		Employee curator;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name, Category parent, Employee curator) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+			this.curator = curator;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Employee manager;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, Employee manager) {
+			this.id = id;
+			this.name = name;
+			this.manager = manager;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value BatchSettings#MULTI_ROW_INSERTS}.
+ */
+@DomainModel(annotatedClasses = {
+		MultiRowInsertBatchingTest.Product.class,
+		MultiRowInsertBatchingTest.Book.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.MULTI_ROW_INSERTS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class MultiRowInsertBatchingTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Product( i, "Product " + i, i % 4 == 0 ? null : i * 10 ) );
+			}
+		} );
+
+		if ( supportsMultiRowInsert( scope ) ) {
+			// two full batches of 10 rows and a last one of 5 rows
+			final List<String> inserts = inserts( inspector.getSqlQueries() );
+			assertThat( inserts ).hasSize( 3 );
+			assertThat( inserts ).extracting( MultiRowInsertBatchingTest::numberOfRows )
+					.containsExactly( 10, 10, 5 );
+		}
+
+		scope.inTransaction( session -> {
+			final var products =
+					session.createSelectionQuery( "from Product order by id", Product.class ).getResultList();
+			assertThat( products ).hasSize( 25 );
+			for ( var product : products ) {
+				assertThat( product.name ).isEqualTo( "Product " + product.id );
+				assertThat( product.price ).isEqualTo( product.id % 4 == 0 ? null : product.id * 10 );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertJoinedSubclass(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 7; i++ ) {
+				session.persist( new Book( i, "Book " + i, i, "Author " + i ) );
+			}
+		} );
+
+		if ( supportsMultiRowInsert( scope ) ) {
+			// one insert for each table
+			final List<String> inserts = inserts( inspector.getSqlQueries() );
+			assertThat( inserts ).hasSize( 2 );
+			assertThat( inserts ).extracting( MultiRowInsertBatchingTest::numberOfRows )
+					.containsExactly( 7, 7 );
+		}
+
+		scope.inTransaction( session -> {
+			final var books = session.createSelectionQuery( "from Book order by id", Book.class ).getResultList();
+			assertThat( books ).hasSize( 7 );
+			assertThat( books ).extracting( book -> book.author )
+					.containsExactly( "Author 1", "Author 2", "Author 3", "Author 4",
+							"Author 5", "Author 6", "Author 7" );
+		} );
+	}
+
+	private static boolean supportsMultiRowInsert(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getJdbcServices().getDialect().supportsMultiRowInsert();
+	}
+
+	private static List<String> inserts(List<String> sqlQueries) {
+		return sqlQueries.stream().filter( sql -> sql.toLowerCase().startsWith( "insert" ) ).toList();
+	}
+
+	private static int numberOfRows(String sql) {
+		return sql.split( "\\),\\(", -1 ).length;
+	}
+
+	@Entity(name = "Product")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	static class Product {
+		@Id
+		Integer id;
+		String name;
+		Integer price;
+
+		Product() {
+		}
+
+		Product(Integer id, String name, Integer price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Entity(name = "Book")
+	static class Book extends Product {
+		String author;
+
+		Book() {
+		}
+
+		Book(Integer id, String name, Integer price, String author) {
+			super( id, name, price );
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the rows of a batch of {@value BatchSettings#MULTI_ROW_INSERTS}
+ * are split over several statements when the batch is larger than the
+ * {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertRowLimit row limit}
+ * of the dialect, and that the row count of each statement is checked against
+ * the number of rows it inserts.
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = MultiRowInsertRowLimitTest.Item.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = BatchSettings.MULTI_ROW_INSERTS, value = "true")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.DIALECT,
+				provider = MultiRowInsertRowLimitTest.DialectProvider.class
+		)
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class MultiRowInsertRowLimitTest {
+	private static final int ROW_LIMIT = 3;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBatchLargerThanRowLimit(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+		} );
+
+		// a batch of 10 rows split by the row limit, and a last batch of 2 rows,
+		// each statement returning the row count expected for its own rows
+		final List<String> inserts = inspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "insert" ) )
+				.toList();
+		assertThat( inserts ).extracting( MultiRowInsertRowLimitTest::numberOfRows )
+				.containsExactly( 3, 3, 3, 1, 2 );
+
+		scope.inTransaction( session -> {
+			final var items = session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+			assertThat( items ).extracting( item -> item.name )
+					.containsExactly( "Item 1", "Item 2", "Item 3", "Item 4", "Item 5", "Item 6",
+							"Item 7", "Item 8", "Item 9", "Item 10", "Item 11", "Item 12" );
+		} );
+	}
+
+	private static int numberOfRows(String sql) {
+		return sql.split( "\\),\\(", -1 ).length;
+	}
+
+	public static class DialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return RowLimitH2Dialect.class.getName();
+		}
+	}
+
+	public static class RowLimitH2Dialect extends H2Dialect {
+		public RowLimitH2Dialect() {
+		}
+
+		public RowLimitH2Dialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		@Override
+		public int getMultiRowInsertRowLimit(int parametersPerRow) {
+			return ROW_LIMIT;
+		}
+	}
+
+	@Entity(name = "Item")
+	static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		Item() {
+		}
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.cfg.StatisticsSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value FetchSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE}.
+ */
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Customer.class,
+		AdaptiveBatchFetchTest.Address.class,
+		AdaptiveBatchFetchTest.Purchase.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = FetchSettings.DEFAULT_BATCH_FETCH_SIZE, value = "4"),
+		@Setting(name = FetchSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, value = "64"),
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class AdaptiveBatchFetchTest {
+	private static final int CUSTOMERS = 100;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= CUSTOMERS; i++ ) {
+				final var address = new Address( i, "Street " + i );
+				session.persist( address );
+				final var customer = new Customer( i, address );
+				session.persist( customer );
+				session.persist( new Purchase( i, customer ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testEntityBatchSizeGrows(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final var customers =
+					session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+			inspector.clear();
+			for ( var customer : customers ) {
+				assertThat( customer.address.getStreet() ).isEqualTo( "Street " + customer.id );
+			}
+			// with the static batch size of 4 there would be 25 queries
+			assertThat( inspector.getSqlQueries() ).hasSizeLessThan( 10 );
+		} );
+		assertThat( statistics.getEntityStatistics( Address.class.getName() ).getBatchFetchSize() )
+				.isGreaterThan( 4 );
+	}
+
+	@Test
+	public void testCollectionBatchSizeGrows(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final var customers =
+					session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+			inspector.clear();
+			for ( var customer : customers ) {
+				assertThat( customer.purchases ).hasSize( 1 );
+			}
+			assertThat( inspector.getSqlQueries() ).hasSizeLessThan( 10 );
+		} );
+		assertThat( statistics.getCollectionStatistics( Customer.class.getName() + ".purchases" ).getBatchFetchSize() )
+				.isGreaterThan( 4 );
+	}
+
+	@Test
+	public void testBatchSizeShrinks(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 1; i <= CUSTOMERS; i++ ) {
+			final int id = i;
+			// a single proxy is waiting when it is initialized
+			scope.inTransaction( session ->
+					assertThat( session.getReference( Address.class, id ).getStreet() ).isEqualTo( "Street " + id ) );
+		}
+		assertThat( statistics.getEntityStatistics( Address.class.getName() ).getBatchFetchSize() )
+				.isEqualTo( 2 );
+	}
+
+	@Entity(name = "Customer")
+	static class Customer {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Address address;
+		@OneToMany(mappedBy = "customer")
+		Set<Purchase> purchases = new HashSet<>();
+
+		Customer() {
+		}
+
+		Customer(Integer id, Address address) {
+			this.id = id;
+			this.address = address;
+		}
+	}
+
+	@Entity(name = "Address")
+	static class Address {
+		@Id
+		Integer id;
+		String street;
+
+		Address() {
+		}
+
+		Address(Integer id, String street) {
+			this.id = id;
+			this.street = street;
+		}
+
+		public String getStreet() {
+			return street;
+		}
+	}
+
+	@Entity(name = "Purchase")
+	static class Purchase {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Customer customer;
+
+		Purchase() {
+		}
+
+		Purchase(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.Hibernate.isInitialized;
+import static org.hibernate.Hibernate.unproxy;
+
+/**
+ * Tests for {@link org.hibernate.Session#setPrefetchGraph}.
+ */
+@DomainModel(annotatedClasses = {
+		PrefetchGraphTest.Purchase.class,
+		PrefetchGraphTest.PurchaseLine.class,
+		PrefetchGraphTest.Product.class,
+		PrefetchGraphTest.Supplier.class
+})
+@ServiceRegistry(settings = @Setting(name = FetchSettings.DEFAULT_BATCH_FETCH_SIZE, value = "16"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class PrefetchGraphTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Product> products = new ArrayList<>();
+			for ( int i = 1; i <= 3; i++ ) {
+				final var supplier = new Supplier( i, "Supplier " + i );
+				session.persist( supplier );
+				for ( int j = 1; j <= 3; j++ ) {
+					final var product = new Product( i * 10 + j, "Product " + i + j, supplier );
+					session.persist( product );
+					products.add( product );
+				}
+			}
+			int lineId = 0;
+			for ( int i = 1; i <= 10; i++ ) {
+				final var purchase = new Purchase( i );
+				session.persist( purchase );
+				for ( int j = 0; j < 3; j++ ) {
+					session.persist( new PurchaseLine( ++lineId, purchase, products.get( ( i + j ) % products.size() ) ) );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testPrefetchGraph(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final var graph = session.createEntityGraph( Purchase.class );
+			graph.addSubgraph( "lines" ).addSubgraph( "product" ).addAttributeNodes( "supplier" );
+			session.setPrefetchGraph( graph );
+
+			final var purchases =
+					session.createSelectionQuery( "from Purchase", Purchase.class ).getResultList();
+			inspector.clear();
+			assertThat( purchases.get( 0 ).lines ).hasSize( 3 );
+			// one query for the lines, one for their products, and one for the suppliers
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+			for ( var purchase : purchases ) {
+				for ( var line : purchase.lines ) {
+					assertThat( isInitialized( line.product ) ).isTrue();
+					assertThat( isInitialized( unproxy( line.product, Product.class ).supplier ) ).isTrue();
+				}
+			}
+			assertThat( inspector.getSqlQueries() ).hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testWithoutPrefetchGraph(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var purchases =
+					session.createSelectionQuery( "from Purchase", Purchase.class ).getResultList();
+			assertThat( purchases.get( 0 ).lines ).hasSize( 3 );
+			for ( var line : purchases.get( 0 ).lines ) {
+				assertThat( isInitialized( line.product ) ).isFalse();
+			}
+		} );
+	}
+
+	@Entity(name = "Purchase")
+	static class Purchase {
+		@Id
+		Integer id;
+		@OneToMany(mappedBy = "purchase")
+		List<PurchaseLine> lines = new ArrayList<>();
+
+		Purchase() {
+		}
+
+		Purchase(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "PurchaseLine")
+	static class PurchaseLine {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Purchase purchase;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Product product;
+
+		PurchaseLine() {
+		}
+
+		PurchaseLine(Integer id, Purchase purchase, Product product) {
+			this.id = id;
+			this.purchase = purchase;
+			this.product = product;
+		}
+	}
+
+	@Entity(name = "Product")
+	static class Product {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Supplier supplier;
+
+		Product() {
+		}
+
+		Product(Integer id, String name, Supplier supplier) {
+			this.id = id;
+			this.name = name;
+			this.supplier = supplier;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Supplier")
+	static class Supplier {
+		@Id
+		Integer id;
+		String name;
+
+		Supplier() {
+		}
+
+		Supplier(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.internal.BinaryCacheEntrySerializer;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BinaryCacheEntrySerializer}.
+ */
+@DomainModel(annotatedClasses = {
+		BinaryCacheEntrySerializerTest.Book.class,
+		BinaryCacheEntrySerializerTest.Publisher.class
+})
+@SessionFactory
+public class BinaryCacheEntrySerializerTest {
+
+	@Test
+	public void testEntityEntryRoundTrip(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var state = bookState( factory, "Hibernate in Action", Genre.TECHNICAL );
+		final var entry = new StandardCacheEntryImpl( state, Book.class.getName(), 3 );
+
+		final var decoded = (StandardCacheEntryImpl) roundTrip( factory, entry );
+		assertThat( decoded.getSubclass() ).isEqualTo( Book.class.getName() );
+		assertThat( decoded.getVersion() ).isEqualTo( 3 );
+		assertThat( decoded.isReferenceEntry() ).isFalse();
+		assertThat( decoded.getDisassembledState() ).hasSize( state.length );
+		for ( int i = 0; i < state.length; i++ ) {
+			if ( state[i] instanceof Object[] embedded ) {
+				assertThat( (Object[]) decoded.getDisassembledState()[i] ).containsExactly( embedded );
+			}
+			else {
+				assertThat( decoded.getDisassembledState()[i] ).isEqualTo( state[i] );
+			}
+		}
+	}
+
+	@Test
+	public void testEntityEntryIsSmallerThanJavaSerialization(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var entry = new StandardCacheEntryImpl(
+				bookState( factory, "Java Persistence with Hibernate", Genre.TECHNICAL ),
+				Book.class.getName(),
+				1
+		);
+		final byte[] bytes = factory.getSessionFactoryOptions().getCacheEntrySerializer().serialize( entry, factory );
+		assertThat( bytes.length ).isLessThan( SerializationHelper.serialize( entry ).length / 2 );
+	}
+
+	@Test
+	public void testUnfetchedAndMismatchedValues(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var persister = factory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		final var state = bookState( factory, null, null );
+		state[position( persister, "title" )] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+		// a value which does not match the type of the attribute
+		state[position( persister, "price" )] = "not a number";
+
+		final var decoded = (StandardCacheEntryImpl) roundTrip( factory, new StandardCacheEntryImpl( state, Book.class.getName(), null ) );
+		assertThat( decoded.getVersion() ).isNull();
+		assertThat( decoded.getDisassembledState()[position( persister, "title" )] )
+				.isSameAs( LazyPropertyInitializer.UNFETCHED_PROPERTY );
+		assertThat( decoded.getDisassembledState()[position( persister, "price" )] )
+				.isEqualTo( "not a number" );
+		assertThat( decoded.getDisassembledState()[position( persister, "genre" )] ).isNull();
+	}
+
+	@Test
+	public void testCollectionEntryAndItemRoundTrip(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var collection = new CollectionCacheEntry( new Serializable[] {"orm", "java", "orm", null} );
+		final var item = new AbstractReadWriteAccess.Item( collection, null, 42L );
+
+		final var decoded = (AbstractReadWriteAccess.Item) roundTrip( factory, item );
+		assertThat( decoded.getVersion() ).isNull();
+		assertThat( decoded.getTimestamp() ).isEqualTo( 42L );
+		assertThat( ( (CollectionCacheEntry) decoded.getValue() ).getState() )
+				.containsExactly( "orm", "java", "orm", null );
+	}
+
+	@Test
+	public void testOtherValuesRoundTrip(SessionFactoryScope scope) {
+		final var factory = scope.getSessionFactory();
+		final var uuid = UUID.randomUUID();
+		assertThat( roundTrip( factory, uuid ) ).isEqualTo( uuid );
+		assertThat( roundTrip( factory, LocalDateTime.of( 2024, 2, 29, 23, 59, 1, 5 ) ) )
+				.isEqualTo( LocalDateTime.of( 2024, 2, 29, 23, 59, 1, 5 ) );
+		assertThat( roundTrip( factory, new java.sql.Timestamp( 123456789L ) ) )
+				.isEqualTo( new java.sql.Timestamp( 123456789L ) );
+		assertThat( (Object[]) roundTrip( factory, new Serializable[] {Long.MAX_VALUE, Long.MIN_VALUE, -1L} ) )
+				.containsExactly( Long.MAX_VALUE, Long.MIN_VALUE, -1L );
+		// falls back to Java serialization
+		assertThat( roundTrip( factory, List.of( "fallback", 1 ) ) ).isEqualTo( List.of( "fallback", 1 ) );
+	}
+
+	private static Serializable[] bookState(SessionFactoryImplementor factory, String title, Genre genre) {
+		final var persister = factory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		final var state = new Serializable[persister.getPropertyNames().length];
+		state[position( persister, "version" )] = 3;
+		state[position( persister, "title" )] = title;
+		state[position( persister, "price" )] = new BigDecimal( "39.90" );
+		state[position( persister, "published" )] = LocalDate.of( 2004, 8, 1 );
+		state[position( persister, "genre" )] = genre;
+		state[position( persister, "isbn" )] = 9781932394153L;
+		state[position( persister, "dimensions" )] = new Object[] {23.5, 18.7};
+		state[position( persister, "publisher" )] = 7L;
+		return state;
+	}
+
+	private static int position(EntityPersister persister, String attributeName) {
+		return persister.findAttributeMapping( attributeName ).getStateArrayPosition();
+	}
+
+	private static Object roundTrip(SessionFactoryImplementor factory, Object value) {
+		final var serializer = factory.getSessionFactoryOptions().getCacheEntrySerializer();
+		return serializer.deserialize( serializer.serialize( value, factory ), factory );
+	}
+
+	public enum Genre {
+		FICTION,
+		TECHNICAL
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		double height;
+		double width;
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Long id;
+		String name;
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String title;
+		BigDecimal price;
+		LocalDate published;
+		@Enumerated(EnumType.STRING)
+		Genre genre;
+		long isbn;
+		@Embedded
+		Dimensions dimensions;
+		@ManyToOne
+		Publisher publisher;
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the columnar storage of cached query results.
+ */
+@DomainModel(annotatedClasses = ColumnarQueryCacheTest.Product.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = CacheSettings.QUERY_CACHE_COLUMNAR, value = "true"),
+				@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory")
+		}
+)
+@SessionFactory(generateStatistics = true)
+public class ColumnarQueryCacheTest {
+	private static final int PRODUCT_COUNT = 100;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= PRODUCT_COUNT; id++ ) {
+				session.persist( new Product(
+						id,
+						id % 10 == 0 ? null : "category-" + id % 3,
+						(int) id * 2,
+						id % 7 == 0 ? null : id / 4d,
+						LocalDate.of( 2024, 1, 1 ).plusDays( id )
+				) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@BeforeEach
+	public void clearCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testScalarProjection(SessionFactoryScope scope) {
+		final String hql = "select p.id, p.category, p.quantity, p.price, p.released from Product p order by p.id";
+		final var uncached = scope.fromSession( session ->
+				session.createSelectionQuery( hql, Object[].class ).getResultList() );
+		final var first = scope.fromSession( session ->
+				session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).getResultList() );
+		final var second = scope.fromSession( session ->
+				session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).getResultList() );
+
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( first ).hasSize( PRODUCT_COUNT );
+		assertThat( second ).hasSize( PRODUCT_COUNT );
+		for ( int i = 0; i < PRODUCT_COUNT; i++ ) {
+			assertThat( first.get( i ) ).containsExactly( uncached.get( i ) );
+			assertThat( second.get( i ) ).containsExactly( uncached.get( i ) );
+		}
+	}
+
+	@Test
+	public void testSingleColumnProjection(SessionFactoryScope scope) {
+		final String hql = "select p.category from Product p order by p.id";
+		final var first = scope.fromSession( session ->
+				session.createSelectionQuery( hql, String.class ).setCacheable( true ).getResultList() );
+		final var second = scope.fromSession( session ->
+				session.createSelectionQuery( hql, String.class ).setCacheable( true ).getResultList() );
+
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( second ).containsExactlyElementsOf( first );
+		assertThat( second.get( 9 ) ).isNull();
+	}
+
+	@Test
+	public void testEntityQuery(SessionFactoryScope scope) {
+		final String hql = "from Product p where p.quantity > 100 order by p.id";
+		scope.inSession( session ->
+				assertThat( session.createSelectionQuery( hql, Product.class ).setCacheable( true ).getResultList() )
+						.hasSize( PRODUCT_COUNT - 50 ) );
+		scope.inSession( session -> {
+			final var products = session.createSelectionQuery( hql, Product.class ).setCacheable( true ).getResultList();
+			assertThat( products ).hasSize( PRODUCT_COUNT - 50 );
+			assertThat( products.get( 0 ).id ).isEqualTo( 51L );
+			assertThat( products.get( 0 ).released ).isEqualTo( LocalDate.of( 2024, 1, 1 ).plusDays( 51 ) );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testListView() {
+		final List<Object> results = new ArrayList<>();
+		results.add( new Object[] {1L, "a", null} );
+		results.add( new Object[] {null, "a", LocalDate.of( 2024, 1, 1 )} );
+		results.add( new Object[] {3L, null, 1} );
+		results.add( 3 );
+		final var columnar = ColumnarQueryResults.from( results );
+
+		assertThat( columnar ).isNotNull();
+		assertThat( columnar.getRowCount() ).isEqualTo( 3 );
+		assertThat( columnar ).hasSize( 4 );
+		assertThat( (Object[]) columnar.get( 0 ) ).containsExactly( 1L, "a", null );
+		assertThat( (Object[]) columnar.get( 1 ) ).containsExactly( null, "a", LocalDate.of( 2024, 1, 1 ) );
+		assertThat( columnar.getValue( 2, 0 ) ).isEqualTo( 3L );
+		assertThat( columnar.getValue( 2, 1 ) ).isNull();
+		assertThat( columnar.getValue( 2, 2 ) ).isEqualTo( 1 );
+		assertThat( columnar.get( 3 ) ).isEqualTo( 3 );
+
+		// rows of different shapes are not stored column by column
+		assertThat( ColumnarQueryResults.from( List.of( new Object[] {1L}, 2L, 2 ) ) ).isNull();
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Long id;
+		String category;
+		int quantity;
+		Double price;
+		LocalDate released;
+
+		public Product() {
+		}
+
+		public Product(Long id, String category, int quantity, Double price, LocalDate released) {
+			this.id = id;
+			this.category = category;
+			this.quantity = quantity;
+			this.price = price;
+			this.released = released;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cache.internal.StripedTimestampsCache;
+import org.hibernate.cache.internal.StripedTimestampsCacheFactory;
+import org.hibernate.cfg.CacheSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StripedTimestampsCache}.
+ */
+@DomainModel(annotatedClasses = StripedTimestampsCacheTest.Item.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = CacheSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+				@Setting(name = CacheSettings.QUERY_CACHE_FACTORY, value = "org.hibernate.cache.internal.StripedTimestampsCacheFactory")
+		}
+)
+@SessionFactory(generateStatistics = true)
+public class StripedTimestampsCacheTest {
+	private static final String QUERY = "select i.name from Item i order by i.id";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testFactoryIsApplied(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getSessionFactoryOptions().getTimestampsCacheFactory() )
+				.isInstanceOf( StripedTimestampsCacheFactory.class );
+		assertThat( scope.getSessionFactory().getCache().getTimestampsCache() )
+				.isInstanceOf( StripedTimestampsCache.class );
+	}
+
+	@Test
+	public void testCachedQueryIsInvalidated(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Item( 1L, "first" ) ) );
+		statistics.clear();
+
+		scope.inSession( session -> assertThat( query( session ) ).containsExactly( "first" ) );
+		scope.inSession( session -> assertThat( query( session ) ).containsExactly( "first" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.persist( new Item( 2L, "second" ) ) );
+		statistics.clear();
+
+		scope.inSession( session -> assertThat( query( session ) ).containsExactly( "first", "second" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testPreInvalidationsAreCoalesced(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				session.persist( new Item( id, "item-" + id ) );
+				session.flush();
+			}
+		} );
+		// a single pre-invalidation and a single invalidation
+		assertThat( statistics.getUpdateTimestampsCachePutCount() ).isEqualTo( 2 );
+
+		scope.inSession( session -> assertThat( query( session ) ).containsExactly( "item-1", "item-2", "item-3" ) );
+		scope.inSession( session -> assertThat( query( session ) ).containsExactly( "item-1", "item-2", "item-3" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static List<String> query(Session session) {
+		return session.createSelectionQuery( QUERY, String.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.collection.bag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ImplicitListAsBagProvider;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.DEFAULT_LIST_SEMANTICS;
+
+/**
+ * Tests for {@value FetchSettings#SEPARATE_COLLECTION_FETCHES}.
+ */
+@ServiceRegistry(
+		settings = @Setting(name = FetchSettings.SEPARATE_COLLECTION_FETCHES, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = DEFAULT_LIST_SEMANTICS,
+				provider = ImplicitListAsBagProvider.class )
+)
+@DomainModel(
+		annotatedClasses = {
+				SeparateCollectionFetchTest.Post.class,
+				SeparateCollectionFetchTest.PostComment.class,
+				SeparateCollectionFetchTest.Tag.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class SeparateCollectionFetchTest {
+	private static final int POSTS = 5;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var java = new Tag( 1L, "java" );
+			final var sql = new Tag( 2L, "sql" );
+			session.persist( java );
+			session.persist( sql );
+			for ( long i = 1; i <= POSTS; i++ ) {
+				final var post = new Post( i, "Post nr. " + i );
+				post.tags.add( java );
+				post.tags.add( sql );
+				for ( long j = 1; j <= i; j++ ) {
+					final var comment = new PostComment( i * 10 + j, "Comment " + j );
+					session.persist( comment );
+					post.comments.add( comment );
+				}
+				session.persist( post );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testMultipleBagFetch(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inSession( session -> {
+			inspector.clear();
+			final List<Post> posts =
+					session.createSelectionQuery(
+							"select p from Post p left join fetch p.tags left join fetch p.comments order by p.id",
+							Post.class
+					).getResultList();
+			// the comments are fetched by a subselect, right after the posts and tags
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+			assertThat( posts ).hasSize( POSTS ).doesNotHaveDuplicates();
+			for ( var post : posts ) {
+				assertThat( Hibernate.isInitialized( post.tags ) ).isTrue();
+				assertThat( Hibernate.isInitialized( post.comments ) ).isTrue();
+				assertThat( post.tags ).hasSize( 2 );
+				assertThat( post.comments ).hasSize( post.id.intValue() );
+			}
+			assertThat( inspector.getSqlQueries() ).hasSize( 2 );
+		} );
+	}
+
+	@Entity(name = "Post")
+	public static class Post {
+		@Id
+		Long id;
+		String title;
+		@OneToMany
+		List<PostComment> comments = new ArrayList<>();
+		@ManyToMany
+		List<Tag> tags = new ArrayList<>();
+
+		Post() {
+		}
+
+		Post(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "PostComment")
+	public static class PostComment {
+		@Id
+		Long id;
+		String review;
+
+		PostComment() {
+		}
+
+		PostComment(Long id, String review) {
+			this.id = id;
+			this.review = review;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		Long id;
+		String name;
+
+		Tag() {
+		}
+
+		Tag(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
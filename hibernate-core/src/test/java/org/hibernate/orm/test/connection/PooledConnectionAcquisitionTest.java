@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProvider;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that, with {@link DriverManagerConnectionProvider#ACQUISITION_TIMEOUT},
+ * threads waiting for a connection from an exhausted pool park on a
+ * {@link Condition}, rather than on a monitor, and are given the returned
+ * connections in the order in which they started waiting.
+ */
+public class PooledConnectionAcquisitionTest {
+	private static final int WAITERS = 5;
+
+	private DriverManagerConnectionProvider connectionProvider;
+
+	@BeforeEach
+	public void setUp() {
+		final var settings = PropertiesHelper.map( Environment.getProperties() );
+		settings.put( AvailableSettings.POOL_SIZE, "1" );
+		settings.put( DriverManagerConnectionProvider.INITIAL_SIZE, "1" );
+		settings.put( DriverManagerConnectionProvider.ACQUISITION_TIMEOUT, "30000" );
+		connectionProvider = new DriverManagerConnectionProvider();
+		connectionProvider.configure( settings );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testWaitersAreWokenInOrder() throws Exception {
+		final Connection held = connectionProvider.getConnection();
+		final List<Integer> order = Collections.synchronizedList( new ArrayList<>() );
+		final List<Throwable> failures = Collections.synchronizedList( new ArrayList<>() );
+		final List<Thread> waiters = new ArrayList<>();
+		for ( int i = 0; i < WAITERS; i++ ) {
+			final int index = i;
+			final var waiter = new Thread( () -> {
+				try {
+					final Connection connection = connectionProvider.getConnection();
+					order.add( index );
+					connectionProvider.closeConnection( connection );
+				}
+				catch (SQLException | RuntimeException e) {
+					failures.add( e );
+				}
+			}, "Connection waiter " + i );
+			waiter.start();
+			awaitParkedOnCondition( waiter );
+			waiters.add( waiter );
+		}
+
+		connectionProvider.closeConnection( held );
+		for ( var waiter : waiters ) {
+			waiter.join( SECONDS.toMillis( 30 ) );
+		}
+		assertThat( failures ).isEmpty();
+		assertThat( order ).containsExactlyElementsOf( IntStream.range( 0, WAITERS ).boxed().toList() );
+	}
+
+	private static void awaitParkedOnCondition(Thread thread) throws InterruptedException {
+		final long deadline = System.nanoTime() + SECONDS.toNanos( 30 );
+		while ( !( LockSupport.getBlocker( thread ) instanceof Condition ) ) {
+			assertThat( thread.isAlive() )
+					.as( "Thread waiting for a connection terminated" )
+					.isTrue();
+			assertThat( System.nanoTime() - deadline )
+					.as( "Thread did not wait for a connection" )
+					.isNegative();
+			Thread.sleep( 1 );
+		}
+	}
+}
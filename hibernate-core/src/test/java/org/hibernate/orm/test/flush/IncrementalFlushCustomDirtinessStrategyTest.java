@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import org.hibernate.CustomEntityDirtinessStrategy;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.FlushSettings;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@link FlushSettings#INCREMENTAL_FLUSH} is ignored when a
+ * {@link CustomEntityDirtinessStrategy} is configured, since the strategy
+ * must be asked about every entity.
+ */
+@DomainModel(annotatedClasses = IncrementalFlushCustomDirtinessStrategyTest.Item.class)
+@ServiceRegistry(
+		settings = @Setting(name = FlushSettings.INCREMENTAL_FLUSH, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY,
+				provider = IncrementalFlushCustomDirtinessStrategyTest.StrategyProvider.class
+		)
+)
+@SessionFactory
+@BytecodeEnhanced
+@EnhancementOptions(inlineDirtyChecking = true)
+public class IncrementalFlushCustomDirtinessStrategyTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testEveryEntityIsVisited(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1L, "first" ) );
+			session.persist( new Item( 2L, "second" ) );
+		} );
+		scope.inTransaction( session -> {
+			// every entity is visited by a flush
+			assertThat( session.getPersistenceContextInternal().getFlushCandidates() ).isNull();
+			session.find( Item.class, 1L ).setName( "changed" );
+		} );
+		scope.inSession( session -> {
+			assertThat( session.find( Item.class, 1L ).getName() ).isEqualTo( "changed" );
+			assertThat( session.find( Item.class, 2L ).getName() ).isEqualTo( "second" );
+		} );
+	}
+
+	public static class StrategyProvider implements SettingProvider.Provider<Strategy> {
+		@Override
+		public Strategy getSetting() {
+			return Strategy.INSTANCE;
+		}
+	}
+
+	public static class Strategy implements CustomEntityDirtinessStrategy {
+		static final Strategy INSTANCE = new Strategy();
+
+		@Override
+		public boolean canDirtyCheck(Object entity, EntityPersister persister, Session session) {
+			return false;
+		}
+
+		@Override
+		public boolean isDirty(Object entity, EntityPersister persister, Session session) {
+			return false;
+		}
+
+		@Override
+		public void resetDirty(Object entity, EntityPersister persister, Session session) {
+		}
+
+		@Override
+		public void findDirty(
+				Object entity,
+				EntityPersister persister,
+				Session session,
+				DirtyCheckContext dirtyCheckContext) {
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
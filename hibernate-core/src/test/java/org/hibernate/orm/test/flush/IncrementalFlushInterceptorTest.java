@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.Arrays;
+
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.FlushSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@link FlushSettings#INCREMENTAL_FLUSH} is ignored by a session
+ * opened with an {@link Interceptor}, since the interceptor might find an
+ * entity dirty without any change being tracked.
+ */
+@DomainModel(annotatedClasses = IncrementalFlushInterceptorTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = FlushSettings.INCREMENTAL_FLUSH, value = "true"))
+@SessionFactory
+@BytecodeEnhanced
+@EnhancementOptions(inlineDirtyChecking = true)
+public class IncrementalFlushInterceptorTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testInterceptorFindsEntityDirty(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1L, "first" ) );
+			// a session without interceptor flushes incrementally
+			assertThat( session.getPersistenceContextInternal().getFlushCandidates() ).isNotNull();
+		} );
+
+		final var interceptor = new StampingInterceptor();
+		try ( var session = (SessionImplementor) scope.getSessionFactory().withOptions()
+				.interceptor( interceptor )
+				.openSession() ) {
+			session.getTransaction().begin();
+			// every entity is visited by a flush
+			assertThat( session.getPersistenceContextInternal().getFlushCandidates() ).isNull();
+			session.find( Item.class, 1L );
+			// the entity is unchanged, but reported dirty by the interceptor
+			interceptor.stamp = true;
+			session.getTransaction().commit();
+		}
+
+		scope.inSession( session ->
+				assertThat( session.find( Item.class, 1L ).getName() ).isEqualTo( "stamped" ) );
+	}
+
+	private static class StampingInterceptor implements Interceptor {
+		boolean stamp;
+
+		@Override
+		public int[] findDirty(
+				Object entity,
+				Object id,
+				Object[] currentState,
+				Object[] previousState,
+				String[] propertyNames,
+				Type[] types) {
+			return stamp ? new int[] {Arrays.asList( propertyNames ).indexOf( "name" )} : null;
+		}
+
+		@Override
+		public boolean onFlushDirty(
+				Object entity,
+				Object id,
+				Object[] currentState,
+				Object[] previousState,
+				String[] propertyNames,
+				Type[] types) {
+			currentState[Arrays.asList( propertyNames ).indexOf( "name" )] = "stamped";
+			return true;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
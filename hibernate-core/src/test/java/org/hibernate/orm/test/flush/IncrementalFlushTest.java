@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.FlushSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests flushing with {@link FlushSettings#INCREMENTAL_FLUSH}, where a flush only
+ * visits the entities which might have changed since the previous flush.
+ */
+@DomainModel(annotatedClasses = {
+		IncrementalFlushTest.Item.class,
+		IncrementalFlushTest.Basket.class
+})
+@ServiceRegistry(settings = @Setting(name = FlushSettings.INCREMENTAL_FLUSH, value = "true"))
+@SessionFactory
+@BytecodeEnhanced
+@EnhancementOptions(inlineDirtyChecking = true)
+public class IncrementalFlushTest {
+	private static final int COUNT = 50;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= COUNT; i++ ) {
+				session.persist( new Item( i, "item-" + i ) );
+			}
+			final Basket basket = new Basket( 1L );
+			basket.labels.add( "first" );
+			session.persist( basket );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testOnlyChangedEntitiesAreCandidates(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = loadItems( session );
+			assertThat( candidateCount( session ) ).isZero();
+
+			items.get( 3 ).setName( "changed-4" );
+			items.get( 17 ).setName( "changed-18" );
+			items.get( 17 ).setName( "changed-again-18" );
+			assertThat( candidateCount( session ) ).isEqualTo( 2 );
+
+			session.flush();
+			// the flushed entities are visited once more by the next flush
+			session.flush();
+			assertThat( candidateCount( session ) ).isZero();
+
+			items.get( 42 ).setName( "changed-43" );
+			assertThat( candidateCount( session ) ).isEqualTo( 1 );
+		} );
+		scope.inSession( session -> {
+			final List<Item> items = loadItems( session );
+			for ( Item item : items ) {
+				final String expected = switch ( (int) item.id ) {
+					case 4 -> "changed-4";
+					case 18 -> "changed-again-18";
+					case 43 -> "changed-43";
+					default -> "item-" + item.id;
+				};
+				assertThat( item.getName() ).isEqualTo( expected );
+			}
+		} );
+	}
+
+	@Test
+	public void testPersistAndRemove(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = loadItems( session );
+			session.remove( items.get( 0 ) );
+			session.persist( new Item( COUNT + 1L, "new" ) );
+			assertThat( candidateCount( session ) ).isEqualTo( 2 );
+			session.flush();
+			// the new entity was changed after the flush
+			session.find( Item.class, COUNT + 1L ).setName( "newer" );
+		} );
+		scope.inSession( session -> {
+			assertThat( session.find( Item.class, 1L ) ).isNull();
+			assertThat( session.find( Item.class, COUNT + 1L ).getName() ).isEqualTo( "newer" );
+		} );
+	}
+
+	@Test
+	public void testEntityWithCollectionIsAlwaysVisited(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			loadItems( session );
+			final Basket basket = session.find( Basket.class, 1L );
+			assertThat( candidateCount( session ) ).isEqualTo( 1 );
+			session.flush();
+			assertThat( candidateCount( session ) ).isEqualTo( 1 );
+			basket.labels.add( "second" );
+		} );
+		scope.inSession( session -> {
+			assertThat( session.find( Basket.class, 1L ).labels ).containsExactlyInAnyOrder( "first", "second" );
+		} );
+	}
+
+	@Test
+	public void testMergeAndReadOnly(SessionFactoryScope scope) {
+		final Item detached = scope.fromSession( session -> session.find( Item.class, 1L ) );
+		detached.setName( "merged" );
+		scope.inTransaction( session -> {
+			final List<Item> items = loadItems( session );
+			session.merge( detached );
+			session.setReadOnly( items.get( 1 ), true );
+			items.get( 1 ).setName( "ignored" );
+			session.flush();
+			session.setReadOnly( items.get( 1 ), false );
+			items.get( 2 ).setName( "changed-3" );
+		} );
+		scope.inSession( session -> {
+			assertThat( session.find( Item.class, 1L ).getName() ).isEqualTo( "merged" );
+			assertThat( session.find( Item.class, 2L ).getName() ).isEqualTo( "item-2" );
+			assertThat( session.find( Item.class, 3L ).getName() ).isEqualTo( "changed-3" );
+		} );
+	}
+
+	private static List<Item> loadItems(SessionImplementor session) {
+		return session.createSelectionQuery( "from Item order by id", Item.class ).getResultList();
+	}
+
+	private static int candidateCount(SessionImplementor session) {
+		final var flushCandidates = session.getPersistenceContextInternal().getFlushCandidates();
+		assertThat( flushCandidates ).isNotNull();
+		return flushCandidates.entityEntries().length;
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Basket")
+	public static class Basket {
+		@Id
+		long id;
+		@ElementCollection
+		List<String> labels = new ArrayList<>();
+
+		public Basket() {
+		}
+
+		public Basket(long id) {
+			this.id = id;
+		}
+	}
+}
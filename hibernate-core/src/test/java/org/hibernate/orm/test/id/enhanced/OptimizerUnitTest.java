@@ -300,6 +300,32 @@ public void testBasicPooledThreadLocalLoOptimizerUsage() {
 
 	}
 
+	@Test
+	public void testBasicStripedPooledLoOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = buildStripedPooledLoOptimizer( 1, 50 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		// a single thread takes its values from one stripe, in order
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		for ( int looper = 0; looper < 49; looper++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+		}
+		assertEquals( 50, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 51, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 51, sequence.getCurrentValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -320,6 +346,10 @@ private static Optimizer buildPooledThreadLocalLoOptimizer(long initial, int inc
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildStripedPooledLoOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_STRIPED, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.FindMultipleOption.BatchSize;
+import org.hibernate.FindMultipleOption.ParallelFetch;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a {@link ParallelFetch} asking for more connections than the pool
+ * has left fetches the remaining batches over the connection of the session,
+ * rather than waiting for a connection.
+ */
+@ServiceRegistry(settings = {
+		// Force a non-shared connection provider, so that the pool settings apply
+		@Setting(name = AvailableSettings.CONNECTION_PROVIDER, value = ""),
+		@Setting(name = AvailableSettings.POOL_SIZE, value = "2")
+})
+@DomainModel(annotatedClasses = ParallelFindMultipleExhaustedPoolTest.Book.class)
+@SessionFactory
+public class ParallelFindMultipleExhaustedPoolTest {
+	private static final int BOOKS = 100;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= BOOKS; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testMoreConnectionsThanAvailable(SessionFactoryScope scope) {
+		final List<Long> ids = new ArrayList<>( BOOKS );
+		for ( long i = BOOKS; i >= 1; i-- ) {
+			ids.add( i );
+		}
+		scope.inSession( session -> {
+			final var books =
+					session.findMultiple( Book.class, ids, new ParallelFetch( 8 ), new BatchSize( 10 ) );
+			assertThat( books ).extracting( book -> book.id ).containsExactlyElementsOf( ids );
+			assertThat( books ).allMatch( session::contains );
+		} );
+	}
+
+	@Entity(name = "Book")
+	static class Book {
+		@Id
+		Long id;
+		String title;
+
+		Book() {
+		}
+
+		Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
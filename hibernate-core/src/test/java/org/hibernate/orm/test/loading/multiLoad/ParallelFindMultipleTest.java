@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import org.hibernate.FindMultipleOption.BatchSize;
+import org.hibernate.FindMultipleOption.OrderingMode;
+import org.hibernate.FindMultipleOption.ParallelFetch;
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ParallelFetch}.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelFindMultipleTest.Shelf.class,
+		ParallelFindMultipleTest.Book.class
+})
+@SessionFactory
+public class ParallelFindMultipleTest {
+	private static final int BOOKS = 200;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final var shelf = new Shelf( 1L, "Fiction" );
+			session.persist( shelf );
+			for ( long i = 1; i <= BOOKS; i++ ) {
+				session.persist( new Book( i, "Book " + i, shelf ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testOrdered(SessionFactoryScope scope) {
+		final List<Long> ids = shuffledIds();
+		// an id which doesn't exist
+		ids.add( 7, -1L );
+		scope.inSession( session -> {
+			final var books =
+					session.findMultiple( Book.class, ids, new ParallelFetch( 3 ), new BatchSize( 16 ) );
+			assertThat( books ).hasSize( ids.size() );
+			for ( int i = 0; i < ids.size(); i++ ) {
+				final var book = books.get( i );
+				if ( ids.get( i ) < 0 ) {
+					assertThat( book ).isNull();
+				}
+				else {
+					assertThat( book.id ).isEqualTo( ids.get( i ) );
+					assertThat( book.title ).isEqualTo( "Book " + book.id );
+					assertThat( session.contains( book ) ).isTrue();
+				}
+			}
+			// every book refers to the same managed shelf
+			assertThat( books.get( 0 ).shelf ).isSameAs( books.get( 1 ).shelf );
+			assertThat( Hibernate.isInitialized( books.get( 0 ).shelf ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testUnordered(SessionFactoryScope scope) {
+		final List<Long> ids = shuffledIds();
+		scope.inSession( session -> {
+			final var books =
+					session.findMultiple( Book.class, ids, new ParallelFetch( 4 ), OrderingMode.UNORDERED );
+			assertThat( books ).hasSize( BOOKS ).doesNotContainNull().doesNotHaveDuplicates();
+			assertThat( books ).allMatch( session::contains );
+		} );
+	}
+
+	@Test
+	public void testManagedEntitiesAreReturned(SessionFactoryScope scope) {
+		final List<Long> ids = shuffledIds();
+		scope.inTransaction( session -> {
+			final var managed = session.find( Book.class, ids.get( 42 ) );
+			final var reference = session.getReference( Book.class, ids.get( 100 ) );
+			final var books =
+					session.findMultiple( Book.class, ids, new ParallelFetch( 2 ), new BatchSize( 25 ) );
+			assertThat( books.get( 42 ) ).isSameAs( managed );
+			assertThat( books.get( 100 ) ).isSameAs( reference );
+		} );
+	}
+
+	@Test
+	public void testThreadsAreShared(SessionFactoryScope scope) {
+		final List<Long> ids = shuffledIds();
+		for ( int i = 0; i < 5; i++ ) {
+			scope.inSession( session -> assertThat(
+					session.findMultiple( Book.class, ids, new ParallelFetch( 4 ), new BatchSize( 10 ) )
+			).hasSize( BOOKS ) );
+		}
+		// the threads of the session factory are reused, rather than started for every call
+		assertThat( Thread.getAllStackTraces().keySet() )
+				.filteredOn( thread -> thread.getName().startsWith( "Hibernate parallel fetch" ) )
+				.hasSizeLessThanOrEqualTo( 4 );
+	}
+
+	private static List<Long> shuffledIds() {
+		final List<Long> ids = new ArrayList<>( BOOKS );
+		for ( long i = 1; i <= BOOKS; i++ ) {
+			ids.add( i );
+		}
+		Collections.shuffle( ids, new Random( 11 ) );
+		return ids;
+	}
+
+	@Entity(name = "Shelf")
+	static class Shelf {
+		@Id
+		Long id;
+		String name;
+
+		Shelf() {
+		}
+
+		Shelf(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	static class Book {
+		@Id
+		Long id;
+		String title;
+		@ManyToOne
+		Shelf shelf;
+
+		Book() {
+		}
+
+		Book(Long id, String title, Shelf shelf) {
+			this.id = id;
+			this.title = title;
+			this.shelf = shelf;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.pc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.EntityKey;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the persistence context with {@link PersistenceSettings#PRIMITIVE_ID_PERSISTENCE_CONTEXT}.
+ * The number of entities is large enough for the tables to be rehashed a few times.
+ */
+@DomainModel(annotatedClasses = {
+		PrimitiveIdPersistenceContextTest.Account.class,
+		PrimitiveIdPersistenceContextTest.Animal.class,
+		PrimitiveIdPersistenceContextTest.Dog.class,
+		PrimitiveIdPersistenceContextTest.Tag.class
+})
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.PRIMITIVE_ID_PERSISTENCE_CONTEXT, value = "true"))
+@SessionFactory
+public class PrimitiveIdPersistenceContextTest {
+	private static final int COUNT = 100;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testFindAndContains(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Account( i, "account-" + i ) );
+				session.persist( new Animal( i, "animal-" + i ) );
+				session.persist( new Dog( COUNT + i, "dog-" + i ) );
+				session.persist( new Tag( "tag-" + i ) );
+			}
+		} );
+		scope.inSession( session -> {
+			final List<Account> accounts =
+					session.createSelectionQuery( "from Account", Account.class ).getResultList();
+			final List<Animal> animals =
+					session.createSelectionQuery( "from Animal", Animal.class ).getResultList();
+			final List<Tag> tags =
+					session.createSelectionQuery( "from Tag", Tag.class ).getResultList();
+			assertThat( accounts ).hasSize( COUNT );
+			assertThat( animals ).hasSize( 2 * COUNT );
+			assertThat( tags ).hasSize( COUNT );
+
+			final var persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( 4 * COUNT );
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 4 * COUNT );
+
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Account account = session.find( Account.class, (long) i );
+				assertThat( accounts ).contains( account );
+				assertThat( session.contains( account ) ).isTrue();
+				// a subclass shares the table of its hierarchy
+				assertThat( session.find( Animal.class, COUNT + i ) ).isInstanceOf( Dog.class );
+				assertThat( session.find( Dog.class, COUNT + i ) ).isSameAs( session.find( Animal.class, COUNT + i ) );
+				assertThat( session.find( Tag.class, "tag-" + i ) ).isNotNull();
+				final var key = new EntityKey( (long) i, session.getEntityPersister( null, account ) );
+				assertThat( persistenceContext.getEntity( key ) ).isSameAs( account );
+			}
+		} );
+	}
+
+	@Test
+	public void testDetachAndClear(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Account( i, "account-" + i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Account> accounts =
+					session.createSelectionQuery( "from Account order by id", Account.class ).getResultList();
+			for ( int i = 0; i < COUNT; i += 2 ) {
+				session.detach( accounts.get( i ) );
+			}
+			assertThat( session.getPersistenceContextInternal().getEntityHoldersByKey() ).hasSize( COUNT / 2 );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( session.contains( accounts.get( i ) ) ).isEqualTo( i % 2 == 1 );
+			}
+
+			// reattach over the removed slots
+			final List<Account> reloaded = new ArrayList<>();
+			for ( int i = 0; i < COUNT; i += 2 ) {
+				reloaded.add( session.find( Account.class, accounts.get( i ).id ) );
+			}
+			assertThat( reloaded ).doesNotContainNull();
+			assertThat( session.getPersistenceContextInternal().getEntityHoldersByKey() ).hasSize( COUNT );
+
+			session.clear();
+			assertThat( session.getPersistenceContextInternal().getEntityHoldersByKey() ).isNullOrEmpty();
+			assertThat( session.find( Account.class, 1L ).name ).isEqualTo( "account-1" );
+		} );
+	}
+
+	@Test
+	public void testCollectionsAndSnapshots(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Account account = new Account( i, "account-" + i );
+				account.aliases.add( "alias-" + i );
+				session.persist( account );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Account> accounts =
+					session.createSelectionQuery( "from Account order by id", Account.class ).getResultList();
+			for ( Account account : accounts ) {
+				assertThat( account.aliases ).containsExactly( "alias-" + account.id );
+				account.aliases.add( "other-" + account.id );
+			}
+			assertThat( session.getPersistenceContextInternal().getCollectionsByKey() ).hasSize( COUNT );
+		} );
+		scope.inSession( session -> {
+			final var persistenceContext = session.getPersistenceContextInternal();
+			final var persister = session.getFactory().getMappingMetamodel().getEntityDescriptor( Account.class );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				assertThat( persistenceContext.getDatabaseSnapshot( (long) i, persister ) ).isNotNull();
+			}
+			assertThat( persistenceContext.getDatabaseSnapshot( COUNT + 1L, persister ) ).isNull();
+			assertThat( persistenceContext.getEntitySnapshotsByKey() ).hasSize( COUNT + 1 );
+			assertThat( session.find( Account.class, 7L ).aliases ).containsExactlyInAnyOrder( "alias-7", "other-7" );
+		} );
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		long id;
+		String name;
+		@ElementCollection
+		List<String> aliases = new ArrayList<>();
+
+		public Account() {
+		}
+
+		public Account(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Animal {
+		@Id
+		Integer id;
+		String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		String name;
+
+		public Tag() {
+		}
+
+		public Tag(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the binding of the values of a multivalued parameter of an
+ * {@code IN} predicate as a single array.
+ *
+ * @see QuerySettings#IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD
+ */
+@ServiceRegistry(settings = @Setting(name = QuerySettings.IN_CLAUSE_ARRAY_PARAMETER_THRESHOLD, value = "10"))
+@DomainModel(annotatedClasses = InClauseArrayParameterTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class InClauseArrayParameterTest {
+
+	@BeforeAll
+	void createData(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			for ( long i = 1; i <= 100; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope factoryScope) {
+		factoryScope.dropData();
+	}
+
+	@Test
+	void testLargeInList(SessionFactoryScope factoryScope) {
+		final var inspector = factoryScope.getCollectingStatementInspector();
+		inspector.clear();
+		factoryScope.inTransaction( session -> {
+			for ( int size : new int[] { 20, 35, 3 } ) {
+				final List<Long> ids = IntStream.rangeClosed( 1, size ).mapToObj( i -> (long) i * 2 ).toList();
+				final List<Item> items = session.createQuery( "from Item i where i.id in :ids", Item.class )
+						.setParameterList( "ids", ids )
+						.getResultList();
+				assertThat( items ).extracting( item -> item.id ).containsExactlyInAnyOrderElementsOf( ids );
+			}
+		} );
+		final var sqlQueries = inspector.getSqlQueries();
+		if ( factoryScope.getSessionFactory().getJdbcServices().getDialect().useArrayForMultiValuedParameters() ) {
+			// the SQL does not depend on the number of values beyond the threshold
+			assertThat( sqlQueries.get( 0 ) ).isEqualTo( sqlQueries.get( 1 ) );
+			assertThat( sqlQueries.get( 0 ) ).containsOnlyOnce( "?" );
+		}
+		assertThat( sqlQueries.get( 2 ) ).isNotEqualTo( sqlQueries.get( 0 ) );
+	}
+
+	@Test
+	void testLargeInListWithOtherParameters(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			final List<Long> ids = IntStream.rangeClosed( 1, 50 ).mapToObj( i -> (long) i ).toList();
+			assertThat( session.createQuery( "select i.name from Item i where i.id > :min and i.id in :ids and i.name like :name order by i.id", String.class )
+					.setParameter( "min", 40L )
+					.setParameterList( "ids", ids )
+					.setParameter( "name", "Item 4%" )
+					.getResultList() ).containsExactly( "Item 41", "Item 42", "Item 43", "Item 44", "Item 45",
+					"Item 46", "Item 47", "Item 48", "Item 49" );
+			// NOT IN is always expanded
+			assertThat( session.createQuery( "select count(*) from Item i where i.id not in :ids", Long.class )
+					.setParameterList( "ids", ids )
+					.getSingleResult() ).isEqualTo( 50L );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+
+		Item() {
+		}
+
+		Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
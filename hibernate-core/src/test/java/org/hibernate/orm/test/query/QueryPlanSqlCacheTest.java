@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the translations kept by a query plan for different shapes of its
+ * parameter bindings.
+ *
+ * @see QuerySettings#QUERY_PLAN_SQL_CACHE_MAX_SIZE
+ */
+@ServiceRegistry(settings = @Setting(name = QuerySettings.QUERY_PLAN_SQL_CACHE_MAX_SIZE, value = "4"))
+@DomainModel(annotatedClasses = QueryPlanSqlCacheTest.Book.class)
+@SessionFactory(generateStatistics = true, useCollectingStatementInspector = true)
+public class QueryPlanSqlCacheTest {
+	private static final String BY_IDS = "from Book b where b.id in :ids order by b.id";
+	private static final String BY_MIN_PAGES = "from Book b where b.pages >= :pages order by b.id";
+
+	@BeforeEach
+	void createData(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				session.persist( new Book( i, "Book " + i, i % 2 == 0 ? "novel" : "essay", i * 100 ) );
+			}
+		} );
+		factoryScope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	void dropData(SessionFactoryScope factoryScope) {
+		factoryScope.dropData();
+	}
+
+	@Test
+	void testInListsOfVaryingSizes(SessionFactoryScope factoryScope) {
+		final Statistics statistics = factoryScope.getSessionFactory().getStatistics();
+		final var inspector = factoryScope.getCollectingStatementInspector();
+		inspector.clear();
+		factoryScope.inTransaction( session -> {
+			for ( List<Integer> ids : List.of( List.of( 1 ), List.of( 1, 2, 3 ), List.of( 4, 5 ),
+					List.of( 2, 3, 4, 5, 6 ), List.of( 3 ), List.of( 6, 5, 4, 3 ) ) ) {
+				final List<Integer> found = session.createQuery( BY_IDS, Book.class )
+						.setParameterList( "ids", ids )
+						.getResultList()
+						.stream()
+						.map( book -> book.id )
+						.toList();
+				assertThat( found ).containsExactlyElementsOf( ids.stream().sorted().toList() );
+			}
+		} );
+		// the plan is cached even though the parameter has multiple values
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		assertThat( misses ).isEqualTo( missesOfFirstExecution( factoryScope ) );
+		// lists of 3 values are padded to 4, just like lists of 4 values
+		final var sqlQueries = inspector.getSqlQueries();
+		assertThat( sqlQueries.get( 1 ) ).isEqualTo( sqlQueries.get( 5 ) );
+		assertThat( sqlQueries.get( 0 ) ).isEqualTo( sqlQueries.get( 4 ) );
+		assertThat( sqlQueries.stream().distinct() ).hasSize( 4 );
+	}
+
+	@Test
+	void testPagesAndFilters(SessionFactoryScope factoryScope) {
+		final Statistics statistics = factoryScope.getSessionFactory().getStatistics();
+		final var inspector = factoryScope.getCollectingStatementInspector();
+		inspector.clear();
+		factoryScope.inTransaction( session -> {
+			assertThat( session.createQuery( BY_MIN_PAGES, Book.class )
+					.setParameter( "pages", 200 )
+					.getResultList() ).hasSize( 5 );
+			assertThat( session.createQuery( BY_MIN_PAGES, Book.class )
+					.setParameter( "pages", 200 )
+					.setFirstResult( 1 )
+					.setMaxResults( 2 )
+					.getResultList() )
+					.extracting( book -> book.id )
+					.containsExactly( 3, 4 );
+
+			session.enableFilter( "genre" ).setParameter( "genre", "novel" );
+			assertThat( session.createQuery( BY_MIN_PAGES, Book.class )
+					.setParameter( "pages", 200 )
+					.getResultList() )
+					.extracting( book -> book.id )
+					.containsExactly( 2, 4, 6 );
+
+			session.enableFilter( "genre" ).setParameter( "genre", "essay" );
+			assertThat( session.createQuery( BY_MIN_PAGES, Book.class )
+					.setParameter( "pages", 200 )
+					.getResultList() )
+					.extracting( book -> book.id )
+					.containsExactly( 3, 5 );
+
+			session.enableFilter( "genre" ).setParameter( "genre", "novel" );
+			assertThat( session.createQuery( BY_MIN_PAGES, Book.class )
+					.setParameter( "pages", 200 )
+					.setMaxResults( 1 )
+					.getResultList() )
+					.extracting( book -> book.id )
+					.containsExactly( 2 );
+
+			session.disableFilter( "genre" );
+			assertThat( session.createQuery( BY_MIN_PAGES, Book.class )
+					.setParameter( "pages", 200 )
+					.getResultList() ).hasSize( 5 );
+		} );
+		// the arguments of the filter are bound, not rendered
+		final var sqlQueries = inspector.getSqlQueries();
+		assertThat( sqlQueries.get( 2 ) ).isEqualTo( sqlQueries.get( 3 ) );
+		assertThat( sqlQueries.get( 0 ) ).isEqualTo( sqlQueries.get( 5 ) );
+		// a single plan, shared by every execution
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		assertThat( misses ).isEqualTo( missesOfFirstExecution( factoryScope ) );
+	}
+
+	@Test
+	void testMultivaluedFilterArgument(SessionFactoryScope factoryScope) {
+		final var inspector = factoryScope.getCollectingStatementInspector();
+		inspector.clear();
+		factoryScope.inTransaction( session -> {
+			session.enableFilter( "genres" ).setParameterList( "genres", List.of( "novel", "poem" ) );
+			assertThat( session.createQuery( BY_MIN_PAGES, Book.class )
+					.setParameter( "pages", 300 )
+					.getResultList() )
+					.extracting( book -> book.id )
+					.containsExactly( 4, 6 );
+
+			session.enableFilter( "genres" ).setParameterList( "genres", List.of( "poem", "essay" ) );
+			assertThat( session.createQuery( BY_MIN_PAGES, Book.class )
+					.setParameter( "pages", 300 )
+					.getResultList() )
+					.extracting( book -> book.id )
+					.containsExactly( 3, 5 );
+		} );
+		// each value of the argument is bound to its own parameter
+		final var sqlQueries = inspector.getSqlQueries();
+		assertThat( sqlQueries.get( 0 ) ).isEqualTo( sqlQueries.get( 1 ) );
+	}
+
+	// the misses of the HQL interpretation and of the plan of a new query
+	private static long missesOfFirstExecution(SessionFactoryScope factoryScope) {
+		final Statistics statistics = factoryScope.getSessionFactory().getStatistics();
+		statistics.clear();
+		factoryScope.inTransaction( session -> session.createQuery( "from Book b where b.title = :title", Book.class )
+				.setParameter( "title", "Book 1" )
+				.getResultList() );
+		return statistics.getQueryPlanCacheMissCount();
+	}
+
+	@Entity(name = "Book")
+	@FilterDef(name = "genre", parameters = @ParamDef(name = "genre", type = String.class))
+	@FilterDef(name = "genres", parameters = @ParamDef(name = "genres", type = String.class))
+	@Filter(name = "genre", condition = "genre = :genre")
+	@Filter(name = "genres", condition = "genre in (:genres)")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		String genre;
+		int pages;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, String genre, int pages) {
+			this.id = id;
+			this.title = title;
+			this.genre = genre;
+			this.pages = pages;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.query.QueryPlanWarmer;
+import org.hibernate.query.QueryPlanWarmer.HotQuery;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the warm-up of query plans in the background.
+ *
+ * @see QuerySettings#QUERY_PLAN_WARMUP_ENABLED
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.QUERY_PLAN_WARMUP_ENABLED, value = "true"),
+		@Setting(name = QuerySettings.QUERY_PLAN_WARMUP_QUERIES, value = "org/hibernate/orm/test/query/hot-queries.txt"),
+		@Setting(name = QuerySettings.QUERY_PLAN_WARMUP_THREADS, value = "2")
+})
+@DomainModel(annotatedClasses = QueryPlanWarmerTest.Book.class)
+@SessionFactory(generateStatistics = true)
+public class QueryPlanWarmerTest {
+
+	@Test
+	void testPlansAreBuiltInTheBackground(SessionFactoryScope factoryScope) throws InterruptedException {
+		final Statistics statistics = factoryScope.getSessionFactory().getStatistics();
+		// the named query, and the two hot selection queries, but not the update
+		awaitWarmup( statistics, 3 );
+		assertThat( statistics.getQueryPlanWarmupFailureCount() ).isZero();
+
+		statistics.clear();
+		factoryScope.inTransaction( session -> {
+			session.persist( new Book( 1, "Warm", 120 ) );
+			assertThat( session.createNamedQuery( "Book.byTitle", Book.class )
+					.setParameter( "title", "Warm" )
+					.getResultList() ).hasSize( 1 );
+			assertThat( session.createQuery( "select b.title, b.pages from Book b where b.pages > :pages" )
+					.setParameter( "pages", 100 )
+					.getResultList() ).hasSize( 1 );
+			assertThat( session.createQuery( "select b from Book b where b.pages < :pages", Book.class )
+					.setParameter( "pages", 200 )
+					.getResultList() ).hasSize( 1 );
+		} );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isPositive();
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isZero();
+		factoryScope.dropData();
+	}
+
+	@Test
+	void testQueryListRoundTrip(SessionFactoryScope factoryScope) throws IOException {
+		final Statistics statistics = factoryScope.getSessionFactory().getStatistics();
+		final String multiLineQuery = "select b\n\tfrom Book b\nwhere b.title like '%\\%'";
+		final String nativeQuery = "select * from Book";
+		statistics.clear();
+		factoryScope.inTransaction( session -> {
+			session.createQuery( "from Book", Book.class ).getResultList();
+			session.createQuery( multiLineQuery, Book.class ).getResultList();
+			session.createQuery( multiLineQuery, Book.class ).getResultList();
+			session.createNativeQuery( nativeQuery, Book.class ).getResultList();
+			session.createNativeQuery( nativeQuery, Book.class ).getResultList();
+			session.createNativeQuery( nativeQuery, Book.class ).getResultList();
+		} );
+		// the statistics also record the native query
+		assertThat( statistics.getQueries() ).hasSize( 3 );
+
+		final var writer = new StringWriter();
+		QueryPlanWarmer.writeQueries( statistics, 10, writer );
+		final List<HotQuery> queries = QueryPlanWarmer.readQueries( new StringReader( writer.toString() ) );
+		// the most frequently executed first, without the native query
+		assertThat( queries ).containsExactly(
+				new HotQuery( multiLineQuery, Book.class.getName() ),
+				new HotQuery( "from Book", Book.class.getName() )
+		);
+
+		final var mostFrequent = new StringWriter();
+		QueryPlanWarmer.writeQueries( statistics, 1, mostFrequent );
+		assertThat( QueryPlanWarmer.readQueries( new StringReader( mostFrequent.toString() ) ) )
+				.containsExactly( new HotQuery( multiLineQuery, Book.class.getName() ) );
+	}
+
+	private static void awaitWarmup(Statistics statistics, int count) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( statistics.getQueryPlanWarmupCount() + statistics.getQueryPlanWarmupFailureCount() < count
+				&& System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertThat( statistics.getQueryPlanWarmupCount() ).isEqualTo( count );
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "select b from Book b where b.title = :title", resultClass = Book.class)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		int pages;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, int pages) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+		}
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#getResultPublisher()}.
+ */
+@DomainModel(annotatedClasses = ResultPublisherTest.Item.class)
+@SessionFactory
+public class ResultPublisherTest {
+
+	@BeforeAll
+	void createData(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			for ( long i = 1; i <= 50; i++ ) {
+				session.persist( new Item( i, "Item " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	void dropData(SessionFactoryScope factoryScope) {
+		factoryScope.dropData();
+	}
+
+	@Test
+	void testDemand(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			final var subscriber = new CollectingSubscriber<Item>();
+			session.createQuery( "from Item order by id", Item.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			assertThat( subscriber.results ).isEmpty();
+
+			subscriber.subscription.request( 5 );
+			assertThat( subscriber.results ).extracting( item -> item.id )
+					.containsExactly( 1L, 2L, 3L, 4L, 5L );
+			assertThat( subscriber.completed ).isFalse();
+			// emitted entities do not accumulate in the persistence context
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isZero();
+			assertThat( subscriber.results ).noneMatch( session::contains );
+
+			subscriber.subscription.request( 100 );
+			assertThat( subscriber.results ).hasSize( 50 );
+			assertThat( subscriber.completed ).isTrue();
+			assertThat( subscriber.error ).isNull();
+			assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.hasRegisteredResources() ).isFalse();
+		} );
+	}
+
+	@Test
+	void testRequestFromOnNext(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			final var subscriber = new CollectingSubscriber<String>() {
+				@Override
+				public void onNext(String item) {
+					super.onNext( item );
+					subscription.request( 1 );
+				}
+			};
+			session.createQuery( "select name from Item where id <= 10 order by id", String.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			subscriber.subscription.request( 1 );
+			assertThat( subscriber.results ).hasSize( 10 ).startsWith( "Item 1", "Item 2" );
+			assertThat( subscriber.completed ).isTrue();
+		} );
+	}
+
+	@Test
+	void testCancel(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			final var subscriber = new CollectingSubscriber<Item>();
+			session.createQuery( "from Item order by id", Item.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			subscriber.subscription.request( 3 );
+			final var resourceRegistry = session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry();
+			assertThat( resourceRegistry.hasRegisteredResources() ).isTrue();
+
+			subscriber.subscription.cancel();
+			assertThat( resourceRegistry.hasRegisteredResources() ).isFalse();
+			subscriber.subscription.request( 3 );
+			assertThat( subscriber.results ).hasSize( 3 );
+			assertThat( subscriber.completed ).isFalse();
+		} );
+	}
+
+	@Test
+	void testInvalidRequest(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			final var publisher = session.createQuery( "from Item", Item.class ).getResultPublisher();
+			final var subscriber = new CollectingSubscriber<Item>();
+			publisher.subscribe( subscriber );
+			subscriber.subscription.request( 0 );
+			assertThat( subscriber.error ).isInstanceOf( IllegalArgumentException.class );
+
+			final var second = new CollectingSubscriber<Item>();
+			publisher.subscribe( second );
+			assertThat( second.error ).isInstanceOf( IllegalStateException.class );
+		} );
+	}
+
+	@Test
+	void testSubscriberThrowing(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			final var subscriber = new CollectingSubscriber<Item>() {
+				@Override
+				public void onNext(Item item) {
+					super.onNext( item );
+					throw new IllegalStateException( "Subscriber failure" );
+				}
+			};
+			session.createQuery( "from Item order by id", Item.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			subscriber.subscription.request( 3 );
+			// the subscription is cancelled, and the subscriber is not signalled again
+			assertThat( subscriber.results ).hasSize( 1 );
+			assertThat( subscriber.error ).isNull();
+			assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.hasRegisteredResources() ).isFalse();
+			subscriber.subscription.request( 3 );
+			assertThat( subscriber.results ).hasSize( 1 );
+		} );
+	}
+
+	@Test
+	void testManagedEntityIsNotDetached(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			final var managed = session.find( Item.class, 3L );
+			managed.name = "Changed";
+			final var subscriber = new CollectingSubscriber<Item>();
+			session.createQuery( "from Item where id <= 5 order by id", Item.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			subscriber.subscription.request( 10 );
+			assertThat( subscriber.results ).hasSize( 5 ).contains( managed );
+			assertThat( subscriber.completed ).isTrue();
+			// the entity which was already managed keeps its pending change
+			assertThat( session.contains( managed ) ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isOne();
+			session.flush();
+			assertThat( session.createQuery( "select name from Item where id = 3", String.class )
+					.getSingleResult() ).isEqualTo( "Changed" );
+			managed.name = "Item 3";
+		} );
+	}
+
+	@Test
+	void testTupleResults(SessionFactoryScope factoryScope) {
+		factoryScope.inTransaction( session -> {
+			final var subscriber = new CollectingSubscriber<Tuple>();
+			session.createQuery( "select i as item, i.name as name from Item i where i.id <= 5 order by i.id", Tuple.class )
+					.getResultPublisher()
+					.subscribe( subscriber );
+			subscriber.subscription.request( 10 );
+			assertThat( subscriber.results ).hasSize( 5 );
+			assertThat( subscriber.completed ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isZero();
+		} );
+	}
+
+	private static class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+		final List<T> results = new ArrayList<>();
+		Flow.Subscription subscription;
+		boolean completed;
+		Throwable error;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T item) {
+			results.add( item );
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+	@Entity(name = "Item")
+	static class Item {
+		@Id
+		Long id;
+		String name;
+
+		Item() {
+		}
+
+		Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
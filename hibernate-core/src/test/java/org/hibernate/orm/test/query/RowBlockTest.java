@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests reading query results in columnar row blocks, see {@link QuerySettings#QUERY_ROW_BLOCK_SIZE}.
+ * The block size is deliberately not a divisor of the number of rows.
+ */
+@DomainModel(annotatedClasses = RowBlockTest.ReportLine.class)
+@ServiceRegistry(settings = @Setting(name = QuerySettings.QUERY_ROW_BLOCK_SIZE, value = "4"))
+@SessionFactory
+public class RowBlockTest {
+	private static final int ROW_COUNT = 10;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				session.persist( new ReportLine(
+						(long) i,
+						i % 3 == 0 ? null : i * 10,
+						i * 0.5d,
+						i % 2 == 0 ? null : "line-" + i
+				) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testTuples(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select r.id, r.quantity, r.amount, r.label from ReportLine r order by r.id",
+					Object[].class
+			).getResultList();
+			assertThat( rows ).hasSize( ROW_COUNT );
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				final Object[] row = rows.get( i - 1 );
+				assertThat( row[0] ).isEqualTo( (long) i );
+				assertThat( row[1] ).isEqualTo( i % 3 == 0 ? null : i * 10 );
+				assertThat( row[2] ).isEqualTo( i * 0.5d );
+				assertThat( row[3] ).isEqualTo( i % 2 == 0 ? null : "line-" + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testSingleColumn(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Integer> quantities = session.createSelectionQuery(
+					"select r.quantity from ReportLine r order by r.id",
+					Integer.class
+			).getResultList();
+			assertThat( quantities ).containsExactly( 10, 20, null, 40, 50, null, 70, 80, null, 100 );
+		} );
+	}
+
+	@Test
+	public void testPrimitiveArrays(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<double[]> rows = session.createSelectionQuery(
+					"select r.amount, r.amount * 2 from ReportLine r order by r.id",
+					double[].class
+			).getResultList();
+			assertThat( rows ).hasSize( ROW_COUNT );
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				assertThat( rows.get( i - 1 ) ).containsExactly( i * 0.5d, i * 1d );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<ReportLine> lines = session.createSelectionQuery(
+					"from ReportLine r order by r.id",
+					ReportLine.class
+			).getResultList();
+			assertThat( lines ).extracting( line -> line.id )
+					.containsExactly( 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L );
+			assertThat( lines.get( 2 ).quantity ).isNull();
+			assertThat( lines.get( 4 ).label ).isEqualTo( "line-5" );
+		} );
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			try ( ScrollableResults<Long> results = session.createSelectionQuery(
+					"select r.id from ReportLine r order by r.id",
+					Long.class
+			).scroll( ScrollMode.SCROLL_INSENSITIVE ) ) {
+				assertThat( results.last() ).isTrue();
+				assertThat( results.get() ).isEqualTo( (long) ROW_COUNT );
+				assertThat( results.previous() ).isTrue();
+				assertThat( results.get() ).isEqualTo( ROW_COUNT - 1L );
+			}
+		} );
+	}
+
+	@Entity(name = "ReportLine")
+	public static class ReportLine {
+		@Id
+		Long id;
+		Integer quantity;
+		double amount;
+		String label;
+
+		public ReportLine() {
+		}
+
+		public ReportLine(Long id, Integer quantity, double amount, String label) {
+			this.id = id;
+			this.quantity = quantity;
+			this.amount = amount;
+			this.label = label;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests projections of basic values only, which are read without initializers
+ * and, depending on the result type, reusing a single row array.
+ */
+@DomainModel(annotatedClasses = ScalarProjectionTest.Trade.class)
+@SessionFactory
+public class ScalarProjectionTest {
+	private static final int ROW_COUNT = 5;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				session.persist( new Trade( (long) i, i % 2 == 0 ? null : "SYM" + i, i * 10 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testTuples(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select t.id, t.symbol, t.quantity from Trade t order by t.id",
+					Object[].class
+			).getResultList();
+			assertThat( rows ).hasSize( ROW_COUNT );
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				assertThat( rows.get( i - 1 ) ).containsExactly( (long) i, i % 2 == 0 ? null : "SYM" + i, i * 10 );
+			}
+		} );
+	}
+
+	@Test
+	public void testRecords(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<TradeSummary> rows = session.createSelectionQuery(
+					"select t.id, t.symbol, t.quantity from Trade t order by t.id",
+					TradeSummary.class
+			).getResultList();
+			assertThat( rows ).containsExactly(
+					new TradeSummary( 1L, "SYM1", 10 ),
+					new TradeSummary( 2L, null, 20 ),
+					new TradeSummary( 3L, "SYM3", 30 ),
+					new TradeSummary( 4L, null, 40 ),
+					new TradeSummary( 5L, "SYM5", 50 )
+			);
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testLists(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<List> rows = session.createSelectionQuery(
+					"select t.id, t.quantity from Trade t order by t.id",
+					List.class
+			).getResultList();
+			assertThat( rows ).containsExactly(
+					List.of( 1L, 10 ),
+					List.of( 2L, 20 ),
+					List.of( 3L, 30 ),
+					List.of( 4L, 40 ),
+					List.of( 5L, 50 )
+			);
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testMaps(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Map> rows = session.createSelectionQuery(
+					"select t.id as id, t.quantity as quantity from Trade t order by t.id",
+					Map.class
+			).getResultList();
+			assertThat( rows ).hasSize( ROW_COUNT );
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				assertThat( rows.get( i - 1 ) ).isEqualTo( Map.of( "id", (long) i, "quantity", i * 10 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testJpaTuples(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Tuple> rows = session.createSelectionQuery(
+					"select t.id as id, t.symbol as symbol from Trade t order by t.id",
+					Tuple.class
+			).getResultList();
+			assertThat( rows ).hasSize( ROW_COUNT );
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				assertThat( rows.get( i - 1 ).get( "id" ) ).isEqualTo( (long) i );
+				assertThat( rows.get( i - 1 ).get( "symbol" ) ).isEqualTo( i % 2 == 0 ? null : "SYM" + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testSingleColumn(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<String> symbols = session.createSelectionQuery(
+					"select t.symbol from Trade t order by t.id",
+					String.class
+			).getResultList();
+			assertThat( symbols ).containsExactly( "SYM1", null, "SYM3", null, "SYM5" );
+		} );
+	}
+
+	public record TradeSummary(Long id, String symbol, int quantity) {
+	}
+
+	@Entity(name = "Trade")
+	public static class Trade {
+		@Id
+		Long id;
+		String symbol;
+		int quantity;
+
+		public Trade() {
+		}
+
+		public Trade(Long id, String symbol, int quantity) {
+			this.id = id;
+			this.symbol = symbol;
+			this.quantity = quantity;
+		}
+	}
+}
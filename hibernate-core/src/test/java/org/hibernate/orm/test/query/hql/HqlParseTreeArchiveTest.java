@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+
+import org.hibernate.grammars.hql.HqlParser;
+import org.hibernate.query.hql.internal.HqlParseTreeArchive;
+import org.hibernate.query.hql.internal.HqlParseTreeBuilder;
+import org.hibernate.query.hql.internal.StandardHqlTranslator;
+import org.hibernate.query.sqm.internal.SqmCreationOptionsStandard;
+import org.hibernate.query.sqm.tree.spi.select.SqmSelectStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the archive of precompiled HQL parse trees.
+ *
+ * @see org.hibernate.cfg.QuerySettings#HQL_PARSE_TREE_ARCHIVE
+ */
+@DomainModel(annotatedClasses = HqlParseTreeArchiveTest.Book.class)
+@SessionFactory
+public class HqlParseTreeArchiveTest {
+	private static final List<String> QUERIES = List.of(
+			"select b from Book b where b.title like :title order by b.id",
+			"select cast(b.id as String), upper(b.title) from Book b where b.id in (?1, ?2)",
+			"select b.title from Book b union select `title` from Book where id > 5",
+			"with recent as (select b.id as id from Book b where b.published > {d '2020-01-01'}) select count(*) from recent",
+			"update Book b set b.title = concat(b.title, '!') where b.id = :id",
+			"delete from Book where title is null"
+	);
+
+	@Test
+	void testRoundTrip() throws IOException {
+		final var writer = new HqlParseTreeArchive.Writer();
+		for ( String hql : QUERIES ) {
+			assertThat( writer.add( hql ) ).isTrue();
+		}
+		// queries which do not parse are left to be reported at runtime
+		assertThat( writer.add( "select from where" ) ).isFalse();
+
+		final HqlParseTreeArchive archive = roundTrip( writer );
+		assertThat( archive.size() ).isEqualTo( QUERIES.size() );
+		for ( String hql : QUERIES ) {
+			final var hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser(
+					hql,
+					HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql )
+			);
+			final HqlParser.StatementContext parsed = hqlParser.statement();
+			final HqlParser.StatementContext archived = archive.getParseTree( hql );
+			assertThat( archived ).isNotNull();
+			assertThat( archived.toStringTree( hqlParser ) ).isEqualTo( parsed.toStringTree( hqlParser ) );
+			assertThat( archived.getText() ).isEqualTo( parsed.getText() );
+			// a query is rebuilt from the archive just once
+			assertThat( archive.contains( hql ) ).isFalse();
+			assertThat( archive.getParseTree( hql ) ).isNull();
+		}
+		assertThat( archive.size() ).isZero();
+		assertThat( archive.getParseTree( "select b from Book b" ) ).isNull();
+	}
+
+	@Test
+	void testMerge() throws IOException {
+		// archives of distinct modules, each numbering the node types it uses in its own way
+		final var first = new HqlParseTreeArchive.Writer();
+		final var second = new HqlParseTreeArchive.Writer();
+		for ( int i = 0; i < QUERIES.size(); i++ ) {
+			( i < 3 ? first : second ).add( QUERIES.get( i ) );
+		}
+		second.add( QUERIES.get( 0 ) );
+
+		final HqlParseTreeArchive archive = HqlParseTreeArchive.merge( List.of( roundTrip( first ), roundTrip( second ) ) );
+		assertThat( archive.size() ).isEqualTo( QUERIES.size() );
+		for ( String hql : QUERIES ) {
+			final var hqlParser = HqlParseTreeBuilder.INSTANCE.buildHqlParser(
+					hql,
+					HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql )
+			);
+			final HqlParser.StatementContext archived = archive.getParseTree( hql );
+			assertThat( archived ).isNotNull();
+			assertThat( archived.toStringTree( hqlParser ) ).isEqualTo( hqlParser.statement().toStringTree( hqlParser ) );
+		}
+		assertThat( archive.size() ).isZero();
+	}
+
+	@Test
+	void testNamedQueries(SessionFactoryScope factoryScope) throws IOException {
+		final var writer = new HqlParseTreeArchive.Writer();
+		assertThat( writer.addNamedQueries( Book.class ) ).isEqualTo( 2 );
+		final HqlParseTreeArchive archive = roundTrip( writer );
+		assertThat( archive.contains( "select b from Book b where b.title = :title" ) ).isTrue();
+
+		final var sessionFactory = factoryScope.getSessionFactory();
+		final var translator = new StandardHqlTranslator(
+				sessionFactory.getQueryEngine().getCriteriaBuilder(),
+				new SqmCreationOptionsStandard( sessionFactory.getSessionFactoryOptions() ),
+				archive
+		);
+		final var statement = translator.translate( "select b from Book b where b.title = :title", Book.class );
+		assertThat( statement ).isInstanceOf( SqmSelectStatement.class );
+		assertThat( statement.getSqmParameters() ).hasSize( 1 );
+
+		factoryScope.inTransaction( session -> {
+			session.persist( new Book( 1, "Persistence" ) );
+			assertThat( session.createNamedQuery( "Book.byTitle", Book.class )
+					.setParameter( "title", "Persistence" )
+					.getSingleResult().id ).isEqualTo( 1 );
+		} );
+		factoryScope.dropData();
+	}
+
+	private static HqlParseTreeArchive roundTrip(HqlParseTreeArchive.Writer writer) throws IOException {
+		final var bytes = new ByteArrayOutputStream();
+		writer.write( bytes );
+		return HqlParseTreeArchive.read( new ByteArrayInputStream( bytes.toByteArray() ) );
+	}
+
+	@Entity(name = "Book")
+	@NamedQueries({
+			@NamedQuery(name = "Book.byTitle", query = "select b from Book b where b.title = :title"),
+			@NamedQuery(name = "Book.count", query = "select count(b) from Book b")
+	})
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		java.time.LocalDate published;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.readonly;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.Status;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that entities assembled from the second-level cache in read-only
+ * mode, or of an immutable type, don't keep a snapshot of their state.
+ */
+@DomainModel(annotatedClasses = {
+		ReadOnlyCachedEntityTest.Document.class,
+		ReadOnlyCachedEntityTest.Country.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ReadOnlyCachedEntityTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Document( 1L, new byte[] {1, 2, 3} ) );
+			session.persist( new Country( "CH", "Switzerland" ) );
+		} );
+		// populate the second-level cache
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.inSession( session -> {
+			session.find( Document.class, 1L );
+			session.find( Country.class, "CH" );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testReadOnlySession(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final var document = session.find( Document.class, 1L );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+			final var entry = session.getPersistenceContextInternal().getEntry( document );
+			assertThat( entry.getStatus() ).isEqualTo( Status.READ_ONLY );
+			assertThat( entry.getLoadedState() ).isNull();
+			assertThat( session.getPersistenceContextInternal().getEntityHolder( entry.getEntityKey() )
+					.getEntityEntry() ).isSameAs( entry );
+
+			// changes are ignored while the entity is read-only
+			document.content[0] = 7;
+			session.flush();
+
+			// a snapshot is taken when the entity is made modifiable
+			session.setReadOnly( document, false );
+			assertThat( entry.getLoadedState() ).isNotNull();
+			document.content[1] = 8;
+		} );
+		scope.inSession( session -> {
+			session.getSessionFactory().getCache().evictAllRegions();
+			assertThat( session.find( Document.class, 1L ).content ).containsExactly( 7, 8, 3 );
+		} );
+	}
+
+	@Test
+	public void testModifiableSession(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final var document = session.find( Document.class, 1L );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+			final var entry = session.getPersistenceContextInternal().getEntry( document );
+			assertThat( entry.getStatus() ).isEqualTo( Status.MANAGED );
+			assertThat( entry.getLoadedState() ).isNotNull();
+			// the snapshot must not be affected by changes to the entity
+			document.content[0] = 9;
+		} );
+		scope.inSession( session -> {
+			session.getSessionFactory().getCache().evictAllRegions();
+			assertThat( session.find( Document.class, 1L ).content ).containsExactly( 9, 2, 3 );
+		} );
+	}
+
+	@Test
+	public void testImmutableEntity(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( session -> {
+			final var country = session.find( Country.class, "CH" );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+			assertThat( session.isReadOnly( country ) ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getEntry( country ).getLoadedState() ).isNull();
+		} );
+	}
+
+	@Entity(name = "Document")
+	@Cacheable
+	static class Document {
+		@Id
+		Long id;
+		byte[] content;
+
+		Document() {
+		}
+
+		Document(Long id, byte[] content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Immutable
+	@Cacheable
+	static class Country {
+		@Id
+		String code;
+		String name;
+
+		Country() {
+		}
+
+		Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Transient;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.StatelessSessionImplementor;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#bulkInsert}, which uses {@code COPY}
+ * on PostgreSQL, and falls back to batched inserts on other databases.
+ */
+@DomainModel(annotatedClasses = {
+		StatelessSessionBulkInsertTest.Reading.class,
+		StatelessSessionBulkInsertTest.Note.class,
+		StatelessSessionBulkInsertTest.Moment.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class StatelessSessionBulkInsertTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testBulkInsert(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		final List<Reading> readings = new ArrayList<>();
+		for ( int i = 0; i < 100; i++ ) {
+			readings.add( new Reading( i ) );
+		}
+		inspector.clear();
+		final var available = new AtomicBoolean();
+		scope.inStatelessTransaction( session -> {
+			session.bulkInsert( readings );
+			available.set( isBulkInsertAvailable( session ) );
+		} );
+
+		assertThat( readings ).allMatch( reading -> reading.prePersist && reading.postPersist );
+		assertThat( readings ).extracting( reading -> reading.id ).doesNotContainNull().doesNotHaveDuplicates();
+		final boolean copied = inspector.getSqlQueries().stream()
+				.anyMatch( sql -> sql.toLowerCase().startsWith( "copy " ) );
+		assertThat( copied ).isEqualTo( available.get() );
+
+		scope.inStatelessTransaction( session -> {
+			final var loaded =
+					session.createSelectionQuery( "from Reading order by id", Reading.class ).getResultList();
+			assertThat( loaded ).hasSize( readings.size() );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				final var expected = readings.get( i );
+				final var actual = loaded.get( i );
+				assertThat( actual.id ).isEqualTo( expected.id );
+				assertThat( actual.text ).isEqualTo( expected.text );
+				assertThat( actual.amount ).isEqualByComparingTo( expected.amount );
+				assertThat( actual.takenOn ).isEqualTo( expected.takenOn );
+				assertThat( actual.recorded ).isEqualTo( expected.recorded );
+				assertThat( actual.reference ).isEqualTo( expected.reference );
+				assertThat( actual.payload ).isEqualTo( expected.payload );
+				assertThat( actual.valid ).isEqualTo( expected.valid );
+				assertThat( actual.quantity ).isEqualTo( expected.quantity );
+			}
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+	public void testBulkInsertWithIdentity(SessionFactoryScope scope) {
+		final var first = new Reading( 1 );
+		final var note = new Note( "between" );
+		final var second = new Reading( 2 );
+		scope.inStatelessTransaction( session -> session.bulkInsert( List.of( first, note, second ) ) );
+
+		assertThat( first.id ).isNotNull();
+		assertThat( note.id ).isNotNull();
+		assertThat( second.id ).isNotNull();
+		assertThat( note.postPersist ).isTrue();
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.get( Reading.class, first.id ).text ).isEqualTo( first.text );
+			assertThat( session.get( Note.class, note.id ).text ).isEqualTo( "between" );
+			assertThat( session.get( Reading.class, second.id ).text ).isEqualTo( second.text );
+		} );
+	}
+
+	@Test
+	@RequiresDialect(PostgreSQLDialect.class)
+	public void testBulkInsertTemporalValues(SessionFactoryScope scope) {
+		final var moments = List.of(
+				// fractional seconds
+				new Moment( 1L, LocalDate.of( 2024, 2, 29 ), LocalTime.of( 10, 15, 30, 123_456_000 ),
+						LocalDateTime.of( 2024, 2, 29, 10, 15, 30, 123_456_000 ),
+						OffsetDateTime.of( 2024, 2, 29, 10, 15, 30, 500_000_000, ZoneOffset.ofHoursMinutes( -3, -30 ) ),
+						Instant.parse( "2024-02-29T10:15:30.000001Z" ) ),
+				// years before 1 AD, the ISO year 0 being 1 BC
+				new Moment( 2L, LocalDate.of( -43, 3, 15 ), LocalTime.MIDNIGHT,
+						LocalDateTime.of( 0, 12, 31, 23, 59, 59 ),
+						OffsetDateTime.of( -43, 3, 15, 12, 0, 0, 0, ZoneOffset.UTC ),
+						Instant.parse( "-0043-03-15T12:00:00Z" ) ),
+				// years with five digits
+				new Moment( 3L, LocalDate.of( 12345, 6, 7 ), LocalTime.MAX.withNano( 999_999_000 ),
+						LocalDateTime.of( 12345, 6, 7, 8, 9, 10 ),
+						OffsetDateTime.of( 12345, 6, 7, 8, 9, 10, 0, ZoneOffset.ofHours( 2 ) ),
+						Instant.parse( "+12345-06-07T08:09:10Z" ) )
+		);
+		final var available = new AtomicBoolean();
+		scope.inStatelessTransaction( session -> {
+			session.bulkInsert( moments );
+			available.set( isBulkInsertAvailable( session ) );
+		} );
+		assertThat( available ).isTrue();
+
+		scope.inStatelessTransaction( session -> {
+			final var loaded =
+					session.createSelectionQuery( "from Moment order by id", Moment.class ).getResultList();
+			assertThat( loaded ).hasSize( moments.size() );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				final var expected = moments.get( i );
+				final var actual = loaded.get( i );
+				assertThat( actual.date ).isEqualTo( expected.date );
+				assertThat( actual.time ).isEqualTo( expected.time );
+				assertThat( actual.dateTime ).isEqualTo( expected.dateTime );
+				assertThat( actual.offsetDateTime ).isAtSameInstantAs( expected.offsetDateTime );
+				assertThat( actual.instant ).isEqualTo( expected.instant );
+			}
+		} );
+	}
+
+	private static boolean isBulkInsertAvailable(StatelessSessionImplementor session) {
+		final var bulkInsertSupport = session.getJdbcServices().getDialect().getBulkInsertSupport();
+		return bulkInsertSupport != null && bulkInsertSupport.isAvailable( session );
+	}
+
+	@Entity(name = "Reading")
+	static class Reading {
+		@Id
+		@GeneratedValue
+		Long id;
+		String text;
+		BigDecimal amount;
+		LocalDate takenOn;
+		LocalDateTime recorded;
+		UUID reference;
+		byte[] payload;
+		boolean valid;
+		Integer quantity;
+
+		@Transient
+		boolean prePersist;
+		@Transient
+		boolean postPersist;
+
+		Reading() {
+		}
+
+		Reading(int i) {
+			// characters which must be escaped in the text format of COPY
+			text = "Reading\t" + i + "\nwith \\ backslash";
+			amount = new BigDecimal( "1234.56" ).add( BigDecimal.valueOf( i ) );
+			takenOn = LocalDate.of( 2024, 1, 1 ).plusDays( i );
+			recorded = LocalDateTime.of( 2024, 1, 1, 12, 30, 15 ).plusMinutes( i );
+			reference = UUID.randomUUID();
+			payload = new byte[] { (byte) i, 0, (byte) 0xff };
+			valid = i % 2 == 0;
+			quantity = i % 3 == 0 ? null : i;
+		}
+
+		@PrePersist
+		void prePersist() {
+			prePersist = true;
+		}
+
+		@PostPersist
+		void postPersist() {
+			postPersist = true;
+		}
+	}
+
+	@Entity(name = "Moment")
+	static class Moment {
+		@Id
+		Long id;
+		LocalDate date;
+		LocalTime time;
+		LocalDateTime dateTime;
+		OffsetDateTime offsetDateTime;
+		Instant instant;
+
+		Moment() {
+		}
+
+		Moment(Long id, LocalDate date, LocalTime time, LocalDateTime dateTime, OffsetDateTime offsetDateTime, Instant instant) {
+			this.id = id;
+			this.date = date;
+			this.time = time;
+			this.dateTime = dateTime;
+			this.offsetDateTime = offsetDateTime;
+			this.instant = instant;
+		}
+	}
+
+	@Entity(name = "Note")
+	static class Note {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String text;
+
+		@Transient
+		boolean postPersist;
+
+		Note() {
+		}
+
+		Note(String text) {
+			this.text = text;
+		}
+
+		@PostPersist
+		void postPersist() {
+			postPersist = true;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import org.hibernate.dialect.Dialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the generation of the identifiers of the entities passed to
+ * {@link org.hibernate.StatelessSession#insertMultiple} in bulk.
+ */
+@DomainModel(annotatedClasses = StatelessSessionInsertMultipleSequenceTest.Book.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsSequences.class)
+public class StatelessSessionInsertMultipleSequenceTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+	}
+
+	@Test
+	public void testInsertMultiple(SessionFactoryScope scope) {
+		final var inspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			session.insertMultiple( books( 23 ) );
+			inspector.clear();
+
+			final List<Book> books = books( 23 );
+			session.insertMultiple( books );
+			assertThat( books ).extracting( book -> book.id ).doesNotContainNull().doesNotHaveDuplicates();
+			final long sequenceQueries = inspector.getSqlQueries().stream()
+					.filter( sql -> sql.toLowerCase().contains( "book_seq" ) )
+					.count();
+			final Dialect dialect = scope.getSessionFactory().getJdbcServices().getDialect();
+			if ( dialect.getSequenceSupport().getSequenceNextValuesString( "book_seq" ) != null ) {
+				// the values needed for the remaining ids are fetched at once
+				assertThat( sequenceQueries ).isEqualTo( 1 );
+			}
+			else {
+				assertThat( sequenceQueries ).isEqualTo( 4 );
+			}
+		} );
+		scope.inStatelessTransaction( session ->
+				assertThat( session.createSelectionQuery( "select count(*) from Book", Long.class )
+						.getSingleResult() ).isEqualTo( 46L ) );
+	}
+
+	private static List<Book> books(int count) {
+		return IntStream.range( 0, count ).mapToObj( i -> new Book( "Book " + i ) ).toList();
+	}
+
+	@Entity(name = "Book")
+	static class Book {
+		@Id
+		@GeneratedValue
+		@SequenceGenerator(sequenceName = "book_seq", allocationSize = 5)
+		Long id;
+		String title;
+
+		Book() {
+		}
+
+		Book(String title) {
+			this.title = title;
+		}
+	}
+}
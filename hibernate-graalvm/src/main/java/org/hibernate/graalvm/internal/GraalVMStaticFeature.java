@@ -6,7 +6,9 @@
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 
 import org.graalvm.nativeimage.hosted.RuntimeClassInitialization;
 import org.hibernate.internal.util.ReflectHelper;
@@ -38,6 +40,7 @@ public void beforeAnalysis(Feature.BeforeAnalysisAccess before) {
 		final Class<?>[] needsHavingSimpleConstructors = StaticClassLists.typesNeedingDefaultConstructorAccessible();
 		final Class<?>[] needingAllConstructorsAccessible = StaticClassLists.typesNeedingAllConstructorsAccessible();
 		final Class<?>[] typesNeedingRuntimeInitialization = StaticClassLists.typesNeedingRuntimeInitialization();
+		final Class<?>[] needingPublicConstructorsAndFieldsAccessible = StaticClassLists.typesNeedingPublicConstructorsAndFieldsAccessible();
 		//Size formula is just a reasonable guess:
 		ArrayList<Executable> executables = new ArrayList<>( needsHavingSimpleConstructors.length + needingAllConstructorsAccessible.length * 3 );
 		for ( Class<?> c : needsHavingSimpleConstructors ) {
@@ -48,10 +51,17 @@ public void beforeAnalysis(Feature.BeforeAnalysisAccess before) {
 				executables.add( declaredConstructor );
 			}
 		}
+		final ArrayList<Field> fields = new ArrayList<>();
+		for ( Class<?> c : needingPublicConstructorsAndFieldsAccessible ) {
+			Collections.addAll( executables, c.getConstructors() );
+			Collections.addAll( fields, c.getFields() );
+		}
 		RuntimeReflection.register( needsHavingSimpleConstructors );
+		RuntimeReflection.register( needingPublicConstructorsAndFieldsAccessible );
 		RuntimeReflection.register( needingAllConstructorsAccessible );
 		RuntimeReflection.register( StaticClassLists.typesNeedingArrayCopy() );
 		RuntimeReflection.register( executables.toArray(new Executable[0]) );
+		RuntimeReflection.register( fields.toArray(new Field[0]) );
 
 		RuntimeClassInitialization.initializeAtRunTime( typesNeedingRuntimeInitialization );
 	}
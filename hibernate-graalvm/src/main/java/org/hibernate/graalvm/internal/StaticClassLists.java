@@ -5,6 +5,7 @@
 package org.hibernate.graalvm.internal;
 
 
+import org.hibernate.grammars.hql.HqlParser;
 import org.hibernate.tool.schema.internal.script.MultiLineSqlScriptExtractor;
 
 /**
@@ -76,6 +77,15 @@ public static Class<?>[] typesNeedingArrayCopy() {
 		};
 	}
 
+	/**
+	 * The generated contexts of the rules of the HQL parser, which are instantiated, and whose
+	 * public fields are set, via method handles when rebuilding the parse trees of an
+	 * {@link org.hibernate.query.hql.internal.HqlParseTreeArchive}.
+	 */
+	public static Class<?>[] typesNeedingPublicConstructorsAndFieldsAccessible() {
+		return HqlParser.class.getClasses();
+	}
+
 	/**
 	 * The classes listed below use a SecureRandom. We need to avoid static initialization at build time of these,
 	 * for it will trigger an error in GraalVM native images.
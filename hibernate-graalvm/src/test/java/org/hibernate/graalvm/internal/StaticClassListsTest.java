@@ -222,6 +222,15 @@ void checkDefaultConstructorsAreAvailable() {
 			}
 		}
 
+		@Test
+		void checkParseTreeTypesHavePublicConstructors() {
+			var classes = StaticClassLists.typesNeedingPublicConstructorsAndFieldsAccessible();
+			Assert.assertTrue( classes.length > 0 );
+			for ( var c : classes ) {
+				Assert.assertTrue( "No public constructor for type: " + c.getName(), c.getConstructors().length > 0 );
+			}
+		}
+
 		@Test
 		public void checkArraysAreArrays() {
 			var classes = StaticClassLists.typesNeedingArrayCopy();
@@ -334,6 +334,22 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+
+		// Flush plan cache
+		counter(registry, "hibernate.cache.flush.plan", "The global number of flush plans successfully retrieved from cache",
+				Statistics::getFlushPlanCacheHitCount, "result", "hit"
+		);
+		counter(registry, "hibernate.cache.flush.plan", "The global number of flush plan lookups not found in cache",
+				Statistics::getFlushPlanCacheMissCount, "result", "miss"
+		);
+
+		// Query plan warm-up
+		counter(registry, "hibernate.query.plan.warmup", "The global number of query plans built ahead of their first execution",
+				Statistics::getQueryPlanWarmupCount, "result", "success"
+		);
+		counter(registry, "hibernate.query.plan.warmup", "The global number of query plans which could not be built ahead of their first execution",
+				Statistics::getQueryPlanWarmupFailureCount, "result", "failure"
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap;
+
+/**
+ * Configuration settings of the off-heap caching provider.
+ * <p>
+ * Each sizing setting applies to every region, and may be overridden for a given
+ * region by inserting the unqualified region name after the prefix, for example
+ * {@code hibernate.cache.offheap.com.acme.Order.max_bytes}.
+ *
+ * @since 8.1
+ */
+public interface ConfigSettings {
+	String SIMPLE_FACTORY_NAME = "offheap";
+
+	String PROP_PREFIX = "hibernate.cache.offheap.";
+
+	/**
+	 * The maximum number of bytes of off-heap memory a region may use to store
+	 * cached values. Once reached, the least recently used entries are evicted.
+	 * <p>
+	 * Default value is {@value #DEFAULT_MAX_BYTES}, that is, 64 MiB.
+	 */
+	String MAX_BYTES = PROP_PREFIX + "max_bytes";
+
+	/**
+	 * The maximum number of entries a region may hold. Once reached, the least
+	 * recently used entries are evicted.
+	 * <p>
+	 * Default value is {@code 0}, meaning the number of entries is only bounded
+	 * by {@link #MAX_BYTES}.
+	 */
+	String MAX_ENTRIES = PROP_PREFIX + "max_entries";
+
+	/**
+	 * The size in bytes of the slabs of off-heap memory allocated by a region,
+	 * which is also the size of the largest value it can store.
+	 * <p>
+	 * Default value is {@value #DEFAULT_SLAB_SIZE}, that is, 1 MiB.
+	 */
+	String SLAB_SIZE = PROP_PREFIX + "slab_size";
+
+	long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	int DEFAULT_SLAB_SIZE = 1024 * 1024;
+}
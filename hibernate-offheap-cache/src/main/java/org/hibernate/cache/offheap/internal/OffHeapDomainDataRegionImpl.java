@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import jakarta.annotation.Nonnull;
+
+import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * A domain data region storing its entries off-heap, and reporting the
+ * memory they occupy as {@linkplain ExtendedStatisticsSupport extended statistics}.
+ *
+ * @since 8.1
+ */
+public class OffHeapDomainDataRegionImpl extends DomainDataRegionImpl implements ExtendedStatisticsSupport {
+
+	public OffHeapDomainDataRegionImpl(
+			DomainDataRegionConfig regionConfig,
+			RegionFactoryTemplate regionFactory,
+			OffHeapStorageAccess storageAccess,
+			CacheKeysFactory defaultKeysFactory,
+			DomainDataRegionBuildingContext buildingContext) {
+		super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+	}
+
+	@Override
+	@Nonnull
+	public OffHeapStorageAccess getCacheStorageAccess() {
+		return (OffHeapStorageAccess) super.getCacheStorageAccess();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return getCacheStorageAccess().getStore().size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return getCacheStorageAccess().getStore().usedBytes();
+	}
+
+	@Override
+	@Nonnull
+	protected EntityDataAccess generateTransactionalEntityDataAccess(@Nonnull EntityDataCachingConfig entityAccessConfig) {
+		logNonStandardTransactionalSupport();
+		return super.generateTransactionalEntityDataAccess( entityAccessConfig );
+	}
+
+	@Override
+	@Nonnull
+	protected NaturalIdDataAccess generateTransactionalNaturalIdDataAccess(@Nonnull NaturalIdDataCachingConfig accessConfig) {
+		logNonStandardTransactionalSupport();
+		return super.generateTransactionalNaturalIdDataAccess( accessConfig );
+	}
+
+	@Override
+	@Nonnull
+	protected CollectionDataAccess generateTransactionalCollectionDataAccess(@Nonnull CollectionDataCachingConfig accessConfig) {
+		logNonStandardTransactionalSupport();
+		return super.generateTransactionalCollectionDataAccess( accessConfig );
+	}
+
+	private void logNonStandardTransactionalSupport() {
+		L2CACHE_LOGGER.nonStandardSupportForAccessType(
+				getName(),
+				AccessType.TRANSACTIONAL.getExternalName(),
+				getRegionFactory().getClass().getSimpleName()
+		);
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import jakarta.annotation.Nonnull;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+
+/**
+ * A query results region storing its entries off-heap, and reporting the
+ * memory they occupy as {@linkplain ExtendedStatisticsSupport extended statistics}.
+ *
+ * @since 8.1
+ */
+public class OffHeapQueryResultsRegion extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+
+	public OffHeapQueryResultsRegion(String name, RegionFactory regionFactory, OffHeapStorageAccess storageAccess) {
+		super( name, regionFactory, storageAccess );
+	}
+
+	@Override
+	@Nonnull
+	public OffHeapStorageAccess getStorageAccess() {
+		return (OffHeapStorageAccess) super.getStorageAccess();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return getStorageAccess().getStore().size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return getStorageAccess().getStore().usedBytes();
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.annotation.Nonnull;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} storing the entries of the
+ * domain data and query results regions {@linkplain OffHeapStore off-heap},
+ * serialized by the {@linkplain SessionFactoryOptions#getCacheEntrySerializer()
+ * cache entry serializer} of the session factory, so that large regions do not
+ * add to the work of the garbage collector.
+ * <p>
+ * Each region is bounded by the settings of {@link ConfigSettings}, and evicts
+ * its least recently used entries once full.
+ *
+ * @since 8.1
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	private final CacheKeysFactory cacheKeysFactory;
+
+	private volatile Map<String, Object> configValues;
+
+	@SuppressWarnings("unused")
+	public OffHeapRegionFactory() {
+		this( DefaultCacheKeysFactory.INSTANCE );
+	}
+
+	public OffHeapRegionFactory(@Nonnull CacheKeysFactory cacheKeysFactory) {
+		this.cacheKeysFactory = cacheKeysFactory;
+	}
+
+	@Override
+	@Nonnull
+	protected CacheKeysFactory getImplicitCacheKeysFactory() {
+		return cacheKeysFactory;
+	}
+
+	@Override
+	@Nonnull
+	public DomainDataRegion buildDomainDataRegion(
+			@Nonnull DomainDataRegionConfig regionConfig,
+			@Nonnull DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new OffHeapDomainDataRegionImpl(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				cacheKeysFactory,
+				buildingContext
+		);
+	}
+
+	@Override
+	@Nonnull
+	protected OffHeapStorageAccess createDomainDataStorageAccess(
+			@Nonnull DomainDataRegionConfig regionConfig,
+			@Nonnull DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapStorageAccess( createStore( regionConfig.getRegionName(), buildingContext.getSessionFactory() ) );
+	}
+
+	@Override
+	@Nonnull
+	public QueryResultsRegion buildQueryResultsRegion(
+			@Nonnull String regionName,
+			@Nonnull SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapQueryResultsRegion(
+				regionName,
+				this,
+				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	@Nonnull
+	protected OffHeapStorageAccess createQueryResultsRegionStorageAccess(
+			@Nonnull String regionName,
+			@Nonnull SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( createStore( regionName, sessionFactory ) );
+	}
+
+	@Override
+	@Nonnull
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			@Nonnull String regionName,
+			@Nonnull SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	protected OffHeapStore createStore(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		final long maxBytes = getSize( unqualifiedRegionName, ConfigSettings.MAX_BYTES, ConfigSettings.DEFAULT_MAX_BYTES );
+		final long maxEntries = getSize( unqualifiedRegionName, ConfigSettings.MAX_ENTRIES, 0 );
+		final long slabSize = getSize( unqualifiedRegionName, ConfigSettings.SLAB_SIZE, ConfigSettings.DEFAULT_SLAB_SIZE );
+		if ( slabSize > Integer.MAX_VALUE || slabSize > maxBytes ) {
+			throw new CacheException( "Slab size of region '" + unqualifiedRegionName
+					+ "' must not exceed " + Integer.MAX_VALUE + " bytes or the maximum size of the region" );
+		}
+		return new OffHeapStore(
+				sessionFactory.getSessionFactoryOptions().getCacheEntrySerializer(),
+				sessionFactory,
+				maxBytes,
+				maxEntries,
+				(int) slabSize
+		);
+	}
+
+	/**
+	 * The value of the given setting for the given region, defaulting to the
+	 * value of the setting for every region.
+	 */
+	private long getSize(String unqualifiedRegionName, String setting, long defaultValue) {
+		final String regionSetting =
+				ConfigSettings.PROP_PREFIX + unqualifiedRegionName + setting.substring( ConfigSettings.PROP_PREFIX.length() - 1 );
+		Object value = configValues.get( regionSetting );
+		if ( value == null ) {
+			value = configValues.get( setting );
+		}
+		if ( value == null ) {
+			return defaultValue;
+		}
+		else if ( value instanceof Number number ) {
+			return number.longValue();
+		}
+		else {
+			try {
+				return Long.parseLong( value.toString().trim() );
+			}
+			catch (NumberFormatException e) {
+				throw new CacheException( "Invalid value '" + value + "' for setting '" + setting + "'", e );
+			}
+		}
+	}
+
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Lifecycle
+
+	@Override
+	protected boolean isStarted() {
+		return super.isStarted() && configValues != null;
+	}
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String,Object> configValues) {
+		this.configValues = configValues == null ? Map.of() : new HashMap<>( configValues );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		// the regions release their own stores
+		configValues = null;
+	}
+}
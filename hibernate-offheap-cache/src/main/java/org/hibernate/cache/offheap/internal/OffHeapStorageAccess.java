@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess implementation wrapping an {@link OffHeapStore}.
+ *
+ * @since 8.1
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private final OffHeapStore store;
+
+	public OffHeapStorageAccess(@Nonnull OffHeapStore store) {
+		this.store = store;
+	}
+
+	@Nonnull
+	public OffHeapStore getStore() {
+		return store;
+	}
+
+	@Override
+	public boolean contains(@Nonnull Object key) {
+		return store.contains( key );
+	}
+
+	@Override
+	@Nullable
+	public Object getFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		return store.get( key );
+	}
+
+	@Override
+	public void putIntoCache(
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nonnull SharedSessionContractImplementor session) {
+		store.put( key, value );
+	}
+
+	@Override
+	public void removeFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		store.remove( key );
+	}
+
+	@Override
+	public void evictData(@Nonnull Object key) {
+		store.remove( key );
+	}
+
+	@Override
+	public void clearCache(@Nonnull SharedSessionContractImplementor session) {
+		store.clear();
+	}
+
+	@Override
+	public void evictData() {
+		store.clear();
+	}
+
+	@Override
+	public void release() {
+		store.release();
+	}
+}
@@ -0,0 +1,506 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A map of cached values stored outside the Java heap.
+ * <p>
+ * The keys stay on heap, in an index pointing to the location of the values,
+ * serialized by the {@link CacheEntrySerializer} of the session factory. The
+ * values are copied to chunks of direct {@link ByteBuffer} slabs,
+ * allocated on demand until the configured maximum number of bytes is reached.
+ * Like in memcached, each slab is assigned to a <em>size class</em>, and is cut
+ * into chunks of the size of its class, the size of each class being 25% larger
+ * than the previous one, so that a value is stored in the smallest chunk it fits
+ * in, and no memory is ever compacted.
+ * <p>
+ * When a value does not fit in a free chunk of its class, and no further slab
+ * may be allocated, an entry of its class is evicted following the CLOCK policy,
+ * which approximates LRU: every read of an entry sets its <em>referenced</em>
+ * bit, and the hand sweeping the chunks of the class evicts the first entry whose
+ * bit is not set, clearing it for the entries it passes. When a class has no slab
+ * yet, the last slab of the class owning the most slabs is emptied and reassigned.
+ * <p>
+ * Reads are performed under a shared lock, and every update under an exclusive lock.
+ * A {@linkplain CacheEntry#isReferenceEntry() reference entry}, which holds an entity
+ * instance, is kept on heap.
+ *
+ * @since 8.1
+ */
+public final class OffHeapStore {
+	private static final int MIN_CHUNK_SIZE = 64;
+	private static final double GROWTH_FACTOR = 1.25;
+
+	private final CacheEntrySerializer serializer;
+	private final SessionFactoryImplementor factory;
+	private final long maxBytes;
+	private final long maxEntries;
+	private final int slabSize;
+	private final SizeClass[] sizeClasses;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final HashMap<Object, Entry> index = new HashMap<>();
+	private long allocatedBytes;
+	private long usedBytes;
+	private long evictionCount;
+
+	public OffHeapStore(
+			CacheEntrySerializer serializer,
+			SessionFactoryImplementor factory,
+			long maxBytes,
+			long maxEntries,
+			int slabSize) {
+		if ( slabSize < MIN_CHUNK_SIZE ) {
+			throw new IllegalArgumentException( "Slab size must be at least " + MIN_CHUNK_SIZE + " bytes" );
+		}
+		this.serializer = serializer;
+		this.factory = factory;
+		this.maxBytes = maxBytes;
+		this.maxEntries = maxEntries;
+		this.slabSize = slabSize;
+		this.sizeClasses = sizeClasses( slabSize );
+	}
+
+	private static SizeClass[] sizeClasses(int slabSize) {
+		final List<SizeClass> classes = new ArrayList<>();
+		int size = MIN_CHUNK_SIZE;
+		while ( size < slabSize / 2 ) {
+			classes.add( new SizeClass( size, slabSize / size ) );
+			// 8 byte aligned
+			size = ( (int) ( size * GROWTH_FACTOR ) + 7 ) & ~7;
+		}
+		classes.add( new SizeClass( slabSize, 1 ) );
+		return classes.toArray( new SizeClass[0] );
+	}
+
+	/**
+	 * An entry of the index, describing where its value is stored.
+	 */
+	private static final class Entry {
+		private final Object key;
+		private final @Nullable Object heapValue;
+		private final @Nullable SizeClass sizeClass;
+		private final int chunk;
+		private final int length;
+		private boolean referenced;
+
+		private Entry(Object key, SizeClass sizeClass, int chunk, int length) {
+			this.key = key;
+			this.heapValue = null;
+			this.sizeClass = sizeClass;
+			this.chunk = chunk;
+			this.length = length;
+		}
+
+		private Entry(Object key, Object heapValue) {
+			this.key = key;
+			this.heapValue = heapValue;
+			this.sizeClass = null;
+			this.chunk = -1;
+			this.length = 0;
+		}
+	}
+
+	/**
+	 * The slabs of a given chunk size, with the owner of each of their chunks.
+	 */
+	private static final class SizeClass {
+		private final int chunkSize;
+		private final int chunksPerSlab;
+		private final List<ByteBuffer> slabs = new ArrayList<>();
+		private Entry[] owners = new Entry[0];
+		private int[] freeChunks = new int[0];
+		private int freeCount;
+		private int usedCount;
+		private int hand;
+
+		private SizeClass(int chunkSize, int chunksPerSlab) {
+			this.chunkSize = chunkSize;
+			this.chunksPerSlab = chunksPerSlab;
+		}
+
+		private int chunkCount() {
+			return slabs.size() * chunksPerSlab;
+		}
+
+		private ByteBuffer slab(int chunk) {
+			return slabs.get( chunk / chunksPerSlab );
+		}
+
+		private int offset(int chunk) {
+			return ( chunk % chunksPerSlab ) * chunkSize;
+		}
+
+		private void addSlab(ByteBuffer slab) {
+			final int first = chunkCount();
+			slabs.add( slab );
+			owners = Arrays.copyOf( owners, chunkCount() );
+			if ( freeChunks.length < owners.length ) {
+				freeChunks = Arrays.copyOf( freeChunks, owners.length );
+			}
+			// pushed in reverse, so that the chunks are used in order
+			for ( int chunk = chunkCount() - 1; chunk >= first; chunk-- ) {
+				freeChunks[freeCount++] = chunk;
+			}
+		}
+
+		private ByteBuffer removeLastSlab() {
+			final var slab = slabs.remove( slabs.size() - 1 );
+			final int limit = chunkCount();
+			int kept = 0;
+			for ( int i = 0; i < freeCount; i++ ) {
+				if ( freeChunks[i] < limit ) {
+					freeChunks[kept++] = freeChunks[i];
+				}
+			}
+			freeCount = kept;
+			owners = Arrays.copyOf( owners, limit );
+			if ( hand >= limit ) {
+				hand = 0;
+			}
+			return slab;
+		}
+	}
+
+	public @Nullable Object get(Object key) {
+		final byte[] bytes;
+		final var readLock = lock.readLock();
+		readLock.lock();
+		try {
+			final var entry = index.get( key );
+			if ( entry == null ) {
+				return null;
+			}
+			else {
+				entry.referenced = true;
+				final var sizeClass = entry.sizeClass;
+				if ( sizeClass == null ) {
+					return entry.heapValue;
+				}
+				else {
+					bytes = new byte[entry.length];
+					sizeClass.slab( entry.chunk ).get( sizeClass.offset( entry.chunk ), bytes );
+				}
+			}
+		}
+		finally {
+			readLock.unlock();
+		}
+		// deserialized outside the lock
+		return serializer.deserialize( bytes, factory );
+	}
+
+	public boolean contains(Object key) {
+		final var readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return index.containsKey( key );
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Store the given value, evicting other entries if needed. A value which
+	 * is too large to be stored is not cached at all.
+	 */
+	public void put(Object key, Object value) {
+		if ( isReference( value ) ) {
+			putEntry( key, new Entry( key, value ) );
+		}
+		else {
+			final byte[] bytes = serializer.serialize( value, factory );
+			final var writeLock = lock.writeLock();
+			writeLock.lock();
+			try {
+				final var sizeClass = sizeClass( bytes.length );
+				// the old value is released first, so that its chunk may be reused
+				release( index.remove( key ) );
+				if ( sizeClass != null ) {
+					final int chunk = allocate( sizeClass );
+					if ( chunk >= 0 ) {
+						sizeClass.slab( chunk ).put( sizeClass.offset( chunk ), bytes );
+						final var entry = new Entry( key, sizeClass, chunk, bytes.length );
+						sizeClass.owners[chunk] = entry;
+						index.put( key, entry );
+						enforceMaxEntries( sizeClass );
+					}
+				}
+			}
+			finally {
+				writeLock.unlock();
+			}
+		}
+	}
+
+	private static boolean isReference(Object value) {
+		final Object unwrapped = value instanceof AbstractReadWriteAccess.Item item ? item.getValue() : value;
+		return unwrapped instanceof CacheEntry entry && entry.isReferenceEntry();
+	}
+
+	private void putEntry(Object key, Entry entry) {
+		final var writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			release( index.put( key, entry ) );
+			enforceMaxEntries( null );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	public void remove(Object key) {
+		final var writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			release( index.remove( key ) );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove every entry, keeping the allocated slabs for reuse.
+	 */
+	public void clear() {
+		final var writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			index.clear();
+			for ( var sizeClass : sizeClasses ) {
+				Arrays.fill( sizeClass.owners, null );
+				sizeClass.freeCount = 0;
+				for ( int chunk = sizeClass.chunkCount() - 1; chunk >= 0; chunk-- ) {
+					sizeClass.freeChunks[sizeClass.freeCount++] = chunk;
+				}
+				sizeClass.usedCount = 0;
+				sizeClass.hand = 0;
+			}
+			usedBytes = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove every entry and drop every slab, leaving the off-heap memory
+	 * to be reclaimed by the garbage collector.
+	 */
+	public void release() {
+		final var writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			index.clear();
+			for ( var sizeClass : sizeClasses ) {
+				sizeClass.slabs.clear();
+				sizeClass.owners = new Entry[0];
+				sizeClass.freeChunks = new int[0];
+				sizeClass.freeCount = 0;
+				sizeClass.usedCount = 0;
+				sizeClass.hand = 0;
+			}
+			allocatedBytes = 0;
+			usedBytes = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private @Nullable SizeClass sizeClass(int length) {
+		if ( length > slabSize ) {
+			return null;
+		}
+		int low = 0;
+		int high = sizeClasses.length - 1;
+		while ( low < high ) {
+			final int middle = ( low + high ) >>> 1;
+			if ( sizeClasses[middle].chunkSize < length ) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+		return sizeClasses[low];
+	}
+
+	/**
+	 * Find a free chunk of the given class, allocating or reassigning a slab,
+	 * or evicting an entry if needed.
+	 *
+	 * @return the chunk, or {@code -1} if no memory could be found
+	 */
+	private int allocate(SizeClass sizeClass) {
+		if ( sizeClass.freeCount == 0 ) {
+			if ( allocatedBytes + slabSize <= maxBytes ) {
+				sizeClass.addSlab( ByteBuffer.allocateDirect( slabSize ) );
+				allocatedBytes += slabSize;
+			}
+			else if ( sizeClass.usedCount > 0 ) {
+				evict( sizeClass );
+			}
+			else {
+				reassignSlab( sizeClass );
+			}
+		}
+		if ( sizeClass.freeCount == 0 ) {
+			return -1;
+		}
+		else {
+			sizeClass.usedCount++;
+			usedBytes += sizeClass.chunkSize;
+			return sizeClass.freeChunks[--sizeClass.freeCount];
+		}
+	}
+
+	private void reassignSlab(SizeClass sizeClass) {
+		SizeClass donor = null;
+		for ( var candidate : sizeClasses ) {
+			if ( candidate != sizeClass
+					&& ( donor == null || candidate.slabs.size() > donor.slabs.size() ) ) {
+				donor = candidate;
+			}
+		}
+		if ( donor != null && !donor.slabs.isEmpty() ) {
+			final int limit = donor.chunkCount() - donor.chunksPerSlab;
+			for ( int chunk = limit; chunk < donor.chunkCount(); chunk++ ) {
+				final var owner = donor.owners[chunk];
+				if ( owner != null ) {
+					index.remove( owner.key );
+					release( owner );
+					evictionCount++;
+				}
+			}
+			sizeClass.addSlab( donor.removeLastSlab() );
+		}
+	}
+
+	/**
+	 * Evict the first entry of the given class not referenced since the hand
+	 * last passed it.
+	 */
+	private void evict(SizeClass sizeClass) {
+		final int chunkCount = sizeClass.chunkCount();
+		// after one full sweep every referenced bit is cleared
+		for ( int i = 0; i <= 2 * chunkCount; i++ ) {
+			final int chunk = sizeClass.hand;
+			sizeClass.hand = chunk + 1 == chunkCount ? 0 : chunk + 1;
+			final var owner = sizeClass.owners[chunk];
+			if ( owner != null ) {
+				if ( owner.referenced ) {
+					owner.referenced = false;
+				}
+				else {
+					index.remove( owner.key );
+					release( owner );
+					evictionCount++;
+					return;
+				}
+			}
+		}
+	}
+
+	private void enforceMaxEntries(@Nullable SizeClass preferred) {
+		while ( maxEntries > 0 && index.size() > maxEntries ) {
+			SizeClass victim = preferred != null && preferred.usedCount > 0 ? preferred : null;
+			for ( int i = 0; victim == null && i < sizeClasses.length; i++ ) {
+				if ( sizeClasses[i].usedCount > 0 ) {
+					victim = sizeClasses[i];
+				}
+			}
+			if ( victim == null ) {
+				// only entries kept on heap
+				return;
+			}
+			evict( victim );
+		}
+	}
+
+	private void release(@Nullable Entry entry) {
+		if ( entry != null && entry.sizeClass != null ) {
+			final var sizeClass = entry.sizeClass;
+			sizeClass.owners[entry.chunk] = null;
+			sizeClass.freeChunks[sizeClass.freeCount++] = entry.chunk;
+			sizeClass.usedCount--;
+			usedBytes -= sizeClass.chunkSize;
+		}
+	}
+
+	/**
+	 * The number of entries.
+	 */
+	public long size() {
+		final var readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return index.size();
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * The number of bytes of off-heap memory occupied by the stored values,
+	 * including the unused part of their chunks.
+	 */
+	public long usedBytes() {
+		final var readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return usedBytes;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * The number of bytes of off-heap memory allocated as slabs.
+	 */
+	public long allocatedBytes() {
+		final var readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return allocatedBytes;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * The number of entries evicted to make room for other entries.
+	 */
+	public long evictionCount() {
+		final var readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return evictionCount;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+}
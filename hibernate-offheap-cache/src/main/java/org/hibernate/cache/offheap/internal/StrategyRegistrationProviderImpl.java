@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import org.hibernate.boot.registry.selector.SimpleStrategyRegistrationImpl;
+import org.hibernate.boot.registry.selector.StrategyRegistration;
+import org.hibernate.boot.registry.selector.StrategyRegistrationProvider;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+
+import static java.util.Collections.singleton;
+
+/**
+ * Makes the off-heap RegionFactory available to the Hibernate
+ * {@link org.hibernate.boot.registry.selector.spi.StrategySelector} service
+ * under a number of keys.
+ *
+ * @since 8.1
+ */
+public final class StrategyRegistrationProviderImpl implements StrategyRegistrationProvider {
+
+	@Override
+	public Iterable<StrategyRegistration<?>> getStrategyRegistrations() {
+		return singleton( new SimpleStrategyRegistrationImpl<>(
+				RegionFactory.class,
+				OffHeapRegionFactory.class,
+				ConfigSettings.SIMPLE_FACTORY_NAME,
+				OffHeapRegionFactory.class.getName(),
+				OffHeapRegionFactory.class.getSimpleName()
+		) );
+	}
+}
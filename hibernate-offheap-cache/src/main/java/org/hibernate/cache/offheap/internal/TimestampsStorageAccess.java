@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess implementation for the timestamps region, which is kept on
+ * heap: it only holds one small entry per table, and evicting any of them
+ * would allow stale query results to be returned.
+ *
+ * @since 8.1
+ */
+public class TimestampsStorageAccess implements StorageAccess {
+	private final ConcurrentHashMap<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean contains(@Nonnull Object key) {
+		return timestamps.containsKey( key );
+	}
+
+	@Override
+	@Nullable
+	public Object getFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		return timestamps.get( key );
+	}
+
+	@Override
+	public void putIntoCache(
+			@Nonnull Object key,
+			@Nonnull Object value,
+			@Nonnull SharedSessionContractImplementor session) {
+		timestamps.put( key, value );
+	}
+
+	@Override
+	public void removeFromCache(@Nonnull Object key, @Nonnull SharedSessionContractImplementor session) {
+		timestamps.remove( key );
+	}
+
+	@Override
+	public void evictData(@Nonnull Object key) {
+		timestamps.remove( key );
+	}
+
+	@Override
+	public void clearCache(@Nonnull SharedSessionContractImplementor session) {
+		timestamps.clear();
+	}
+
+	@Override
+	public void evictData() {
+		timestamps.clear();
+	}
+
+	@Override
+	public void release() {
+		timestamps.clear();
+	}
+}
@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Hibernate caching provider storing cached entries outside the Java heap.
+ */
+package org.hibernate.cache.offheap;
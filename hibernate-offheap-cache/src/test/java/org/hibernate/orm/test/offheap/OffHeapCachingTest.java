@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.offheap;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.offheap.ConfigSettings;
+import org.hibernate.cfg.CacheSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests caching entities and collections with the off-heap region factory.
+ */
+@DomainModel(annotatedClasses = OffHeapCachingTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = CacheSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = CacheSettings.CACHE_REGION_FACTORY, value = ConfigSettings.SIMPLE_FACTORY_NAME),
+				@Setting(name = ConfigSettings.MAX_BYTES, value = "1048576"),
+				@Setting(name = ConfigSettings.SLAB_SIZE, value = "65536")
+		}
+)
+public class OffHeapCachingTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncate();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntityAndCollectionAreCached(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final var book = new Book( 1L, "Hibernate in Action", new BigDecimal( "39.90" ), LocalDate.of( 2004, 8, 1 ) );
+			book.tags.add( "orm" );
+			book.tags.add( "java" );
+			session.persist( book );
+		} );
+		scope.inSession( session -> {
+			// the collection is cached when first loaded
+			final var book = session.find( Book.class, 1L );
+			assertThat( book.tags ).containsExactlyInAnyOrder( "orm", "java" );
+		} );
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final var book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+			assertThat( book.price ).isEqualTo( new BigDecimal( "39.90" ) );
+			assertThat( book.published ).isEqualTo( LocalDate.of( 2004, 8, 1 ) );
+			assertThat( book.tags ).containsExactlyInAnyOrder( "orm", "java" );
+		} );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+
+		final var regionStatistics = statistics.getDomainDataRegionStatistics( "books" );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 1 );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive();
+	}
+
+	@Test
+	public void testUpdateIsCached(SessionFactoryScope scope) {
+		final var statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Book( 2L, "Java Persistence", null, null ) ) );
+		scope.inTransaction( session -> session.find( Book.class, 2L ).title = "Java Persistence with Hibernate" );
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final var book = session.find( Book.class, 2L );
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.version ).isEqualTo( 1 );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String title;
+		BigDecimal price;
+		LocalDate published;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book_tags")
+		Set<String> tags = new HashSet<>();
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, BigDecimal price, LocalDate published) {
+			this.id = id;
+			this.title = title;
+			this.price = price;
+			this.published = published;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.offheap;
+
+import java.io.Serializable;
+
+import org.hibernate.cache.internal.BinaryCacheEntrySerializer;
+import org.hibernate.cache.offheap.internal.OffHeapStore;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OffHeapStore}.
+ */
+@DomainModel
+@SessionFactory
+public class OffHeapStoreTest {
+	private static final int SLAB_SIZE = 4096;
+
+	@Test
+	public void testPutGetRemove(SessionFactoryScope scope) {
+		final var store = store( scope, 4 * SLAB_SIZE, 0 );
+		store.put( "a", "value-a" );
+		store.put( "b", new Serializable[] {1, "b"} );
+		assertThat( store.get( "a" ) ).isEqualTo( "value-a" );
+		assertThat( (Object[]) store.get( "b" ) ).containsExactly( 1, "b" );
+		assertThat( store.size() ).isEqualTo( 2 );
+		assertThat( store.usedBytes() ).isEqualTo( 128 );
+
+		store.put( "a", "x".repeat( 100 ) );
+		assertThat( store.get( "a" ) ).isEqualTo( "x".repeat( 100 ) );
+		assertThat( store.size() ).isEqualTo( 2 );
+
+		store.remove( "a" );
+		assertThat( store.contains( "a" ) ).isFalse();
+		assertThat( store.get( "a" ) ).isNull();
+
+		store.clear();
+		assertThat( store.size() ).isZero();
+		assertThat( store.usedBytes() ).isZero();
+		assertThat( store.allocatedBytes() ).isEqualTo( 2 * SLAB_SIZE );
+	}
+
+	@Test
+	public void testValueLargerThanSlabIsNotCached(SessionFactoryScope scope) {
+		final var store = store( scope, 4 * SLAB_SIZE, 0 );
+		store.put( "a", "small" );
+		store.put( "a", "x".repeat( SLAB_SIZE ) );
+		assertThat( store.get( "a" ) ).isNull();
+		assertThat( store.size() ).isZero();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreEvicted(SessionFactoryScope scope) {
+		// a single slab of 64 chunks of 64 bytes
+		final var store = store( scope, SLAB_SIZE, 0 );
+		for ( int i = 0; i < 64; i++ ) {
+			store.put( i, "value-" + i );
+		}
+		assertThat( store.size() ).isEqualTo( 64 );
+		assertThat( store.evictionCount() ).isZero();
+
+		for ( int i = 0; i < 32; i++ ) {
+			assertThat( store.get( i ) ).isEqualTo( "value-" + i );
+		}
+		for ( int i = 64; i < 96; i++ ) {
+			store.put( i, "value-" + i );
+		}
+		assertThat( store.size() ).isEqualTo( 64 );
+		assertThat( store.evictionCount() ).isEqualTo( 32 );
+		assertThat( store.allocatedBytes() ).isEqualTo( SLAB_SIZE );
+		for ( int i = 0; i < 32; i++ ) {
+			assertThat( store.get( i ) ).isEqualTo( "value-" + i );
+		}
+		for ( int i = 32; i < 64; i++ ) {
+			assertThat( store.contains( i ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void testSlabIsReassignedToAnotherSizeClass(SessionFactoryScope scope) {
+		final var store = store( scope, SLAB_SIZE, 0 );
+		for ( int i = 0; i < 64; i++ ) {
+			store.put( i, "value-" + i );
+		}
+		store.put( "large", "x".repeat( 1000 ) );
+		assertThat( store.get( "large" ) ).isEqualTo( "x".repeat( 1000 ) );
+		assertThat( store.size() ).isEqualTo( 1 );
+		assertThat( store.allocatedBytes() ).isEqualTo( SLAB_SIZE );
+	}
+
+	@Test
+	public void testMaxEntries(SessionFactoryScope scope) {
+		final var store = store( scope, 4 * SLAB_SIZE, 10 );
+		for ( int i = 0; i < 20; i++ ) {
+			store.put( i, i );
+		}
+		assertThat( store.size() ).isEqualTo( 10 );
+		assertThat( store.evictionCount() ).isEqualTo( 10 );
+	}
+
+	private OffHeapStore store(SessionFactoryScope scope, long maxBytes, long maxEntries) {
+		return new OffHeapStore( BinaryCacheEntrySerializer.INSTANCE, scope.getSessionFactory(), maxBytes, maxEntries, SLAB_SIZE );
+	}
+}
@@ -19,6 +19,7 @@
 import org.gradle.api.tasks.SourceSet;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementHelper;
+import org.hibernate.orm.tooling.gradle.query.QueryPrecompilationHelper;
 import org.hibernate.orm.tooling.gradle.reveng.RevengTask;
 import org.hibernate.orm.tooling.gradle.reveng.GenerateCfgTask;
 import org.hibernate.orm.tooling.gradle.reveng.GenerateDaoTask;
@@ -50,6 +51,7 @@ public void apply(Project project) {
 			);
 
 			prepareEnhancement( ormDsl, project );
+			prepareQueryPrecompilation( ormDsl, project );
 			prepareHbmTransformation( ormDsl, project );
 			prepareReveng( ormDsl, project );
 
@@ -110,6 +112,48 @@ public void execute(Task t) {
 		} );
 	}
 
+	private void prepareQueryPrecompilation(HibernateOrmSpec ormDsl, Project project) {
+		project.getGradle().getTaskGraph().whenReady( (graph) -> {
+			if ( !ormDsl.getPrecompileQueries().get() ) {
+				return;
+			}
+
+			SourceSet sourceSet = resolveSourceSet( ormDsl.getSourceSet().get(), project );
+			final Set<String> languages = ormDsl.getLanguages().getOrNull();
+			if ( languages == null ) {
+				return;
+			}
+
+			for ( String language : languages ) {
+				final String languageCompileTaskName = sourceSet.getCompileTaskName( language );
+				project.getTasks()
+						.matching( task -> task.getName().equals( languageCompileTaskName ) )
+						.configureEach( task -> {
+							FileCollection classesDirs = sourceSet.getOutput().getClassesDirs();
+							Provider<FileCollection> dependencyFiles = project
+									.getConfigurations()
+									.named( sourceSet.getCompileClasspathConfigurationName() )
+									.map(FileCollection.class::cast);
+							//noinspection Convert2Lambda
+							task.doLast(new Action<>() {
+								@Override
+								public void execute(Task t) {
+									try {
+										final Method getDestinationDirectory = task.getClass().getMethod("getDestinationDirectory");
+										final DirectoryProperty classesDirectory = (DirectoryProperty) getDestinationDirectory.invoke(task);
+										final ClassLoader classLoader = Helper.toClassLoader(classesDirs, dependencyFiles.get().getFiles());
+										QueryPrecompilationHelper.precompile(classesDirectory, classLoader);
+									}
+									catch (Exception e) {
+										throw new RuntimeException(e);
+									}
+								}
+							});
+						});
+			}
+		} );
+	}
+
 	private SourceSet resolveSourceSet(String name, Project project) {
 		final JavaPluginExtension javaPluginExtension = project.getExtensions().getByType( JavaPluginExtension.class );
 		return javaPluginExtension.getSourceSets().getByName( name );
@@ -31,6 +31,7 @@ public HibernateOrmSpec() {
 		getUseSameVersion().convention( true );
 		getSourceSet().convention( SourceSet.MAIN_SOURCE_SET_NAME );
 		getLanguages().convention( Arrays.asList( "java", "kotlin" ) );
+		getPrecompileQueries().convention( false );
 	}
 
 	@Inject
@@ -68,6 +69,18 @@ public HibernateOrmSpec() {
 	 */
 	abstract public SetProperty<String> getLanguages();
 
+	/**
+	 * Should the HQL of the named queries of the domain model be parsed at build time?
+	 * The parse trees are written to an archive in the classes output directory, from
+	 * which Hibernate reads them back instead of parsing the queries at startup.
+	 * <p>
+	 * Defaults to {@code false}.  As with enhancement, the archive is only usable by the
+	 * same version of Hibernate as the one which wrote it.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#HQL_PARSE_TREE_ARCHIVE
+	 */
+	abstract public Property<Boolean> getPrecompileQueries();
+
 	/**
 	 * @see #getEnhancement()
 	 */
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.gradle.query;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+
+import org.hibernate.query.hql.internal.HqlParseTreeArchive;
+
+import static org.hibernate.orm.tooling.gradle.Helper.determineClassName;
+
+/**
+ * Parses the HQL of the named queries declared by the compiled classes,
+ * and writes the resulting parse trees to an {@link HqlParseTreeArchive}
+ * alongside them, from which they are read back at startup.
+ */
+public class QueryPrecompilationHelper {
+	private static final Logger logger = Logging.getLogger( QueryPrecompilationHelper.class );
+
+	public static void precompile(DirectoryProperty classesDirectoryProperty, ClassLoader classLoader) {
+		final File classesDir = classesDirectoryProperty.get().getAsFile();
+		final HqlParseTreeArchive.Writer writer = new HqlParseTreeArchive.Writer();
+
+		collectNamedQueries( classesDir, classesDir, classLoader, writer );
+
+		final File archiveFile = new File( classesDir, HqlParseTreeArchive.DEFAULT_RESOURCE_NAME );
+		if ( writer.size() == 0 ) {
+			if ( archiveFile.delete() ) {
+				logger.info( "Removed stale HQL parse tree archive : " + archiveFile.getAbsolutePath() );
+			}
+			return;
+		}
+
+		try {
+			Files.createDirectories( archiveFile.getParentFile().toPath() );
+			try ( OutputStream outputStream = Files.newOutputStream( archiveFile.toPath() ) ) {
+				writer.write( outputStream );
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Error writing HQL parse tree archive [" + archiveFile.getAbsolutePath() + "]", e );
+		}
+		logger.info( "Precompiled " + writer.size() + " HQL queries to : " + archiveFile.getAbsolutePath() );
+	}
+
+	private static void collectNamedQueries(
+			File classesDir,
+			File dir,
+			ClassLoader classLoader,
+			HqlParseTreeArchive.Writer writer) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				collectNamedQueries( classesDir, subLocation, classLoader, writer );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+				if ( className.endsWith( "module-info" ) || className.endsWith( "package-info" ) ) {
+					continue;
+				}
+				try {
+					final int count = writer.addNamedQueries( classLoader.loadClass( className ) );
+					if ( count > 0 ) {
+						logger.debug( "Precompiled {} named queries of class : {}", count, className );
+					}
+				}
+				catch (ClassNotFoundException | LinkageError e) {
+					logger.debug( "Skipping class : " + className, e );
+				}
+			}
+		}
+	}
+
+	private QueryPrecompilationHelper() {
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.tooling.maven;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.hibernate.query.hql.internal.HqlParseTreeArchive;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maven mojo for parsing the HQL of the named queries of the domain model at build time.
+ * The parse trees are written to an archive in the classes directory, from which Hibernate
+ * reads them back instead of parsing the queries at startup.
+ *
+ * @see org.hibernate.cfg.QuerySettings#HQL_PARSE_TREE_ARCHIVE
+ */
+@Mojo(name = "precompile-queries", defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+		requiresDependencyResolution = ResolutionScope.COMPILE)
+public class HibernatePrecompileQueriesMojo extends AbstractMojo {
+
+	/**
+	 * The folder in which to look for classes declaring named queries, and to
+	 * which the archive of their parse trees is written.
+	 */
+	@Parameter(
+			defaultValue = "${project.build.directory}/classes",
+			required = true)
+	private File classesDirectory;
+
+	/**
+	 * The Maven Project Object
+	 */
+	@Parameter(defaultValue = "${project}", readonly = true, required = true)
+	private MavenProject project;
+
+	public void execute() throws MojoExecutionException {
+		getLog().debug(STARTING_EXECUTION_OF_PRECOMPILE_QUERIES_MOJO);
+		final HqlParseTreeArchive.Writer writer = new HqlParseTreeArchive.Writer();
+		if (classesDirectory.isDirectory()) {
+			collectNamedQueries(classesDirectory, createClassLoader(), writer);
+		}
+		final File archiveFile = new File(classesDirectory, HqlParseTreeArchive.DEFAULT_RESOURCE_NAME);
+		if (writer.size() == 0) {
+			if (archiveFile.delete()) {
+				getLog().info(REMOVED_STALE_ARCHIVE.formatted(archiveFile));
+			}
+		}
+		else {
+			writeArchive(writer, archiveFile);
+			getLog().info(SUCCESSFULLY_PRECOMPILED_QUERIES.formatted(writer.size(), archiveFile));
+		}
+		getLog().debug(ENDING_EXECUTION_OF_PRECOMPILE_QUERIES_MOJO);
+	}
+
+	private void collectNamedQueries(File dir, ClassLoader classLoader, HqlParseTreeArchive.Writer writer) {
+		for (File file : dir.listFiles()) {
+			if (file.isDirectory()) {
+				collectNamedQueries(file, classLoader, writer);
+			}
+			else if (file.isFile() && file.getName().endsWith(".class")
+					&& !file.getName().equals("module-info.class")
+					&& !file.getName().equals("package-info.class")) {
+				final String className = determineClassName(file);
+				try {
+					final int count = writer.addNamedQueries(classLoader.loadClass(className));
+					if (count > 0) {
+						getLog().debug(PRECOMPILED_NAMED_QUERIES_OF_CLASS.formatted(count, className));
+					}
+				}
+				catch (ClassNotFoundException | LinkageError e) {
+					getLog().debug(SKIPPING_CLASS.formatted(className), e);
+				}
+			}
+		}
+	}
+
+	private String determineClassName(File classFile) {
+		String classFilePath = classFile.getAbsolutePath();
+		String classesDirectoryPath = classesDirectory.getAbsolutePath();
+		return classFilePath.substring(
+						classesDirectoryPath.length() + 1,
+						classFilePath.length() - ".class".length())
+				.replace(File.separatorChar, '.');
+	}
+
+	private void writeArchive(HqlParseTreeArchive.Writer writer, File archiveFile) throws MojoExecutionException {
+		try {
+			Files.createDirectories(archiveFile.getParentFile().toPath());
+			try (OutputStream outputStream = Files.newOutputStream(archiveFile.toPath())) {
+				writer.write(outputStream);
+			}
+		}
+		catch (IOException e) {
+			throw new MojoExecutionException(ERROR_WRITING_ARCHIVE.formatted(archiveFile), e);
+		}
+	}
+
+	private ClassLoader createClassLoader() throws MojoExecutionException {
+		getLog().debug(CREATE_URL_CLASSLOADER_FOR_FOLDER.formatted(classesDirectory));
+		List<URL> urls = new ArrayList<>();
+		try {
+			urls.add(classesDirectory.toURI().toURL());
+		}
+		catch (MalformedURLException e) {
+			throw new MojoExecutionException(UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER, e);
+		}
+
+		// Add dependencies to classpath as well - all but the ones used for testing purposes
+		final Set<Artifact> artifacts = this.project.getArtifacts();
+		if (artifacts != null) {
+			for (var artifact : artifacts) {
+				if ( !Artifact.SCOPE_TEST.equals(artifact.getScope() ) ) {
+					try {
+						urls.add(artifact.getFile().toURI().toURL());
+					}
+					catch (MalformedURLException e) {
+						throw new MojoExecutionException(UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER, e);
+					}
+				}
+			}
+		}
+
+		return new URLClassLoader(
+				urls.toArray(new URL[0]),
+				HqlParseTreeArchive.class.getClassLoader());
+	}
+
+	// info messages
+	static final String SUCCESSFULLY_PRECOMPILED_QUERIES = "Successfully precompiled %s queries to: %s";
+	static final String REMOVED_STALE_ARCHIVE = "Removed stale query archive: %s";
+
+	// error messages
+	static final String ERROR_WRITING_ARCHIVE = "Error writing query archive: %s";
+	static final String UNEXPECTED_ERROR_WHILE_CONSTRUCTING_CLASSLOADER = "An unexpected error occurred while constructing the classloader";
+
+	// debug messages
+	static final String PRECOMPILED_NAMED_QUERIES_OF_CLASS = "Precompiled %s named queries of class: %s";
+	static final String SKIPPING_CLASS = "Skipping class: %s";
+	static final String CREATE_URL_CLASSLOADER_FOR_FOLDER = "Creating URL ClassLoader for folder: %s";
+	static final String STARTING_EXECUTION_OF_PRECOMPILE_QUERIES_MOJO = "Starting execution of precompile-queries mojo";
+	static final String ENDING_EXECUTION_OF_PRECOMPILE_QUERIES_MOJO = "Ending execution of precompile-queries mojo";
+}